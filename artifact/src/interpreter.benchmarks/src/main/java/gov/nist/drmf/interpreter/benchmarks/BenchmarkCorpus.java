@@ -0,0 +1,103 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.common.replacements.DLMFConditionalReplacementImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The fixed corpora of the benchmarks. The corpora are drawn from the test resources so that
+ * the results of different releases are comparable:
+ * <ul>
+ *     <li>{@link #TRANSLATIONS}: the LaTeX inputs of the translation tests (translations/*.json and
+ *     SimpleTranslationTests)</li>
+ *     <li>{@link #LIMITS}: the limit expressions of the LimitBlueprintTest, each line is
+ *     <code>LIM</code> or <code>LIMITED</code> followed by a tab and the expression</li>
+ *     <li>{@link #DLMF_SAMPLE}: every 25th line of the DLMF dataset including its meta information</li>
+ * </ul>
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class BenchmarkCorpus {
+    public static final String TRANSLATIONS = "translations.txt";
+    public static final String LIMITS = "limits.txt";
+    public static final String DLMF_SAMPLE = "dlmf-sample.txt";
+
+    private static final Pattern DATASET_LINE = Pattern.compile("^(.*?)\\s*\\\\url\\{(.*?)}.*$");
+
+    private BenchmarkCorpus() {}
+
+    /**
+     * Loads a corpus from the resources of this module.
+     * @param name the name of the corpus, e.g., {@link #TRANSLATIONS}
+     * @return the non-empty lines of the corpus
+     */
+    public static List<String> load(String name) {
+        InputStream in = BenchmarkCorpus.class.getResourceAsStream(name);
+        if ( in == null ) throw new IllegalArgumentException("There is no benchmark corpus " + name);
+        try ( BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)) ) {
+            return br.lines().filter( l -> !l.isBlank() ).collect(Collectors.toUnmodifiableList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads the lines of a DLMF dataset file, e.g., the entire dlmf-formulae.txt.
+     * @param dataset the path to the dataset
+     * @return the non-empty lines of the dataset
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> loadDataset(Path dataset) throws IOException {
+        try ( var lines = Files.lines(dataset, StandardCharsets.UTF_8) ) {
+            return lines.filter( l -> !l.isBlank() ).collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    /**
+     * Splits the lines of a DLMF dataset into the TeX string and the equation label. Lines
+     * without a DLMF link are skipped.
+     * @param lines the lines of the dataset
+     * @return the list of TeX and label (the label can be null)
+     */
+    public static List<LabeledFormula> extractFormulae(List<String> lines) {
+        List<LabeledFormula> formulae = new ArrayList<>(lines.size());
+        for ( String line : lines ) {
+            Matcher m = DATASET_LINE.matcher(line);
+            if ( !m.matches() ) continue;
+            String label = DLMFConditionalReplacementImpl.extractEquationLabelFromURL(m.group(2));
+            formulae.add(new LabeledFormula(m.group(1), label.isBlank() ? null : label));
+        }
+        return Collections.unmodifiableList(formulae);
+    }
+
+    public static final class LabeledFormula {
+        private final String tex;
+        private final String label;
+
+        public LabeledFormula(String tex, String label) {
+            this.tex = tex;
+            this.label = label;
+        }
+
+        public String getTex() {
+            return tex;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * <p>
+ * Runs the JMH benchmarks of LaCASt. All arguments are passed to JMH, e.g., a regex of benchmarks
+ * to run or <code>-p cas=Maple</code>. Unless specified otherwise, the results are written in JSON
+ * to <code>benchmarks/jmh-result.json</code> so that they can be compared release over release.
+ * </p>
+ *
+ * <p>
+ * The benchmarks require the same setup as the tests, i.e., run them in the directory of
+ * <code>lacast.config.yaml</code> (or set <code>LACAST_CONFIG</code>):
+ * </p>
+ * <pre>
+ *     mvn package -pl interpreter.benchmarks -am -DskipTests -DgenerateJars
+ *     java -jar bin/lacast-benchmarks.jar Translator -rff benchmarks/translator.json
+ * </pre>
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class BenchmarkRunner {
+    public static final Path DEFAULT_RESULT_FILE = Paths.get("benchmarks", "jmh-result.json");
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+
+        if ( cmdOptions.getResultFormat().hasValue() ) {
+            builder.resultFormat(cmdOptions.getResultFormat().get());
+        } else builder.resultFormat(ResultFormatType.JSON);
+
+        Path resultFile = cmdOptions.getResult().hasValue() ?
+                Paths.get(cmdOptions.getResult().get()) :
+                DEFAULT_RESULT_FILE;
+        if ( resultFile.getParent() != null ) Files.createDirectories(resultFile.getParent());
+        builder.result(resultFile.toString());
+
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,55 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.cas.blueprints.BlueprintMaster;
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the matching limit blueprints for every expression of the {@link BenchmarkCorpus#LIMITS} corpus.
+ * The score is the time for the entire corpus.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class BlueprintBenchmark {
+    private BlueprintMaster blueprintMaster;
+    private List<String> limits;
+    private List<Boolean> limTypes;
+
+    @Setup
+    public void setup() throws InitTranslatorException {
+        SemanticLatexTranslator slt = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+        blueprintMaster = slt.getBlueprintMaster();
+        limits = new ArrayList<>();
+        limTypes = new ArrayList<>();
+        for ( String line : BenchmarkCorpus.load(BenchmarkCorpus.LIMITS) ) {
+            String[] elements = line.split("\t", 2);
+            limTypes.add("LIM".equals(elements[0]) ? BlueprintMaster.LIM : BlueprintMaster.LIMITED);
+            limits.add(elements[1]);
+        }
+    }
+
+    @Benchmark
+    public void findMatchingLimit(Blackhole bh) {
+        for ( int i = 0; i < limits.size(); i++ ) {
+            try {
+                bh.consume(blueprintMaster.findMatchingLimit(limTypes.get(i), limits.get(i)));
+            } catch (TranslationException te) {
+                bh.consume(te);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.evaluation.common.CaseAnalyzer;
+import gov.nist.drmf.interpreter.evaluation.common.SymbolDefinedLibrary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analyzes every line of the {@link BenchmarkCorpus#DLMF_SAMPLE} corpus, i.e., extracts the meta information,
+ * constraints, and splits the test cases. The score is the time for the entire corpus.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class CaseAnalyzerBenchmark {
+    private List<String> lines;
+
+    @Setup
+    public void setup() {
+        lines = BenchmarkCorpus.load(BenchmarkCorpus.DLMF_SAMPLE);
+    }
+
+    @Benchmark
+    public void analyzeLines(Blackhole bh) {
+        SymbolDefinedLibrary library = new SymbolDefinedLibrary();
+        int lineNumber = 1;
+        for ( String line : lines ) {
+            bh.consume(CaseAnalyzer.analyzeLine(line, lineNumber++, library));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import mlp.ParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses every expression of the {@link BenchmarkCorpus#TRANSLATIONS} corpus with the semantic POM tagger.
+ * The score is the time for the entire corpus.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class ParserBenchmark {
+    private SemanticMLPWrapper mlp;
+    private List<String> corpus;
+
+    @Setup
+    public void setup() {
+        mlp = SemanticMLPWrapper.getStandardInstance();
+        corpus = BenchmarkCorpus.load(BenchmarkCorpus.TRANSLATIONS);
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        for ( String tex : corpus ) {
+            try {
+                bh.consume(mlp.parse(tex));
+            } catch (ParseException e) {
+                bh.consume(e);
+            }
+        }
+    }
+}
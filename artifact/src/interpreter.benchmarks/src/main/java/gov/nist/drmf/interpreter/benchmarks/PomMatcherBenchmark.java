@@ -0,0 +1,92 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.extensions.MatchablePomTaggedExpression;
+import gov.nist.drmf.interpreter.pom.extensions.PomMatcher;
+import gov.nist.drmf.interpreter.pom.extensions.PomMatcherBuilder;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches and replaces generic LaTeX patterns (similar to the replacement patterns of semantic macros)
+ * in the pre-parsed expressions of the {@link BenchmarkCorpus#TRANSLATIONS} corpus.
+ * The score is the time for all patterns on the entire corpus.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class PomMatcherBenchmark {
+    private static final String WILDCARD = "([pv])ar\\d";
+
+    /**
+     * Pairs of generic LaTeX patterns and their semantic replacements.
+     */
+    private static final String[][] PATTERNS = new String[][] {
+            {"P^{(var2, var3)}_{var4} (var5)", "\\JacobipolyP{var2}{var3}{var4}@{var5}"},
+            {"\\gamma(var1, var2)", "\\incgamma@{var1}{var2}"},
+            {"\\Gamma(var1)", "\\EulerGamma@{var1}"},
+            {"\\sin(var1)", "\\sin@{var1}"},
+            {"\\frac{var1}{var2}", "\\frac{var2}{var1}"},
+    };
+
+    /**
+     * Stop searching an expression after this many hits. Wildcards can match the same
+     * expression in many different ways.
+     */
+    private static final int MAX_HITS = 100;
+
+    private List<MatchablePomTaggedExpression> patterns;
+    private List<PrintablePomTaggedExpression> corpus;
+
+    @Setup
+    public void setup() throws ParseException {
+        SemanticMLPWrapper mlp = SemanticMLPWrapper.getStandardInstance();
+        patterns = new ArrayList<>();
+        for ( String[] p : PATTERNS ) patterns.add(PomMatcherBuilder.compile(mlp, p[0], WILDCARD));
+
+        corpus = new ArrayList<>();
+        for ( String tex : BenchmarkCorpus.load(BenchmarkCorpus.TRANSLATIONS) ) {
+            try {
+                corpus.add(mlp.parse(tex));
+            } catch (ParseException e) {
+                // not every test case is valid, e.g., tests for error handling
+            }
+        }
+    }
+
+    @Benchmark
+    public void find(Blackhole bh) {
+        for ( MatchablePomTaggedExpression pattern : patterns ) {
+            for ( PrintablePomTaggedExpression ppte : corpus ) {
+                PomMatcher matcher = pattern.matcher(ppte);
+                int hits = 0;
+                while ( hits < MAX_HITS && matcher.find() ) {
+                    bh.consume(matcher.groups());
+                    hits++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void replace(Blackhole bh) throws ParseException {
+        for ( int i = 0; i < patterns.size(); i++ ) {
+            for ( PrintablePomTaggedExpression ppte : corpus ) {
+                // replacing changes the expression, hence we work on a copy
+                PomMatcher matcher = patterns.get(i).matcher(new PrintablePomTaggedExpression(ppte));
+                bh.consume(matcher.replacePattern(PATTERNS[i][1]));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.benchmarks.BenchmarkCorpus.LabeledFormula;
+import gov.nist.drmf.interpreter.common.latex.TeXPreProcessor;
+import gov.nist.drmf.interpreter.common.replacements.ReplacementConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-processes every formula of a DLMF dataset, i.e., the {@link BenchmarkCorpus#DLMF_SAMPLE} or the entire
+ * DLMF (relative to the working directory of the tests). The score is the time for the entire dataset.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class PreProcessingBenchmark {
+    public static final String SAMPLE = "sample";
+
+    @Param({SAMPLE, "../dlmf/dlmf-formulae.txt"})
+    private String dataset;
+
+    private ReplacementConfig replacementConfig;
+    private List<LabeledFormula> formulae;
+
+    @Setup
+    public void setup() throws IOException {
+        replacementConfig = ReplacementConfig.getInstance();
+        if ( SAMPLE.equals(dataset) ) {
+            formulae = BenchmarkCorpus.extractFormulae(BenchmarkCorpus.load(BenchmarkCorpus.DLMF_SAMPLE));
+        } else {
+            Path path = Paths.get(dataset);
+            if ( !Files.exists(path) )
+                throw new IllegalStateException("The DLMF dataset does not exist: " + path.toAbsolutePath());
+            formulae = BenchmarkCorpus.extractFormulae(BenchmarkCorpus.loadDataset(path));
+        }
+    }
+
+    @Benchmark
+    public void preProcessingTeX(Blackhole bh) {
+        for ( LabeledFormula f : formulae ) {
+            try {
+                bh.consume(TeXPreProcessor.preProcessingTeX(f.getTex(), f.getLabel()));
+            } catch (IllegalArgumentException iae) {
+                // some labels of the DLMF are not valid conditions
+                bh.consume(iae);
+            }
+        }
+    }
+
+    @Benchmark
+    public void replacementRules(Blackhole bh) {
+        for ( LabeledFormula f : formulae ) {
+            try {
+                bh.consume(replacementConfig.replace(f.getTex(), f.getLabel()));
+            } catch (IllegalArgumentException iae) {
+                // some labels of the DLMF are not valid conditions
+                bh.consume(iae);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.MathTermUtility;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rewrites every leaf of the longest formulae of the {@link BenchmarkCorpus#DLMF_SAMPLE} corpus and reads the
+ * caption of the tree. {@link #batchEdits(Blackhole)} reads the caption once after all rewrites,
+ * {@link #readAfterEachEdit(Blackhole)} after every single rewrite. Both include the time to copy the trees,
+ * see {@link #copy(Blackhole)}.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class PrintableCaptionBenchmark {
+    @Param({"50"})
+    public int numberOfFormulae;
+
+    private List<PrintablePomTaggedExpression> trees;
+
+    @Setup
+    public void setup() {
+        SemanticMLPWrapper mlp = SemanticMLPWrapper.getStandardInstance();
+        List<BenchmarkCorpus.LabeledFormula> formulae = new ArrayList<>(
+                BenchmarkCorpus.extractFormulae(BenchmarkCorpus.load(BenchmarkCorpus.DLMF_SAMPLE))
+        );
+        formulae.sort(Comparator.comparingInt( (BenchmarkCorpus.LabeledFormula f) -> f.getTex().length() ).reversed());
+
+        trees = new ArrayList<>(numberOfFormulae);
+        for ( BenchmarkCorpus.LabeledFormula formula : formulae ) {
+            if ( trees.size() >= numberOfFormulae ) break;
+            try {
+                trees.add(mlp.parse(formula.getTex(), formula.getLabel()));
+            } catch (ParseException e) {
+                // skip formulae that cannot be parsed
+            }
+        }
+    }
+
+    @Benchmark
+    public void copy(Blackhole bh) {
+        for ( PrintablePomTaggedExpression tree : trees ) {
+            bh.consume(new PrintablePomTaggedExpression(tree));
+        }
+    }
+
+    @Benchmark
+    public void batchEdits(Blackhole bh) {
+        for ( PrintablePomTaggedExpression tree : trees ) {
+            PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression(tree);
+            for ( PrintablePomTaggedExpression leaf : getLeaves(copy) ) {
+                leaf.setRoot(MathTermUtility.secureClone(leaf.getRoot()));
+            }
+            bh.consume(copy.getTexString());
+        }
+    }
+
+    @Benchmark
+    public void readAfterEachEdit(Blackhole bh) {
+        for ( PrintablePomTaggedExpression tree : trees ) {
+            PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression(tree);
+            for ( PrintablePomTaggedExpression leaf : getLeaves(copy) ) {
+                leaf.setRoot(MathTermUtility.secureClone(leaf.getRoot()));
+                bh.consume(copy.getTexString());
+            }
+        }
+    }
+
+    private static List<PrintablePomTaggedExpression> getLeaves(PrintablePomTaggedExpression root) {
+        List<PrintablePomTaggedExpression> leaves = new ArrayList<>();
+        LinkedList<PrintablePomTaggedExpression> stack = new LinkedList<>();
+        stack.add(root);
+        while ( !stack.isEmpty() ) {
+            PrintablePomTaggedExpression node = stack.removeFirst();
+            if ( node.hasNoChildren() ) leaves.add(node);
+            else stack.addAll(node.getPrintableComponents());
+        }
+        return leaves;
+    }
+}
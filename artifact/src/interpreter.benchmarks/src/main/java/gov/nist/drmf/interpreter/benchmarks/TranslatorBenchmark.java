@@ -0,0 +1,47 @@
+package gov.nist.drmf.interpreter.benchmarks;
+
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translates every expression of the {@link BenchmarkCorpus#TRANSLATIONS} corpus to the given CAS
+ * (without a translation cache). The score is the time for the entire corpus.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss50M")
+public class TranslatorBenchmark {
+    @Param({"Maple", "Mathematica"})
+    private String cas;
+
+    private SemanticLatexTranslator translator;
+    private List<String> corpus;
+
+    @Setup
+    public void setup() throws InitTranslatorException {
+        translator = new SemanticLatexTranslator(cas);
+        corpus = BenchmarkCorpus.load(BenchmarkCorpus.TRANSLATIONS);
+    }
+
+    @Benchmark
+    public void translate(Blackhole bh) {
+        for ( String tex : corpus ) {
+            try {
+                bh.consume(translator.translate(tex));
+            } catch (TranslationException e) {
+                bh.consume(e);
+            }
+        }
+    }
+}
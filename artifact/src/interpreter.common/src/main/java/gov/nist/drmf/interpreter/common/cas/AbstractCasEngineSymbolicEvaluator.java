@@ -46,46 +46,13 @@ public abstract class AbstractCasEngineSymbolicEvaluator<T> implements ICASEngin
 
             for ( ISymbolicTestCases testCase : symbolicTestCases ) {
                 if (!testCase.isActivated()) continue;
+                SymbolicCalculation calculation =
+                        performSymbolicTestCase(testBase, expectedOutcomes.get(i), testCase, test.getRequiredPackages());
+                group.addTestCalculation(calculation);
 
-                SymbolicCalculation symbolicCalculation = new SymbolicCalculation();
-                String testExpression = testCase.buildCommand(testBase.getTestExpression());
-                symbolicCalculation.setTestTitle(testCase.getShortName());
-
-                try {
-                    T result = simplify(testExpression, test.getRequiredPackages());
-                    symbolicCalculation.setTestExpression(getLatestTestExpression());
-                    boolean wasAborted = wasAborted(result);
-                    symbolicCalculation.wasAborted(wasAborted);
-                    if ( wasAborted ) {
-                        symbolicCalculation.setResult(TestResultType.SKIPPED);
-                        continue;
-                    }
-
-                    symbolicCalculation.setResultExpression(result.toString());
-
-                    boolean isConditionallySuccessful = false;
-
-                    String expect = expectedOutcomes.get(i);
-                    boolean successful;
-                    if ( "true".equals(expect) ) {
-                        successful = isTrue(result);
-                    }
-                    else {
-                        double expectedD = Double.parseDouble(expect);
-                        successful = isAsExpected(result, expectedD);
-                        isConditionallySuccessful = isConditionallyExpected(result, expectedD);
-                        symbolicCalculation.setWasConditionallySuccessful(isConditionallySuccessful);
-                    }
-
-                    if ( successful || isConditionallySuccessful )
-                        symbolicCalculation.setResult(TestResultType.SUCCESS);
-                    else symbolicCalculation.setResult(TestResultType.FAILURE);
-
-                } catch (Exception e) {
-                    LOG.error("Error in symbolic test case: " + e.getMessage(), e);
-                    symbolicCalculation.setResult(TestResultType.ERROR);
-                } finally {
-                    group.addTestCalculation(symbolicCalculation);
+                if ( test.isStopAfterFirstSuccess() && TestResultType.SUCCESS.equals(calculation.getResult()) ) {
+                    group.setSuccessfulStrategy(calculation.getTestTitle());
+                    break;
                 }
             }
 
@@ -94,4 +61,60 @@ public abstract class AbstractCasEngineSymbolicEvaluator<T> implements ICASEngin
 
         return symbolicResult;
     }
+
+    /**
+     * Performs a single strategy (e.g., simplify, convert to exp, expand) on a single test expression.
+     * This is the unit of work of {@link #performSymbolicTest(SymbolicalTest)} and of the
+     * {@link SymbolicTestPortfolio}.
+     *
+     * @param testBase the test expression
+     * @param expect the expected outcome, either "true" or a number
+     * @param testCase the strategy
+     * @param requiredPackages the required packages
+     * @return the calculation of the strategy, never null
+     */
+    public synchronized SymbolicCalculation performSymbolicTestCase(
+            SymbolicalTestBaseCase testBase,
+            String expect,
+            ISymbolicTestCases testCase,
+            Set<String> requiredPackages
+    ) {
+        SymbolicCalculation symbolicCalculation = new SymbolicCalculation();
+        String testExpression = testCase.buildCommand(testBase.getTestExpression());
+        symbolicCalculation.setTestTitle(testCase.getShortName());
+
+        try {
+            T result = simplify(testExpression, requiredPackages);
+            symbolicCalculation.setTestExpression(getLatestTestExpression());
+            boolean wasAborted = wasAborted(result);
+            symbolicCalculation.wasAborted(wasAborted);
+            if ( wasAborted ) {
+                symbolicCalculation.setResult(TestResultType.SKIPPED);
+                return symbolicCalculation;
+            }
+
+            symbolicCalculation.setResultExpression(result.toString());
+
+            boolean isConditionallySuccessful = false;
+
+            boolean successful;
+            if ( "true".equals(expect) ) {
+                successful = isTrue(result);
+            }
+            else {
+                double expectedD = Double.parseDouble(expect);
+                successful = isAsExpected(result, expectedD);
+                isConditionallySuccessful = isConditionallyExpected(result, expectedD);
+                symbolicCalculation.setWasConditionallySuccessful(isConditionallySuccessful);
+            }
+
+            if ( successful || isConditionallySuccessful )
+                symbolicCalculation.setResult(TestResultType.SUCCESS);
+            else symbolicCalculation.setResult(TestResultType.FAILURE);
+        } catch (Exception e) {
+            LOG.error("Error in symbolic test case: " + e.getMessage(), e);
+            symbolicCalculation.setResult(TestResultType.ERROR);
+        }
+        return symbolicCalculation;
+    }
 }
@@ -0,0 +1,407 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nist.drmf.interpreter.common.config.CASConfig;
+import gov.nist.drmf.interpreter.common.config.ConfigDiscovery;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A persistent cache of CAS results. Symbolic and numeric evaluations send the same commands to the CAS
+ * in every run, even though the test cases rarely change. The cache stores the result of a command
+ * for its {@link Key}, i.e., the CAS, the version of the CAS, the state of the CAS session (see {@link CasSessionState}),
+ * the normalized command, the assumptions, the required packages, and the precision. An engine that finds a result in the cache does not need to compute
+ * it again in the kernel.
+ * </p>
+ *
+ * <p>
+ * The results are stored in an append-only log file (one JSON object per line) and are indexed in memory.
+ * Hence, new results are never lost by a crashed run and the file can be shared between runs. A broken line,
+ * e.g., from an interrupted write, is ignored. If the same key is stored twice, the latest result wins.
+ * Aborted computations (e.g., timeouts) must not be cached, since they depend on the load of the machine.
+ * </p>
+ *
+ * <p>
+ * The cache is thread-safe. The cache of a CAS can be enabled via the {@code result.cache} property of the
+ * CAS in {@code lacast.config.yaml}, see {@link #getCache(String)}. The hit rate and the saved kernel
+ * time are logged when the cache is closed.
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class CasResultCache implements AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(CasResultCache.class.getName());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<Path, CasResultCache> OPEN_CACHES = new HashMap<>();
+
+    private final Path logFile;
+    private final Map<String, Entry> index;
+
+    private BufferedWriter writer;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+    private final LongAdder kernelNanos = new LongAdder();
+
+    /**
+     * Creates a cache that is not backed by a file, i.e., results are only cached in memory.
+     */
+    public CasResultCache() {
+        this.logFile = null;
+        this.index = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a cache backed by the given log file. Existing results of the file are loaded.
+     * @param logFile the append-only log file, created if it does not exist
+     * @throws IOException if the file cannot be opened
+     */
+    public CasResultCache(Path logFile) throws IOException {
+        this.logFile = logFile;
+        this.index = new ConcurrentHashMap<>();
+        boolean completeLastLine = load();
+        Path parent = logFile.toAbsolutePath().getParent();
+        if ( parent != null ) Files.createDirectories(parent);
+        this.writer = Files.newBufferedWriter(
+                logFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND
+        );
+        // a previous run was interrupted in the middle of a line
+        if ( !completeLastLine ) writer.newLine();
+    }
+
+    /**
+     * Returns the shared cache of the given CAS as specified by the {@code result.cache} property
+     * in {@code lacast.config.yaml}. Engines of the same JVM that use the same file share the same cache.
+     * The cache is closed automatically when the JVM shuts down.
+     * @param cas the key of the CAS, e.g., {@link gov.nist.drmf.interpreter.common.constants.Keys#KEY_MAPLE}
+     * @return the cache or null if no cache is specified for the given CAS or the cache cannot be opened
+     */
+    public static CasResultCache getCache(String cas) {
+        CASConfig config = ConfigDiscovery.getConfig().getCasConfigs().get(cas);
+        if ( config == null || config.getResultCachePath() == null ) return null;
+        try {
+            return open(config.getResultCachePath());
+        } catch (IOException e) {
+            LOG.error("Unable to open CAS result cache " + config.getResultCachePath() + ". Continue without cache.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the shared cache of the given log file. The cache is closed automatically when the JVM shuts down.
+     * @param logFile the append-only log file
+     * @return the shared cache of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static CasResultCache open(Path logFile) throws IOException {
+        Path path = logFile.toAbsolutePath().normalize();
+        synchronized (OPEN_CACHES) {
+            CasResultCache cache = OPEN_CACHES.get(path);
+            if ( cache == null ) {
+                CasResultCache newCache = new CasResultCache(path);
+                Runtime.getRuntime().addShutdownHook(new Thread(newCache::close, "cas-result-cache-shutdown"));
+                OPEN_CACHES.put(path, newCache);
+                cache = newCache;
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * @param key the key of a command
+     * @return the cached result of the command or null if the command is not cached
+     */
+    public String get(Key key) {
+        Entry entry = index.get(key.getId());
+        if ( entry == null ) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        savedNanos.add(entry.nanos);
+        return entry.result;
+    }
+
+    /**
+     * Adds the result of a command to the cache and appends it to the log file.
+     * @param key the key of the command
+     * @param result the result of the command (must be parsable by the CAS again)
+     * @param nanos the time the kernel required to compute the result in nanoseconds
+     */
+    public void put(Key key, String result, long nanos) {
+        if ( result == null ) return;
+        // the index does not need to keep the (potentially long) command in memory
+        index.put(key.getId(), new Entry(key.getId(), null, result, nanos));
+        kernelNanos.add(nanos);
+        append(new Entry(key.getId(), key, result, nanos));
+    }
+
+    private synchronized void append(Entry entry) {
+        if ( writer == null ) return;
+        try {
+            writer.write(MAPPER.writeValueAsString(entry));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            LOG.error("Unable to append result to the CAS result cache " + logFile + ". Disable persistence.", e);
+            closeWriter();
+        }
+    }
+
+    /**
+     * Loads the log file into the index.
+     * @return false if the last line of the file is incomplete, otherwise true
+     * @throws IOException if the file cannot be read
+     */
+    private boolean load() throws IOException {
+        if ( !Files.exists(logFile) ) return true;
+        int broken = 0;
+        try ( BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8) ) {
+            String line;
+            while ( (line = reader.readLine()) != null ) {
+                if ( line.isBlank() ) continue;
+                try {
+                    Entry entry = MAPPER.readValue(line, Entry.class);
+                    if ( entry.id == null || entry.result == null ) broken++;
+                    else index.put(entry.id, new Entry(entry.id, null, entry.result, entry.nanos));
+                } catch (IOException e) {
+                    broken++;
+                }
+            }
+        }
+        if ( broken > 0 ) LOG.warn("Ignored " + broken + " broken lines in the CAS result cache " + logFile);
+        LOG.info("Loaded " + index.size() + " cached CAS results from " + logFile);
+
+        try ( RandomAccessFile file = new RandomAccessFile(logFile.toFile(), "r") ) {
+            if ( file.length() == 0 ) return true;
+            file.seek(file.length() - 1);
+            return file.read() == '\n';
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of hits to all lookups or 0 if there was no lookup yet
+     */
+    public double getHitRate() {
+        long h = getHits();
+        long total = h + getMisses();
+        return total == 0 ? 0 : h / (double) total;
+    }
+
+    /**
+     * @return the kernel time that the hits required when they were computed originally
+     */
+    public Duration getSavedKernelTime() {
+        return Duration.ofNanos(savedNanos.sum());
+    }
+
+    /**
+     * @return the kernel time of all results that were added to the cache since it was opened
+     */
+    public Duration getKernelTime() {
+        return Duration.ofNanos(kernelNanos.sum());
+    }
+
+    @Override
+    public synchronized void close() {
+        if ( writer == null ) return;
+        closeWriter();
+        LOG.info(toString());
+    }
+
+    private void closeWriter() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            LOG.warn("Unable to close CAS result cache " + logFile, e);
+        } finally {
+            writer = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CAS result cache [file: %s, size: %d, hits: %d, misses: %d, hit rate: %.1f%%, saved kernel time: %s]",
+                logFile, size(), getHits(), getMisses(), 100 * getHitRate(), getSavedKernelTime());
+    }
+
+    static String sha256(String str) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(str.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(2 * hash.length);
+            for ( byte b : hash ) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+        @JsonProperty("id")
+        private String id;
+
+        @JsonProperty("key")
+        private Key key;
+
+        @JsonProperty("result")
+        private String result;
+
+        @JsonProperty("nanos")
+        private long nanos;
+
+        private Entry() {}
+
+        private Entry(String id, Key key, String result, long nanos) {
+            this.id = id;
+            this.key = key;
+            this.result = result;
+            this.nanos = nanos;
+        }
+    }
+
+    /**
+     * The key of a command. The command is normalized, i.e., successive whitespaces are merged and
+     * trailing semicolons are removed. The order of assumptions and required packages is irrelevant.
+     */
+    public static final class Key {
+        @JsonProperty("cas")
+        private final String cas;
+
+        @JsonProperty("version")
+        private final String version;
+
+        @JsonProperty("session")
+        private final String session;
+
+        @JsonProperty("command")
+        private final String command;
+
+        @JsonProperty("assumptions")
+        private final List<String> assumptions;
+
+        @JsonProperty("packages")
+        private final List<String> requiredPackages;
+
+        @JsonProperty("precision")
+        private final String precision;
+
+        private transient String id;
+
+        private Key() {
+            this(null, null, null, "", null, null, null);
+        }
+
+        /**
+         * @param cas the name of the CAS
+         * @param version the version of the CAS
+         * @param session the fingerprint of the session state, see {@link CasSessionState#getFingerprint()}
+         * @param command the command
+         * @param assumptions the assumptions that are active for the command (can be null)
+         * @param requiredPackages the packages that are loaded for the command (can be null)
+         * @param precision the precision of numeric computations (can be null)
+         */
+        public Key(
+                String cas,
+                String version,
+                String session,
+                String command,
+                Collection<String> assumptions,
+                Collection<String> requiredPackages,
+                String precision
+        ) {
+            this.cas = cas;
+            this.version = version;
+            this.session = session;
+            this.command = normalize(command);
+            this.assumptions = sorted(assumptions);
+            this.requiredPackages = sorted(requiredPackages);
+            this.precision = precision;
+        }
+
+        private static String normalize(String command) {
+            String normalized = command.replaceAll("\\s+", " ").trim();
+            while ( normalized.endsWith(";") ) {
+                normalized = normalized.substring(0, normalized.length() - 1).trim();
+            }
+            return normalized;
+        }
+
+        private static List<String> sorted(Collection<String> elements) {
+            if ( elements == null ) return Collections.emptyList();
+            List<String> list = new ArrayList<>(new TreeSet<>(elements));
+            return Collections.unmodifiableList(list);
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        /**
+         * @return the SHA-256 hash of all components of the key
+         */
+        @JsonIgnore
+        public String getId() {
+            if ( id == null ) {
+                String canonical = String.join("\u0000",
+                        String.valueOf(cas), String.valueOf(version), String.valueOf(session), command,
+                        String.join("\u0001", assumptions), String.join("\u0001", requiredPackages),
+                        String.valueOf(precision)
+                );
+                id = sha256(canonical);
+            }
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) return true;
+            if ( !(o instanceof Key) ) return false;
+            return getId().equals(((Key) o).getId());
+        }
+
+        @Override
+        public int hashCode() {
+            return getId().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return cas + " " + version + ": " + command;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Tracks the commands that change the state of a CAS session, e.g., environment variables such as
+ * {@code _EnvLegendreCut := 1 .. infinity;}, {@code assume(x > 0);}, {@code $Assumptions = x > 0}, or loaded
+ * procedures. The results of the very same command may differ between two sessions with different states.
+ * Hence, the {@link #getFingerprint() fingerprint} of the state is part of the key of cached results
+ * (see {@link CasResultCache.Key}).
+ * </p>
+ *
+ * <p>
+ * Only state changing commands are recorded, i.e., assignments, definitions of procedures or functions
+ * (e.g., {@code f[x_] := ...}), and calls that change the assumptions or loaded packages (e.g., {@code assume(...)}).
+ * Any other command is a query (e.g., {@code Select[ReplaceAll[...], ...]}) and is ignored.
+ * </p>
+ *
+ * <p>
+ * A command that starts with an assignment replaces previous commands that assigned the same variable. That
+ * way, switching an environment variable back and forth results in the same fingerprints again. A command
+ * that restores the default value of a variable (see {@link #CasSessionState(String...)}) removes the
+ * variable from the state, i.e., resetting a variable is equivalent to never setting it. Any other state
+ * changing command (e.g., {@code assume(...)}) is accumulated.
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class CasSessionState {
+    private static final Pattern ASSIGNMENT = Pattern.compile("^\\s*([$\\w`]+)\\s*:?=(?!=).*", Pattern.DOTALL);
+
+    private static final Pattern DEFINITION = Pattern.compile(
+            "^\\s*([$\\w`]+\\[[^\\]]*])\\s*:?=(?!=).*", Pattern.DOTALL
+    );
+
+    private static final Pattern STATE_CHANGING_CALL = Pattern.compile(
+            "^\\s*(assume|additionally|with|read|SetOptions|Needs|Get)\\s*[(\\[].*", Pattern.DOTALL
+    );
+
+    // assigned variable -> command that restores its default value
+    private final Map<String, String> defaults = new HashMap<>();
+
+    // assigned variable or the command itself -> command
+    private final Map<String, String> commands = new TreeMap<>();
+
+    private String fingerprint = null;
+
+    /**
+     * @param defaultCommands assignments that restore the default values of variables in a fresh session,
+     *                        e.g., {@code _EnvLegendreCut := -1 .. 1;}
+     */
+    public CasSessionState(String... defaultCommands) {
+        for ( String defaultCommand : defaultCommands ) {
+            String normalized = normalize(defaultCommand);
+            Matcher m = ASSIGNMENT.matcher(normalized);
+            if ( !m.matches() )
+                throw new IllegalArgumentException("Default commands must be assignments: " + defaultCommand);
+            defaults.put(m.group(1), normalized);
+        }
+    }
+
+    /**
+     * Registers a command that was (or is about to be) entered into the session.
+     * Commands that do not change the state of the session are ignored.
+     * @param command the command
+     */
+    public synchronized void record(String command) {
+        if ( command == null || command.isBlank() ) return;
+        String normalized = normalize(command);
+
+        String slot;
+        Matcher m = ASSIGNMENT.matcher(normalized);
+        Matcher def = DEFINITION.matcher(normalized);
+        if ( m.matches() ) slot = m.group(1);
+        else if ( def.matches() ) slot = def.group(1);
+        else if ( STATE_CHANGING_CALL.matcher(normalized).matches() ) slot = normalized;
+        else return;
+
+        if ( normalized.equals(defaults.get(slot)) ) {
+            if ( commands.remove(slot) != null ) fingerprint = null;
+        } else if ( !normalized.equals(commands.put(slot, normalized)) ) fingerprint = null;
+    }
+
+    private static String normalize(String command) {
+        return command.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Resets the state, e.g., if the session was restarted.
+     */
+    public synchronized void clear() {
+        commands.clear();
+        fingerprint = null;
+    }
+
+    /**
+     * @return true if no state changing command has been recorded yet
+     */
+    public synchronized boolean isDefault() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * @return a hash of all recorded commands, equal states have equal fingerprints
+     */
+    public synchronized String getFingerprint() {
+        if ( fingerprint == null ) {
+            fingerprint = commands.isEmpty() ? "" : CasResultCache.sha256(String.join("\u0000", commands.values()));
+        }
+        return fingerprint;
+    }
+}
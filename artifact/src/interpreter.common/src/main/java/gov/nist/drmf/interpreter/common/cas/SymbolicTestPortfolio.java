@@ -0,0 +1,369 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+import gov.nist.drmf.interpreter.common.eval.*;
+import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.common.process.CasWorkerPool;
+import gov.nist.drmf.interpreter.common.process.RmiCasServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Performs symbolic tests in portfolio mode. Instead of running every activated strategy
+ * ({@link ISymbolicTestCases}, e.g., simplify, convert to exp, expand) of a test expression one after another,
+ * the strategies are dispatched concurrently to a pool of workers. The first successful strategy wins, its title
+ * is stored in {@link SymbolicCalculationGroup#getSuccessfulStrategy()}. Hence, the wall time of a test expression
+ * is bounded by the fastest successful strategy rather than the sum of all strategies.
+ * </p>
+ *
+ * <p>
+ * The losers of a race are cancelled. Strategies that have not started yet are never started and reported as
+ * {@link TestResultType#SKIPPED}. Strategies that were already running are reported as aborted
+ * (see {@link SymbolicCalculation#wasAborted()}), just like strategies that exceeded their timeout. In contrast
+ * to timeouts, all losers are marked as cancelled (see {@link SymbolicCalculation#wasCancelled()}), since being
+ * slower than the winner says nothing about whether a strategy would have solved the test.
+ * A running strategy cannot be interrupted in the CAS. It keeps its worker until it finishes (at most its budget)
+ * and its result is discarded.
+ * </p>
+ *
+ * <p>
+ * The workers are either local evaluators or the subprocesses of a {@link CasWorkerPool}. Every worker must be
+ * an independent CAS engine (e.g., its own kernel) because the workers run in parallel. Before every strategy,
+ * the timeout of the worker is set to the strategy budget of this portfolio
+ * (see {@link #setTimeout(EvaluatorType, double)}).
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class SymbolicTestPortfolio implements ICASEngineSymbolicEvaluator, AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(SymbolicTestPortfolio.class.getName());
+
+    private final List<AbstractCasEngineSymbolicEvaluator<?>> workers;
+    private final BlockingQueue<AbstractCasEngineSymbolicEvaluator<?>> idleWorkers;
+
+    private final CasWorkerPool pool;
+    // the assumptions that were set in the subprocesses of the pool (a restarted subprocess has a new server)
+    private final Map<RmiCasServer, List<String>> remoteAssumptions = new ConcurrentHashMap<>();
+    private volatile List<String> globalAssumptions = null;
+
+    private final int size;
+    private final ExecutorService executor;
+
+    private volatile double strategyTimeout;
+
+    /**
+     * @param workers the workers, each worker must be an independent CAS engine
+     * @param strategyTimeoutInSeconds the timeout of every single strategy, non-positive values disable the timeout
+     */
+    public SymbolicTestPortfolio(
+            Collection<? extends AbstractCasEngineSymbolicEvaluator<?>> workers,
+            double strategyTimeoutInSeconds
+    ) {
+        if ( workers == null || workers.isEmpty() )
+            throw new IllegalArgumentException("A portfolio requires at least one worker.");
+        this.workers = new ArrayList<>(workers);
+        this.idleWorkers = new LinkedBlockingQueue<>(workers);
+        this.pool = null;
+        this.size = workers.size();
+        this.strategyTimeout = strategyTimeoutInSeconds;
+        this.executor = createExecutor(size);
+    }
+
+    /**
+     * Every strategy is performed as a job of the given pool. The pool still belongs to the caller,
+     * i.e., the caller must start and close it.
+     * @param pool the worker pool
+     * @param strategyTimeoutInSeconds the timeout of every single strategy, non-positive values disable the timeout
+     */
+    public SymbolicTestPortfolio(CasWorkerPool pool, double strategyTimeoutInSeconds) {
+        if ( pool == null ) throw new IllegalArgumentException("A portfolio requires a worker pool.");
+        this.workers = new ArrayList<>();
+        this.idleWorkers = new LinkedBlockingQueue<>();
+        this.pool = pool;
+        this.size = pool.getWorkerStatistics().size();
+        this.strategyTimeout = strategyTimeoutInSeconds;
+        this.executor = createExecutor(size);
+    }
+
+    private static ExecutorService createExecutor(int size) {
+        return Executors.newFixedThreadPool(size, r -> {
+            Thread t = new Thread(r, "symbolic-portfolio");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Sets the budget of every single strategy. Note that it is not the timeout of an entire test.
+     * @param type only {@link EvaluatorType#SYMBOLIC} is considered
+     * @param timeoutInSeconds the budget of a strategy in seconds, non-positive values disable the timeout
+     */
+    @Override
+    public void setTimeout(EvaluatorType type, double timeoutInSeconds) {
+        if ( EvaluatorType.SYMBOLIC.equals(type) ) this.strategyTimeout = timeoutInSeconds;
+    }
+
+    public double getStrategyTimeout() {
+        return strategyTimeout;
+    }
+
+    /**
+     * @return the number of workers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the assumptions of all workers. The subprocesses of a worker pool receive the assumptions
+     * with their next strategy.
+     * @param assumptions list of assumptions
+     * @throws ComputerAlgebraSystemEngineException if a local worker cannot set the assumptions
+     */
+    @Override
+    public synchronized void setGlobalSymbolicAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException {
+        if ( pool != null ) {
+            this.globalAssumptions = assumptions == null ? null : List.copyOf(assumptions);
+            return;
+        }
+        for ( AbstractCasEngineSymbolicEvaluator<?> worker : workers ) {
+            worker.setGlobalSymbolicAssumptions(assumptions);
+        }
+    }
+
+    @Override
+    public SymbolicResult performSymbolicTest(SymbolicalTest test) {
+        return performSymbolicTest(test, null);
+    }
+
+    /**
+     * Performs the given test. The pre- and post-commands (e.g., to switch the branch cuts of Legendre functions)
+     * are entered in the worker before and after every strategy. Only a portfolio that is backed by a
+     * {@link CasWorkerPool} supports such commands.
+     * @param test the test
+     * @param preAndPostCommands the pre-command (first entry) and post-command (second entry) or null
+     * @return the result of the test
+     */
+    public synchronized SymbolicResult performSymbolicTest(SymbolicalTest test, String[] preAndPostCommands) {
+        if ( preAndPostCommands != null && pool == null )
+            throw new UnsupportedOperationException("Local workers do not support pre- and post-commands.");
+
+        List<SymbolicalTestBaseCase> testExpressions = new ArrayList<>(test.getTestExpression());
+        List<String> expectedOutcomes = new ArrayList<>(test.getExpectedOutcome());
+
+        List<ISymbolicTestCases> strategies = new ArrayList<>();
+        for ( ISymbolicTestCases testCase : test.getTestCases() ) {
+            if ( testCase.isActivated() ) strategies.add(testCase);
+        }
+
+        SymbolicResult symbolicResult = new SymbolicResult();
+        for ( int i = 0; i < testExpressions.size(); i++ ) {
+            SymbolicCalculationGroup group = race(
+                    testExpressions.get(i), expectedOutcomes.get(i), strategies,
+                    test.getRequiredPackages(), preAndPostCommands
+            );
+            symbolicResult.addTestCalculationsGroup(group);
+        }
+        return symbolicResult;
+    }
+
+    private SymbolicCalculationGroup race(
+            SymbolicalTestBaseCase testBase,
+            String expect,
+            List<ISymbolicTestCases> strategies,
+            Set<String> requiredPackages,
+            String[] preAndPostCommands
+    ) {
+        SymbolicCalculationGroup group = new SymbolicCalculationGroup();
+        group.setLhs(testBase.getLhs());
+        group.setRhs(testBase.getRhs());
+        group.setTestExpression(testBase.getTestExpression());
+
+        AtomicBoolean solved = new AtomicBoolean(false);
+        AtomicBoolean[] started = new AtomicBoolean[strategies.size()];
+        CompletionService<SymbolicCalculation> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<SymbolicCalculation>> futures = new ArrayList<>(strategies.size());
+        for ( int i = 0; i < strategies.size(); i++ ) {
+            ISymbolicTestCases strategy = strategies.get(i);
+            AtomicBoolean strategyStarted = new AtomicBoolean(false);
+            started[i] = strategyStarted;
+            futures.add(completionService.submit(() -> performStrategy(
+                    testBase, expect, strategy, requiredPackages, preAndPostCommands, solved, strategyStarted
+            )));
+        }
+
+        SymbolicCalculation[] calculations = new SymbolicCalculation[strategies.size()];
+        try {
+            for ( int i = 0; i < strategies.size() && group.getSuccessfulStrategy() == null; i++ ) {
+                Future<SymbolicCalculation> future = completionService.take();
+                int idx = futures.indexOf(future);
+                calculations[idx] = getCalculation(future, strategies.get(idx));
+
+                if ( calculations[idx] != null && TestResultType.SUCCESS.equals(calculations[idx].getResult()) ) {
+                    group.setSuccessfulStrategy(calculations[idx].getTestTitle());
+                    LOG.debug("Strategy " + calculations[idx].getTestTitle() + " won the portfolio race for: "
+                            + testBase.getTestExpression());
+                }
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for the symbolic strategies of " + testBase.getTestExpression());
+            Thread.currentThread().interrupt();
+        }
+
+        // no further strategy is started from here on
+        solved.set(true);
+        for ( Future<SymbolicCalculation> future : futures ) future.cancel(false);
+
+        for ( int i = 0; i < calculations.length; i++ ) {
+            SymbolicCalculation calculation = calculations[i];
+            Future<SymbolicCalculation> future = futures.get(i);
+            if ( calculation == null && future.isDone() && !future.isCancelled() ) {
+                // finished at the same time as the winner, hence, it is not blocking anymore
+                try {
+                    calculation = getCalculation(future, strategies.get(i));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if ( calculation == null ) calculation = cancelledCalculation(testBase, strategies.get(i), started[i].get());
+            group.addTestCalculation(calculation);
+        }
+        return group;
+    }
+
+    private SymbolicCalculation performStrategy(
+            SymbolicalTestBaseCase testBase,
+            String expect,
+            ISymbolicTestCases strategy,
+            Set<String> requiredPackages,
+            String[] preAndPostCommands,
+            AtomicBoolean solved,
+            AtomicBoolean started
+    ) throws Exception {
+        if ( solved.get() ) return null;
+        if ( pool != null )
+            return performRemoteStrategy(testBase, expect, strategy, requiredPackages, preAndPostCommands, solved, started);
+
+        AbstractCasEngineSymbolicEvaluator<?> worker = idleWorkers.take();
+        try {
+            // another strategy may have won while we were waiting for an idle worker
+            if ( solved.get() ) return null;
+            started.set(true);
+            worker.setTimeout(EvaluatorType.SYMBOLIC, strategyTimeout);
+            SymbolicCalculation calculation = worker.performSymbolicTestCase(testBase, expect, strategy, requiredPackages);
+            // set it before the worker is released, so no further strategy is started
+            if ( TestResultType.SUCCESS.equals(calculation.getResult()) ) solved.set(true);
+            return calculation;
+        } finally {
+            idleWorkers.add(worker);
+        }
+    }
+
+    private SymbolicCalculation performRemoteStrategy(
+            SymbolicalTestBaseCase testBase,
+            String expect,
+            ISymbolicTestCases strategy,
+            Set<String> requiredPackages,
+            String[] preAndPostCommands,
+            AtomicBoolean solved,
+            AtomicBoolean started
+    ) throws Exception {
+        SymbolicalTest test = new SymbolicalTest();
+        test.setTestCases(new ISymbolicTestCases[]{strategy});
+        test.setTestExpressions(new LinkedList<>(List.of(testBase)));
+        test.setExpectedValues(new LinkedList<>(List.of(expect)));
+        test.setRequiredPackages(requiredPackages);
+
+        CompletableFuture<SymbolicCalculation> future = pool.submit(server -> {
+            // another strategy may have won while the job was queued
+            if ( solved.get() ) return null;
+            started.set(true);
+            prepare(server, preAndPostCommands);
+            try {
+                List<SymbolicCalculation> calculations = server.performSymbolicTest(test).getAllCalculations();
+                if ( calculations.isEmpty() ) return errorCalculation(strategy);
+                SymbolicCalculation calculation = calculations.get(0);
+                if ( TestResultType.SUCCESS.equals(calculation.getResult()) ) solved.set(true);
+                return calculation;
+            } finally {
+                if ( preAndPostCommands != null && preAndPostCommands[1] != null )
+                    server.enterCommand(preAndPostCommands[1]);
+            }
+        }, () -> errorCalculation(strategy));
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if ( e.getCause() instanceof Exception ) throw (Exception) e.getCause();
+            throw e;
+        }
+    }
+
+    private void prepare(RmiCasServer server, String[] preAndPostCommands)
+            throws RemoteException, ComputerAlgebraSystemEngineException {
+        if ( strategyTimeout > 0 ) server.setTimeout(EvaluatorType.SYMBOLIC, strategyTimeout);
+        else server.disableTimeout(EvaluatorType.SYMBOLIC);
+
+        List<String> assumptions = globalAssumptions;
+        if ( assumptions != null && !assumptions.equals(remoteAssumptions.get(server)) ) {
+            server.setGlobalSymbolicAssumptions(assumptions);
+            remoteAssumptions.put(server, assumptions);
+        }
+
+        if ( preAndPostCommands != null && preAndPostCommands[0] != null )
+            server.enterCommand(preAndPostCommands[0]);
+    }
+
+    private static SymbolicCalculation getCalculation(Future<SymbolicCalculation> future, ISymbolicTestCases strategy)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            LOG.error("Error in symbolic strategy " + strategy.getShortName() + ": " + e.getCause().getMessage(), e.getCause());
+            return errorCalculation(strategy);
+        }
+    }
+
+    private static SymbolicCalculation errorCalculation(ISymbolicTestCases strategy) {
+        SymbolicCalculation calculation = new SymbolicCalculation();
+        calculation.setTestTitle(strategy.getShortName());
+        calculation.setResult(TestResultType.ERROR);
+        return calculation;
+    }
+
+    /**
+     * A cancelled strategy is either skipped (it never started) or aborted (it was running when it was cancelled).
+     */
+    private static SymbolicCalculation cancelledCalculation(
+            SymbolicalTestBaseCase testBase,
+            ISymbolicTestCases strategy,
+            boolean started
+    ) {
+        SymbolicCalculation calculation = new SymbolicCalculation();
+        calculation.setTestTitle(strategy.getShortName());
+        calculation.setTestExpression(strategy.buildCommand(testBase.getTestExpression()));
+        calculation.setResult(TestResultType.SKIPPED);
+        calculation.wasAborted(started);
+        calculation.wasCancelled(true);
+        return calculation;
+    }
+
+    /**
+     * Stops the threads of the portfolio. The workers (or the worker pool) are not closed,
+     * they still belong to the caller.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -25,6 +25,9 @@ public class CASConfig {
     @JsonProperty("license")
     private String license;
 
+    @JsonProperty("result.cache")
+    private String resultCache;
+
     private CASConfig(){}
 
     @JsonSetter("install.path")
@@ -57,6 +60,25 @@ public class CASConfig {
         this.license = license;
     }
 
+    @JsonGetter("result.cache")
+    public String getResultCache() {
+        return resultCache;
+    }
+
+    @JsonSetter("result.cache")
+    public void setResultCache(String resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * @return the path of the log file of the CAS result cache or null if the cache is disabled
+     */
+    @JsonIgnore
+    public Path getResultCachePath() {
+        if ( resultCache == null || resultCache.isBlank() ) return null;
+        return Paths.get(resultCache);
+    }
+
     @JsonIgnore
     public Path getInstallPath() {
         if ( path == null ) return null;
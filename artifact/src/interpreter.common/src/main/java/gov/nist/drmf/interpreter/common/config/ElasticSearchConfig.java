@@ -10,17 +10,25 @@ public class ElasticSearchConfig {
 
     private final int port;
 
+    private final boolean inMemory;
+
     public ElasticSearchConfig(){
         GenericLacastConfig c = GenericLacastConfig.getDefaultConfig();
         this.host = c.getEsHost();
         this.index = c.getMacroIndex();
         this.port = c.getEsPort();
+        this.inMemory = c.isEsInMemory();
     }
 
     public ElasticSearchConfig(String host, int port, String macroIndex) {
+        this(host, port, macroIndex, false);
+    }
+
+    public ElasticSearchConfig(String host, int port, String macroIndex, boolean inMemory) {
         this.host = host;
         this.port = port;
         this.index = macroIndex;
+        this.inMemory = inMemory;
     }
 
     public String getHost() {
@@ -34,4 +42,11 @@ public class ElasticSearchConfig {
     public String getIndex() {
         return index;
     }
+
+    /**
+     * @return true if the macros are searched in an in-memory index instead of the Elasticsearch cluster
+     */
+    public boolean isInMemory() {
+        return inMemory;
+    }
 }
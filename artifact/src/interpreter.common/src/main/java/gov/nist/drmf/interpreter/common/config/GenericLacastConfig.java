@@ -20,6 +20,9 @@ public class GenericLacastConfig {
     @JsonProperty("elasticsearch.macros.index")
     private String macroIndex = "dlmf-macros";
 
+    @JsonProperty("elasticsearch.inmemory")
+    private boolean esInMemory = false;
+
     @JsonProperty("mathoid.url")
     private String mathoidUrl = "http://localhost:10044/texvcinfo";
 
@@ -37,6 +40,7 @@ public class GenericLacastConfig {
         this.esHost = copy.esHost;
         this.esPort = copy.esPort;
         this.macroIndex = copy.macroIndex;
+        this.esInMemory = copy.esInMemory;
         this.mathoidUrl = copy.mathoidUrl;
         this.settings = new Settings(copy.settings);
         this.mapleSubprocessInfo = copy.mapleSubprocessInfo;
@@ -54,6 +58,13 @@ public class GenericLacastConfig {
         return macroIndex;
     }
 
+    /**
+     * @return true if macros should be retrieved from an in-memory index rather than an Elasticsearch cluster
+     */
+    public boolean isEsInMemory() {
+        return esInMemory;
+    }
+
     public String getMathoidUrl() {
         return mathoidUrl;
     }
@@ -94,6 +105,10 @@ public class GenericLacastConfig {
         this.macroIndex = macroIndex;
     }
 
+    public void setEsInMemory(boolean esInMemory) {
+        this.esInMemory = esInMemory;
+    }
+
     public void setMathoidUrl(String mathoidUrl) {
         this.mathoidUrl = mathoidUrl;
     }
@@ -116,7 +131,7 @@ public class GenericLacastConfig {
 
     public ElasticSearchConfig getESConfig() {
         return new ElasticSearchConfig(
-                esHost, esPort, macroIndex
+                esHost, esPort, macroIndex, esInMemory
         );
     }
 
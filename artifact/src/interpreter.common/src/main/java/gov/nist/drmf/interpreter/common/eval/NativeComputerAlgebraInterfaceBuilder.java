@@ -5,6 +5,7 @@ import gov.nist.drmf.interpreter.common.cas.ICASEngineSymbolicEvaluator;
 import gov.nist.drmf.interpreter.common.cas.IComputerAlgebraSystemEngine;
 import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.common.process.CasWorkerPool;
 
 /**
  * This is an evaluation builder for CAS. It returns all necessary
@@ -61,6 +62,18 @@ public interface NativeComputerAlgebraInterfaceBuilder {
      */
     ISymbolicTestCases[] getDefaultSymbolicTestCases();
 
+    /**
+     * Creates a pool of additional CAS subprocesses, e.g., to perform the simplification approaches of a symbolic
+     * test in parallel (see {@link gov.nist.drmf.interpreter.common.cas.SymbolicTestPortfolio}). The pool is not
+     * started yet.
+     * @param size the number of subprocesses
+     * @param basePort the port of the RMI registry of the first subprocess
+     * @return the worker pool or null if this CAS does not support worker pools (default)
+     */
+    default CasWorkerPool createWorkerPool(int size, int basePort) {
+        return null;
+    }
+
     /* Numeric Calculation Connections */
 
     /**
@@ -26,6 +26,9 @@ public class SymbolicCalculation implements Serializable {
     @JsonProperty("wasAborted")
     private boolean wasAborted = false;
 
+    @JsonProperty("wasCancelled")
+    private boolean wasCancelled = false;
+
     @JsonProperty("conditionallySuccessful")
     private boolean wasConditionallySuccessful = false;
 
@@ -45,6 +48,20 @@ public class SymbolicCalculation implements Serializable {
         this.wasAborted = wasAborted;
     }
 
+    /**
+     * @return true if the calculation was cancelled because another strategy solved the test first
+     * (see {@link gov.nist.drmf.interpreter.common.cas.SymbolicTestPortfolio})
+     */
+    @JsonGetter("wasCancelled")
+    public boolean wasCancelled() {
+        return wasCancelled;
+    }
+
+    @JsonSetter("wasCancelled")
+    public void wasCancelled(boolean wasCancelled) {
+        this.wasCancelled = wasCancelled;
+    }
+
     public void setResult(TestResultType result) {
         this.result = result;
     }
@@ -1,6 +1,7 @@
 package gov.nist.drmf.interpreter.common.eval;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
@@ -12,7 +13,7 @@ import java.util.List;
  * @author Andre Greiner-Petter
  */
 @JsonPropertyOrder({
-        "lhs","rhs","testExpression","testCalculations"
+        "lhs","rhs","testExpression","successfulStrategy","testCalculations"
 })
 public class SymbolicCalculationGroup implements Serializable {
     @JsonProperty("lhs")
@@ -24,6 +25,10 @@ public class SymbolicCalculationGroup implements Serializable {
     @JsonProperty("testExpression")
     private String testExpression;
 
+    @JsonProperty("successfulStrategy")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String successfulStrategy;
+
     @JsonProperty("testCalculations")
     private List<SymbolicCalculation> testCalculations;
 
@@ -55,6 +60,18 @@ public class SymbolicCalculationGroup implements Serializable {
         this.testExpression = testExpression;
     }
 
+    /**
+     * @return the title of the strategy that won the portfolio race of this group or that stopped the
+     * strategies early (see {@link SymbolicalTest#isStopAfterFirstSuccess()}), null otherwise
+     */
+    public String getSuccessfulStrategy() {
+        return successfulStrategy;
+    }
+
+    public void setSuccessfulStrategy(String successfulStrategy) {
+        this.successfulStrategy = successfulStrategy;
+    }
+
     public List<SymbolicCalculation> getTestCalculations() {
         return testCalculations;
     }
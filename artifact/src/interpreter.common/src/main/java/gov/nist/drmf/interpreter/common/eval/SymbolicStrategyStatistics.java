@@ -0,0 +1,200 @@
+package gov.nist.drmf.interpreter.common.eval;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * <p>
+ * Success statistics of the symbolic simplification strategies ({@link ISymbolicTestCases}) per DLMF chapter
+ * and per semantic macro. The statistics are used to reorder the strategies of a test case, so that the
+ * strategy that most likely proves the test case runs first. Strategies that never succeeded for the chapter
+ * and macros of a test case (in at least {@link #MIN_ATTEMPTS_TO_DEFER} attempts) are deferred to the end.
+ * Since no strategy is removed, a test case still falls back to the full list of strategies if the
+ * preferred strategies fail.
+ * </p>
+ *
+ * <p>
+ * The statistics are stored as JSON, see {@link #load(Path)} and {@link #save(Path)}.
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class SymbolicStrategyStatistics {
+    private static final Logger LOG = LogManager.getLogger(SymbolicStrategyStatistics.class.getName());
+
+    public static final int MIN_ATTEMPTS_TO_DEFER = 5;
+
+    private static final String CHAPTER_PREFIX = "chapter:";
+    private static final String MACRO_PREFIX = "macro:";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // key (chapter or macro) -> strategy -> counter
+    private final Map<String, Map<String, Counter>> statistics;
+
+    public SymbolicStrategyStatistics() {
+        this.statistics = new TreeMap<>();
+    }
+
+    private SymbolicStrategyStatistics(Map<String, Map<String, Counter>> statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Loads the statistics from the given file. If the file does not exist, empty statistics are returned.
+     * @param file the JSON file of the statistics
+     * @return the statistics
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static SymbolicStrategyStatistics load(Path file) throws IOException {
+        if ( file == null || !Files.exists(file) ) return new SymbolicStrategyStatistics();
+        Map<String, Map<String, Counter>> loaded = MAPPER.readValue(
+                file.toFile(),
+                new TypeReference<Map<String, Map<String, Counter>>>() {}
+        );
+        Map<String, Map<String, Counter>> stats = new TreeMap<>();
+        loaded.forEach( (key, counters) -> stats.put(key, new TreeMap<>(counters)) );
+        LOG.info("Loaded symbolic strategy statistics of " + stats.size() + " chapters and macros from " + file);
+        return new SymbolicStrategyStatistics(stats);
+    }
+
+    /**
+     * Writes the statistics to the given file. The file is replaced atomically, so an interrupted run does
+     * not destroy the statistics of previous runs.
+     * @param file the JSON file of the statistics
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), statistics);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param equationLabel the DLMF equation label, e.g., {@code 4.2.E1}
+     * @return the chapter of the label, e.g., {@code 4}, or null if the label is null
+     */
+    public static String getChapter(String equationLabel) {
+        if ( equationLabel == null || equationLabel.isBlank() ) return null;
+        int dot = equationLabel.indexOf('.');
+        return dot < 0 ? equationLabel : equationLabel.substring(0, dot);
+    }
+
+    /**
+     * Orders the given strategies by their success rate in the given chapter and for the given macros.
+     * Strategies without statistics keep their original order.
+     *
+     * @param strategies the strategies in their default order
+     * @param chapter the chapter of the test case (may be null)
+     * @param macros the semantic macros of the test case
+     * @return a new array of all given strategies in the preferred order
+     */
+    public synchronized ISymbolicTestCases[] order(ISymbolicTestCases[] strategies, String chapter, Collection<String> macros) {
+        List<String> keys = getKeys(chapter, macros);
+        List<RankedStrategy> ranked = new ArrayList<>(strategies.length);
+        for ( int i = 0; i < strategies.length; i++ ) {
+            long attempts = 0, successes = 0;
+            for ( String key : keys ) {
+                Counter counter = statistics.getOrDefault(key, Collections.emptyMap()).get(strategies[i].getShortName());
+                if ( counter == null ) continue;
+                attempts += counter.attempts;
+                successes += counter.successes;
+            }
+            ranked.add(new RankedStrategy(strategies[i], i, attempts, successes));
+        }
+
+        Collections.sort(ranked);
+        ISymbolicTestCases[] ordered = new ISymbolicTestCases[strategies.length];
+        for ( int i = 0; i < ordered.length; i++ ) ordered[i] = ranked.get(i).strategy;
+        return ordered;
+    }
+
+    /**
+     * Adds the outcome of the calculations to the statistics of the given chapter and macros. Cancelled
+     * calculations (including the losers of a portfolio race that were still running) and errors are ignored.
+     * Aborted calculations (timeouts) count as unsuccessful attempts.
+     *
+     * @param chapter the chapter of the test case (may be null)
+     * @param macros the semantic macros of the test case
+     * @param result the result of the symbolic test
+     */
+    public synchronized void record(String chapter, Collection<String> macros, SymbolicResult result) {
+        List<String> keys = getKeys(chapter, macros);
+        for ( SymbolicCalculation calculation : result.getAllCalculations() ) {
+            TestResultType type = calculation.getResult();
+            boolean attempted = TestResultType.SUCCESS.equals(type) || TestResultType.FAILURE.equals(type) ||
+                    (calculation.wasAborted() && !calculation.wasCancelled());
+            if ( !attempted || calculation.getTestTitle() == null ) continue;
+
+            boolean success = TestResultType.SUCCESS.equals(type);
+            for ( String key : keys ) {
+                Counter counter = statistics
+                        .computeIfAbsent(key, k -> new TreeMap<>())
+                        .computeIfAbsent(calculation.getTestTitle(), k -> new Counter());
+                counter.attempts++;
+                if ( success ) counter.successes++;
+            }
+        }
+    }
+
+    /**
+     * @param key the chapter (e.g., {@code 4}) or macro (e.g., {@code \BesselJ})
+     * @param strategy the short name of the strategy
+     * @return the number of attempts and successes or null if there is no statistic for the given key and strategy
+     */
+    public synchronized long[] getStatistics(String key, String strategy) {
+        Map<String, Counter> stats = statistics.get(CHAPTER_PREFIX + key);
+        if ( stats == null ) stats = statistics.get(MACRO_PREFIX + key);
+        if ( stats == null || !stats.containsKey(strategy) ) return null;
+        Counter counter = stats.get(strategy);
+        return new long[]{counter.attempts, counter.successes};
+    }
+
+    private static List<String> getKeys(String chapter, Collection<String> macros) {
+        List<String> keys = new LinkedList<>();
+        if ( chapter != null ) keys.add(CHAPTER_PREFIX + chapter);
+        if ( macros != null ) {
+            for ( String macro : new TreeSet<>(macros) ) keys.add(MACRO_PREFIX + macro);
+        }
+        return keys;
+    }
+
+    private static final class Counter {
+        @JsonProperty("attempts")
+        private long attempts = 0;
+
+        @JsonProperty("successes")
+        private long successes = 0;
+    }
+
+    private static final class RankedStrategy implements Comparable<RankedStrategy> {
+        private final ISymbolicTestCases strategy;
+        private final int defaultPosition;
+        private final boolean deferred;
+        private final double score;
+
+        private RankedStrategy(ISymbolicTestCases strategy, int defaultPosition, long attempts, long successes) {
+            this.strategy = strategy;
+            this.defaultPosition = defaultPosition;
+            this.deferred = successes == 0 && attempts >= MIN_ATTEMPTS_TO_DEFER;
+            // Laplace smoothing, i.e., strategies without statistics have a success rate of 1/2
+            this.score = (successes + 1) / (double) (attempts + 2);
+        }
+
+        @Override
+        public int compareTo(RankedStrategy o) {
+            if ( deferred != o.deferred ) return deferred ? 1 : -1;
+            int cmp = Double.compare(o.score, score);
+            return cmp != 0 ? cmp : Integer.compare(defaultPosition, o.defaultPosition);
+        }
+    }
+}
@@ -21,6 +21,9 @@ public class SymbolicalConfig implements EvaluationConfig {
 
     private static final Logger LOG = LogManager.getLogger(SymbolicalConfig.class.getName());
 
+    // the default RMI registry (1099) is used by the main CAS subprocess
+    private static final int DEFAULT_PORTFOLIO_PORT = 1100;
+
     public SymbolicalConfig(ISymbolicTestCases[] symbolicTestCases) {
         try ( FileInputStream in = new FileInputStream(GlobalPaths.PATH_SYMBOLIC_SETUP.toFile()) ){
             Properties props = new Properties();
@@ -127,6 +130,40 @@ public class SymbolicalConfig implements EvaluationConfig {
         return Double.parseDouble(SymbolicProperties.KEY_TIMEOUT.value);
     }
 
+    /**
+     * @return true if the simplification approaches should be reordered by their success in previous runs
+     */
+    public boolean enabledAdaptiveStrategyOrder() {
+        return Boolean.parseBoolean(SymbolicProperties.KEY_ADAPTIVE_ORDER.value);
+    }
+
+    /**
+     * @return the file of the strategy statistics for adaptive ordering or null if the default file
+     * next to the output should be used
+     */
+    public Path getStrategyStatisticsPath() {
+        String path = SymbolicProperties.KEY_STRATEGY_STATISTICS.value;
+        return path == null || path.isBlank() ? null : Paths.get(path);
+    }
+
+    /**
+     * @return the number of CAS subprocesses that perform the simplification approaches of a test case in parallel
+     * (portfolio mode), 0 disables the portfolio mode
+     */
+    public int getPortfolioWorkers() {
+        String workers = SymbolicProperties.KEY_PORTFOLIO_WORKERS.value;
+        return workers == null || workers.isBlank() ? 0 : Integer.parseInt(workers.trim());
+    }
+
+    /**
+     * @return the port of the RMI registry of the first CAS subprocess of the portfolio mode,
+     * the following subprocesses use the subsequent ports
+     */
+    public int getPortfolioPort() {
+        String port = SymbolicProperties.KEY_PORTFOLIO_PORT.value;
+        return port == null || port.isBlank() ? DEFAULT_PORTFOLIO_PORT : Integer.parseInt(port.trim());
+    }
+
     private enum SymbolicProperties{
         KEY_DATASET("dlmf_dataset", null),
         KEY_SUBSET("subset_tests", null),
@@ -141,7 +178,11 @@ public class SymbolicalConfig implements EvaluationConfig {
         KEY_ENABLE_EXPAND_EXP("enable_pre_expansion_with_exp", "true"),
         KEY_ENABLE_EXPAND_HYP("enable_pre_expansion_with_hypergeom", "true"),
         KEY_ASSUMPTION("entire_test_set_assumptions", null),
-        KEY_TIMEOUT("timeout", "10");
+        KEY_TIMEOUT("timeout", "10"),
+        KEY_ADAPTIVE_ORDER("adaptive_strategy_order", "false"),
+        KEY_STRATEGY_STATISTICS("strategy_statistics", null),
+        KEY_PORTFOLIO_WORKERS("portfolio_workers", "0"),
+        KEY_PORTFOLIO_PORT("portfolio_port", null);
 
         private String key, value;
 
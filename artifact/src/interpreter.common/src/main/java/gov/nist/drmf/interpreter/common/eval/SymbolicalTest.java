@@ -24,6 +24,8 @@ public class SymbolicalTest implements Serializable {
 
     private Set<String> requiredPackages;
 
+    private boolean stopAfterFirstSuccess = false;
+
     public SymbolicalTest() {
         testCases = new ISymbolicTestCases[]{};
         testExpressions = new LinkedList<>();
@@ -145,6 +147,19 @@ public class SymbolicalTest implements Serializable {
         this.requiredPackages = requiredPackages;
     }
 
+    /**
+     * If set, the remaining strategies of a test expression are skipped once a strategy was successful.
+     * In this case, the order of the test cases matters.
+     * @param stopAfterFirstSuccess stop after the first successful strategy (default is false)
+     */
+    public void setStopAfterFirstSuccess(boolean stopAfterFirstSuccess) {
+        this.stopAfterFirstSuccess = stopAfterFirstSuccess;
+    }
+
+    public boolean isStopAfterFirstSuccess() {
+        return stopAfterFirstSuccess;
+    }
+
     public ISymbolicTestCases[] getTestCases() {
         return testCases;
     }
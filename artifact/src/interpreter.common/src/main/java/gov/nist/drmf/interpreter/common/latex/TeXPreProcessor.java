@@ -30,6 +30,8 @@ public class TeXPreProcessor {
             "\\\\genfrac(\\{.}|.)(\\{.}|.)(?:\\\\z@\\{}|\\{0pt}\\{})\\{(.*?)}\\{(.*?)}"
     );
 
+    private static final Pattern MULTI_AT_PATTERN = Pattern.compile("@{2,}");
+
     private static final Pattern BEGIN_ENV_PATTERN = Pattern.compile("\\\\begin\\{(.*?)}");
 
     private final static ReplacementConfig replacementConfig = ReplacementConfig.getInstance();
@@ -107,7 +109,7 @@ public class TeXPreProcessor {
 
     public static String resetNumberOfAtsToOne(String in) {
         // if there are multiple @s, replace it my one @
-        return in.replaceAll("@{2,}", "@");
+        return MULTI_AT_PATTERN.matcher(in).replaceAll("@");
     }
 
     public static String removeTeXEnvironment(String in) {
@@ -0,0 +1,472 @@
+package gov.nist.drmf.interpreter.common.process;
+
+import gov.nist.drmf.interpreter.common.eval.NumericResult;
+import gov.nist.drmf.interpreter.common.eval.NumericalTest;
+import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
+import gov.nist.drmf.interpreter.common.eval.SymbolicalTest;
+import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.rmi.NotBoundException;
+import java.rmi.RemoteException;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A pool of CAS subprocesses. Every worker is a {@link RmiProcessHandler} that starts its own JVM with its own
+ * RMI registry (on port {@code basePort + i}). The subprocess must register a {@link RmiCasServer} under
+ * {@link RmiCasServer#KEY} plus the server id in that registry. The port of the registry is given to the
+ * subprocess as its last program argument (e.g., the Maple RMI server reads it as its first argument).
+ * </p>
+ *
+ * <p>
+ * Jobs are queued and taken by the next idle worker. If a job crashes the subprocess of a worker, the
+ * worker waits until {@link RmiProcessHandler} recovered the subprocess, marks the result of the job as crashed,
+ * and continues with the next job. If the recovery fails or does not finish within
+ * {@link #RECOVERY_TIMEOUT_SECONDS}, the worker is removed from the pool and the job
+ * completes exceptionally with an {@link UnrecoverableProcessException}.
+ * </p>
+ *
+ * <p>
+ * Not every {@link RemoteException} is a crash. If the subprocess is still alive (e.g., a marshalling error or a
+ * dropped connection), the job completes exceptionally with the {@link RemoteException} and the worker keeps
+ * its subprocess.
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class CasWorkerPool implements AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(CasWorkerPool.class.getName());
+
+    /**
+     * The maximum time a worker waits for the recovery of its crashed subprocess.
+     */
+    public static final long RECOVERY_TIMEOUT_SECONDS = 300;
+
+    /**
+     * A subprocess that dies may still be alive when the remote call fails. Hence, the worker
+     * waits this long for the subprocess to exit before it assumes the subprocess survived.
+     */
+    private static final long EXIT_GRACE_MILLIS = 1_000;
+
+    private final BlockingQueue<PendingJob<?>> queue;
+    private final List<CasWorker> workers;
+    private final List<Thread> workerThreads;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new pool. The subprocesses are not started until {@link #start()} is called.
+     * @param info the information of the subprocess (the port of the registry is appended to its program arguments)
+     * @param serverId the id of the server, i.e., the server is registered under {@link RmiCasServer#KEY} + serverId
+     * @param size the number of subprocesses
+     * @param basePort the port of the RMI registry of the first subprocess
+     */
+    public CasWorkerPool(RmiSubprocessInfo info, String serverId, int size, int basePort) {
+        if ( size < 1 ) throw new IllegalArgumentException("A worker pool requires at least one worker but got " + size);
+        this.queue = new LinkedBlockingQueue<>();
+        this.workers = new ArrayList<>(size);
+        this.workerThreads = new ArrayList<>(size);
+        for ( int i = 0; i < size; i++ ) {
+            workers.add(new CasWorker(i, new PortSubprocessInfo(info, basePort + i), serverId, basePort + i));
+        }
+    }
+
+    /**
+     * Starts all subprocesses (in parallel) and workers.
+     * @throws IOException if a subprocess cannot be started
+     */
+    public synchronized void start() throws IOException {
+        if ( closed ) throw new IllegalStateException("The worker pool was already closed.");
+        if ( !workerThreads.isEmpty() ) return;
+        startSubprocesses();
+        for ( CasWorker worker : workers ) {
+            Thread t = new Thread(worker, "cas-worker-" + worker.id);
+            t.setDaemon(true);
+            workerThreads.add(t);
+            t.start();
+        }
+        LOG.info("Started CAS worker pool with " + workers.size() + " subprocesses");
+    }
+
+    private void startSubprocesses() throws IOException {
+        ExecutorService starter = Executors.newFixedThreadPool(workers.size());
+        try {
+            List<Future<?>> futures = new LinkedList<>();
+            for ( CasWorker worker : workers ) {
+                futures.add(starter.submit(() -> {
+                    worker.start();
+                    return null;
+                }));
+            }
+            for ( Future<?> future : futures ) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            workers.forEach(CasWorker::shutdown);
+            if ( e.getCause() instanceof IOException ) throw (IOException) e.getCause();
+            throw new IOException("Unable to start the subprocesses of the worker pool", e.getCause());
+        } catch (InterruptedException e) {
+            workers.forEach(CasWorker::shutdown);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while starting the subprocesses of the worker pool", e);
+        } finally {
+            starter.shutdown();
+        }
+    }
+
+    /**
+     * Queues the given job. The next idle worker performs it.
+     * @param job the job
+     * @param crashedResult the result of the job if the job crashed the subprocess
+     * @param <T> the type of the result
+     * @return the future result of the job
+     */
+    public <T> CompletableFuture<T> submit(CasJob<T> job, Supplier<T> crashedResult) {
+        if ( closed ) throw new IllegalStateException("The worker pool was already closed.");
+        PendingJob<T> pending = new PendingJob<>(job, crashedResult);
+        queue.add(pending);
+        return pending.future;
+    }
+
+    public CompletableFuture<NumericResult> submitNumericalTest(NumericalTest test) {
+        return submit(
+                server -> server.performNumericalTest(test),
+                () -> new NumericResult().markAsCrashed()
+        );
+    }
+
+    public CompletableFuture<SymbolicResult> submitSymbolicTest(SymbolicalTest test) {
+        return submit(
+                server -> server.performSymbolicTest(test),
+                () -> new SymbolicResult().markAsCrashed()
+        );
+    }
+
+    /**
+     * @return the number of jobs that wait for an idle worker
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of workers that are still alive (i.e., not unrecoverably crashed)
+     */
+    public int getNumberOfActiveWorkers() {
+        return (int) workers.stream().filter( w -> !w.dead ).count();
+    }
+
+    /**
+     * @return the statistics of every worker
+     */
+    public List<WorkerStatistics> getWorkerStatistics() {
+        List<WorkerStatistics> stats = new LinkedList<>();
+        for ( CasWorker worker : workers ) stats.add(worker.getStatistics());
+        return stats;
+    }
+
+    /**
+     * Stops all workers and their subprocesses. Jobs that are still queued are cancelled.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if ( closed ) return;
+            closed = true;
+        }
+
+        for ( Thread t : workerThreads ) t.interrupt();
+        for ( Thread t : workerThreads ) {
+            try {
+                t.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        PendingJob<?> pending;
+        while ( (pending = queue.poll()) != null ) pending.future.cancel(false);
+
+        for ( CasWorker worker : workers ) worker.shutdown();
+        LOG.info("Stopped CAS worker pool.");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CAS worker pool [queue: ").append(getQueueDepth()).append("]");
+        for ( WorkerStatistics stats : getWorkerStatistics() ) sb.append(System.lineSeparator()).append(stats);
+        return sb.toString();
+    }
+
+    /**
+     * A job that is performed by a worker of the pool.
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface CasJob<T> {
+        T perform(RmiCasServer server) throws RemoteException, ComputerAlgebraSystemEngineException;
+    }
+
+    /**
+     * An immutable snapshot of the statistics of a worker.
+     */
+    public static final class WorkerStatistics {
+        private final int id;
+        private final int port;
+        private final boolean alive;
+        private final long jobs;
+        private final long crashes;
+        private final long restarts;
+        private final double utilization;
+
+        private WorkerStatistics(int id, int port, boolean alive, long jobs, long crashes, long restarts, double utilization) {
+            this.id = id;
+            this.port = port;
+            this.alive = alive;
+            this.jobs = jobs;
+            this.crashes = crashes;
+            this.restarts = restarts;
+            this.utilization = utilization;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public boolean isAlive() {
+            return alive;
+        }
+
+        public long getNumberOfJobs() {
+            return jobs;
+        }
+
+        public long getNumberOfCrashes() {
+            return crashes;
+        }
+
+        public long getNumberOfRestarts() {
+            return restarts;
+        }
+
+        /**
+         * @return the fraction of time (between 0 and 1) the worker was busy since it was started
+         */
+        public double getUtilization() {
+            return utilization;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Worker %d [port: %d, alive: %s, jobs: %d, crashes: %d, restarts: %d, utilization: %.1f%%]",
+                    id, port, alive, jobs, crashes, restarts, utilization * 100);
+        }
+    }
+
+    private static final class PendingJob<T> {
+        private final CasJob<T> job;
+        private final Supplier<T> crashedResult;
+        private final CompletableFuture<T> future;
+
+        private PendingJob(CasJob<T> job, Supplier<T> crashedResult) {
+            this.job = job;
+            this.crashedResult = crashedResult;
+            this.future = new CompletableFuture<>();
+        }
+    }
+
+    /**
+     * Appends the port of the registry to the program arguments of the given info.
+     */
+    private static final class PortSubprocessInfo implements RmiSubprocessInfo {
+        private final RmiSubprocessInfo info;
+        private final int port;
+
+        private PortSubprocessInfo(RmiSubprocessInfo info, int port) {
+            this.info = info;
+            this.port = port;
+        }
+
+        @Override
+        public String getClassName() {
+            return info.getClassName();
+        }
+
+        @Override
+        public List<String> getJvmArgs() {
+            return info.getJvmArgs();
+        }
+
+        @Override
+        public List<String> getProgramArgs() {
+            List<String> args = new LinkedList<>(info.getProgramArgs());
+            args.add(Integer.toString(port));
+            return args;
+        }
+    }
+
+    private final class CasWorker extends RmiProcessHandler implements Runnable {
+        private final int id;
+        private final int port;
+        private final String serverId;
+
+        private volatile RmiCasServer server;
+        private volatile boolean dead = false;
+
+        private final LongAdder starts = new LongAdder();
+        private final LongAdder jobs = new LongAdder();
+        private final LongAdder crashes = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private volatile long startedAt = 0;
+
+        private CasWorker(int id, RmiSubprocessInfo info, String serverId, int port) {
+            super(info);
+            this.id = id;
+            this.port = port;
+            this.serverId = serverId;
+        }
+
+        /**
+         * Starts the subprocess and connects to its server. This is also called when the subprocess is
+         * recovered after a crash.
+         * @throws IOException if the subprocess cannot be started or the server is not available
+         */
+        @Override
+        public void start() throws IOException {
+            super.start();
+            try {
+                Registry registry = LocateRegistry.getRegistry(port);
+                RmiCasServer casServer = (RmiCasServer) registry.lookup(RmiCasServer.KEY + serverId);
+                casServer.init();
+                this.server = casServer;
+            } catch (IOException e) {
+                throw e;
+            } catch (NotBoundException e) {
+                throw new IOException("Subprocess of worker " + id + " did not register " + RmiCasServer.KEY + serverId, e);
+            } catch (Exception e) {
+                throw new IOException("Unable to initialize CAS of worker " + id, e);
+            }
+            if ( startedAt == 0 ) startedAt = System.nanoTime();
+            starts.increment();
+            LOG.debug("Worker " + id + " connected to subprocess with registry on port " + port);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while ( !closed && !dead ) {
+                    perform(queue.take());
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Worker " + id + " was interrupted.");
+            }
+        }
+
+        private <T> void perform(PendingJob<T> pending) {
+            CompletableFuture<?> processFuture = getProcessFuture();
+            Process process = getProcess();
+            long start = System.nanoTime();
+            T result = null;
+            Exception error = null;
+            try {
+                result = pending.job.perform(server);
+            } catch (RemoteException e) {
+                if ( !hasExited(process) ) {
+                    // the subprocess survived, so there is nothing to recover
+                    LOG.error("Remote call of worker " + id + " failed but its subprocess is still alive.", e);
+                    error = e;
+                } else {
+                    crashes.increment();
+                    LOG.fatal("Job crashed the CAS JVM of worker " + id + ". Wait for it to recover.", e);
+                    if ( waitUntilRecovered(processFuture) ) {
+                        result = pending.crashedResult.get();
+                    } else {
+                        dead = true;
+                        error = new UnrecoverableProcessException(e);
+                    }
+                }
+            } catch (Exception e) {
+                error = e;
+            } finally {
+                busyNanos.add(System.nanoTime() - start);
+                jobs.increment();
+            }
+
+            // complete the job after the statistics were updated, so the caller sees consistent statistics
+            if ( error != null ) pending.future.completeExceptionally(error);
+            else pending.future.complete(result);
+        }
+
+        private boolean hasExited(Process process) {
+            if ( process == null ) return true;
+            try {
+                process.onExit().get(EXIT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return !process.isAlive();
+            } catch (ExecutionException e) {
+                return !process.isAlive();
+            }
+        }
+
+        private boolean waitUntilRecovered(CompletableFuture<?> processFuture) {
+            try {
+                return processFuture != null && processFuture.get(RECOVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS) != null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                LOG.error("Unable to recover worker " + id, e);
+                return false;
+            } catch (TimeoutException e) {
+                LOG.error("Worker " + id + " did not recover within " + RECOVERY_TIMEOUT_SECONDS + " seconds.");
+                return false;
+            }
+        }
+
+        private void shutdown() {
+            if ( isAlive() && server != null ) {
+                try {
+                    server.stop();
+                } catch (RemoteException e) {
+                    LOG.debug("Unable to stop remote JVM of worker " + id);
+                }
+            }
+            stop();
+        }
+
+        private WorkerStatistics getStatistics() {
+            long uptime = startedAt == 0 ? 0 : System.nanoTime() - startedAt;
+            double utilization = uptime == 0 ? 0 : Math.min(1.0, busyNanos.sum() / (double) uptime);
+            return new WorkerStatistics(
+                    id, port, !dead && isAlive(), jobs.sum(), crashes.sum(),
+                    Math.max(0, starts.sum() - 1), utilization
+            );
+        }
+    }
+}
@@ -30,7 +30,8 @@ public class RmiProcessHandler {
 
     private final ProcessBuilder processBuilder;
 
-    private Process process = null;
+    // the process is replaced by the recovery hook, which runs in another thread
+    private volatile Process process = null;
 
     private SubprocessLoggerRunner logRunner;
     private Thread logRunnerThread;
@@ -142,6 +143,13 @@ public class RmiProcessHandler {
         return process != null && process.isAlive();
     }
 
+    /**
+     * @return the current subprocess (null if it was never started)
+     */
+    protected Process getProcess() {
+        return process;
+    }
+
     public CompletableFuture<?> getProcessFuture() {
         return completeProcessFuture;
     }
@@ -26,6 +26,14 @@ public interface RmiSubprocessInfo {
      */
     List<String> getJvmArgs();
 
+    /**
+     * Returns the arguments for the main method of the class, e.g., the port of the RMI registry
+     * @return list of program arguments (empty by default)
+     */
+    default List<String> getProgramArgs() {
+        return List.of();
+    }
+
     /**
      * Builds the list of arguments
      * @return the list of arguments to start subprocess
@@ -42,6 +50,7 @@ public interface RmiSubprocessInfo {
         command.add(ProcessKeys.JAVA_CLASSPATH_FLAG);
         command.add(classpath);
         command.add(className);
+        command.addAll(getProgramArgs());
 
         return command;
     }
@@ -10,6 +10,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * @author Andre Greiner-Petter
@@ -24,9 +27,15 @@ public class ReplacementConfig {
 
     private List<ReplacementRule> rules;
 
+    /**
+     * Checking the conditions of the DLMF rules requires to parse the link for every rule.
+     * Hence, we remember the applicable rules for each link.
+     */
+    private final Map<String, List<ConditionalReplacementRule>> applicableRules = new ConcurrentHashMap<>();
+
     private ReplacementConfig() {};
 
-    public static ReplacementConfig getInstance() {
+    public static synchronized ReplacementConfig getInstance() {
         if ( REPL_CONF == null || REPL_CONF.dlmfRules == null ) {
             try {
                 ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
@@ -52,6 +61,7 @@ public class ReplacementConfig {
     @JsonSetter("dlmfReplacementRules")
     public void setDLMFReplacementRules(List<DLMFConditionalReplacementImpl> dlmfRules) {
         this.dlmfRules = dlmfRules;
+        this.applicableRules.clear();
     }
 
     @JsonSetter("generalReplacements")
@@ -59,6 +69,13 @@ public class ReplacementConfig {
         this.rules = rules;
     }
 
+    private List<ConditionalReplacementRule> getApplicableRules(String link) {
+        return applicableRules.computeIfAbsent(link, l -> dlmfRules.stream()
+                .filter( rule -> rule.applicable(l) )
+                .collect(Collectors.toList())
+        );
+    }
+
     /**
      * Replace {@param input} according to the attached rules.
      * @param input the string that will be replaced according to the defined rules
@@ -75,11 +92,9 @@ public class ReplacementConfig {
             return input;
         }
 
-        for ( ConditionalReplacementRule rule : dlmfRules ) {
-            if ( rule.applicable(link) ) {
-                input = rule.replace(input);
-                LOG.trace("Applied conditional replacement rule " + rule);
-            }
+        for ( ConditionalReplacementRule rule : getApplicableRules(link) ) {
+            input = rule.replace(input);
+            LOG.trace("Applied conditional replacement rule " + rule);
         }
 
         if ( input != null ) input = input.trim();
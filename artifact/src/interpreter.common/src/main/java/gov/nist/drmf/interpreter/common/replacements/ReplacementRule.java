@@ -9,10 +9,19 @@ import java.util.regex.Pattern;
  * @author Andre Greiner-Petter
  */
 public class ReplacementRule {
+    private static final Pattern TRAILING_BACKSLASH = Pattern.compile("\\\\$");
+    private static final Pattern DUMMY = Pattern.compile("x");
+
     private Pattern pattern = null;
     private String replacement = "";
     private int groups = 0;
 
+    /**
+     * If the replacement does not depend on the matched groups, this is the final
+     * (already unescaped) replacement string. Otherwise, it is null.
+     */
+    private String literalReplacement = "";
+
     public ReplacementRule(){};
 
     @JsonSetter("pattern")
@@ -23,11 +32,26 @@ public class ReplacementRule {
     @JsonSetter("replacement")
     public void setReplacement(String replacement) {
         this.replacement = replacement == null ? "" : replacement;
+        updateLiteralReplacement();
     }
 
     @JsonSetter("groups")
     public void setGroups(int groups) {
         this.groups = groups;
+        updateLiteralReplacement();
+    }
+
+    /**
+     * Replacements without group references are the same for every match. Hence, we can
+     * resolve the escaped characters of such a replacement once instead of for every match.
+     */
+    private void updateLiteralReplacement() {
+        if ( groups > 0 || replacement.contains("$") ) {
+            literalReplacement = null;
+            return;
+        }
+        String replaceStr = TRAILING_BACKSLASH.matcher(replacement).replaceAll("\\\\\\\\");
+        literalReplacement = DUMMY.matcher("x").replaceFirst(replaceStr);
     }
 
     @Override
@@ -37,15 +61,28 @@ public class ReplacementRule {
 
     public String replace( String input ) {
         Matcher m = pattern.matcher(input);
-        StringBuffer sb = new StringBuffer();
-        while ( m.find() ) {
+        // most rules do not match at all, so we do not need to copy the input
+        if ( !m.find() ) return input;
+
+        StringBuilder sb = new StringBuilder(input.length());
+        if ( literalReplacement != null ) {
+            int last = 0;
+            do {
+                sb.append(input, last, m.start()).append(literalReplacement);
+                last = m.end();
+            } while ( m.find() );
+            sb.append(input, last, input.length());
+            return sb.toString();
+        }
+
+        do {
             String replaceStr = replaceByGroupMatch(m);
 
             // yeah... I know... that's freaking crazy but it's necessary
-            replaceStr = replaceStr.replaceAll("\\\\$", "\\\\\\\\");
+            replaceStr = TRAILING_BACKSLASH.matcher(replaceStr).replaceAll("\\\\\\\\");
 
             m.appendReplacement(sb, replaceStr);
-        }
+        } while ( m.find() );
         m.appendTail(sb);
         return sb.toString();
     }
@@ -0,0 +1,103 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class CasResultCacheTests {
+
+    private static CasResultCache.Key key(String command) {
+        return new CasResultCache.Key("Maple", "2020", "", command, List.of("x > 0"), Set.of(), null);
+    }
+
+    @Test
+    void normalizedKeyTest() {
+        CasResultCache.Key key = key("simplify(x  -\n x);");
+        assertEquals("simplify(x - x)", key.getCommand());
+        assertEquals(key, key(" simplify(x - x) "));
+
+        // the order of assumptions and packages is irrelevant
+        assertEquals(
+                new CasResultCache.Key("Maple", "2020", "", "x", List.of("a > 0", "b > 0"), List.of("p", "q"), "10"),
+                new CasResultCache.Key("Maple", "2020", "", "x", List.of("b > 0", "a > 0"), List.of("q", "p"), "10")
+        );
+
+        // but all other components are
+        assertNotEquals(key, new CasResultCache.Key("Maple", "2021", "", "simplify(x - x)", List.of("x > 0"), Set.of(), null));
+        assertNotEquals(key, new CasResultCache.Key("Maple", "2020", "", "simplify(x - x)", List.of(), Set.of(), null));
+        assertNotEquals(key, new CasResultCache.Key("Maple", "2020", "", "simplify(x - x)", List.of("x > 0"), Set.of(), "10"));
+    }
+
+    @Test
+    void statisticsTest() {
+        CasResultCache cache = new CasResultCache();
+        assertNull(cache.get(key("simplify(x-x)")));
+        cache.put(key("simplify(x-x)"), "0", Duration.ofSeconds(2).toNanos());
+
+        assertEquals("0", cache.get(key("simplify(x-x);")));
+        assertEquals("0", cache.get(key("simplify(x-x)")));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2 / 3.0, cache.getHitRate(), 1e-10);
+        assertEquals(Duration.ofSeconds(4), cache.getSavedKernelTime());
+        assertEquals(Duration.ofSeconds(2), cache.getKernelTime());
+    }
+
+    @Test
+    void persistenceTest(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("cache").resolve("maple.log");
+        try ( CasResultCache cache = new CasResultCache(file) ) {
+            cache.put(key("simplify(x-x)"), "0", 10);
+            cache.put(key("simplify(sin(x)^2+cos(x)^2)"), "1", 20);
+            // the latest result wins
+            cache.put(key("simplify(x-x)"), "0.", 30);
+        }
+        assertEquals(3, Files.readAllLines(file).size());
+
+        try ( CasResultCache cache = new CasResultCache(file) ) {
+            assertEquals(2, cache.size());
+            assertEquals("0.", cache.get(key("simplify(x-x)")));
+            assertEquals("1", cache.get(key("simplify(sin(x)^2+cos(x)^2)")));
+            assertEquals(50, cache.getSavedKernelTime().toNanos());
+        }
+    }
+
+    @Test
+    void brokenLogTest(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("maple.log");
+        try ( CasResultCache cache = new CasResultCache(file) ) {
+            cache.put(key("simplify(x-x)"), "0", 10);
+        }
+        // simulates a run that was killed in the middle of a write
+        Files.writeString(file, "{\"id\":\"abc\",\"res", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try ( CasResultCache cache = new CasResultCache(file) ) {
+            assertEquals(1, cache.size());
+            cache.put(key("simplify(1-1)"), "0", 10);
+        }
+
+        try ( CasResultCache cache = new CasResultCache(file) ) {
+            assertEquals(2, cache.size());
+            assertEquals("0", cache.get(key("simplify(1-1)")));
+        }
+    }
+
+    @Test
+    void sharedCacheTest(@TempDir Path dir) throws Exception {
+        CasResultCache cache = CasResultCache.open(dir.resolve("shared.log"));
+        assertSame(cache, CasResultCache.open(dir.resolve("sub").resolve("..").resolve("shared.log")));
+        cache.close();
+    }
+}
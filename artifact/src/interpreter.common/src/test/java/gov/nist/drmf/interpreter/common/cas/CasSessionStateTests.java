@@ -0,0 +1,106 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class CasSessionStateTests {
+    private static final String FERRERS_CUT = "_EnvLegendreCut := 1 .. infinity;\nforget(simplify);\nforget(evalf);";
+    private static final String LEGENDRE_CUT = "_EnvLegendreCut := -1 .. 1;\nforget(simplify);\nforget(evalf);";
+
+    private static final String LEGENDRE_TEST = "simplify(LegendreP(nu, mu, x) - LegendreP(nu, mu, x)^2)";
+
+    private static CasResultCache.Key key(CasSessionState state) {
+        return new CasResultCache.Key("Maple", "2020", state.getFingerprint(), LEGENDRE_TEST, null, null, null);
+    }
+
+    @Test
+    void legendreCutTest() {
+        CasResultCache cache = new CasResultCache();
+        CasSessionState state = new CasSessionState();
+
+        state.record(FERRERS_CUT);
+        assertNull(cache.get(key(state)));
+        cache.put(key(state), "ferrers", 10);
+
+        // the same command under the other cut must not hit the Ferrers result
+        state.record(LEGENDRE_CUT);
+        assertNull(cache.get(key(state)));
+        cache.put(key(state), "legendre", 10);
+
+        // switching back reuses the Ferrers result
+        state.record(FERRERS_CUT);
+        assertEquals("ferrers", cache.get(key(state)));
+        state.record(LEGENDRE_CUT);
+        assertEquals("legendre", cache.get(key(state)));
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    void accumulatedCommandsTest() {
+        CasSessionState state = new CasSessionState();
+        assertTrue(state.isDefault());
+        assertEquals("", state.getFingerprint());
+
+        state.record("assume(a > 0);");
+        String first = state.getFingerprint();
+        state.record("assume(b > 0);");
+        assertNotEquals(first, state.getFingerprint());
+
+        // entering the same command again does not change the state
+        String second = state.getFingerprint();
+        state.record("assume(a  > 0);");
+        assertEquals(second, state.getFingerprint());
+
+        // equations are not assignments
+        state.record("x == 1");
+        state.record("x = 2");
+        assertNotEquals(second, state.getFingerprint());
+
+        state.clear();
+        assertTrue(state.isDefault());
+        assertEquals("", state.getFingerprint());
+    }
+
+    @Test
+    void assignmentReplacesPreviousValueTest() {
+        CasSessionState a = new CasSessionState();
+        a.record("$Assumptions = x > 0");
+        a.record("$Assumptions = x < 0");
+
+        CasSessionState b = new CasSessionState();
+        b.record("$Assumptions = x < 0");
+        assertEquals(b.getFingerprint(), a.getFingerprint());
+    }
+
+    @Test
+    void queriesAreNotRecordedTest() {
+        CasSessionState state = new CasSessionState();
+        state.record("Select[ReplaceAll[{x == 1}, {x -> 1}], Not[#] &]");
+        state.record("diffProc[{1, 2}, {1, 2}, {x -> 1}, 10^-5]");
+        state.record("simplify(LegendreP(nu, mu, x));");
+        assertTrue(state.isDefault());
+
+        state.record("diffProc[a_, b_, vals_, eps_] := Select[a - b, Abs[#] > eps &]");
+        assertFalse(state.isDefault());
+        String procedure = state.getFingerprint();
+        state.record("Needs[\"Combinatorica`\"]");
+        assertNotEquals(procedure, state.getFingerprint());
+    }
+
+    @Test
+    void resetToDefaultTest() {
+        CasSessionState state = new CasSessionState(LEGENDRE_CUT);
+        state.record(LEGENDRE_CUT);
+        assertTrue(state.isDefault());
+
+        state.record(FERRERS_CUT);
+        assertFalse(state.isDefault());
+        state.record(LEGENDRE_CUT);
+        assertTrue(state.isDefault());
+        assertEquals(new CasSessionState().getFingerprint(), state.getFingerprint());
+    }
+}
@@ -0,0 +1,342 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+import gov.nist.drmf.interpreter.common.eval.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the portfolio with fake workers. The fake strategies are created per test and synchronize via latches,
+ * so the tests do not rely on the wall time.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class SymbolicTestPortfolioTests {
+
+    /**
+     * A strategy that returns the given result. Before it returns, it waits until its latch was released
+     * (if any) or until the given milliseconds passed.
+     */
+    private static class FakeStrategy implements ISymbolicTestCases {
+        private final SymbolicTestIDs id;
+        private final String result;
+        private final long millis;
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private boolean activated = true;
+
+        FakeStrategy(SymbolicTestIDs id, String result, long millis) {
+            this(id, result, millis, null);
+        }
+
+        FakeStrategy(SymbolicTestIDs id, String result, CountDownLatch release) {
+            this(id, result, 0, release);
+        }
+
+        private FakeStrategy(SymbolicTestIDs id, String result, long millis, CountDownLatch release) {
+            this.id = id;
+            this.result = result;
+            this.millis = millis;
+            this.release = release;
+        }
+
+        @Override
+        public boolean isActivated() {
+            return activated;
+        }
+
+        @Override
+        public void setActivated(boolean activated) {
+            this.activated = activated;
+        }
+
+        @Override
+        public String buildCommand(String cmd) {
+            return id.name();
+        }
+
+        @Override
+        public SymbolicTestIDs getID() {
+            return id;
+        }
+
+        @Override
+        public String compactToString() {
+            return getShortName();
+        }
+    }
+
+    private static class FakeWorker extends AbstractCasEngineSymbolicEvaluator<String> {
+        private final Strategies strategies;
+        private final AtomicInteger calls;
+        private double timeout = -1;
+        private String latest;
+
+        FakeWorker(Strategies strategies, AtomicInteger calls) {
+            this.strategies = strategies;
+            this.calls = calls;
+        }
+
+        @Override
+        public String simplify(String expr, Set<String> requiredPackages) {
+            calls.incrementAndGet();
+            latest = expr;
+            FakeStrategy strategy = strategies.get(expr);
+            strategy.started.countDown();
+            if ( timeout > 0 && strategy.millis > timeout * 1000 ) {
+                sleep((long) (timeout * 1000));
+                return "aborted";
+            }
+            if ( strategy.release != null ) await(strategy.release);
+            else sleep(strategy.millis);
+            return strategy.result;
+        }
+
+        @Override
+        public String simplify(String expr, String assumption, Set<String> requiredPackages) {
+            return simplify(expr, requiredPackages);
+        }
+
+        @Override
+        public boolean isTrue(String in) {
+            return "true".equals(in);
+        }
+
+        @Override
+        public boolean isAsExpected(String in, double expect) {
+            return Double.parseDouble(in) == expect;
+        }
+
+        @Override
+        public boolean isConditionallyExpected(String in, double expect) {
+            return false;
+        }
+
+        @Override
+        public String getCondition(String in) {
+            return null;
+        }
+
+        @Override
+        public boolean wasAborted(String result) {
+            return "aborted".equals(result);
+        }
+
+        @Override
+        public String getLatestTestExpression() {
+            return latest;
+        }
+
+        @Override
+        public void setTimeout(EvaluatorType type, double timeoutInSeconds) {
+            this.timeout = timeoutInSeconds;
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The strategies of a single test, accessible by their commands.
+     */
+    private static class Strategies extends ConcurrentHashMap<String, FakeStrategy> {
+        Strategies(FakeStrategy... strategies) {
+            for ( FakeStrategy strategy : strategies ) put(strategy.buildCommand(null), strategy);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(30, TimeUnit.SECONDS), "Timed out waiting for a fake strategy");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SymbolicalTest buildTest(ISymbolicTestCases... strategies) {
+        SymbolicalTest test = new SymbolicalTest();
+        test.setTestCases(strategies);
+        test.setTestExpressions(List.of(new SymbolicalTestBaseCase("x", "x", "x-x")));
+        test.setExpectedValues(List.of("0"));
+        test.setRequiredPackages(Collections.emptySet());
+        return test;
+    }
+
+    private static List<FakeWorker> workers(int size, Strategies strategies, AtomicInteger calls) {
+        FakeWorker[] workers = new FakeWorker[size];
+        for ( int i = 0; i < size; i++ ) workers[i] = new FakeWorker(strategies, calls);
+        return List.of(workers);
+    }
+
+    @Test
+    void firstSuccessWinsTest() {
+        CountDownLatch release = new CountDownLatch(1);
+        FakeStrategy blockedFailure = new FakeStrategy(SymbolicTestIDs.SIMPLE, "1", release);
+        FakeStrategy blockedSuccess = new FakeStrategy(SymbolicTestIDs.EXPAND, "0", release);
+        FakeStrategy deactivated = new FakeStrategy(SymbolicTestIDs.EXPAND_EXP, "0", 0);
+        deactivated.setActivated(false);
+
+        // the winner waits until both losers are running in the CAS
+        CountDownLatch losersRunning = new CountDownLatch(1);
+        FakeStrategy success = new FakeStrategy(SymbolicTestIDs.CONV_HYP, "0", losersRunning);
+
+        Strategies strategies = new Strategies(blockedFailure, success, blockedSuccess, deactivated);
+        AtomicInteger calls = new AtomicInteger();
+        try ( SymbolicTestPortfolio portfolio = new SymbolicTestPortfolio(workers(3, strategies, calls), -1) ) {
+            new Thread(() -> {
+                await(blockedFailure.started);
+                await(blockedSuccess.started);
+                losersRunning.countDown();
+            }).start();
+
+            SymbolicResult result = portfolio.performSymbolicTest(
+                    buildTest(blockedFailure, success, blockedSuccess, deactivated)
+            );
+
+            assertEquals(1, result.getTestCalculationsGroups().size());
+            SymbolicCalculationGroup group = result.getTestCalculationsGroups().get(0);
+            assertEquals(success.getShortName(), group.getSuccessfulStrategy());
+
+            // results are in the order of the strategies, deactivated strategies are ignored
+            List<SymbolicCalculation> calcs = group.getTestCalculations();
+            assertEquals(3, calcs.size());
+            assertEquals(TestResultType.SUCCESS, calcs.get(1).getResult());
+            assertFalse(calcs.get(1).wasAborted());
+
+            // the losers were running when the winner finished, hence they were cancelled and are reported as aborted
+            for ( SymbolicCalculation loser : List.of(calcs.get(0), calcs.get(2)) ) {
+                assertTrue(loser.wasAborted(), loser.getTestTitle() + " was not cancelled");
+                assertEquals(TestResultType.SKIPPED, loser.getResult());
+                assertNull(loser.getResultExpression());
+            }
+            assertEquals(1, result.getNumberOfSuccessfulTests());
+            assertEquals(3, calls.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void raceStatisticsTest() {
+        CountDownLatch release = new CountDownLatch(1);
+        FakeStrategy slowSuccess = new FakeStrategy(SymbolicTestIDs.EXPAND, "0", release);
+        CountDownLatch loserRunning = new CountDownLatch(1);
+        FakeStrategy success = new FakeStrategy(SymbolicTestIDs.CONV_HYP, "0", loserRunning);
+        Strategies strategies = new Strategies(slowSuccess, success);
+
+        SymbolicStrategyStatistics statistics = new SymbolicStrategyStatistics();
+        AtomicInteger calls = new AtomicInteger();
+        try ( SymbolicTestPortfolio portfolio = new SymbolicTestPortfolio(workers(2, strategies, calls), -1) ) {
+            new Thread(() -> {
+                await(slowSuccess.started);
+                loserRunning.countDown();
+            }).start();
+
+            SymbolicResult result = portfolio.performSymbolicTest(buildTest(slowSuccess, success));
+            SymbolicCalculation loser = result.getTestCalculationsGroups().get(0).getTestCalculations().get(0);
+            assertTrue(loser.wasAborted());
+            assertTrue(loser.wasCancelled());
+
+            statistics.record("4", Set.of("\\BesselJ"), result);
+        } finally {
+            release.countDown();
+        }
+
+        // the loser was only slower than the winner, that is not an unsuccessful attempt
+        assertNull(statistics.getStatistics("4", slowSuccess.getShortName()));
+        assertNull(statistics.getStatistics("\\BesselJ", slowSuccess.getShortName()));
+        assertArrayEquals(new long[]{1, 1}, statistics.getStatistics("4", success.getShortName()));
+    }
+
+    @Test
+    void cancelQueuedStrategiesTest() {
+        FakeStrategy fastFailure = new FakeStrategy(SymbolicTestIDs.CONV_EXP, "1", 0);
+        FakeStrategy success = new FakeStrategy(SymbolicTestIDs.CONV_HYP, "0", 0);
+        FakeStrategy queuedSuccess = new FakeStrategy(SymbolicTestIDs.EXPAND, "0", 0);
+        Strategies strategies = new Strategies(fastFailure, success, queuedSuccess);
+
+        AtomicInteger calls = new AtomicInteger();
+        try ( SymbolicTestPortfolio portfolio = new SymbolicTestPortfolio(workers(1, strategies, calls), -1) ) {
+            SymbolicResult result = portfolio.performSymbolicTest(buildTest(fastFailure, success, queuedSuccess));
+            SymbolicCalculationGroup group = result.getTestCalculationsGroups().get(0);
+            assertEquals(success.getShortName(), group.getSuccessfulStrategy());
+            assertEquals(TestResultType.FAILURE, group.getTestCalculations().get(0).getResult());
+
+            // the last strategy never reached the CAS, hence it was skipped rather than aborted
+            assertEquals(TestResultType.SKIPPED, group.getTestCalculations().get(2).getResult());
+            assertFalse(group.getTestCalculations().get(2).wasAborted());
+            assertEquals(1, queuedSuccess.started.getCount());
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Test
+    void strategyTimeoutTest() {
+        FakeStrategy success = new FakeStrategy(SymbolicTestIDs.CONV_HYP, "0", 100);
+        FakeStrategy slowSuccess = new FakeStrategy(SymbolicTestIDs.EXPAND, "0", 2000);
+        Strategies strategies = new Strategies(success, slowSuccess);
+
+        AtomicInteger calls = new AtomicInteger();
+        try ( SymbolicTestPortfolio portfolio = new SymbolicTestPortfolio(workers(2, strategies, calls), 0.05) ) {
+            SymbolicResult result = portfolio.performSymbolicTest(buildTest(success, slowSuccess));
+            SymbolicCalculationGroup group = result.getTestCalculationsGroups().get(0);
+            assertNull(group.getSuccessfulStrategy());
+            for ( SymbolicCalculation calc : group.getTestCalculations() ) {
+                assertTrue(calc.wasAborted());
+                assertEquals(TestResultType.SKIPPED, calc.getResult());
+            }
+
+            portfolio.setTimeout(EvaluatorType.SYMBOLIC, 1);
+            result = portfolio.performSymbolicTest(buildTest(success, slowSuccess));
+            assertEquals(success.getShortName(), result.getTestCalculationsGroups().get(0).getSuccessfulStrategy());
+        }
+    }
+
+    @Test
+    void localWorkersRejectSessionCommandsTest() {
+        FakeStrategy success = new FakeStrategy(SymbolicTestIDs.CONV_HYP, "0", 0);
+        AtomicInteger calls = new AtomicInteger();
+        try ( SymbolicTestPortfolio portfolio = new SymbolicTestPortfolio(workers(1, new Strategies(success), calls), -1) ) {
+            assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> portfolio.performSymbolicTest(buildTest(success), new String[]{"pre", "post"})
+            );
+            assertEquals(0, calls.get());
+        }
+    }
+
+    @Test
+    void sequentialEarlyExitTest() {
+        FakeStrategy fastFailure = new FakeStrategy(SymbolicTestIDs.CONV_EXP, "1", 0);
+        FakeStrategy success = new FakeStrategy(SymbolicTestIDs.CONV_HYP, "0", 0);
+        FakeStrategy slowFailure = new FakeStrategy(SymbolicTestIDs.SIMPLE, "1", 0);
+        AtomicInteger calls = new AtomicInteger();
+        FakeWorker worker = new FakeWorker(new Strategies(fastFailure, success, slowFailure), calls);
+        SymbolicalTest test = buildTest(fastFailure, success, slowFailure);
+
+        SymbolicResult result = worker.performSymbolicTest(test);
+        assertNull(result.getTestCalculationsGroups().get(0).getSuccessfulStrategy());
+        assertEquals(3, calls.get());
+
+        calls.set(0);
+        test.setStopAfterFirstSuccess(true);
+        result = worker.performSymbolicTest(test);
+        SymbolicCalculationGroup group = result.getTestCalculationsGroups().get(0);
+        assertEquals(success.getShortName(), group.getSuccessfulStrategy());
+        assertEquals(2, group.getSize());
+        assertEquals(2, calls.get());
+    }
+}
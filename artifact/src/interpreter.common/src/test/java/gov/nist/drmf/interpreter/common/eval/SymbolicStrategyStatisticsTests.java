@@ -0,0 +1,137 @@
+package gov.nist.drmf.interpreter.common.eval;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class SymbolicStrategyStatisticsTests {
+
+    private enum Strategy implements ISymbolicTestCases {
+        SIMPLE(SymbolicTestIDs.SIMPLE),
+        CONV_EXP(SymbolicTestIDs.CONV_EXP),
+        CONV_HYP(SymbolicTestIDs.CONV_HYP);
+
+        private final SymbolicTestIDs id;
+
+        Strategy(SymbolicTestIDs id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean isActivated() {
+            return true;
+        }
+
+        @Override
+        public void setActivated(boolean activated) {}
+
+        @Override
+        public String buildCommand(String cmd) {
+            return cmd;
+        }
+
+        @Override
+        public SymbolicTestIDs getID() {
+            return id;
+        }
+
+        @Override
+        public String compactToString() {
+            return getShortName();
+        }
+    }
+
+    private static SymbolicResult result(Strategy strategy, TestResultType type) {
+        SymbolicCalculation calculation = new SymbolicCalculation();
+        calculation.setTestTitle(strategy.getShortName());
+        calculation.setResult(type);
+        SymbolicCalculationGroup group = new SymbolicCalculationGroup();
+        group.addTestCalculation(calculation);
+        SymbolicResult result = new SymbolicResult();
+        result.addTestCalculationsGroup(group);
+        return result;
+    }
+
+    @Test
+    void chapterTest() {
+        assertEquals("4", SymbolicStrategyStatistics.getChapter("4.2.E1"));
+        assertEquals("15", SymbolicStrategyStatistics.getChapter("15"));
+        assertNull(SymbolicStrategyStatistics.getChapter(null));
+    }
+
+    @Test
+    void defaultOrderWithoutStatisticsTest() {
+        SymbolicStrategyStatistics stats = new SymbolicStrategyStatistics();
+        assertArrayEquals(Strategy.values(), stats.order(Strategy.values(), "4", Set.of("\\BesselJ")));
+    }
+
+    @Test
+    void preferSuccessfulStrategyTest() {
+        SymbolicStrategyStatistics stats = new SymbolicStrategyStatistics();
+        for ( int i = 0; i < 3; i++ ) {
+            stats.record("15", Set.of("\\genhyperF"), result(Strategy.SIMPLE, TestResultType.FAILURE));
+            stats.record("15", Set.of("\\genhyperF"), result(Strategy.CONV_HYP, TestResultType.SUCCESS));
+        }
+
+        // the chapter alone is sufficient
+        ISymbolicTestCases[] ordered = stats.order(Strategy.values(), "15", Set.of());
+        assertEquals(Strategy.CONV_HYP, ordered[0]);
+        assertEquals(Strategy.CONV_EXP, ordered[1]);
+        assertEquals(Strategy.SIMPLE, ordered[2]);
+
+        // as well as the macro
+        assertEquals(Strategy.CONV_HYP, stats.order(Strategy.values(), "4", Set.of("\\genhyperF"))[0]);
+
+        // other chapters are not affected
+        assertArrayEquals(Strategy.values(), stats.order(Strategy.values(), "4", Set.of()));
+    }
+
+    @Test
+    void deferNeverSuccessfulStrategyTest() {
+        SymbolicStrategyStatistics stats = new SymbolicStrategyStatistics();
+        for ( int i = 0; i < SymbolicStrategyStatistics.MIN_ATTEMPTS_TO_DEFER; i++ ) {
+            stats.record("4", Set.of(), result(Strategy.SIMPLE, TestResultType.FAILURE));
+        }
+        // one more successful attempt of conv exp ranks it above conv hyp, simple is deferred but not removed
+        stats.record("4", Set.of(), result(Strategy.CONV_EXP, TestResultType.SUCCESS));
+        assertArrayEquals(
+                new ISymbolicTestCases[]{Strategy.CONV_EXP, Strategy.CONV_HYP, Strategy.SIMPLE},
+                stats.order(Strategy.values(), "4", null)
+        );
+    }
+
+    @Test
+    void ignoreErrorsAndSkipsTest() {
+        SymbolicStrategyStatistics stats = new SymbolicStrategyStatistics();
+        stats.record("4", Set.of(), result(Strategy.SIMPLE, TestResultType.ERROR));
+        stats.record("4", Set.of(), result(Strategy.SIMPLE, TestResultType.SKIPPED));
+        assertNull(stats.getStatistics("4", Strategy.SIMPLE.getShortName()));
+
+        SymbolicResult aborted = result(Strategy.SIMPLE, TestResultType.SKIPPED);
+        aborted.getAllCalculations().get(0).wasAborted(true);
+        stats.record("4", Set.of(), aborted);
+        assertArrayEquals(new long[]{1, 0}, stats.getStatistics("4", Strategy.SIMPLE.getShortName()));
+    }
+
+    @Test
+    void persistenceTest(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("strategies.json");
+        SymbolicStrategyStatistics stats = SymbolicStrategyStatistics.load(file);
+        stats.record("15", List.of("\\genhyperF"), result(Strategy.CONV_HYP, TestResultType.SUCCESS));
+        stats.record("15", List.of("\\genhyperF"), result(Strategy.SIMPLE, TestResultType.FAILURE));
+        stats.save(file);
+
+        SymbolicStrategyStatistics loaded = SymbolicStrategyStatistics.load(file);
+        assertArrayEquals(new long[]{1, 1}, loaded.getStatistics("15", Strategy.CONV_HYP.getShortName()));
+        assertArrayEquals(new long[]{1, 0}, loaded.getStatistics("\\genhyperF", Strategy.SIMPLE.getShortName()));
+        assertEquals(Strategy.CONV_HYP, loaded.order(Strategy.values(), "15", null)[0]);
+    }
+}
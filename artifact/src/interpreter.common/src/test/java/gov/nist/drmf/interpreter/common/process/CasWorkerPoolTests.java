@@ -0,0 +1,232 @@
+package gov.nist.drmf.interpreter.common.process;
+
+import gov.nist.drmf.interpreter.common.cas.SymbolicTestPortfolio;
+import gov.nist.drmf.interpreter.common.eval.ISymbolicTestCases;
+import gov.nist.drmf.interpreter.common.eval.NumericResult;
+import gov.nist.drmf.interpreter.common.eval.NumericalTest;
+import gov.nist.drmf.interpreter.common.eval.SymbolicCalculation;
+import gov.nist.drmf.interpreter.common.eval.SymbolicCalculationGroup;
+import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
+import gov.nist.drmf.interpreter.common.eval.SymbolicTestIDs;
+import gov.nist.drmf.interpreter.common.eval.SymbolicalTest;
+import gov.nist.drmf.interpreter.common.eval.SymbolicalTestBaseCase;
+import gov.nist.drmf.interpreter.common.eval.TestResultType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.rmi.RemoteException;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the worker pool with a pure-Java fake CAS server, so no CAS is required.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class CasWorkerPoolTests {
+    private static final RmiSubprocessInfo FAKE_SERVER_INFO = new RmiSubprocessInfo() {
+        @Override
+        public String getClassName() {
+            return FakeRmiCasServer.class.getName();
+        }
+
+        @Override
+        public List<String> getJvmArgs() {
+            return List.of("-Xmx64m");
+        }
+    };
+
+    /**
+     * Strategies are sent to the subprocesses, hence they must be serializable.
+     */
+    private enum PoolStrategy implements ISymbolicTestCases {
+        FAILURE(SymbolicTestIDs.SIMPLE),
+        SUCCESS(SymbolicTestIDs.CONV_EXP);
+
+        private final SymbolicTestIDs id;
+
+        PoolStrategy(SymbolicTestIDs id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean isActivated() {
+            return true;
+        }
+
+        @Override
+        public void setActivated(boolean activated) {
+            throw new UnsupportedOperationException("Pool strategies are always activated");
+        }
+
+        @Override
+        public String buildCommand(String cmd) {
+            return this == FAILURE ? FakeRmiCasServer.FAIL + "(" + cmd + ")" : cmd;
+        }
+
+        @Override
+        public SymbolicTestIDs getID() {
+            return id;
+        }
+
+        @Override
+        public String compactToString() {
+            return getShortName();
+        }
+    }
+
+    private CasWorkerPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if ( pool != null ) pool.close();
+    }
+
+    private CasWorkerPool startPool(int size) throws IOException {
+        pool = new CasWorkerPool(FAKE_SERVER_INFO, FakeRmiCasServer.ID, size, findFreePorts(size));
+        pool.start();
+        return pool;
+    }
+
+    @Test
+    void distributeJobsTest() throws Exception {
+        startPool(2);
+        List<CompletableFuture<NumericResult>> results = new LinkedList<>();
+        for ( int i = 0; i < 20; i++ ) {
+            results.add(pool.submitNumericalTest(new NumericalTest("x", "x", "x-x")));
+        }
+        for ( CompletableFuture<NumericResult> r : results ) {
+            NumericResult result = r.get(30, TimeUnit.SECONDS);
+            assertFalse(result.crashed());
+            assertEquals(1, result.getNumberOfSuccessfulTests());
+        }
+
+        List<CasWorkerPool.WorkerStatistics> stats = pool.getWorkerStatistics();
+        assertEquals(2, stats.size());
+        assertEquals(20, stats.stream().mapToLong(CasWorkerPool.WorkerStatistics::getNumberOfJobs).sum());
+        for ( CasWorkerPool.WorkerStatistics s : stats ) {
+            assertTrue(s.isAlive());
+            assertTrue(s.getNumberOfJobs() > 0, s.toString());
+            assertTrue(s.getUtilization() > 0, s.toString());
+        }
+        assertEquals(0, pool.getQueueDepth());
+    }
+
+    @Test
+    void separateProcessesTest() throws Exception {
+        startPool(2);
+        Set<String> pids = new HashSet<>();
+        // the jobs block the workers, so both workers must participate
+        List<CompletableFuture<String>> results = new LinkedList<>();
+        for ( int i = 0; i < 2; i++ ) {
+            results.add(pool.submit(server -> {
+                String pid = server.enterCommand("pid");
+                server.performNumericalTest(new NumericalTest("x", "x", "x-x"));
+                return pid;
+            }, () -> null));
+        }
+        for ( CompletableFuture<String> r : results ) pids.add(r.get(30, TimeUnit.SECONDS));
+        assertEquals(2, pids.size());
+        assertFalse(pids.contains(Long.toString(ProcessHandle.current().pid())));
+    }
+
+    @Test
+    void recoverFromCrashTest() throws Exception {
+        startPool(1);
+        NumericResult crashed = pool.submitNumericalTest(new NumericalTest("x", "x", FakeRmiCasServer.CRASH))
+                .get(60, TimeUnit.SECONDS);
+        assertTrue(crashed.crashed());
+
+        NumericResult result = pool.submitNumericalTest(new NumericalTest("x", "x", "x-x"))
+                .get(60, TimeUnit.SECONDS);
+        assertFalse(result.crashed());
+
+        CasWorkerPool.WorkerStatistics stats = pool.getWorkerStatistics().get(0);
+        assertEquals(1, stats.getNumberOfCrashes());
+        assertEquals(1, stats.getNumberOfRestarts());
+        assertEquals(2, stats.getNumberOfJobs());
+        assertTrue(stats.isAlive());
+    }
+
+    @Test
+    void remoteErrorWithoutCrashTest() throws Exception {
+        startPool(1);
+        CompletableFuture<String> failed = pool.submit(server -> {
+            throw new RemoteException("Test connection failure");
+        }, () -> "crashed");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(60, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RemoteException, e.getCause().toString());
+
+        // the subprocess was alive, hence the worker neither waited for a recovery nor restarted it
+        NumericResult result = pool.submitNumericalTest(new NumericalTest("x", "x", "x-x"))
+                .get(60, TimeUnit.SECONDS);
+        assertFalse(result.crashed());
+
+        CasWorkerPool.WorkerStatistics stats = pool.getWorkerStatistics().get(0);
+        assertEquals(0, stats.getNumberOfCrashes());
+        assertEquals(0, stats.getNumberOfRestarts());
+        assertEquals(2, stats.getNumberOfJobs());
+        assertTrue(stats.isAlive());
+        assertEquals(1, pool.getNumberOfActiveWorkers());
+    }
+
+    @Test
+    void symbolicPortfolioTest() throws Exception {
+        startPool(2);
+        SymbolicalTest test = new SymbolicalTest();
+        test.setTestCases(PoolStrategy.values());
+        test.setTestExpressions(List.of(new SymbolicalTestBaseCase("x", "x", "x-x")));
+        test.setExpectedValues(List.of("0"));
+
+        try ( SymbolicTestPortfolio portfolio = new SymbolicTestPortfolio(pool, 10) ) {
+            assertEquals(2, portfolio.size());
+            SymbolicResult result = portfolio.performSymbolicTest(test, new String[]{"pre", "post"});
+            SymbolicCalculationGroup group = result.getTestCalculationsGroups().get(0);
+            assertEquals(PoolStrategy.SUCCESS.getShortName(), group.getSuccessfulStrategy());
+
+            List<SymbolicCalculation> calcs = group.getTestCalculations();
+            assertEquals(2, calcs.size());
+            assertNotEquals(TestResultType.SUCCESS, calcs.get(0).getResult());
+            assertEquals(TestResultType.SUCCESS, calcs.get(1).getResult());
+        }
+        assertTrue(pool.getWorkerStatistics().stream().mapToLong(CasWorkerPool.WorkerStatistics::getNumberOfJobs).sum() > 0);
+    }
+
+    @Test
+    void closedPoolTest() throws IOException {
+        startPool(1);
+        pool.close();
+        assertThrows(IllegalStateException.class, () -> pool.submitNumericalTest(new NumericalTest("x", "x", "x")));
+    }
+
+    @Test
+    void invalidSizeTest() {
+        assertThrows(IllegalArgumentException.class, () -> new CasWorkerPool(FAKE_SERVER_INFO, FakeRmiCasServer.ID, 0, 1099));
+    }
+
+    private static int findFreePorts(int size) {
+        for ( int attempt = 0; attempt < 100; attempt++ ) {
+            int base = ThreadLocalRandom.current().nextInt(20_000, 40_000);
+            boolean free = true;
+            for ( int i = 0; i < size && free; i++ ) {
+                try ( ServerSocket socket = new ServerSocket(base + i) ) {
+                    socket.setReuseAddress(true);
+                } catch (IOException e) {
+                    free = false;
+                }
+            }
+            if ( free ) return base;
+        }
+        throw new IllegalStateException("Unable to find free ports");
+    }
+}
@@ -0,0 +1,131 @@
+package gov.nist.drmf.interpreter.common.process;
+
+import gov.nist.drmf.interpreter.common.eval.EvaluatorType;
+import gov.nist.drmf.interpreter.common.eval.ISymbolicTestCases;
+import gov.nist.drmf.interpreter.common.eval.NumericResult;
+import gov.nist.drmf.interpreter.common.eval.NumericalTest;
+import gov.nist.drmf.interpreter.common.eval.SymbolicCalculation;
+import gov.nist.drmf.interpreter.common.eval.SymbolicCalculationGroup;
+import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
+import gov.nist.drmf.interpreter.common.eval.SymbolicalTest;
+import gov.nist.drmf.interpreter.common.eval.SymbolicalTestBaseCase;
+import gov.nist.drmf.interpreter.common.eval.TestResultType;
+
+import java.rmi.NotBoundException;
+import java.rmi.RemoteException;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.List;
+
+/**
+ * A pure-Java stand-in for a CAS server. Numerical tests with the test expression {@link #CRASH}
+ * kill the JVM (like a SIGSEGV in a native CAS library), every other test succeeds after a short delay.
+ * Symbolic strategies whose command contains {@link #FAIL} fail.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class FakeRmiCasServer implements RmiCasServer {
+    public static final String ID = "FAKE";
+    public static final String CRASH = "crash";
+    public static final String FAIL = "fail";
+
+    private static Registry registry;
+
+    // exported objects must be strongly referenced
+    private static FakeRmiCasServer instance;
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public void init() {}
+
+    @Override
+    public void setTimeout(EvaluatorType type, double timeoutInSeconds) {}
+
+    @Override
+    public void disableTimeout(EvaluatorType type) {}
+
+    /**
+     * @return the process id of this JVM
+     */
+    @Override
+    public String enterCommand(String command) {
+        return Long.toString(ProcessHandle.current().pid());
+    }
+
+    @Override
+    public void forceGC() {}
+
+    @Override
+    public void setGlobalNumericAssumptions(List<String> assumptions) {}
+
+    @Override
+    public void setGlobalSymbolicAssumptions(List<String> assumptions) {}
+
+    @Override
+    public NumericResult performNumericalTest(NumericalTest test) {
+        if ( CRASH.equals(test.getTestExpression()) ) Runtime.getRuntime().halt(139);
+        sleep(20);
+        NumericResult result = new NumericResult();
+        result.increaseNumberOfSuccessfulTests();
+        result.setOverallResult(TestResultType.SUCCESS);
+        return result;
+    }
+
+    @Override
+    public SymbolicResult performSymbolicTest(SymbolicalTest test) {
+        sleep(20);
+        SymbolicResult result = new SymbolicResult();
+        result.setOverallResult(TestResultType.SUCCESS);
+        for ( SymbolicalTestBaseCase testBase : test.getTestExpression() ) {
+            SymbolicCalculationGroup group = new SymbolicCalculationGroup();
+            for ( ISymbolicTestCases strategy : test.getTestCases() ) {
+                SymbolicCalculation calculation = new SymbolicCalculation();
+                calculation.setTestTitle(strategy.getShortName());
+                calculation.setTestExpression(strategy.buildCommand(testBase.getTestExpression()));
+                calculation.setResult(
+                        calculation.getTestExpression().contains(FAIL) ? TestResultType.FAILURE : TestResultType.SUCCESS
+                );
+                group.addTestCalculation(calculation);
+            }
+            result.addTestCalculationsGroup(group);
+        }
+        return result;
+    }
+
+    @Override
+    public void stop() throws RemoteException {
+        try {
+            registry.unbind(RmiCasServer.KEY + ID);
+            UnicastRemoteObject.unexportObject(this, true);
+        } catch (NotBoundException e) {
+            // nothing to unbind
+        }
+        new Thread(() -> {
+            sleep(200);
+            System.exit(0);
+        }).start();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws RemoteException, InterruptedException {
+        registry = LocateRegistry.createRegistry(Integer.parseInt(args[0]));
+        instance = new FakeRmiCasServer();
+        RmiCasServer server = (RmiCasServer) UnicastRemoteObject.exportObject(instance, 0);
+        registry.rebind(RmiCasServer.KEY + ID, server);
+        RmiProcessHandler.sendReadySignal();
+        // there is no native CAS that keeps the JVM alive, so we wait until stop is called
+        Thread.currentThread().join();
+    }
+}
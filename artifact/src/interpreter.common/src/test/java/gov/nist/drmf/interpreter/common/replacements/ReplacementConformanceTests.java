@@ -0,0 +1,161 @@
+package gov.nist.drmf.interpreter.common.replacements;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the replacements of {@link ReplacementConfig} with the original, straightforward
+ * implementation (every rule is a full {@link Matcher#appendReplacement(StringBuffer, String)} pass)
+ * on the entire DLMF dataset.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class ReplacementConformanceTests {
+    private static final Path DLMF_DATASET = Paths.get("../dlmf/dlmf-formulae.txt");
+
+    private static final Pattern DATASET_LINE = Pattern.compile("^(.*?)\\s*\\\\url\\{(.*?)}.*$");
+
+    private static ReplacementConfig config;
+
+    private static List<LegacyRule> generalRules;
+    private static List<LegacyRule> dlmfRules;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        config = ReplacementConfig.getInstance();
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        generalRules = loadRules(mapper.readTree(GlobalPaths.PATH_REPLACEMENT_RULES.toFile()).get("generalReplacements"));
+        dlmfRules = loadRules(mapper.readTree(GlobalPaths.PATH_DLMF_REPLACEMENT_RULES.toFile()).get("dlmfReplacementRules"));
+    }
+
+    private static List<LegacyRule> loadRules(JsonNode rules) {
+        List<LegacyRule> list = new LinkedList<>();
+        for ( JsonNode rule : rules ) {
+            DLMFConditionalReplacementImpl condition = new DLMFConditionalReplacementImpl();
+            if ( rule.has("condition") ) {
+                List<String> conditions = new LinkedList<>();
+                rule.get("condition").forEach( c -> conditions.add(c.asText()) );
+                condition.setCondition(conditions);
+            }
+            list.add(new LegacyRule(
+                    Pattern.compile(rule.get("pattern").asText()),
+                    rule.has("replacement") && !rule.get("replacement").isNull() ? rule.get("replacement").asText() : "",
+                    rule.has("groups") ? rule.get("groups").asInt() : 0,
+                    condition
+            ));
+        }
+        return list;
+    }
+
+    @Test
+    void simpleConformanceTest() {
+        String[] inputs = new String[]{
+                "\\displaystyle x\\,+\\;y \\\\",
+                "a\\hiderel{=}b",
+                "1\\,000\\,000",
+                "x\\\\[3pt] y",
+                "\\Wronskian\\left\\{f, g\\right\\}",
+                "\\Im z + \\Re z \\defeq 1",
+                "x^ab_cd",
+                "\\$\\\\",
+        };
+        for ( String in : inputs ) {
+            assertEquals(legacyReplace(in, null), config.replace(in, null), in);
+            assertEquals(legacyReplace(in, "4.2.E1"), config.replace(in, "4.2.E1"), in);
+        }
+    }
+
+    @Test
+    void dlmfDatasetConformanceTest() throws IOException {
+        assumeTrue(Files.exists(DLMF_DATASET), "The DLMF dataset is not available");
+        List<String> lines = Files.lines(DLMF_DATASET).collect(Collectors.toList());
+        int counter = 0;
+        for ( String line : lines ) {
+            Matcher m = DATASET_LINE.matcher(line);
+            if ( !m.matches() ) continue;
+            String tex = m.group(1);
+            String label = DLMFConditionalReplacementImpl.extractEquationLabelFromURL(m.group(2));
+            if ( label.isBlank() ) label = null;
+            assertEquals(legacyReplace(tex, null), config.replace(tex, null), "Line: " + line);
+            String expected;
+            try {
+                expected = legacyReplace(tex, label);
+            } catch ( IllegalArgumentException iae ) {
+                // some labels are not valid DLMF conditions, the new implementation must fail as well
+                final String invalidLabel = label;
+                assertThrows(IllegalArgumentException.class, () -> config.replace(tex, invalidLabel), "Line: " + line);
+                continue;
+            }
+            assertEquals(expected, config.replace(tex, label), "Line: " + line);
+            counter++;
+        }
+        assertTrue(counter > 9_000, "Expected the entire DLMF but found only " + counter + " equations");
+    }
+
+    private static String legacyReplace(String input, String link) {
+        for ( LegacyRule rule : generalRules ) input = rule.replace(input);
+        if ( link != null ) {
+            for ( LegacyRule rule : dlmfRules ) {
+                if ( rule.condition.applicable(link) ) input = rule.replace(input);
+            }
+        }
+        return input == null ? null : input.trim();
+    }
+
+    /**
+     * The original implementation of {@link ReplacementRule#replace(String)}.
+     */
+    private static class LegacyRule {
+        private final Pattern pattern;
+        private final String replacement;
+        private final int groups;
+        private final DLMFConditionalReplacementImpl condition;
+
+        LegacyRule(Pattern pattern, String replacement, int groups, DLMFConditionalReplacementImpl condition) {
+            this.pattern = pattern;
+            this.replacement = replacement;
+            this.groups = groups;
+            this.condition = condition;
+        }
+
+        String replace( String input ) {
+            Matcher m = pattern.matcher(input);
+            StringBuffer sb = new StringBuffer();
+            while ( m.find() ) {
+                String repl = replacement;
+                for ( int i = 1; i <= this.groups; i++ ) {
+                    String insert = m.group(i);
+                    if ( insert.equals("\\") ) {
+                        repl = repl.replace("$"+i, "\\");
+                    } else {
+                        insert = insert.replace("\\", "\\\\");
+                        repl = repl.replace("$"+i, insert);
+                    }
+                }
+                repl = repl.replaceAll("\\\\$", "\\\\\\\\");
+                m.appendReplacement(sb, repl);
+            }
+            m.appendTail(sb);
+            return sb.toString();
+        }
+    }
+}
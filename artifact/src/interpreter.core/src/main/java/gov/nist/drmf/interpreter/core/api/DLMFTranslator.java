@@ -34,6 +34,22 @@ public class DLMFTranslator implements IConstraintTranslator<PrintablePomTaggedE
         LOG.debug("Initialized DLMF LaTeX Interface.");
     }
 
+    private DLMFTranslator( SemanticLatexTranslator dlmfInterface ) {
+        this.dlmfInterface = dlmfInterface;
+        this.config = dlmfInterface.getConfig();
+        this.packageWrapper = new PackageWrapper(config);
+    }
+
+    /**
+     * Creates a new translator that shares the (already initialized) config, translation tables,
+     * and blueprints with this translator. The copy can be used in another thread.
+     * @return a new light-weight translator
+     * @see SemanticLatexTranslator#createIndependentCopy()
+     */
+    public DLMFTranslator createIndependentCopy() {
+        return new DLMFTranslator(dlmfInterface.createIndependentCopy());
+    }
+
     @Override
     public String getSourceLanguage() {
         return Keys.KEY_LATEX;
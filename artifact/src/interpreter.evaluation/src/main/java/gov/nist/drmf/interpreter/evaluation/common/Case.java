@@ -291,13 +291,13 @@ public class Case implements INumericTestCase {
         MatcherConfig config = MatcherConfig.getInPlaceMatchConfig();
         config.ignoreNumberOfAts(true);
         config.semanticMacroIgnoreTokenRule(true);
-        MatchablePomTaggedExpression matchPOML = PomMatcherBuilder.compile(mlp, TeXPreProcessor.resetNumberOfAtsToOne(sb.toString()), "VAR\\d+");
-        PomMatcher matcherL = matchPOML.matcher(ppteLHS, config);
+        // both sides use the same compiled pattern, every matcher has its own captured groups
+        MatchablePomTaggedExpression matchPOM = PomMatcherBuilder.compileCached(mlp, TeXPreProcessor.resetNumberOfAtsToOne(sb.toString()), "VAR\\d+");
+        PomMatcher matcherL = matchPOM.matcher(ppteLHS, config);
         if ( counter == 0 && !isSemantic )
             updateLR(matcherL, def, true);
 
-        MatchablePomTaggedExpression matchPOMR = PomMatcherBuilder.compile(mlp, TeXPreProcessor.resetNumberOfAtsToOne(sb.toString()), "VAR\\d+");
-        PomMatcher matcherR = matchPOMR.matcher(ppteRHS, config);
+        PomMatcher matcherR = matchPOM.matcher(ppteRHS, config);
         if ( counter == 0 && !isSemantic )
             updateLR(matcherR, def, false);
 
@@ -0,0 +1,226 @@
+package gov.nist.drmf.interpreter.evaluation.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The counters of a single evaluation run for every {@link Status}. All counters are {@link LongAdder}s, i.e.,
+ * multiple threads can count at the same time without locking. Threads that count very frequently can
+ * collect their counts in a {@link Buffer} first.
+ *
+ * Counting {@link Status#SKIPPED}, {@link Status#DEFINITIONS} or {@link Status#STARTED_TEST_CASES} also counts
+ * {@link Status#TOTAL} (see {@link Status}).
+ *
+ * @author Andre Greiner-Petter
+ */
+public class EvaluationMetrics {
+    private static final Logger LOG = LogManager.getLogger(EvaluationMetrics.class.getName());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final EnumMap<Status, LongAdder> counters;
+
+    public EvaluationMetrics() {
+        this.counters = new EnumMap<>(Status.class);
+        for ( Status s : Status.values() ) counters.put(s, new LongAdder());
+    }
+
+    public void add(Status status) {
+        add(status, 1);
+    }
+
+    public void add(Status status, long n) {
+        if ( n == 0 ) return;
+        if ( countsTotal(status) ) counters.get(Status.TOTAL).add(n);
+        counters.get(status).add(n);
+    }
+
+    private static boolean countsTotal(Status status) {
+        switch (status) {
+            case SKIPPED:
+            case DEFINITIONS:
+            case STARTED_TEST_CASES:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public long get(Status status) {
+        return counters.get(status).sum();
+    }
+
+    /**
+     * Resets all counters. Counts of other threads that happen at the same time may get lost.
+     */
+    public void reset() {
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * @return the current values of all counters
+     */
+    public Snapshot snapshot() {
+        EnumMap<Status, Long> values = new EnumMap<>(Status.class);
+        counters.forEach( (s, c) -> values.put(s, c.sum()) );
+        return new Snapshot(Instant.now(), values);
+    }
+
+    /**
+     * @return a new buffer that collects the counts of a single thread and adds them to this metrics on flush
+     */
+    public Buffer buffer() {
+        return new Buffer(this);
+    }
+
+    /**
+     * Passes a snapshot to the given listener every period until the returned handle is closed, e.g.,
+     * to log the progress of long evaluations.
+     * @param period the time between two snapshots
+     * @param listener the listener
+     * @return the handle to stop the snapshots
+     */
+    public Reporter snapshotEvery(Duration period, Consumer<Snapshot> listener) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor( r -> {
+            Thread t = new Thread(r, "evaluation-metrics-snapshots");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate( () -> {
+            try {
+                listener.accept(snapshot());
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to handle evaluation metrics snapshot", e);
+            }
+        }, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+        return () -> scheduler.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    /**
+     * Stops periodic snapshots on close.
+     */
+    public interface Reporter extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Collects the counts of a single thread. The buffer itself is not thread-safe. Close (or flush) it to add the
+     * counts to the metrics. Until then, the counts are not visible in the metrics.
+     */
+    public static final class Buffer implements AutoCloseable {
+        private final EvaluationMetrics metrics;
+        private final long[] counts;
+
+        private Buffer(EvaluationMetrics metrics) {
+            this.metrics = metrics;
+            this.counts = new long[Status.values().length];
+        }
+
+        public void add(Status status) {
+            counts[status.ordinal()]++;
+        }
+
+        public void flush() {
+            for ( Status s : Status.values() ) {
+                metrics.add(s, counts[s.ordinal()]);
+                counts[s.ordinal()] = 0;
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+
+    /**
+     * An immutable view of the counters at a specific point in time.
+     */
+    public static final class Snapshot {
+        private final Instant timestamp;
+        private final EnumMap<Status, Long> values;
+
+        private Snapshot(Instant timestamp, EnumMap<Status, Long> values) {
+            this.timestamp = timestamp;
+            this.values = values;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        public long get(Status status) {
+            return values.get(status);
+        }
+
+        public Map<Status, Long> getValues() {
+            return Collections.unmodifiableMap(values);
+        }
+
+        /**
+         * @return a short overview of the numerical evaluation results
+         */
+        public String toNumericalString() {
+            long success = get(Status.SUCCESS_SYMB) > 0 ? get(Status.SUCCESS_SYMB) : get(Status.SUCCESS_NUM);
+            return "[TOTAL: " + get(Status.TOTAL) + ", " +
+                    "SUCCESS: " + success + ", " +
+                    "FAILURE: " + get(Status.FAILURE) + ", " +
+                    "LIMIT_SKIPS: " + get(Status.MISSING) + ", " +
+                    "TESTED: " + get(Status.SUCCESS_TRANS) + ", " +
+                    "ERROR: " + get(Status.ERROR) + "]";
+        }
+
+        /**
+         * @return the counters as JSON object, e.g., <code>{"timestamp":"...","TOTAL":10,"SKIPPED":2,...}</code>
+         */
+        public String toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("timestamp", timestamp.toString());
+            values.forEach( (s, v) -> json.put(s.name(), v) );
+            try {
+                return MAPPER.writeValueAsString(json);
+            } catch (JsonProcessingException e) {
+                // cannot happen for a map of strings and numbers
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * @param metricName the name of the metric, e.g., <code>lacast_evaluation_cases</code>
+         * @return the counters in the Prometheus text format with one sample per status
+         */
+        public String toPrometheus(String metricName) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("# TYPE ").append(metricName).append(" gauge\n");
+            values.forEach( (s, v) -> sb.append(metricName)
+                    .append("{status=\"").append(s.name().toLowerCase()).append("\"} ")
+                    .append(v).append(' ').append(timestamp.toEpochMilli()).append('\n')
+            );
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner sj = new StringJoiner(", ", "[", "]");
+            values.forEach( (s, v) -> sj.add(s.name() + ": " + v) );
+            return sj.toString();
+        }
+    }
+}
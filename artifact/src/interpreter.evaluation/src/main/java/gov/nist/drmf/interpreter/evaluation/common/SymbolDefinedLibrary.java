@@ -25,6 +25,14 @@ public class SymbolDefinedLibrary {
         library.put(normID, sd);
     }
 
+    /**
+     * Adds all definitions of the given library. Existing definitions with the same ID are overwritten.
+     * @param other another library
+     */
+    public void addAll(SymbolDefinedLibrary other) {
+        library.putAll(other.library);
+    }
+
     public void remove(String id) {
         String normID = SymbolDefinedLibrary.clipID(id);
         library.remove(normID);
@@ -14,14 +14,15 @@ import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author Andre Greiner-Petter
@@ -47,6 +48,12 @@ public abstract class AbstractEvaluator {
 
     private boolean rememberPackages = false;
 
+    private boolean parallelLoading = true;
+
+    private static final Duration PROGRESS_PERIOD = Duration.ofMinutes(1);
+
+    private final EvaluationMetrics metrics = new EvaluationMetrics();
+
     public static final Pattern filterCases = Pattern.compile(
             "\\\\([Bb]igO|littleo|[fdc]Diff|asymp|sim)(?:[^a-zA-Z]|$)|" +
                     "(?<!\\d|\\d\\s{0,5}\\\\[.,; ])\\s*\\\\([lc]?dots)(?:[^a-zA-Z]|$)|" +
@@ -74,6 +81,13 @@ public abstract class AbstractEvaluator {
         return AbstractEvaluator.timeoutMS;
     }
 
+    /**
+     * @return the counters of the current evaluation run
+     */
+    public EvaluationMetrics getMetrics() {
+        return metrics;
+    }
+
     public SymbolDefinedLibrary getSymbolDefinitionLibrary() {
         return symbolDefinitionLibrary;
     }
@@ -143,11 +157,15 @@ public abstract class AbstractEvaluator {
 //        HashSet<Integer> m = new HashSet<>();
 //        for ( Integer i : NumericalEvaluator.POT_DIFF ) m.add(i);
 
-        for ( Case test : testCases ) {
-//            if ( m.contains(test.getLine()) ) {
-//                test.replaceSymbolsUsed(symbolDefinitionLibrary);
-                performSingleTest(test);
-//            }
+        // long runs report their progress periodically
+        try ( EvaluationMetrics.Reporter ignored =
+                      metrics.snapshotEvery(PROGRESS_PERIOD, s -> LOG.info("Evaluation progress: " + s)) ) {
+            for ( Case test : testCases ) {
+//                if ( m.contains(test.getLine()) ) {
+//                    test.replaceSymbolsUsed(symbolDefinitionLibrary);
+                    performSingleTest(test);
+//                }
+            }
         }
     }
 
@@ -170,6 +188,21 @@ public abstract class AbstractEvaluator {
         );
     }
 
+    /**
+     * Loads the test cases of the given dataset in two phases. First, all symbol definitions of the entire
+     * dataset are collected in the {@link #getSymbolDefinitionLibrary()}. Second, the lines in the given subset
+     * are analyzed in parallel (see {@link #setParallelLoading(boolean)}). The bookkeeping of every line (label,
+     * skip reason and {@link Status}) is collected per line and applied in the order of the lines afterwards.
+     * Hence, the result is identical to analyzing the lines one after another.
+     *
+     * @param subset the interval of lines [start, limit) to load, the first line is 1
+     * @param skipLines lines (and sub cases) that should be skipped
+     * @param dataset the dataset
+     * @param labelLib the map of line numbers to labels, it will be filled
+     * @param skippedLinesInfo the map of line numbers to the reason why the line was skipped, it will be filled
+     * @param reverseSkipLines if true, only the lines in {@param skipLines} are loaded
+     * @return the list of test cases or null if the dataset cannot be loaded
+     */
     public LinkedList<Case> loadTestCases(
             int[] subset,
             Set<ID> skipLines,
@@ -179,129 +212,168 @@ public abstract class AbstractEvaluator {
             boolean reverseSkipLines
     ) {
         HashMap<Integer, Set<Integer>> skipLineIDs = new HashMap<>();
-        skipLines.forEach(s -> {
-            Set<Integer> subIds = skipLineIDs.get(s.id);
-            if ( subIds == null ) {
-                Set<Integer> subs = new HashSet<>();
-                subs.add(s.subID);
-                skipLineIDs.put(s.id, subs);
-            } else {
-                subIds.add(s.subID);
-            }
-        } );
-        LinkedList<Case> testCases = new LinkedList<>();
-        int[] currLine = new int[] {0};
-
-        try (BufferedReader br = Files.newBufferedReader(dataset)) {
-            Stream<String> lines = br.lines();
-
-            int start = subset[0];
-            int limit = subset[1];
-
-            lines.sequential()
-                    .peek(l -> {
-                        currLine[0]++;
-                        Matcher m = CaseAnalyzer.URL_PATTERN.matcher(l);
-                        if ( m.find() )
-                            labelLib.put(currLine[0], m.group(1));
-                    }) // line counter
-                    .peek(l -> {
-                        try {
-                            CaseAnalyzer.analyzeLine(l, currLine[0], symbolDefinitionLibrary);
-                        } catch (Error | Exception e) {
-                            // just sneak into each line, to load all symbol definitions...
-                        }
-                    })
-                    .filter(l -> start <= currLine[0] && currLine[0] < limit) // filter by limits
-                    .filter(l -> {
-                        boolean skip = skipLineIDs.containsKey(currLine[0]);
-                        if ( reverseSkipLines ) skip = !skip;
-                        if ( skip ){
-                            skippedLinesInfo.put(currLine[0], "Skipped - user defined");
-                            Status.SKIPPED.add();
-                            return false;
-                        } else return true;
-                    }) // skip entries if wanted
-                    .flatMap(l -> {
-                        if ( l.contains("comments{Warning") && !l.contains("symbolDefined") && !l.matches(".*(?<!\\\\[A-Za-z]{0,30})[ie](.|$).*") ) {
-                            skippedLinesInfo.put(currLine[0], "Skipped - no semantic math");
-                            Status.SKIPPED.add();
-                            return null;
-                        }
-
-                        LinkedList<Case> cc = CaseAnalyzer.analyzeLine(l, currLine[0], symbolDefinitionLibrary);
-                        if ( cc == null || cc.isEmpty() ) {
-                            if ( l.contains("symbolDefined") ) {
-                                LOG.info(currLine[0] + ": Ignored, because it's a definition.");
-                                skippedLinesInfo.put(currLine[0], "Definition - Line is a non-semantic definition.");
-                                Status.DEFINITIONS.add();
-                                return null;
-                            } else {
-                                LOG.warn(currLine[0] + ": unable to extract test case.");
-                                skippedLinesInfo.put(currLine[0], "Skipped - Unable to analyze test case: Null");
-                                Status.SKIPPED.add();
-                                return null;
-                            }
-                        }
-
-                        Set<Integer> subIds = skipLineIDs.get(currLine[0]);
-                        LinkedList<Case> testCC = new LinkedList<>();
-                        int counter = 0;
-                        String reason = "";
-                        for ( Case ic : cc ) {
-                            String test = ic.getLHS() + " " + ic.getRelation().getSymbol() + " " + ic.getRHS();
-                            Matcher m = filterCases.matcher(test);
-                            if ( !m.find() ) {
-                                String conStr = ic.getRawConstraint();
-                                if ( conStr != null && !conStr.isEmpty() ) {
-                                    Matcher cm = filterCases.matcher(conStr);
-                                    if ( cm.find() ) ic.removeConstraint();
-                                }
-
-                                boolean addBoolean = subIds == null || !subIds.contains(counter);
-                                addBoolean = reverseSkipLines != addBoolean;
-
-                                if ( addBoolean ) {
-                                    testCC.add(ic);
-                                    counter++;
-                                } else {
-                                    testCC.add(new DummyCase(ic.getMetaData()));
-                                    counter++;
-                                }
-                            } else {
-                                boolean shouldBreak = false;
-                                if ( !reason.isEmpty() ) reason += ", ";
-
-                                if ( m.group(1) != null ) reason += m.group(1);
-                                else if ( m.group(2) != null ) reason += m.group(2);
-                                else if ( m.group(3) != null ) {
-                                    reason += m.group(3);
-                                    // everything after cases is probably corrupted...
-                                    shouldBreak = true;
-                                }
-                                else reason += "Generic function " + m.group(4);
-                                LOG.warn("Ignore " + currLine[0] + " because " + reason + "; Test case: " + test);
-                                if ( shouldBreak ) break;
-                            }
-                        }
-
-                        if (!testCC.isEmpty()) {
-                            Case c = testCC.get(0);
-                            labelLib.put(c.getLine(), c.getDlmf());
-                            return testCC.stream();
-                        } else {
-                            skippedLinesInfo.put(currLine[0], "Skipped - Invalid test case: " + reason);
-                            Status.SKIPPED.add();
-                            return null;
-                        }
-                    })
-                    .filter( Objects::nonNull )
-                    .forEach(testCases::add);
-            return testCases;
+        skipLines.forEach(s -> skipLineIDs.computeIfAbsent(s.id, k -> new HashSet<>()).add(s.subID));
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(dataset);
         } catch (IOException ioe) {
             LOG.fatal("Cannot load dataset!", ioe);
             return null;
         }
+
+        // 1st phase: labels and symbol definitions of the entire dataset
+        for ( int i = 0; i < lines.size(); i++ ) {
+            Matcher m = CaseAnalyzer.URL_PATTERN.matcher(lines.get(i));
+            if ( m.find() ) labelLib.put(i+1, m.group(1));
+        }
+        loadSymbolDefinitions(lines);
+
+        // 2nd phase: analyze the lines of the subset
+        int start = Math.max(subset[0], 1);
+        int limit = Math.min(subset[1], lines.size()+1);
+        IntStream lineNumbers = IntStream.range(start, Math.max(start, limit));
+        if ( parallelLoading ) lineNumbers = lineNumbers.parallel();
+        List<LineAnalysis> analyzedLines = lineNumbers
+                .mapToObj( n -> analyzeLine(lines.get(n-1), n, skipLineIDs, reverseSkipLines) )
+                .collect(Collectors.toList());
+
+        LinkedList<Case> testCases = new LinkedList<>();
+        for ( LineAnalysis analysis : analyzedLines ) {
+            if ( analysis.status != null ) {
+                skippedLinesInfo.put(analysis.lineNumber, analysis.reason);
+                metrics.add(analysis.status);
+            } else {
+                Case c = analysis.cases.get(0);
+                labelLib.put(c.getLine(), c.getDlmf());
+                testCases.addAll(analysis.cases);
+            }
+        }
+        return testCases;
+    }
+
+    /**
+     * Only lines with a symbol definition can extend the library. Every line is analyzed with its own library
+     * so that the results can be merged in the order of the lines, i.e., later definitions overwrite earlier ones.
+     */
+    private void loadSymbolDefinitions(List<String> lines) {
+        IntStream lineNumbers = IntStream.rangeClosed(1, lines.size())
+                .filter( n -> lines.get(n-1).contains("symbolDefined") );
+        if ( parallelLoading ) lineNumbers = lineNumbers.parallel();
+
+        List<SymbolDefinedLibrary> definitions = lineNumbers
+                .mapToObj( n -> {
+                    SymbolDefinedLibrary lineLib = new SymbolDefinedLibrary();
+                    try {
+                        CaseAnalyzer.analyzeLine(lines.get(n-1), n, lineLib);
+                    } catch (Error | Exception e) {
+                        // just sneak into each line, to load all symbol definitions...
+                    }
+                    return lineLib;
+                })
+                .collect(Collectors.toList());
+        definitions.forEach(symbolDefinitionLibrary::addAll);
+    }
+
+    private LineAnalysis analyzeLine(
+            String l,
+            int lineNumber,
+            HashMap<Integer, Set<Integer>> skipLineIDs,
+            boolean reverseSkipLines
+    ) {
+        boolean skip = skipLineIDs.containsKey(lineNumber);
+        if ( reverseSkipLines ) skip = !skip;
+        if ( skip ) return LineAnalysis.skipped(lineNumber, Status.SKIPPED, "Skipped - user defined");
+
+        if ( l.contains("comments{Warning") && !l.contains("symbolDefined") && !l.matches(".*(?<!\\\\[A-Za-z]{0,30})[ie](.|$).*") ) {
+            return LineAnalysis.skipped(lineNumber, Status.SKIPPED, "Skipped - no semantic math");
+        }
+
+        // the symbol definitions were loaded before already
+        LinkedList<Case> cc = CaseAnalyzer.analyzeLine(l, lineNumber, new SymbolDefinedLibrary());
+        if ( cc == null || cc.isEmpty() ) {
+            if ( l.contains("symbolDefined") ) {
+                LOG.info(lineNumber + ": Ignored, because it's a definition.");
+                return LineAnalysis.skipped(lineNumber, Status.DEFINITIONS, "Definition - Line is a non-semantic definition.");
+            } else {
+                LOG.warn(lineNumber + ": unable to extract test case.");
+                return LineAnalysis.skipped(lineNumber, Status.SKIPPED, "Skipped - Unable to analyze test case: Null");
+            }
+        }
+
+        Set<Integer> subIds = skipLineIDs.get(lineNumber);
+        LinkedList<Case> testCC = new LinkedList<>();
+        int counter = 0;
+        String reason = "";
+        for ( Case ic : cc ) {
+            String test = ic.getLHS() + " " + ic.getRelation().getSymbol() + " " + ic.getRHS();
+            Matcher m = filterCases.matcher(test);
+            if ( !m.find() ) {
+                String conStr = ic.getRawConstraint();
+                if ( conStr != null && !conStr.isEmpty() ) {
+                    Matcher cm = filterCases.matcher(conStr);
+                    if ( cm.find() ) ic.removeConstraint();
+                }
+
+                boolean addBoolean = subIds == null || !subIds.contains(counter);
+                addBoolean = reverseSkipLines != addBoolean;
+
+                if ( addBoolean ) {
+                    testCC.add(ic);
+                    counter++;
+                } else {
+                    testCC.add(new DummyCase(ic.getMetaData()));
+                    counter++;
+                }
+            } else {
+                boolean shouldBreak = false;
+                if ( !reason.isEmpty() ) reason += ", ";
+
+                if ( m.group(1) != null ) reason += m.group(1);
+                else if ( m.group(2) != null ) reason += m.group(2);
+                else if ( m.group(3) != null ) {
+                    reason += m.group(3);
+                    // everything after cases is probably corrupted...
+                    shouldBreak = true;
+                }
+                else reason += "Generic function " + m.group(4);
+                LOG.warn("Ignore " + lineNumber + " because " + reason + "; Test case: " + test);
+                if ( shouldBreak ) break;
+            }
+        }
+
+        if ( testCC.isEmpty() )
+            return LineAnalysis.skipped(lineNumber, Status.SKIPPED, "Skipped - Invalid test case: " + reason);
+        return new LineAnalysis(lineNumber, testCC, null, null);
+    }
+
+    /**
+     * Loads the test cases in parallel (default) or sequentially.
+     * @param parallelLoading if true, the lines are analyzed in parallel
+     */
+    public void setParallelLoading(boolean parallelLoading) {
+        this.parallelLoading = parallelLoading;
+    }
+
+    /**
+     * The result of a single line, either a list of cases or the reason why the line was skipped.
+     */
+    private static final class LineAnalysis {
+        private final int lineNumber;
+        private final LinkedList<Case> cases;
+        private final Status status;
+        private final String reason;
+
+        private LineAnalysis(int lineNumber, LinkedList<Case> cases, Status status, String reason) {
+            this.lineNumber = lineNumber;
+            this.cases = cases;
+            this.status = status;
+            this.reason = reason;
+        }
+
+        private static LineAnalysis skipped(int lineNumber, Status status, String reason) {
+            return new LineAnalysis(lineNumber, null, status, reason);
+        }
     }
 
     public abstract EvaluationConfig getConfig();
@@ -334,7 +406,7 @@ public abstract class AbstractEvaluator {
     }
 
     public String getOverviewString() {
-        return Status.buildString();
+        return metrics.snapshot().toString();
     }
 
     protected String getResults(
@@ -159,7 +159,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
         setUpScripts(interfaceBuilder.getNumericProcedures());
         interfaceBuilder.getNumericEvaluator().setTimeout( config.getTimeout() );
 
-        Status.reset();
+        getMetrics().reset();
         init();
     }
 
@@ -255,7 +255,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
 
         if ( realSkips.contains(c.getLine()) ) {
             LOG.warn("Skip this test case manually for reasons...");
-            Status.SKIPPED.add();
+            getMetrics().add(Status.SKIPPED);
             lineResult[c.getLine()].add("Manual Skip!");
             return;
         }
@@ -279,14 +279,14 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
 
         if ( c instanceof AbstractEvaluator.DummyCase) {
             lineResult[c.getLine()].add("Skip - symbolical successful subtest");
-            Status.SKIPPED.add();
+            getMetrics().add(Status.SKIPPED);
             return;
         }
 
 //        String expression = null;
         Constraints con = null;
         try {
-            Status.STARTED_TEST_CASES.add();
+            getMetrics().add(Status.STARTED_TEST_CASES);
 
             con = c.getConstraintObject();
             if (con != null) {
@@ -315,17 +315,17 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
         try {
             LOG.debug("Start numerical calculations.");
             test = buildTestObject(c);
-            Status.SUCCESS_TRANS.add();
+            getMetrics().add(Status.SUCCESS_TRANS);
             LOG.info("Numerical test expression: " + test.getTestExpression());
         } catch ( TranslationException te ) {
             LOG.error("Error in translation. " + te.toString());
             lineResult[c.getLine()].add("Error - " + te.toString());
-            Status.ERROR_TRANS.add();
+            getMetrics().add(Status.ERROR_TRANS);
             return;
         } catch ( NullPointerException npe ) {
             LOG.error("Unable to analyze test case properly: " + c);
             lineResult[c.getLine()].add("Error - Invalid Test case: " + c);
-            Status.ERROR_TRANS.add();
+            getMetrics().add(Status.ERROR_TRANS);
         }
 
         if ( test == null ) return;
@@ -344,7 +344,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
             if ( wasAborted ) {
                 LOG.warn("Skip test because it took too much time.");
                 lineResult[c.getLine()].add("Skipped - Because timed out");
-                Status.ABORTED.add();
+                getMetrics().add(Status.ABORTED);
             } else {
                 TestResultType resType = testResult(results);
                 String evaluation = "";
@@ -352,7 +352,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
                 int failed = results.getNumberOfFailedTests();
                 if ( tested == 0 && failed > 0 ) {
                     lineResult[c.getLine()].add("Skip - No test values generated");
-                    Status.NO_TEST_VALUES.add();
+                    getMetrics().add(Status.NO_TEST_VALUES);
                 } else {
                     List<NumericCalculationGroup> calcGroups = results.getTestCalculationsGroups();
                     List<NumericCalculation> calcs = calcGroups.get(0).getTestCalculations();
@@ -361,21 +361,21 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
                     switch (resType) {
                         case SUCCESS:
                             lineResult[c.getLine()].add("Successful [Tested: " + tested + "]");
-                            Status.SUCCESS_NUM.add();
+                            getMetrics().add(Status.SUCCESS_NUM);
                             break;
                         case FAILURE:
                             LOG.info("Test was NOT successful.");
                             resultStr = TextUtility.join(stringJoinConfig.setIter(calcs));
                             evaluation = "{" + resultStr + "}"; //LogManipulator.shortenOutput(results.toString(), 2);
                             lineResult[c.getLine()].add("Failed ["+failed+"/"+tested+"]: " + evaluation);
-                            Status.FAILURE.add();
+                            getMetrics().add(Status.FAILURE);
                             break;
                         case ERROR:
                             LOG.info("Test was NOT successful.");
                             resultStr = TextUtility.join(stringJoinConfig.setIter(calcs));
                             evaluation = "{" + resultStr + "}"; //LogManipulator.shortenOutput(results.toString(), 2);
                             lineResult[c.getLine()].add("Error [" + evaluation + "]");
-                            Status.ERROR.add();
+                            getMetrics().add(Status.ERROR);
                             break;
                     }
                 }
@@ -386,11 +386,11 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
             LOG.warn("Skip test, because " + iae.getMessage());
             lineResult[c.getLine()].add("Error - " + iae.getMessage());
             // Note, we rename the overview lines, so we use missing here, just to avoid trouble with SKIP infos
-            Status.ERROR.add();
+            getMetrics().add(Status.ERROR);
         } catch ( Error | Exception e ){
             LOG.warn("Error for line " + c.getLine() + ", because: " + e.toString(), e);
             lineResult[c.getLine()].add("Error - " + e.toString());
-            Status.ERROR.add();
+            getMetrics().add(Status.ERROR);
         } finally {
             // garbage collection
             try { forceGC(); }
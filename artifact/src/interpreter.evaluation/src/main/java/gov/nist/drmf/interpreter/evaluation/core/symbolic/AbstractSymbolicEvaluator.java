@@ -62,7 +62,7 @@ public abstract class AbstractSymbolicEvaluator extends AbstractEvaluator {
         StringBuffer sb = new StringBuffer();
 
         sb.append("Overall: ");
-        sb.append(Status.buildString());
+        sb.append(getMetrics().snapshot());
         sb.append(" for test expression: ");
         sb.append(config.getTestExpression());
         sb.append(NL);
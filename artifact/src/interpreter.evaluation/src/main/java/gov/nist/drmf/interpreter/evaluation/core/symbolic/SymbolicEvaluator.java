@@ -1,11 +1,14 @@
 package gov.nist.drmf.interpreter.evaluation.core.symbolic;
 
+import gov.nist.drmf.interpreter.common.TranslationInformation;
 import gov.nist.drmf.interpreter.common.cas.ICASEngineSymbolicEvaluator;
+import gov.nist.drmf.interpreter.common.cas.SymbolicTestPortfolio;
 import gov.nist.drmf.interpreter.common.eval.*;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
 import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
+import gov.nist.drmf.interpreter.common.process.CasWorkerPool;
 import gov.nist.drmf.interpreter.common.eval.SymbolicCalculation;
 import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
 import gov.nist.drmf.interpreter.core.api.DLMFTranslator;
@@ -49,6 +52,12 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
     private final double expectedResult;
 
+    private SymbolicStrategyStatistics strategyStatistics = null;
+    private Path strategyStatisticsPath = null;
+
+    private CasWorkerPool workerPool = null;
+    private SymbolicTestPortfolio portfolio = null;
+
     /**
      * Creates an object for numerical evaluations.
      * Workflow:
@@ -91,9 +100,43 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
             idSkips.add(Integer.parseInt(s));
         }
 
-        Status.reset();
+        getMetrics().reset();
         mathematica = (casBuilder.getCASEngine() instanceof MathematicaInterface);
         expectedResult = Double.parseDouble(config.getExpectationValue());
+
+        if ( config.enabledAdaptiveStrategyOrder() ) {
+            strategyStatisticsPath = config.getStrategyStatisticsPath();
+            if ( strategyStatisticsPath == null )
+                strategyStatisticsPath = output.resolveSibling("symbolic-strategies-" + casBuilder.getLanguageKey() + ".json");
+            try {
+                strategyStatistics = SymbolicStrategyStatistics.load(strategyStatisticsPath);
+            } catch (IOException e) {
+                LOG.warn("Unable to load symbolic strategy statistics from " + strategyStatisticsPath + ". Start with empty statistics.", e);
+                strategyStatistics = new SymbolicStrategyStatistics();
+            }
+        }
+
+        if ( config.getPortfolioWorkers() > 0 ) {
+            startPortfolio(casBuilder, config.getPortfolioWorkers(), config.getPortfolioPort());
+        }
+    }
+
+    private void startPortfolio(NativeComputerAlgebraInterfaceBuilder casBuilder, int workers, int port) {
+        CasWorkerPool pool = casBuilder.createWorkerPool(workers, port);
+        if ( pool == null ) {
+            LOG.warn(casBuilder.getLanguageKey() + " does not support worker pools. Perform simplifications sequentially.");
+            return;
+        }
+        try {
+            pool.start();
+        } catch (IOException e) {
+            LOG.error("Unable to start the worker pool for the portfolio mode. Perform simplifications sequentially.", e);
+            pool.close();
+            return;
+        }
+        this.workerPool = pool;
+        this.portfolio = new SymbolicTestPortfolio(pool, config.getTimeout());
+        LOG.info("Perform simplifications in portfolio mode on " + workers + " CAS subprocesses.");
     }
 
 //    @Override
@@ -148,6 +191,7 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
             String[] ass = overallAss.split(" \\|\\| ");
             String[] transAss = this.getThisConstraintTranslator().translateEachConstraint(ass);
             super.setGlobalSymbolicAssumptions(List.of(transAss));
+            if ( portfolio != null ) portfolio.setGlobalSymbolicAssumptions(List.of(transAss));
         }
     }
 
@@ -182,7 +226,7 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
         if (c instanceof AbstractEvaluator.DummyCase) {
             lineResults[c.getLine()].add("Skipped - Invalid subtest");
-            Status.SKIPPED.add();
+            getMetrics().add(Status.SKIPPED);
             return;
         }
 
@@ -192,16 +236,21 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
         // first translations
         String lhs = null, rhs = null;
+        Set<String> usedMacros = new HashSet<>();
         try {
-            Status.STARTED_TEST_CASES.add();
+            getMetrics().add(Status.STARTED_TEST_CASES);
             startRememberPackages();
-            lhs = forwardTranslate(c.getLHS(), c.getEquationLabel()).getTranslatedExpression();
-            rhs = forwardTranslate(c.getRHS(), c.getEquationLabel()).getTranslatedExpression();
+            TranslationInformation lhsInfo = forwardTranslate(c.getLHS(), c.getEquationLabel());
+            TranslationInformation rhsInfo = forwardTranslate(c.getRHS(), c.getEquationLabel());
+            lhs = lhsInfo.getTranslatedExpression();
+            rhs = rhsInfo.getTranslatedExpression();
+            addUsedMacros(usedMacros, lhsInfo);
+            addUsedMacros(usedMacros, rhsInfo);
             stopRememberPackages();
 
             LOG.info("Translate LHS to: " + lhs);
             LOG.info("Translate RHS to: " + rhs);
-            Status.SUCCESS_TRANS.add();
+            getMetrics().add(Status.SUCCESS_TRANS);
         } catch (TranslationException te) {
             LOG.warn("Error for line " + c.getLine() + ", because: " + te, te);
             if ( (te.getReason().equals(TranslationExceptionReason.MISSING_TRANSLATION_INFORMATION) ||
@@ -209,17 +258,17 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
                             te.getReason().equals(TranslationExceptionReason.UNKNOWN_OR_MISSING_ELEMENT)
                 ) && te.getReasonObj() != null
             ) {
-                Status.MISSING.add();
+                getMetrics().add(Status.MISSING);
                 lineResults[c.getLine()].add("Missing Macro Error - " + te.toString());
                 addMissingMacro(te.getReasonObj().toString());
             } else {
-                Status.ERROR_TRANS.add();
+                getMetrics().add(Status.ERROR_TRANS);
                 lineResults[c.getLine()].add("Translation Error - " + te.toString());
             }
             return;
         } catch (Exception | Error e) {
             lineResults[c.getLine()].add("Translation Error - " + e.toString() + " [" + c.toString() + "]");
-            Status.ERROR_TRANS.add();
+            getMetrics().add(Status.ERROR_TRANS);
             return;
         }
 
@@ -229,7 +278,8 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
         String[] preAndPostCommands = checkPrevCommand(c.getLHS() + ", " + c.getRHS());
 
-        if (preAndPostCommands != null) {
+        // in portfolio mode, the workers enter the commands themselves
+        if (preAndPostCommands != null && portfolio == null) {
             try {
                 enterEngineCommand(preAndPostCommands[0]);
                 LOG.debug("Enter pre-testing commands: " + preAndPostCommands[0]);
@@ -251,6 +301,11 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
         // default values are false
         ISymbolicTestCases[] type = getSymbolicTestCases();
+        String chapter = SymbolicStrategyStatistics.getChapter(c.getEquationLabel());
+        if ( strategyStatistics != null ) {
+            type = strategyStatistics.order(type, chapter, usedMacros);
+            LOG.debug("Adaptive order of simplifications: " + Arrays.toString(type));
+        }
         String[] successStr = new String[type.length];
         boolean[] success = new boolean[type.length];
         boolean[] errors = new boolean[type.length];
@@ -259,7 +314,6 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
         LOG.info(c.getLine() + ": Start simplifications. Expected outcome is "
                 + (config.getExpectationValue() == null ? "numerical" : config.getExpectationValue()));
 
-        ICASEngineSymbolicEvaluator evaluator = super.getSymbolicEvaluator();
         SymbolicalTest test = new SymbolicalTest(
                 lhs, rhs, expression,
                 type,
@@ -267,10 +321,18 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
                 getThisConstraintTranslator()
         );
         test.setRequiredPackages(super.getRequiredPackages());
+        test.setStopAfterFirstSuccess(strategyStatistics != null);
 
-        SymbolicResult result = evaluator.performSymbolicTest(test);
+        SymbolicResult result;
+        if ( portfolio != null ) {
+            result = portfolio.performSymbolicTest(test, preAndPostCommands);
+        } else {
+            ICASEngineSymbolicEvaluator evaluator = super.getSymbolicEvaluator();
+            result = evaluator.performSymbolicTest(test);
+        }
+        if ( strategyStatistics != null ) strategyStatistics.record(chapter, usedMacros, result);
 
-        if (preAndPostCommands != null) {
+        if (preAndPostCommands != null && portfolio == null) {
             try {
                 enterEngineCommand(preAndPostCommands[1]);
                 LOG.debug("Enter post-testing commands: " + preAndPostCommands[1]);
@@ -285,10 +347,10 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
             if ( TestResultType.SUCCESS.equals(sc.getResult()) ) {
                 if ( sc.isWasConditionallySuccessful() ) {
                     lineResults[c.getLine()].add("Successful under condition " + result.printCalculations());
-                    Status.SUCCESS_UNDER_EXTRA_CONDITION.add();
+                    getMetrics().add(Status.SUCCESS_UNDER_EXTRA_CONDITION);
                 } else {
                     lineResults[c.getLine()].add("Successful " + result.printCalculations());
-                    Status.SUCCESS_SYMB.add();
+                    getMetrics().add(Status.SUCCESS_SYMB);
                 }
                 return;
             }
@@ -296,13 +358,13 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
         if (TestResultType.ERROR.equals(result.overallResult())) {
             lineResults[c.getLine()].add("All Errors: " + Arrays.toString(successStr));
-            Status.ERROR.add();
+            getMetrics().add(Status.ERROR);
         } else if (allAborted) {
             lineResults[c.getLine()].add("All Aborted: " + Arrays.toString(successStr));
-            Status.ABORTED.add();
+            getMetrics().add(Status.ABORTED);
         } else {
             lineResults[c.getLine()].add("Failure " + Arrays.toString(successStr));
-            Status.FAILURE.add();
+            getMetrics().add(Status.FAILURE);
         }
 
 //        for (int i = 0; i < type.length; i++) {
@@ -414,6 +476,33 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 //            setPreviousAssumption();
     }
 
+    private static void addUsedMacros(Set<String> usedMacros, TranslationInformation translation) {
+        if ( translation.getTranslationInformation() == null ) return;
+        usedMacros.addAll(translation.getTranslationInformation().getMacroTranslationInformation().keySet());
+    }
+
+    @Override
+    public void writeResults() throws IOException {
+        super.writeResults();
+        if ( strategyStatistics != null ) {
+            strategyStatistics.save(strategyStatisticsPath);
+            LOG.info("Stored symbolic strategy statistics in " + strategyStatisticsPath);
+        }
+        stopPortfolio();
+    }
+
+    /**
+     * Stops the CAS subprocesses of the portfolio mode (if any). Following tests are performed sequentially.
+     */
+    public void stopPortfolio() {
+        if ( portfolio == null ) return;
+        LOG.info("Stop portfolio mode. " + workerPool);
+        portfolio.close();
+        workerPool.close();
+        portfolio = null;
+        workerPool = null;
+    }
+
     private int gcCaller = 0;
 
     private int getGcCaller() {
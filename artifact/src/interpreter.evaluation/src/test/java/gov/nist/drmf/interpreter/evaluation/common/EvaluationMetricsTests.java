@@ -0,0 +1,121 @@
+package gov.nist.drmf.interpreter.evaluation.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class EvaluationMetricsTests {
+
+    @Test
+    public void totalTest() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        metrics.add(Status.SKIPPED);
+        metrics.add(Status.DEFINITIONS);
+        metrics.add(Status.STARTED_TEST_CASES);
+        metrics.add(Status.SUCCESS_TRANS);
+        metrics.add(Status.SUCCESS_NUM);
+
+        assertEquals(3, metrics.get(Status.TOTAL));
+        assertEquals(1, metrics.get(Status.SUCCESS_NUM));
+        assertEquals(0, metrics.get(Status.FAILURE));
+
+        metrics.reset();
+        assertEquals(0, metrics.get(Status.TOTAL));
+    }
+
+    @Test
+    public void independentRunsTest() {
+        EvaluationMetrics first = new EvaluationMetrics();
+        EvaluationMetrics second = new EvaluationMetrics();
+        first.add(Status.FAILURE);
+        assertEquals(1, first.get(Status.FAILURE));
+        assertEquals(0, second.get(Status.FAILURE));
+    }
+
+    @Test
+    public void concurrentTest() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        IntStream.range(0, 10_000).parallel().forEach( i -> {
+            metrics.add(Status.STARTED_TEST_CASES);
+            if ( i % 2 == 0 ) metrics.add(Status.SUCCESS_SYMB);
+        });
+        assertEquals(10_000, metrics.get(Status.TOTAL));
+        assertEquals(10_000, metrics.get(Status.STARTED_TEST_CASES));
+        assertEquals(5_000, metrics.get(Status.SUCCESS_SYMB));
+    }
+
+    @Test
+    public void bufferTest() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        try ( EvaluationMetrics.Buffer buffer = metrics.buffer() ) {
+            buffer.add(Status.SKIPPED);
+            buffer.add(Status.SKIPPED);
+            buffer.add(Status.ERROR);
+            assertEquals(0, metrics.get(Status.SKIPPED));
+            buffer.flush();
+            assertEquals(2, metrics.get(Status.SKIPPED));
+            assertEquals(2, metrics.get(Status.TOTAL));
+            buffer.add(Status.ERROR);
+        }
+        assertEquals(2, metrics.get(Status.ERROR));
+    }
+
+    @Test
+    public void snapshotTest() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        metrics.add(Status.SKIPPED);
+        EvaluationMetrics.Snapshot snapshot = metrics.snapshot();
+        metrics.add(Status.SKIPPED);
+
+        assertEquals(1, snapshot.get(Status.SKIPPED));
+        assertEquals(2, metrics.get(Status.SKIPPED));
+        assertTrue(snapshot.toString().startsWith("[TOTAL: 1, SKIPPED: 1, DEFINITIONS: 0, "), snapshot.toString());
+    }
+
+    @Test
+    public void jsonTest() throws IOException {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        metrics.add(Status.ABORTED);
+        metrics.add(Status.DEFINITIONS);
+
+        JsonNode json = new ObjectMapper().readTree(metrics.snapshot().toJson());
+        assertTrue(json.has("timestamp"));
+        assertEquals(1, json.get("ABORTED").asLong());
+        assertEquals(1, json.get("TOTAL").asLong());
+        assertEquals(0, json.get("ERROR").asLong());
+    }
+
+    @Test
+    public void prometheusTest() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        metrics.add(Status.SUCCESS_NUM);
+
+        String text = metrics.snapshot().toPrometheus("lacast_evaluation_cases");
+        assertTrue(text.startsWith("# TYPE lacast_evaluation_cases gauge\n"), text);
+        assertTrue(text.contains("lacast_evaluation_cases{status=\"success_num\"} 1 "), text);
+        assertTrue(text.contains("lacast_evaluation_cases{status=\"failure\"} 0 "), text);
+    }
+
+    @Test
+    public void periodicSnapshotTest() throws InterruptedException {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        metrics.add(Status.SKIPPED);
+        CountDownLatch latch = new CountDownLatch(2);
+        try ( EvaluationMetrics.Reporter ignored = metrics.snapshotEvery(Duration.ofMillis(10), s -> {
+            if ( s.get(Status.SKIPPED) == 1 ) latch.countDown();
+        }) ) {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
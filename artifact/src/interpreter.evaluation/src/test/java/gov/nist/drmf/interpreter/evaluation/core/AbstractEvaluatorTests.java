@@ -0,0 +1,118 @@
+package gov.nist.drmf.interpreter.evaluation.core;
+
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.eval.EvaluationConfig;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.core.api.DLMFTranslator;
+import gov.nist.drmf.interpreter.evaluation.common.Case;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class AbstractEvaluatorTests {
+    private static final Path DLMF_DATASET = Paths.get("../dlmf/dlmf-formulae.txt");
+
+    private static DLMFTranslator dlmfTrans;
+
+    @BeforeAll
+    public static void setup() throws InitTranslatorException {
+        dlmfTrans = new DLMFTranslator(Keys.KEY_MAPLE);
+    }
+
+    @Test
+    public void parallelLoadingTest() {
+        assumeTrue(Files.exists(DLMF_DATASET), "Requires the DLMF dataset");
+        LoadedDataset sequential = load(false, new int[] {1, 20_000});
+        LoadedDataset parallel = load(true, new int[] {1, 20_000});
+
+        assertFalse(sequential.cases.isEmpty());
+        assertEquals(sequential.cases, parallel.cases);
+        assertEquals(sequential.skippedLinesInfo, parallel.skippedLinesInfo);
+        assertEquals(sequential.labelLib, parallel.labelLib);
+        assertEquals(sequential.symbolDefinitions, parallel.symbolDefinitions);
+        assertEquals(sequential.status, parallel.status);
+    }
+
+    @Test
+    public void subsetLoadingTest() {
+        assumeTrue(Files.exists(DLMF_DATASET), "Requires the DLMF dataset");
+        LoadedDataset subset = load(true, new int[] {100, 200});
+        assertFalse(subset.cases.isEmpty());
+        for ( String c : subset.cases ) {
+            int line = Integer.parseInt(c.substring(0, c.indexOf(':')));
+            assertTrue(100 <= line && line < 200, c);
+        }
+        subset.skippedLinesInfo.keySet().forEach( l -> assertTrue(100 <= l && l < 200, "Line " + l) );
+
+        // symbol definitions are loaded from the entire dataset, even if the subset is empty
+        LoadedDataset empty = load(true, new int[] {1, 1});
+        assertTrue(empty.cases.isEmpty());
+        assertFalse(empty.symbolDefinitions.isEmpty());
+        assertEquals(empty.symbolDefinitions, subset.symbolDefinitions);
+    }
+
+    private static LoadedDataset load(boolean parallel, int[] subset) {
+        TestEvaluator evaluator = new TestEvaluator();
+        evaluator.setParallelLoading(parallel);
+
+        LoadedDataset loaded = new LoadedDataset();
+        LinkedList<Case> cases = evaluator.loadTestCases(
+                subset, new HashSet<>(), DLMF_DATASET, loaded.labelLib, loaded.skippedLinesInfo
+        );
+        assertNotNull(cases);
+        loaded.cases = cases.stream().map(Case::toString).collect(Collectors.toList());
+        loaded.symbolDefinitions = new TreeSet<>(evaluator.getSymbolDefinitionLibrary().library.keySet());
+        loaded.status = evaluator.getMetrics().snapshot().toString();
+        return loaded;
+    }
+
+    private static class LoadedDataset {
+        private final HashMap<Integer, String> labelLib = new HashMap<>();
+        private final HashMap<Integer, String> skippedLinesInfo = new HashMap<>();
+        private List<String> cases;
+        private Set<String> symbolDefinitions;
+        private String status;
+    }
+
+    private static class TestEvaluator extends AbstractEvaluator {
+        TestEvaluator() {
+            super(dlmfTrans, null);
+        }
+
+        @Override
+        public void performSingleTest(Case testCase) {}
+
+        @Override
+        public LinkedList<Case> loadTestCases() {
+            return null;
+        }
+
+        @Override
+        public EvaluationConfig getConfig() {
+            return null;
+        }
+
+        @Override
+        public HashMap<Integer, String> getLabelLibrary() {
+            return null;
+        }
+
+        @Override
+        public LinkedList<String>[] getLineResults() {
+            return null;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import gov.nist.drmf.interpreter.common.pojo.SemanticEnhancedAnnotationStatus;
 import gov.nist.drmf.interpreter.generic.interfaces.IGenericLatexSemanticEnhancerAPI;
 import gov.nist.drmf.interpreter.generic.mlp.ContextAnalyzer;
 import gov.nist.drmf.interpreter.generic.mlp.Document;
+import gov.nist.drmf.interpreter.generic.mlp.EnhancementPipeline;
 import gov.nist.drmf.interpreter.generic.mlp.SemanticEnhancer;
 import gov.nist.drmf.interpreter.generic.mlp.WikitextDocument;
 import gov.nist.drmf.interpreter.generic.mlp.cas.CASTranslators;
@@ -44,14 +45,17 @@ import java.util.stream.Collectors;
 
 /**
  * This class is the API endpoint to semantically enhance math in entire documents.
+ * Close it to stop the threads of its {@link EnhancementPipeline}.
  *
  * @author Andre Greiner-Petter
  */
-public class GenericLatexSemanticEnhancer implements IGenericLatexSemanticEnhancerAPI {
+public class GenericLatexSemanticEnhancer implements IGenericLatexSemanticEnhancerAPI, AutoCloseable {
     private static final Logger LOG = LogManager.getLogger(GenericLatexSemanticEnhancer.class.getName());
 
     private final SemanticEnhancer semanticEnhancer;
 
+    private EnhancementPipeline pipeline;
+
     /**
      * Constructs a new instance of the class
      */
@@ -66,6 +70,24 @@ public class GenericLatexSemanticEnhancer implements IGenericLatexSemanticEnhanc
         this.semanticEnhancer = new SemanticEnhancer(config);
     }
 
+    /**
+     * @return the pipeline that enhances entire documents, including its per-stage statistics
+     */
+    public synchronized EnhancementPipeline getPipeline() {
+        if ( pipeline == null ) pipeline = new EnhancementPipeline(semanticEnhancer);
+        return pipeline;
+    }
+
+    /**
+     * Stops the threads of the pipeline. A following document enhancement starts a new pipeline.
+     */
+    @Override
+    public synchronized void close() {
+        if ( pipeline == null ) return;
+        pipeline.close();
+        pipeline = null;
+    }
+
     @Override
     public SemanticEnhancedDocument generateAnnotatedDocument(String context) {
         Document document = ContextAnalyzer.getDocument(context);
@@ -80,14 +102,7 @@ public class GenericLatexSemanticEnhancer implements IGenericLatexSemanticEnhanc
     @Override
     public SemanticEnhancedDocument appendTranslationsToDocument(SemanticEnhancedDocument annotatedDocument) throws MinimumRequirementNotFulfilledException {
         annotatedDocument.requires(SemanticEnhancedAnnotationStatus.SEMANTICALLY_ANNOTATED);
-
-        MLPDependencyGraph graph = new MLPDependencyGraph(annotatedDocument.getFormulae());
-        CASTranslators casTranslators = new CASTranslators();
-        for ( MOIPresentations formula : annotatedDocument.getFormulae() ) {
-            appendTranslationToMOI(formula, graph.getNode(formula.getId()), casTranslators);
-        }
-
-        return annotatedDocument;
+        return getPipeline().translate(annotatedDocument);
     }
 
     public MOIPresentations appendTranslationToMoi(SemanticEnhancedDocument context, MOIPresentations moi) {
@@ -100,46 +115,13 @@ public class GenericLatexSemanticEnhancer implements IGenericLatexSemanticEnhanc
 
     public SemanticEnhancedDocument appendCASComputationsIfChanged(SemanticEnhancedDocument sed) {
         if ( sed == null || sed.getFormulae() == null ) return sed;
-
-        MLPDependencyGraph graph = new MLPDependencyGraph(sed.getFormulae());
-        CASTranslators casTranslators = new CASTranslators();
-        int max = sed.getFormulae().size();
-        int counter = 0;
-        for ( MOIPresentations formula : sed.getFormulae() ) {
-            counter++;
-            String oldSemantic = formula.getSemanticLatex();
-            LOG.info("Update translation for " + counter + "/" + max);
-            appendTranslationToMOI(formula, graph.getNode(formula.getId()), casTranslators);
-            String newSemantic = formula.getSemanticLatex();
-
-            if ( oldSemantic == null || !oldSemantic.equals(newSemantic) ) {
-                LOG.info("Append CAS computation for " + counter + "/" + max);
-                try {
-                    semanticEnhancer.appendComputationResults(formula);
-                }
-                catch ( Exception e ) {
-                    LOG.warn("Unable to append computation for " + formula.getSemanticLatex());
-                }
-            }
-        }
-
-        return sed;
+        return getPipeline().translateAndComputeIfChanged(sed);
     }
 
     @Override
     public SemanticEnhancedDocument appendCASComputationsToDocument(SemanticEnhancedDocument semanticDocument) throws MinimumRequirementNotFulfilledException {
         semanticDocument.requires(SemanticEnhancedAnnotationStatus.TRANSLATED);
-
-        List<MOIPresentations> formulae = semanticDocument.getFormulae();
-        for ( MOIPresentations moi : formulae ) {
-            try {
-                semanticEnhancer.appendComputationResults(moi);
-            } catch ( MinimumRequirementNotFulfilledException m ) {
-                // ignore it... because maybe this case could simply not be translated ;)
-            }
-        }
-
-        return semanticDocument;
+        return getPipeline().compute(semanticDocument);
     }
 
     @Override
@@ -17,6 +17,8 @@ import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.support.WriteRequest;
@@ -39,42 +41,105 @@ import org.elasticsearch.search.builder.SearchSourceBuilder;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.LinkedList;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
 
 import static gov.nist.drmf.interpreter.common.constants.GlobalPaths.PATH_ELASTICSEARCH_INDEX_CONFIG;
 
 /**
  * To avoid complications in the first place, the current interface is entirely implemented
  * synchronously!
+ *
+ * The semantic enhancement should use the long-lived shared clients (see {@link #getSharedClient(ElasticSearchConfig)})
+ * rather than creating a new client (and connection pool) for every request. The clients cache the
+ * results of the most recent searches, since the same definitions are searched for many different MOIs.
+ * All clients of the same index share this cache, so re-indexing via any client clears it for all of them.
+ *
  * @author Andre Greiner-Petter
  */
-public class DLMFElasticSearchClient {
+public class DLMFElasticSearchClient implements IMacroDescriptionSearcher {
     private static final Logger LOG = LogManager.getLogger(DLMFElasticSearchClient.class.getName());
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
 
+    private static final int MAX_CONNECTIONS = 32;
+
+    private static final int CACHE_SIZE = 2_048;
+
+    // host:port/index -> shared client
+    private static final Map<String, DLMFElasticSearchClient> SHARED_CLIENTS = new ConcurrentHashMap<>();
+
+    // host:port/index -> the results of the most recent searches (shared by all clients of the same index)
+    private static final Map<String, DescriptionCache> DESCRIPTION_CACHES = new ConcurrentHashMap<>();
+
     private final RestHighLevelClient client;
 
     private final String index;
 
+    private final boolean shared;
+
+    private final DescriptionCache cache;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
     public DLMFElasticSearchClient() {
         this(new ElasticSearchConfig());
     }
 
     public DLMFElasticSearchClient(ElasticSearchConfig config) {
+        this(config, false);
+    }
+
+    private DLMFElasticSearchClient(ElasticSearchConfig config, boolean shared) {
         HttpHost httpHost = new HttpHost(config.getHost(), config.getPort(), "http");
         RestClientBuilder builder = RestClient.builder(httpHost);
-        client = new RestHighLevelClient(builder);
-        index = config.getIndex();
+        builder.setHttpClientConfigCallback( httpBuilder -> {
+            httpBuilder.setMaxConnTotal(MAX_CONNECTIONS).setMaxConnPerRoute(MAX_CONNECTIONS);
+            // shared clients are never stopped, so they must not keep the JVM alive
+            if ( shared ) httpBuilder.setThreadFactory(daemonThreadFactory());
+            return httpBuilder;
+        });
+        this.client = new RestHighLevelClient(builder);
+        this.index = config.getIndex();
+        this.shared = shared;
+        this.cache = DESCRIPTION_CACHES.computeIfAbsent(getKey(config), k -> new DescriptionCache());
+    }
+
+    private static String getKey(ElasticSearchConfig config) {
+        return config.getHost() + ":" + config.getPort() + "/" + config.getIndex();
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        return r -> {
+            Thread t = defaultFactory.newThread(r);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * @param config the config of the elasticsearch cluster
+     * @return the long-lived client for the given cluster and index. The client is shared by all
+     * callers and cannot be stopped.
+     */
+    public static DLMFElasticSearchClient getSharedClient(ElasticSearchConfig config) {
+        return SHARED_CLIENTS.computeIfAbsent(getKey(config), k -> new DLMFElasticSearchClient(config, true));
     }
 
     /**
      * Stops the client.
      * After calling, you must create another client connection if needed.
+     * Shared clients (see {@link #getSharedClient(ElasticSearchConfig)}) ignore this call.
      */
+    @Override
     public void stop() {
+        if ( shared ) return;
         try {
             this.client.close();
         } catch (IOException e) {
@@ -82,9 +147,62 @@ public class DLMFElasticSearchClient {
         }
     }
 
+    @Override
     public LinkedList<MacroResult> searchMacroDescription(String description, int max) throws IOException {
-        SearchRequest searchRequest = buildSearchRequest(description, max);
-        SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+        return searchMacroDescriptions(List.of(description), max).get(0);
+    }
+
+    /**
+     * Searches all given descriptions at once via a single multi-search request. Descriptions that were
+     * searched recently are taken from the cache instead.
+     * @param descriptions the descriptions
+     * @param max the maximum number of hits per description (if not positive, the default of 10 hits is used)
+     * @return the results for each description in the same order as the given descriptions
+     * @throws IOException if the request or any of the searches failed
+     */
+    @Override
+    public List<LinkedList<MacroResult>> searchMacroDescriptions(List<String> descriptions, int max) throws IOException {
+        List<LinkedList<MacroResult>> results = new ArrayList<>(descriptions.size());
+        // the descriptions that are not cached (without duplicates) -> the position in the multi-search request
+        Map<String, Integer> requested = new LinkedHashMap<>();
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+
+        for ( String description : descriptions ) {
+            List<MacroResult> cached = getCached(description, max);
+            if ( cached != null ) {
+                results.add(new LinkedList<>(cached));
+                continue;
+            }
+            results.add(null);
+            if ( !requested.containsKey(description) ) {
+                requested.put(description, requested.size());
+                multiSearchRequest.add(buildSearchRequest(description, max));
+            }
+        }
+
+        if ( requested.isEmpty() ) return results;
+
+        MultiSearchResponse response = client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+        MultiSearchResponse.Item[] items = response.getResponses();
+        List<LinkedList<MacroResult>> searched = new ArrayList<>(items.length);
+        for ( MultiSearchResponse.Item item : items ) {
+            if ( item.isFailure() )
+                throw new IOException("Elasticsearch was unable to search macro descriptions", item.getFailure());
+            searched.add(toMacroResults(item.getResponse()));
+        }
+
+        for ( Map.Entry<String, Integer> req : requested.entrySet() ) {
+            putCached(req.getKey(), max, searched.get(req.getValue()));
+        }
+
+        for ( int i = 0; i < results.size(); i++ ) {
+            if ( results.get(i) == null )
+                results.set(i, new LinkedList<>(searched.get(requested.get(descriptions.get(i)))));
+        }
+        return results;
+    }
+
+    private static LinkedList<MacroResult> toMacroResults(SearchResponse searchResponse) throws IOException {
         LinkedList<MacroResult> results = new LinkedList<>();
         for ( SearchHit hit : searchResponse.getHits() ) {
             MacroBean res = OBJECT_MAPPER.readValue(hit.getSourceAsString(), MacroBean.class);
@@ -93,6 +211,32 @@ public class DLMFElasticSearchClient {
         return results;
     }
 
+    private List<MacroResult> getCached(String description, int max) {
+        List<MacroResult> cached = cache.get(max + ":" + description);
+        if ( cached == null ) cacheMisses.increment();
+        else cacheHits.increment();
+        return cached;
+    }
+
+    private void putCached(String description, int max, List<MacroResult> results) {
+        cache.put(max + ":" + description, Collections.unmodifiableList(new ArrayList<>(results)));
+    }
+
+    /**
+     * Clears the cached search results of all clients of this index.
+     */
+    void clearCache() {
+        cache.clear();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
     private SearchRequest buildSearchRequest(String description, int size) {
         MatchQueryBuilder matchQB = QueryBuilders.matchQuery("meta.description", description);
 
@@ -114,6 +258,7 @@ public class DLMFElasticSearchClient {
      * Resets (or creates if not exist) the index
      */
     public void resetOrCreateIndex() throws IOException {
+        clearCache();
         GetIndexRequest getRequest = new GetIndexRequest(index);
         boolean exists = client.indices().exists(getRequest, RequestOptions.DEFAULT);
 
@@ -151,11 +296,20 @@ public class DLMFElasticSearchClient {
         }
     }
 
-    private void reIndexDLMFDatabase() throws IOException {
+    /**
+     * @return the macros of the DLMF macro definition file mapped by their names
+     * @throws IOException if the definition file cannot be read
+     */
+    static Map<String, MacroBean> loadDLMFMacros() throws IOException {
         MacroDefinitionStyleFileParser macroParser = new MacroDefinitionStyleFileParser();
         String macroDefinitions = Files.readString(GlobalPaths.PATH_SEMANTIC_MACROS_DEFINITIONS);
         macroParser.load(macroDefinitions);
-        Map<String, MacroBean> macros = macroParser.getExtractedMacros();
+        return macroParser.getExtractedMacros();
+    }
+
+    private void reIndexDLMFDatabase() throws IOException {
+        clearCache();
+        Map<String, MacroBean> macros = loadDLMFMacros();
         ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
         String ser = mapper.writeValueAsString(macros);
         Files.writeString(GlobalPaths.PATH_MACROS_REPLACEMENT_PATTERNS, ser);
@@ -252,4 +406,28 @@ public class DLMFElasticSearchClient {
         es.reIndexDLMFDatabase();
         es.stop();
     }
+
+    /**
+     * A synchronized LRU cache of search results.
+     */
+    private static final class DescriptionCache {
+        private final LinkedHashMap<String, List<MacroResult>> results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<MacroResult>> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+        private synchronized List<MacroResult> get(String key) {
+            return results.get(key);
+        }
+
+        private synchronized void put(String key, List<MacroResult> value) {
+            results.put(key, value);
+        }
+
+        private synchronized void clear() {
+            results.clear();
+        }
+    }
 }
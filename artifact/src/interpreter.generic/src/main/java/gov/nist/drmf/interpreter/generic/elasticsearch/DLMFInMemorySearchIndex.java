@@ -0,0 +1,146 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import gov.nist.drmf.interpreter.generic.macro.MacroBean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.analysis.*;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.en.PorterStemFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pattern.PatternReplaceCharFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * An in-memory alternative to {@link DLMFElasticSearchClient}. It indexes the same {@link MacroBean}s and
+ * analyzes and scores the descriptions the same way as the Elasticsearch index
+ * (see <code>config/elasticsearch/index-config.json</code>), i.e., BM25 with k1 = 2 and b = 0.25.
+ * Hence, the scores are the same as the Elasticsearch scores.
+ *
+ * Once generated, the index is read-only and can be searched by multiple threads at the same time.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class DLMFInMemorySearchIndex implements IMacroDescriptionSearcher {
+    private static final Logger LOG = LogManager.getLogger(DLMFInMemorySearchIndex.class.getName());
+
+    private static final String DESCRIPTION_FIELD = "meta.description";
+    private static final String ID_FIELD = "id";
+
+    // the default number of hits of Elasticsearch
+    private static final int DEFAULT_SIZE = 10;
+
+    private static DLMFInMemorySearchIndex standardInstance;
+
+    private final Analyzer analyzer;
+    private final IndexSearcher searcher;
+    private final List<MacroBean> macros;
+
+    /**
+     * Indexes the given macros.
+     * @param macros the macros mapped by their names
+     * @throws IOException if the index cannot be generated
+     */
+    public DLMFInMemorySearchIndex(Map<String, MacroBean> macros) throws IOException {
+        this.analyzer = new DLMFAnalyzer();
+        this.macros = new ArrayList<>(macros.values());
+
+        Similarity similarity = new BM25Similarity(2f, 0.25f);
+        ByteBuffersDirectory directory = new ByteBuffersDirectory();
+        IndexWriterConfig writerConfig = new IndexWriterConfig(analyzer).setSimilarity(similarity);
+        try ( IndexWriter writer = new IndexWriter(directory, writerConfig) ) {
+            for ( int i = 0; i < this.macros.size(); i++ ) {
+                MacroBean macro = this.macros.get(i);
+                // the generic TeX is generated lazily, generate it now so that the macros are read-only afterwards
+                macro.getTex();
+
+                Document doc = new Document();
+                doc.add(new StoredField(ID_FIELD, i));
+                if ( macro.getMetaInformation() != null && macro.getMetaInformation().getDescription() != null )
+                    doc.add(new TextField(DESCRIPTION_FIELD, macro.getMetaInformation().getDescription(), Field.Store.NO));
+                writer.addDocument(doc);
+            }
+        }
+
+        this.searcher = new IndexSearcher(DirectoryReader.open(directory));
+        this.searcher.setSimilarity(similarity);
+        LOG.info("Indexed " + this.macros.size() + " macros in memory.");
+    }
+
+    /**
+     * @return the shared index of the DLMF macros
+     * @throws IOException if the DLMF macros cannot be loaded
+     */
+    public static synchronized DLMFInMemorySearchIndex getStandardInstance() throws IOException {
+        if ( standardInstance == null ) {
+            standardInstance = new DLMFInMemorySearchIndex(DLMFElasticSearchClient.loadDLMFMacros());
+        }
+        return standardInstance;
+    }
+
+    @Override
+    public LinkedList<MacroResult> searchMacroDescription(String description, int max) throws IOException {
+        LinkedList<MacroResult> results = new LinkedList<>();
+        // same as the match query of Elasticsearch, i.e., any of the analyzed terms should match
+        Query query = new QueryBuilder(analyzer).createBooleanQuery(DESCRIPTION_FIELD, description);
+        if ( query == null ) return results;
+
+        TopDocs hits = searcher.search(query, max > 0 ? max : DEFAULT_SIZE);
+        for ( ScoreDoc hit : hits.scoreDocs ) {
+            int id = searcher.doc(hit.doc).getField(ID_FIELD).numericValue().intValue();
+            results.addLast(new MacroResult(hit.score, macros.get(id)));
+        }
+        return results;
+    }
+
+    /**
+     * The index lives in memory and does not hold any connections. Hence, there is nothing to stop.
+     */
+    @Override
+    public void stop() {}
+
+    /**
+     * The <code>dlmf_analyzer</code> of the Elasticsearch index.
+     */
+    private static class DLMFAnalyzer extends Analyzer {
+        private static final Pattern TEX_FILTER_EQ = Pattern.compile("\\$(.*?)\\$");
+        private static final Pattern TEX_FILTER_CHARS = Pattern.compile("(?:\\\\|\\{.*\\})");
+        private static final Pattern TEX_FILTER_MACRO_SPLITTER = Pattern.compile("(?<=\\p{Lower})(?=\\p{Upper})|-");
+
+        @Override
+        protected Reader initReader(String fieldName, Reader reader) {
+            reader = new PatternReplaceCharFilter(TEX_FILTER_EQ, "$1", reader);
+            reader = new PatternReplaceCharFilter(TEX_FILTER_CHARS, "", reader);
+            return new PatternReplaceCharFilter(TEX_FILTER_MACRO_SPLITTER, " ", reader);
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new ASCIIFoldingFilter(stream);
+            stream = new PorterStemFilter(stream);
+            stream = new StopFilter(stream, EnglishAnalyzer.ENGLISH_STOP_WORDS_SET);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    }
+}
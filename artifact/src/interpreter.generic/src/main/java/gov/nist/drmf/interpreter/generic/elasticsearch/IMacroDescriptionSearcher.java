@@ -0,0 +1,52 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import gov.nist.drmf.interpreter.common.config.ElasticSearchConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Searches semantic macros by their textual descriptions.
+ *
+ * @author Andre Greiner-Petter
+ */
+public interface IMacroDescriptionSearcher {
+    /**
+     * @param description the description, e.g., <code>Jacobi polynomial</code>
+     * @param max the maximum number of hits (if not positive, the default of 10 hits is used)
+     * @return the best matching macros sorted by their scores
+     * @throws IOException if the search failed
+     */
+    LinkedList<MacroResult> searchMacroDescription(String description, int max) throws IOException;
+
+    /**
+     * Searches multiple descriptions at once.
+     * @param descriptions the descriptions
+     * @param max the maximum number of hits per description (if not positive, the default of 10 hits is used)
+     * @return the results for each description in the same order as the given descriptions
+     * @throws IOException if the search failed
+     */
+    default List<LinkedList<MacroResult>> searchMacroDescriptions(List<String> descriptions, int max) throws IOException {
+        List<LinkedList<MacroResult>> results = new ArrayList<>(descriptions.size());
+        for ( String description : descriptions ) results.add(searchMacroDescription(description, max));
+        return results;
+    }
+
+    /**
+     * Stops the searcher. After calling, you must get another searcher if needed.
+     */
+    void stop();
+
+    /**
+     * @param config the config
+     * @return either the shared client of the Elasticsearch cluster or the shared in-memory index
+     * (see {@link ElasticSearchConfig#isInMemory()})
+     * @throws IOException if the in-memory index cannot be generated
+     */
+    static IMacroDescriptionSearcher getSearcher(ElasticSearchConfig config) throws IOException {
+        if ( config.isInMemory() ) return DLMFInMemorySearchIndex.getStandardInstance();
+        else return DLMFElasticSearchClient.getSharedClient(config);
+    }
+}
@@ -51,6 +51,21 @@ public class MacroCounter {
         this.atCounter.compute( numberOfAts, (numOfAts, counter) -> counter == null ? 1 : counter+1 );
     }
 
+    /**
+     * Adds all counters of the given counter to this counter. This allows to analyze parts of a corpus
+     * independently and combine the results afterwards.
+     * @param other the counter of the same macro
+     * @throws IllegalArgumentException if the other counter counts a different macro
+     */
+    @JsonIgnore
+    public void merge(MacroCounter other) {
+        if ( !this.macro.equals(other.macro) )
+            throw new IllegalArgumentException("Cannot merge counters of different macros: " + this.macro + " and " + other.macro);
+        this.macroCounter += other.macroCounter;
+        this.optionalArgumentCounter += other.optionalArgumentCounter;
+        other.atCounter.forEach( (numOfAts, counter) -> this.atCounter.merge(numOfAts, counter, Integer::sum) );
+    }
+
     @JsonSetter("macroCounter")
     public void setMacroCounter(int counter) {
         this.macroCounter = counter;
@@ -23,6 +23,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Andre Greiner-Petter
@@ -32,6 +35,8 @@ public class MacroDistributionAnalyzer {
 
     private Map<String, MacroCounter> dist;
 
+    private boolean parallel = true;
+
     private static MacroDistributionAnalyzer instance;
 
     public static MacroDistributionAnalyzer getStandardInstance() {
@@ -52,41 +57,110 @@ public class MacroDistributionAnalyzer {
 
     public void load(Path p) throws IOException {
         LOG.info("Load standard reference for DLMF macro distributions.");
+        dist = read(p);
+        LOG.debug("Successfully initiated standard distributions of DLMF macros.");
+    }
+
+    private static HashMap<String, MacroCounter> read(Path p) throws IOException {
         String serializedData = Files.readString(p);
         ObjectMapper mapper = new ObjectMapper();
         TypeReference<HashMap<String, MacroCounter>> typeRef =
                 new TypeReference<HashMap<String, MacroCounter>>() {
                 };
-        dist = mapper.readValue(serializedData, typeRef);
-        LOG.debug("Successfully initiated standard distributions of DLMF macros.");
+        return mapper.readValue(serializedData, typeRef);
+    }
+
+    /**
+     * Writes the distributions to the given file. The file can be loaded via {@link #load(Path)} or
+     * merged into other distributions via {@link #merge(Path)}.
+     * @param p the output file
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void save(Path p) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String serialized = mapper.writeValueAsString(new TreeMap<>(dist));
+        Files.writeString(p, serialized);
+    }
+
+    /**
+     * Adds previously stored distributions (e.g., the {@link GlobalPaths#PATH_SEMANTIC_MACROS_DISTRIBUTIONS})
+     * to the distributions of this analyzer. In contrast to {@link #load(Path)}, the current distributions
+     * are kept, which allows to add new corpora to an existing distribution file without
+     * analyzing the old corpora again.
+     * @param p the serialized distributions
+     * @throws IOException if the file cannot be read
+     */
+    public void merge(Path p) throws IOException {
+        Map<String, MacroCounter> other = read(p);
+        LOG.info("Merge " + other.size() + " macro distributions from " + p);
+        merge(other.values());
+    }
+
+    /**
+     * Adds the distributions of the given analyzer to this analyzer.
+     * @param other another analyzer
+     */
+    public void merge(MacroDistributionAnalyzer other) {
+        if ( this == other ) return;
+        merge(other.dist.values());
+    }
+
+    private synchronized void merge(Collection<MacroCounter> counters) {
+        for ( MacroCounter counter : counters ) {
+            getMacroCounter(counter.getMacro()).merge(counter);
+        }
     }
 
+    /**
+     * If true (default), the lines of a corpus are analyzed in parallel, see {@link #analyze(Path)}.
+     * @param parallel if the lines should be analyzed in parallel
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Analyzes the given corpus line by line and adds the results to the current distributions.
+     * Lines that contain a warning are skipped, and the URL at the end of a line is ignored.
+     *
+     * In parallel mode, every worker parses its lines with one of the pooled parsers of the
+     * {@link SemanticMLPWrapper} and counts the macros in a private distribution map. The private maps
+     * are merged at the end, so the results are the same as analyzing the corpus sequentially.
+     *
+     * @param path the corpus
+     * @throws IOException if the corpus cannot be read
+     */
     public void analyze(Path path) throws IOException {
         final SemanticMLPWrapper mlpWrapper = SemanticMLPWrapper.getStandardInstance();
 
         LOG.info("Start analyzing lines in database.");
-        int[] lines = new int[]{0};
-
-        Files.lines(path)
-                .sequential()
-                .peek(l -> {
-                    lines[0]++;
-                    LOG.debug("Analyzing line " + lines[0]);
-                })
-                .filter(l -> !l.contains("Warning"))
-                .map(l -> l.split("\\\\url")[0])
-                .map(l -> {
-                    try {
-                        return mlpWrapper.parse(l);
-                    } catch (ParseException e) {
-                        LOG.debug("Unable to parse line: " + l);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .forEach(this::analyze);
-
-        LOG.info("Finished analyzing all macros. Encountered " + this.dist.size() + " macros.");
+        List<String> lines;
+        try ( Stream<String> lineStream = Files.lines(path) ) {
+            lines = lineStream.collect(Collectors.toList());
+        }
+
+        AtomicInteger counter = new AtomicInteger(0);
+        Stream<String> stream = parallel ? lines.parallelStream() : lines.stream();
+        MacroDistributionAnalyzer result = stream
+                .peek(l -> LOG.debug("Analyzing line " + counter.incrementAndGet()))
+                .collect(
+                        parallel ? MacroDistributionAnalyzer::new : () -> this,
+                        (analyzer, line) -> analyzer.analyzeLine(mlpWrapper, line),
+                        MacroDistributionAnalyzer::merge
+                );
+        merge(result);
+
+        LOG.info("Finished analyzing " + lines.size() + " lines. Encountered " + this.dist.size() + " macros.");
+    }
+
+    private void analyzeLine(SemanticMLPWrapper mlpWrapper, String line) {
+        if ( line.contains("Warning") ) return;
+        String math = line.split("\\\\url")[0];
+        try {
+            analyze(mlpWrapper.parse(math));
+        } catch (ParseException e) {
+            LOG.debug("Unable to parse line: " + math);
+        }
     }
 
     public void analyze(PrintablePomTaggedExpression pte) {
@@ -186,15 +260,27 @@ public class MacroDistributionAnalyzer {
         return dist.computeIfAbsent(macro, MacroCounter::new);
     }
 
+    /**
+     * Analyzes the given corpora and writes the distributions to {@link GlobalPaths#PATH_SEMANTIC_MACROS_DISTRIBUTIONS}.
+     * With {@code --update}, the new corpora are added to the existing distributions instead of
+     * replacing them.
+     * @param args {@code [--update] [corpus...]}
+     * @throws IOException if a corpus cannot be read or the results cannot be written
+     */
     public static void main(String[] args) throws IOException {
         MacroDistributionAnalyzer analyzer = new MacroDistributionAnalyzer();
-        Path data = Paths.get("/mnt/share/data/Howard/together.txt");
-        analyzer.analyze(data);
+        Path out = GlobalPaths.PATH_SEMANTIC_MACROS_DISTRIBUTIONS;
+
+        List<Path> corpora = new LinkedList<>();
+        for ( String arg : args ) {
+            if ( "--update".equals(arg) ) analyzer.merge(out);
+            else corpora.add(Paths.get(arg));
+        }
+        if ( corpora.isEmpty() ) corpora.add(Paths.get("/mnt/share/data/Howard/together.txt"));
+
+        for ( Path data : corpora ) analyzer.analyze(data);
 
         LOG.info("Writing results to the output path.");
-        Path out = GlobalPaths.PATH_SEMANTIC_MACROS_DISTRIBUTIONS;
-        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-        String serialized = mapper.writeValueAsString(analyzer.dist);
-        Files.writeString(out, serialized);
+        analyzer.save(out);
     }
 }
@@ -2,7 +2,7 @@ package gov.nist.drmf.interpreter.generic.macro;
 
 import com.formulasearchengine.mathosphere.mlp.pojos.Relation;
 import gov.nist.drmf.interpreter.common.config.GenericLacastConfig;
-import gov.nist.drmf.interpreter.generic.elasticsearch.DLMFElasticSearchClient;
+import gov.nist.drmf.interpreter.generic.elasticsearch.IMacroDescriptionSearcher;
 import gov.nist.drmf.interpreter.generic.elasticsearch.MacroResult;
 import gov.nist.drmf.interpreter.generic.mlp.pojo.MLPLacastScorer;
 import gov.nist.drmf.interpreter.generic.mlp.pojo.MOIAnnotation;
@@ -35,8 +35,6 @@ public class MacroRetriever {
     }
 
     public RetrievedMacros retrieveReplacements(MOINode<MOIAnnotation> node) {
-        DLMFElasticSearchClient client = new DLMFElasticSearchClient(config.getESConfig());
-
         List<MOINode<MOIAnnotation>> dependentNodes = new LinkedList<>();
         dependentNodes.add( node );
 
@@ -45,17 +43,22 @@ public class MacroRetriever {
             config.getSuppressedMacros().forEach(retrievedMacros::addMacro);
 
         try {
-            retrieveReplacements(client, 0, dependentNodes, retrievedMacros);
+            // the searchers are shared, hence we do not stop them here
+            IMacroDescriptionSearcher searcher = IMacroDescriptionSearcher.getSearcher(config.getESConfig());
+            retrieveReplacements(searcher, 0, dependentNodes, retrievedMacros);
         } catch (IOException ioe) {
             LOG.error("Unable to retrieve information from Elasticsearch!", ioe);
         }
 
-        client.stop();
         return retrievedMacros;
     }
 
+    /**
+     * Retrieves the macros for all definiens of the given dependency depth with a single (batched) search
+     * and continues with the next depth.
+     */
     private void retrieveReplacements(
-            DLMFElasticSearchClient esClient,
+            IMacroDescriptionSearcher searcher,
             int depth,
             List<MOINode<MOIAnnotation>> dependencyList,
             RetrievedMacros retrievedMacros
@@ -64,13 +67,16 @@ public class MacroRetriever {
         if ( dependencyList.isEmpty() ||
                 (depth > config.getMaxDepth() && config.getMaxDepth() >= 0) ) return;
 
+        // all definitions of this depth in the order they are handled
+        List<Definition> definitions = new LinkedList<>();
+
         List<String> supports = config.getSupportDescriptions();
         for ( String s : supports ) {
             if ( retrievedMacros.containsDefinition(s) ) continue;
             Relation rel = new Relation();
             rel.setDefinition(s);
             rel.setScore(0.1); // default low score
-            retrieveFromDefinition(esClient, retrievedMacros, rel, depth);
+            addDefinition(retrievedMacros, rel, definitions);
         }
 
         // iterate through the current depth and generate a new depth list of nodes that must be checked
@@ -85,7 +91,8 @@ public class MacroRetriever {
             addDependantNodes(node, retrievedMacros, nextDepthList);
 
             // now, do the shit we are here for
-            List<Relation> definiensList = node.getAnnotation().getAttachedRelations();
+            // sort a copy, the relations of a node are shared by all MOIs that depend on this node
+            List<Relation> definiensList = new ArrayList<>(node.getAnnotation().getAttachedRelations());
             LOG.debug("Retrieve " + definiensList.size() +
                     " definiens for node "+ node.getId() +": " +
                     node.getNode().getOriginalLaTeX());
@@ -93,12 +100,14 @@ public class MacroRetriever {
 
             int max = config.getMaxRelations() > 0 ? config.getMaxRelations() : definiensList.size();
             for ( int i = 0; i < definiensList.size() && i < max; i++ ) {
-                retrieveFromDefinition( esClient, retrievedMacros, definiensList.get(i), depth );
+                addDefinition( retrievedMacros, definiensList.get(i), definitions );
             }
         }
 
+        retrieveFromDefinitions(searcher, retrievedMacros, definitions, depth);
+
         retrieveReplacements(
-                esClient,
+                searcher,
                 depth+1,
                 nextDepthList,
                 retrievedMacros
@@ -124,15 +133,43 @@ public class MacroRetriever {
         return sb.toString();
     }
 
-    private void retrieveFromDefinition(DLMFElasticSearchClient esClient, RetrievedMacros retrievedMacros, Relation definitionRelation, int depth) throws IOException {
-        double definiensScore = definitionRelation.getScore();
-        String definition = definitionRelation.getDefinition();
-        definition = preprocessDefinition(definition);
+    /**
+     * Adds the preprocessed definition to the list of definitions, unless it was already retrieved.
+     */
+    private void addDefinition(RetrievedMacros retrievedMacros, Relation definitionRelation, List<Definition> definitions) {
+        String definition = preprocessDefinition(definitionRelation.getDefinition());
 
         if ( retrievedMacros.containsDefinition(definition) ) return;
         retrievedMacros.addDefinition(definition);
+        definitions.add(new Definition(definition, definitionRelation.getScore()));
+    }
+
+    private void retrieveFromDefinitions(
+            IMacroDescriptionSearcher searcher,
+            RetrievedMacros retrievedMacros,
+            List<Definition> definitions,
+            int depth
+    ) throws IOException {
+        if ( definitions.isEmpty() ) return;
+
+        List<String> descriptions = new ArrayList<>(definitions.size());
+        for ( Definition definition : definitions ) descriptions.add(definition.text);
+        List<LinkedList<MacroResult>> results = searcher.searchMacroDescriptions(descriptions, config.getMaxMacros());
 
-        LinkedList<MacroResult> macros = esClient.searchMacroDescription(definition, config.getMaxMacros());
+        Iterator<LinkedList<MacroResult>> resultIterator = results.iterator();
+        for ( Definition definition : definitions ) {
+            retrieveFromDefinition(retrievedMacros, definition, resultIterator.next(), depth);
+        }
+    }
+
+    private void retrieveFromDefinition(
+            RetrievedMacros retrievedMacros,
+            Definition definitionRelation,
+            LinkedList<MacroResult> macros,
+            int depth
+    ) {
+        double definiensScore = definitionRelation.score;
+        String definition = definitionRelation.text;
         LOG.debug("For definition " + definition + ": retrieved " + macros.size() + " semantic macros " + macros);
 
         double maxMacroScore = macros.isEmpty() ? 0 : macros.get(0).getScore();
@@ -163,4 +200,17 @@ public class MacroRetriever {
             retrievedMacros.addPattern( new SemanticReplacementRule(macro, entry, score) );
         }
     }
+
+    /**
+     * A preprocessed definition and the score of its relation
+     */
+    private static class Definition {
+        private final String text;
+        private final double score;
+
+        Definition(String text, double score) {
+            this.text = text;
+            this.score = score;
+        }
+    }
 }
@@ -0,0 +1,342 @@
+package gov.nist.drmf.interpreter.generic.mlp;
+
+import gov.nist.drmf.interpreter.common.config.CASSupporter;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.MinimumRequirementNotFulfilledException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.generic.interfaces.IPartialEnhancer;
+import gov.nist.drmf.interpreter.generic.mlp.cas.CASTranslatorPool;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.MLPDependencyGraph;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.MOIAnnotation;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.MOIPresentations;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.SemanticEnhancedDocument;
+import gov.nist.drmf.interpreter.pom.moi.MOINode;
+import mlp.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Enhances all formulae of a {@link SemanticEnhancedDocument} in a staged pipeline. Every {@link Stage} runs on
+ * its own bounded executor and every MOI flows through the stages independently of the other MOIs. Hence, while
+ * one MOI waits for its CAS computations, other MOIs are already translated to semantic LaTeX.
+ * </p>
+ *
+ * <p>
+ * The only ordering constraint is the dependency graph. The semantic LaTeX of a MOI is generated from the
+ * annotations of its dependencies in the graph, not from the results of other MOIs. Hence, the graph is built
+ * once per document ({@link Stage#ANNOTATE}) and all following stages only wait for the graph and
+ * the previous stage of the same MOI.
+ * </p>
+ *
+ * <p>
+ * Every CAS translation borrows its own translator from the {@link CASTranslatorPool}. The CAS computations are
+ * limited to a single thread per default since every CAS connection uses a single kernel.
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class EnhancementPipeline implements AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(EnhancementPipeline.class.getName());
+
+    /**
+     * The maximum number of waiting tasks per stage. If the queue of a stage is full, the task runs in the
+     * thread that submits it, which slows down the previous stage. Once the pipeline was closed, tasks are
+     * rejected instead.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    public enum Stage {
+        ANNOTATE, SEMANTIC_LATEX, CAS_TRANSLATION, CAS_COMPUTATION
+    }
+
+    private final IPartialEnhancer enhancer;
+    private final CASTranslatorPool translatorPool;
+    private final List<String> supportedCAS;
+
+    private final EnumMap<Stage, ExecutorService> executors;
+    private final EnumMap<Stage, StageStatistics> statistics;
+
+    // the tasks that are submitted but not finished yet, close() completes them exceptionally
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a pipeline that uses the available processors for the semantic LaTeX and CAS translation stages
+     * and a single thread for the annotation and CAS computation stages.
+     * @param enhancer the enhancer that performs the single steps
+     */
+    public EnhancementPipeline(IPartialEnhancer enhancer) {
+        this(enhancer, CASTranslatorPool.getInstance(), CASSupporter.getSupportedCAS().getAllCAS(), defaultParallelism());
+    }
+
+    /**
+     * @param enhancer the enhancer that performs the single steps
+     * @param translatorPool the pool to borrow CAS translators from
+     * @param supportedCAS the CAS every MOI is translated to
+     * @param parallelism the number of threads for each stage, stages without an entry use a single thread
+     */
+    public EnhancementPipeline(
+            IPartialEnhancer enhancer,
+            CASTranslatorPool translatorPool,
+            Collection<String> supportedCAS,
+            Map<Stage, Integer> parallelism
+    ) {
+        this.enhancer = enhancer;
+        this.translatorPool = translatorPool;
+        this.supportedCAS = new ArrayList<>(supportedCAS);
+        this.executors = new EnumMap<>(Stage.class);
+        this.statistics = new EnumMap<>(Stage.class);
+        for ( Stage stage : Stage.values() ) {
+            int threads = parallelism.getOrDefault(stage, 1);
+            if ( threads < 1 ) throw new IllegalArgumentException("Stage " + stage + " requires at least one thread but got " + threads);
+            this.executors.put(stage, createExecutor(stage, threads));
+            this.statistics.put(stage, new StageStatistics());
+        }
+    }
+
+    public static Map<Stage, Integer> defaultParallelism() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        Map<Stage, Integer> parallelism = new EnumMap<>(Stage.class);
+        parallelism.put(Stage.ANNOTATE, 1);
+        parallelism.put(Stage.SEMANTIC_LATEX, cores);
+        parallelism.put(Stage.CAS_TRANSLATION, cores);
+        parallelism.put(Stage.CAS_COMPUTATION, 1);
+        return parallelism;
+    }
+
+    private static ExecutorService createExecutor(Stage stage, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, "enhancement-" + stage.name().toLowerCase() + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        return new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY),
+                factory,
+                EnhancementPipeline::callerRunsUnlessShutdown
+        );
+    }
+
+    /**
+     * Same as {@link ThreadPoolExecutor.CallerRunsPolicy} but rejects the task once the executor was shut down.
+     * The caller-runs policy silently discards it instead, so its future would never complete.
+     */
+    private static void callerRunsUnlessShutdown(Runnable task, ThreadPoolExecutor executor) {
+        if ( executor.isShutdown() )
+            throw new RejectedExecutionException("The stage " + executor + " was already shut down.");
+        task.run();
+    }
+
+    /**
+     * Appends semantic LaTeX and CAS translations to every formula of the document.
+     * @param sed the document
+     * @return the same document
+     */
+    public SemanticEnhancedDocument translate(SemanticEnhancedDocument sed) {
+        return run(sed, EnumSet.of(Stage.SEMANTIC_LATEX, Stage.CAS_TRANSLATION), false);
+    }
+
+    /**
+     * Appends the CAS computations to every translated formula of the document.
+     * @param sed the document
+     * @return the same document
+     */
+    public SemanticEnhancedDocument compute(SemanticEnhancedDocument sed) {
+        return run(sed, EnumSet.of(Stage.CAS_COMPUTATION), false);
+    }
+
+    /**
+     * Translates every formula of the document again and computes only the formulae
+     * with a changed semantic LaTeX translation.
+     * @param sed the document
+     * @return the same document
+     */
+    public SemanticEnhancedDocument translateAndComputeIfChanged(SemanticEnhancedDocument sed) {
+        return run(sed, EnumSet.of(Stage.SEMANTIC_LATEX, Stage.CAS_TRANSLATION, Stage.CAS_COMPUTATION), true);
+    }
+
+    /**
+     * Runs the given stages on every formula of the document. The method returns after every formula
+     * passed all stages. A failure in a stage of one MOI is logged and does not affect other MOIs.
+     * @param sed the document
+     * @param stages the stages to run, {@link Stage#ANNOTATE} is added automatically if necessary
+     * @return the same document
+     * @throws IllegalStateException if the pipeline was closed before or while the document was enhanced
+     */
+    public SemanticEnhancedDocument run(SemanticEnhancedDocument sed, Set<Stage> stages) {
+        return run(sed, stages, false);
+    }
+
+    private SemanticEnhancedDocument run(SemanticEnhancedDocument sed, Set<Stage> stages, boolean onlyIfChanged) {
+        if ( closed ) throw new IllegalStateException("The enhancement pipeline was already closed.");
+        if ( sed == null || sed.getFormulae() == null || sed.getFormulae().isEmpty() ) return sed;
+        List<MOIPresentations> formulae = sed.getFormulae();
+
+        CompletableFuture<MLPDependencyGraph> graph = stages.contains(Stage.SEMANTIC_LATEX) ?
+                submit(Stage.ANNOTATE, () -> new MLPDependencyGraph(formulae)) :
+                CompletableFuture.completedFuture(null);
+
+        List<CompletableFuture<Void>> moiFutures = new ArrayList<>(formulae.size());
+        for ( MOIPresentations moi : formulae ) {
+            String oldSemanticLatex = moi.getSemanticLatex();
+            CompletableFuture<Void> future = graph.thenAccept( g -> {} );
+
+            if ( stages.contains(Stage.SEMANTIC_LATEX) ) {
+                future = graph.thenCompose( g -> submit(Stage.SEMANTIC_LATEX, () -> {
+                    appendSemanticLatex(moi, g.getNode(moi.getId()));
+                    return null;
+                }));
+            }
+
+            if ( stages.contains(Stage.CAS_TRANSLATION) ) {
+                future = future.thenCompose( v -> submit(Stage.CAS_TRANSLATION, () -> {
+                    appendCASRepresentations(moi);
+                    return null;
+                }));
+            }
+
+            if ( stages.contains(Stage.CAS_COMPUTATION) ) {
+                future = future.thenCompose( v -> {
+                    if ( onlyIfChanged && Objects.equals(oldSemanticLatex, moi.getSemanticLatex()) )
+                        return CompletableFuture.completedFuture(null);
+                    return submit(Stage.CAS_COMPUTATION, () -> {
+                        appendComputationResults(moi);
+                        return null;
+                    });
+                });
+            }
+
+            moiFutures.add(future.exceptionally( t -> {
+                LOG.warn("Unable to enhance MOI " + moi.getId() + ": " + moi.getGenericLatex(), t);
+                return null;
+            }));
+        }
+
+        CompletableFuture.allOf(moiFutures.toArray(new CompletableFuture[0])).join();
+        if ( closed )
+            throw new IllegalStateException("The enhancement pipeline was closed while enhancing document " + sed.getTitle());
+        LOG.info("Finished enhancement pipeline for document " + sed.getTitle() + ": " + this);
+        return sed;
+    }
+
+    private <T> CompletableFuture<T> submit(Stage stage, Supplier<T> task) {
+        StageStatistics stats = statistics.get(stage);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pending.add(future);
+        future.whenComplete( (r, t) -> pending.remove(future) );
+        try {
+            executors.get(stage).execute( () -> {
+                if ( future.isDone() ) return;
+                long start = System.nanoTime();
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    stats.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new IllegalStateException("The enhancement pipeline was already closed.", e));
+        }
+        return future;
+    }
+
+    private void appendSemanticLatex(MOIPresentations moi, MOINode<MOIAnnotation> node) {
+        // node cannot be null unless something serious broke before...
+        try {
+            enhancer.appendSemanticLatex(moi, node);
+        } catch (ParseException e) {
+            LOG.error("Unable to generate semantic latex due to a parsing error for " + moi.getId() + ": " + moi.getGenericLatex(), e);
+        }
+    }
+
+    private void appendCASRepresentations(MOIPresentations moi) {
+        for ( String cas : supportedCAS ) {
+            try ( CASTranslatorPool.Lease lease = translatorPool.borrow(cas) ) {
+                enhancer.appendCASRepresentation(moi, cas, lease.getTranslator());
+            } catch (InitTranslatorException e) {
+                LOG.warn("Unable to setup semantic translator for language " + cas, e);
+            } catch (TranslationException te) {
+                LOG.warn(te.toString());
+            }
+        }
+    }
+
+    private void appendComputationResults(MOIPresentations moi) {
+        try {
+            enhancer.appendComputationResults(moi);
+        } catch ( MinimumRequirementNotFulfilledException m ) {
+            // ignore it... because maybe this case could simply not be translated ;)
+        }
+    }
+
+    /**
+     * @param stage the stage
+     * @return the timing statistics of the stage since the pipeline was created
+     */
+    public StageStatistics getStatistics(Stage stage) {
+        return statistics.get(stage);
+    }
+
+    /**
+     * Stops all stages. Tasks that are already running are finished but their results are discarded,
+     * waiting tasks are discarded. Pending enhancements fail with an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executors.values().forEach(ExecutorService::shutdownNow);
+        IllegalStateException e = new IllegalStateException("The enhancement pipeline was closed.");
+        for ( CompletableFuture<?> future : pending ) future.completeExceptionally(e);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        statistics.forEach( (stage, stats) -> sj.add(stage + ": " + stats) );
+        return sj.toString();
+    }
+
+    /**
+     * The number of tasks and the time spent in a single stage.
+     */
+    public static final class StageStatistics {
+        private final LongAdder tasks = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private StageStatistics() {}
+
+        private void record(long elapsedNanos) {
+            tasks.increment();
+            nanos.add(elapsedNanos);
+        }
+
+        public long getNumberOfTasks() {
+            return tasks.sum();
+        }
+
+        public long getTotalNanos() {
+            return nanos.sum();
+        }
+
+        public double getAverageMillis() {
+            long t = tasks.sum();
+            return t == 0 ? 0 : nanos.sum() / (t * 1_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d tasks, %.2fms avg", getNumberOfTasks(), getAverageMillis());
+        }
+    }
+}
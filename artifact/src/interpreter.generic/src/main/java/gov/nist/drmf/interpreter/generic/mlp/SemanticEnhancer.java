@@ -16,12 +16,12 @@ import gov.nist.drmf.interpreter.common.pojo.CASResult;
 import gov.nist.drmf.interpreter.common.eval.NumericResult;
 import gov.nist.drmf.interpreter.common.pojo.SemanticEnhancedAnnotationStatus;
 import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
-import gov.nist.drmf.interpreter.core.api.DLMFTranslator;
 import gov.nist.drmf.interpreter.pom.generic.GenericConstantReplacer;
 import gov.nist.drmf.interpreter.pom.generic.GenericReplacementTool;
 import gov.nist.drmf.interpreter.generic.interfaces.IPartialEnhancer;
 import gov.nist.drmf.interpreter.generic.macro.*;
 import gov.nist.drmf.interpreter.generic.mlp.cas.CASConnections;
+import gov.nist.drmf.interpreter.generic.mlp.cas.CASTranslatorPool;
 import gov.nist.drmf.interpreter.generic.mlp.pojo.*;
 import gov.nist.drmf.interpreter.pom.common.DefaultNumericTestCase;
 import gov.nist.drmf.interpreter.pom.extensions.*;
@@ -180,18 +180,40 @@ public class SemanticEnhancer implements IPartialEnhancer {
         return null;
     }
 
-    private synchronized NumericResult computeNumericResults(
+    /**
+     * Translates the test cases with a translator of the translator pool (so numeric and symbolic computations
+     * of different MOIs can run concurrently) and performs the tests in the CAS.
+     */
+    private NumericResult computeNumericResults(
             String semanticLatex,
             NativeComputerAlgebraInterfaceBuilder cas
     ) throws ComputerAlgebraSystemEngineException {
-        NumericalConfig config = this.casConnections.getNumericalConfig(cas.getLanguageKey());
-        IConstraintTranslator dlmfTranslator;
-        try {
-            dlmfTranslator = new DLMFTranslator(cas.getLanguageKey());
+        List<NumericalTest> tests;
+        try ( CASTranslatorPool.Lease lease = this.casConnections.getTranslatorPool().borrow(cas.getLanguageKey()) ) {
+            tests = buildNumericTests(semanticLatex, cas, lease.getTranslator());
         } catch (InitTranslatorException e) {
             throw new ComputerAlgebraSystemEngineException(e);
         }
 
+        ICASEngineNumericalEvaluator numericEvaluator = cas.getNumericEvaluator();
+        NumericResult numericResult = new NumericResult();
+        for ( NumericalTest test : tests ) {
+            try {
+                NumericResult partialResult = numericEvaluator.performNumericTest(test);
+                numericResult.addFurtherResults(partialResult);
+            } catch (ComputerAlgebraSystemEngineException e) {
+                LOG.warn("A numeric test failed: " + e.getMessage());
+            }
+        }
+        return numericResult;
+    }
+
+    private List<NumericalTest> buildNumericTests(
+            String semanticLatex,
+            NativeComputerAlgebraInterfaceBuilder cas,
+            IConstraintTranslator dlmfTranslator
+    ) throws ComputerAlgebraSystemEngineException {
+        NumericalConfig config = this.casConnections.getNumericalConfig(cas.getLanguageKey());
         DefaultNumericalTestCaseBuilder testCaseBuilder = new DefaultNumericalTestCaseBuilder(
                 config, cas.getNumericEvaluator(), dlmfTranslator, cas.getEvaluationScriptHandler()
         );
@@ -205,34 +227,22 @@ public class SemanticEnhancer implements IPartialEnhancer {
             List<NumericalTest> caseTests = testCaseBuilder.buildTestCases(ti, defaultNumericTestCase);
             tests.addAll(caseTests);
         }
-
-        ICASEngineNumericalEvaluator numericEvaluator = cas.getNumericEvaluator();
-        NumericResult numericResult = new NumericResult();
-        for ( NumericalTest test : tests ) {
-            try {
-                NumericResult partialResult = numericEvaluator.performNumericTest(test);
-                numericResult.addFurtherResults(partialResult);
-            } catch (ComputerAlgebraSystemEngineException e) {
-                LOG.warn("A numeric test failed: " + e.getMessage());
-            }
-        }
-        return numericResult;
+        return tests;
     }
 
-    private synchronized SymbolicResult computeSymbolicResults(
+    private SymbolicResult computeSymbolicResults(
             String semanticLatex,
             NativeComputerAlgebraInterfaceBuilder cas
     ) {
         SymbolicalConfig config = this.casConnections.getSymbolicalConfig(cas.getLanguageKey());
-        IConstraintTranslator dlmfTranslator;
-        try {
-            dlmfTranslator = new DLMFTranslator(cas.getLanguageKey());
+        ISymbolicTestCases[] testCases = cas.getDefaultSymbolicTestCases();
+        SymbolicalTest symbolicalTest;
+        try ( CASTranslatorPool.Lease lease = this.casConnections.getTranslatorPool().borrow(cas.getLanguageKey()) ) {
+            symbolicalTest = new SymbolicalTest(config, lease.getTranslator(), semanticLatex, testCases);
         } catch (InitTranslatorException e) {
             return new SymbolicResult().markAsCrashed();
         }
-        ISymbolicTestCases[] testCases = cas.getDefaultSymbolicTestCases();
 
-        SymbolicalTest symbolicalTest = new SymbolicalTest(config, dlmfTranslator, semanticLatex, testCases);
         ICASEngineSymbolicEvaluator symbolicEvaluator = cas.getSymbolicEvaluator();
         return symbolicEvaluator.performSymbolicTest(symbolicalTest);
     }
@@ -264,7 +274,7 @@ public class SemanticEnhancer implements IPartialEnhancer {
             LOG.debug("Apply replacement from '"+genericLaTeXPattern+"' to '"+semanticLaTeXPattern+"'.");
 
             MatchablePomTaggedExpression genericPattern =
-                    PomMatcherBuilder.compile(genericLaTeXPattern, MacroHelper.WILDCARD_PATTERNS);
+                    PomMatcherBuilder.compileCached(genericLaTeXPattern, MacroHelper.WILDCARD_PATTERNS);
             PomMatcher matcher = genericPattern.matcher(pte, config);
             pte = matcher.replacePattern(semanticLaTeXPattern);
             LOG.debug("Replacement applied, updated MOI: " + pte.getTexString());
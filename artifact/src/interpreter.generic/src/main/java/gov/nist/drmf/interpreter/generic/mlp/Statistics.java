@@ -3,7 +3,9 @@ package gov.nist.drmf.interpreter.generic.mlp;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.eval.*;
 import gov.nist.drmf.interpreter.common.pojo.CASResult;
@@ -13,6 +15,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -22,9 +25,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
+ * Statistics about the semantic enhanced documents. Instances are not thread-safe. Instead, every thread
+ * should count with its own instance and the instances are merged afterwards (see {@link #merge(Statistics)}).
+ *
  * @author Andre Greiner-Petter
  */
 @SuppressWarnings("unused")
@@ -32,6 +41,9 @@ public class Statistics {
     @JsonIgnore
     private static final Logger LOG = LogManager.getLogger(Statistics.class.getName());
 
+    @JsonIgnore
+    private static final int PROGRESS_INTERVAL = 10_000;
+
     private int numberOfDocs;
 
     private int numberOfFormulae;
@@ -316,6 +328,44 @@ public class Statistics {
         this.mathematicaNumberOfAbortedTests = mathematicaNumberOfAbortedTests;
     }
 
+    /**
+     * Adds all counts of the given statistics to this statistics.
+     * @param other the other statistics
+     */
+    @JsonIgnore
+    public void merge(Statistics other) {
+        numberOfDocs += other.numberOfDocs;
+        numberOfFormulae += other.numberOfFormulae;
+        docsWithoutFormulae += other.docsWithoutFormulae;
+        numberOfExistingSemanticTranslations += other.numberOfExistingSemanticTranslations;
+        numberOfTranslationsWithConfidenceScoreOverZero += other.numberOfTranslationsWithConfidenceScoreOverZero;
+        numberOfSemanticGenericDifferenceTranslations += other.numberOfSemanticGenericDifferenceTranslations;
+        numberOfTranslationsToAtLeastOneCAS += other.numberOfTranslationsToAtLeastOneCAS;
+        numberOfShouldNotBeEvaluatedExpressions += other.numberOfShouldNotBeEvaluatedExpressions;
+        numberOfTranslationsToMaple += other.numberOfTranslationsToMaple;
+        numberOfTranslationsToMathematica += other.numberOfTranslationsToMathematica;
+        mapleNumberOfSkippedTests += other.mapleNumberOfSkippedTests;
+        mapleNumberOfAbortedTests += other.mapleNumberOfAbortedTests;
+        mapleNumberOfStartedSymbolicTests += other.mapleNumberOfStartedSymbolicTests;
+        mapleNumberOfStartedNumericTests += other.mapleNumberOfStartedNumericTests;
+        mapleNumberOfSuccessfulSymbolicTests += other.mapleNumberOfSuccessfulSymbolicTests;
+        mapleNumberOfSuccessfulNumericTests += other.mapleNumberOfSuccessfulNumericTests;
+        mapleNumberOfFailedSymbolicTests += other.mapleNumberOfFailedSymbolicTests;
+        mapleNumberOfFailedNumericTests += other.mapleNumberOfFailedNumericTests;
+        mapleNumberOfErrorSymbolicTests += other.mapleNumberOfErrorSymbolicTests;
+        mapleNumberOfErrorNumericTests += other.mapleNumberOfErrorNumericTests;
+        mathematicaNumberOfSkippedTests += other.mathematicaNumberOfSkippedTests;
+        mathematicaNumberOfAbortedTests += other.mathematicaNumberOfAbortedTests;
+        mathematicaNumberOfStartedSymbolicTests += other.mathematicaNumberOfStartedSymbolicTests;
+        mathematicaNumberOfStartedNumericTests += other.mathematicaNumberOfStartedNumericTests;
+        mathematicaNumberOfSuccessfulSymbolicTests += other.mathematicaNumberOfSuccessfulSymbolicTests;
+        mathematicaNumberOfSuccessfulNumericTests += other.mathematicaNumberOfSuccessfulNumericTests;
+        mathematicaNumberOfFailedSymbolicTests += other.mathematicaNumberOfFailedSymbolicTests;
+        mathematicaNumberOfFailedNumericTests += other.mathematicaNumberOfFailedNumericTests;
+        mathematicaNumberOfErrorSymbolicTests += other.mathematicaNumberOfErrorSymbolicTests;
+        mathematicaNumberOfErrorNumericTests += other.mathematicaNumberOfErrorNumericTests;
+    }
+
     @JsonIgnore
     public void addDocument(SemanticEnhancedDocument sed) {
         if ( sed == null ) return;
@@ -472,13 +522,76 @@ public class Statistics {
         return stats;
     }
 
+    /**
+     * Analyzes all documents in the given file or directory. The documents are streamed, i.e., only the
+     * currently analyzed documents are held in memory, and the files are analyzed in parallel. In case of a
+     * directory, files that cannot be read are skipped.
+     * @param path a file or a directory of files with semantic enhanced documents (see
+     *             {@link SemanticEnhancedDocument#iterate(Path)})
+     * @return the statistics of all documents
+     * @throws IOException if the file or directory cannot be read
+     */
     @JsonIgnore
     public static Statistics analyze(Path path) throws IOException {
-        LOG.info("Loading semantic enhanced documents ...");
+        boolean isDirectory = Files.isDirectory(path);
+        List<Path> files;
+        if ( isDirectory ) {
+            try ( Stream<Path> fileStream = Files.list(path) ) {
+                files = fileStream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+        } else files = List.of(path);
+
+        LOG.info("Start analyzing documents of " + files.size() + " files");
         Instant start = Instant.now();
-        List<SemanticEnhancedDocument> docs = SemanticEnhancedDocument.deserialize(path);
-        LOG.info("Finished document loading [" + Duration.between(start, Instant.now()).toString() + "]");
-        return analyze(docs);
+        Progress progress = new Progress(files.size());
+        Statistics stats;
+        try {
+            stats = files.parallelStream().collect(
+                    Statistics::new,
+                    (s, file) -> s.addFile(file, progress, isDirectory),
+                    Statistics::merge
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        LOG.info("Finished analyzing " + progress.documents.get() + " documents [" +
+                Duration.between(start, Instant.now()).toString() + "]");
+        return stats;
+    }
+
+    @JsonIgnore
+    private void addFile(Path file, Progress progress, boolean skipUnreadable) {
+        try ( MappingIterator<SemanticEnhancedDocument> docs = SemanticEnhancedDocument.iterate(file) ) {
+            while ( docs.hasNextValue() ) {
+                addDocument(docs.nextValue());
+                progress.documentFinished();
+            }
+        } catch (IOException | RuntimeJsonMappingException e) {
+            IOException ioe = e instanceof IOException ? (IOException) e : new IOException(e);
+            if ( !skipUnreadable ) throw new UncheckedIOException(ioe);
+            LOG.warn("Skip unreadable documents of file " + file + ": " + e.getMessage());
+        }
+        progress.fileFinished();
+    }
+
+    private static class Progress {
+        private final int numberOfFiles;
+        private final AtomicLong documents = new AtomicLong();
+        private final AtomicInteger files = new AtomicInteger();
+
+        Progress(int numberOfFiles) {
+            this.numberOfFiles = numberOfFiles;
+        }
+
+        void documentFinished() {
+            long docs = documents.incrementAndGet();
+            if ( docs % PROGRESS_INTERVAL == 0 )
+                LOG.info("Analyzed " + docs + " documents (" + files.get() + "/" + numberOfFiles + " files finished)");
+        }
+
+        void fileFinished() {
+            files.incrementAndGet();
+        }
     }
 
     @JsonIgnore
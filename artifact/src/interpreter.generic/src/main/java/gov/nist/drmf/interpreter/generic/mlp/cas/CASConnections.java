@@ -29,7 +29,14 @@ public final class CASConnections {
     private final Map<String, NumericalConfig> numericalConfigMap;
     private final Map<String, SymbolicalConfig> symbolicalConfigMap;
 
+    private final CASTranslatorPool translatorPool;
+
     public CASConnections(GenericLacastConfig config) {
+        this(config, CASTranslatorPool.getInstance());
+    }
+
+    public CASConnections(GenericLacastConfig config, CASTranslatorPool translatorPool) {
+        this.translatorPool = translatorPool;
         connectionsMap = new HashMap<>();
         numericalConfigMap = new HashMap<>();
         symbolicalConfigMap = new HashMap<>();
@@ -55,7 +62,7 @@ public final class CASConnections {
     private synchronized void tryAddCAS(NativeComputerAlgebraInterfaceBuilder cas) {
         try {
             if ( !cas.isCASAvailable() ) return;
-            DLMFTranslator translator = new DLMFTranslator(cas.getLanguageKey());
+            DLMFTranslator translator = translatorPool.createTranslator(cas.getLanguageKey());
 
             connectionsMap.put(cas.getLanguageKey(), cas);
 
@@ -84,6 +91,13 @@ public final class CASConnections {
         return this.connectionsMap.get(cas);
     }
 
+    /**
+     * @return the pool of forward translators for the connected CAS
+     */
+    public CASTranslatorPool getTranslatorPool() {
+        return translatorPool;
+    }
+
     public NumericalConfig getNumericalConfig(String cas) {
         return this.numericalConfigMap.get(cas);
     }
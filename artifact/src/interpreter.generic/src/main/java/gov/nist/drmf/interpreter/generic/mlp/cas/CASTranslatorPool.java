@@ -0,0 +1,140 @@
+package gov.nist.drmf.interpreter.generic.mlp.cas;
+
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.core.api.DLMFTranslator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A process-wide registry of forward translators for every CAS. Setting up a {@link DLMFTranslator} is expensive
+ * (config, translation tables, blueprints). Hence, this pool initializes only one prototype per CAS. Every other
+ * translator is a light-weight copy of this prototype (see {@link DLMFTranslator#createIndependentCopy()}).
+ * </p>
+ *
+ * <p>
+ * A translator is not thread-safe. Use {@link #borrow(String)} to get a translator exclusively for the current
+ * computation and return it to the pool by closing the lease:
+ * </p>
+ * <pre>
+ *     try ( CASTranslatorPool.Lease lease = pool.borrow(Keys.KEY_MAPLE) ) {
+ *         lease.getTranslator().translateToObject(...);
+ *     }
+ * </pre>
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class CASTranslatorPool {
+    private static final Logger LOG = LogManager.getLogger(CASTranslatorPool.class.getName());
+
+    private static CASTranslatorPool instance;
+
+    private final Map<String, DLMFTranslator> prototypes;
+    private final Map<String, ConcurrentLinkedQueue<DLMFTranslator>> idleTranslators;
+
+    private final LongAdder createdCopies = new LongAdder();
+    private final LongAdder reusedTranslators = new LongAdder();
+
+    public CASTranslatorPool() {
+        this.prototypes = new HashMap<>();
+        this.idleTranslators = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the pool shared by the entire process
+     */
+    public static synchronized CASTranslatorPool getInstance() {
+        if ( instance == null ) instance = new CASTranslatorPool();
+        return instance;
+    }
+
+    private synchronized DLMFTranslator getPrototype(String cas) throws InitTranslatorException {
+        DLMFTranslator prototype = prototypes.get(cas);
+        if ( prototype == null ) {
+            LOG.debug("Initialize prototype translator for " + cas);
+            prototype = new DLMFTranslator(cas);
+            prototypes.put(cas, prototype);
+        }
+        return prototype;
+    }
+
+    /**
+     * Creates a new translator for the given CAS that is not managed by the pool. Only the very first
+     * translator per CAS is expensive, every following translator shares its translation tables.
+     * @param cas the target CAS
+     * @return a new translator
+     * @throws InitTranslatorException if the translator for this CAS cannot be initialized
+     */
+    public DLMFTranslator createTranslator(String cas) throws InitTranslatorException {
+        DLMFTranslator copy = getPrototype(cas).createIndependentCopy();
+        createdCopies.increment();
+        return copy;
+    }
+
+    /**
+     * Borrows a translator for the given CAS. The translator must not be used after the lease was closed.
+     * @param cas the target CAS
+     * @return the lease of the translator
+     * @throws InitTranslatorException if the translator for this CAS cannot be initialized
+     */
+    public Lease borrow(String cas) throws InitTranslatorException {
+        DLMFTranslator translator = idleTranslators
+                .computeIfAbsent(cas, k -> new ConcurrentLinkedQueue<>())
+                .poll();
+        if ( translator == null ) translator = createTranslator(cas);
+        else reusedTranslators.increment();
+        return new Lease(cas, translator);
+    }
+
+    private void giveBack(String cas, DLMFTranslator translator) {
+        idleTranslators.get(cas).add(translator);
+    }
+
+    /**
+     * @return the number of translators that were created (the prototypes are not included)
+     */
+    public long getNumberOfCreatedTranslators() {
+        return createdCopies.sum();
+    }
+
+    /**
+     * @return the number of times a translator was borrowed that was already used before
+     */
+    public long getNumberOfReusedTranslators() {
+        return reusedTranslators.sum();
+    }
+
+    /**
+     * A translator that is exclusively used until the lease is closed.
+     */
+    public final class Lease implements AutoCloseable {
+        private final String cas;
+        private DLMFTranslator translator;
+
+        private Lease(String cas, DLMFTranslator translator) {
+            this.cas = cas;
+            this.translator = translator;
+        }
+
+        public DLMFTranslator getTranslator() {
+            if ( translator == null ) throw new IllegalStateException("The lease of the translator was already closed.");
+            return translator;
+        }
+
+        /**
+         * Returns the translator to the pool.
+         */
+        @Override
+        public void close() {
+            if ( translator == null ) return;
+            giveBack(cas, translator);
+            translator = null;
+        }
+    }
+}
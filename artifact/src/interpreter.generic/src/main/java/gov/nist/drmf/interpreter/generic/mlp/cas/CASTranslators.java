@@ -18,12 +18,21 @@ public class CASTranslators {
 
     private final Map<String, DLMFTranslator> translatorMap;
 
+    /**
+     * Creates a translator for every supported CAS. The translators are light-weight copies of the
+     * translators in {@link CASTranslatorPool#getInstance()}, i.e., the expensive initialization only
+     * happens once per process.
+     */
     public CASTranslators() {
+        this(CASTranslatorPool.getInstance());
+    }
+
+    public CASTranslators(CASTranslatorPool pool) {
         CASSupporter supporter = CASSupporter.getSupportedCAS();
         this.translatorMap = new HashMap<>();
         for ( String cas : supporter.getAllCAS() ) {
             try {
-                DLMFTranslator slt = new DLMFTranslator(cas);
+                DLMFTranslator slt = pool.createTranslator(cas);
                 translatorMap.put(cas, slt);
             } catch (InitTranslatorException e) {
                 LOG.warn("Unable to setup semantic translator for language " + cas, e);
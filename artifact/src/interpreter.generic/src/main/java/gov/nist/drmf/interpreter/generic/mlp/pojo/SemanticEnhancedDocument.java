@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -121,6 +122,19 @@ public class SemanticEnhancedDocument implements SemanticallyRanked {
         }
     }
 
+    /**
+     * Reads the documents of the given file one after another. The file may contain a single document,
+     * multiple concatenated documents, or a JSON array of documents. In contrast to {@link #deserialize(Path)},
+     * only the current document is held in memory. The iterator must be closed.
+     * @param file the file
+     * @return an iterator over the documents of the file
+     * @throws IOException if the file cannot be opened
+     */
+    @JsonIgnore
+    public static MappingIterator<SemanticEnhancedDocument> iterate(Path file) throws IOException {
+        return getMapper().readerFor(SemanticEnhancedDocument.class).readValues(file.toFile());
+    }
+
     @JsonIgnore
     public String serialize() throws JsonProcessingException {
         return writerInstance.writeValueAsString(this);
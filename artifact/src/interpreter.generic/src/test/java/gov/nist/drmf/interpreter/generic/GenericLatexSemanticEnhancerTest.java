@@ -23,11 +23,13 @@ import static org.junit.jupiter.api.Assertions.*;
 public class GenericLatexSemanticEnhancerTest {
     @Resource("mlp/simpleWikitest.xml")
     void simpleWikitextTest(String text) {
-        GenericLatexSemanticEnhancer enhancer = new GenericLatexSemanticEnhancer();
-        SemanticEnhancedDocument semanticDocument = enhancer.generateAnnotatedDocument(text);
-        assertEquals(SemanticEnhancedAnnotationStatus.SEMANTICALLY_ANNOTATED, semanticDocument.getRank());
-        enhancer.appendTranslationsToDocument(semanticDocument);
-        assertEquals(SemanticEnhancedAnnotationStatus.TRANSLATED, semanticDocument.getRank());
+        SemanticEnhancedDocument semanticDocument;
+        try ( GenericLatexSemanticEnhancer enhancer = new GenericLatexSemanticEnhancer() ) {
+            semanticDocument = enhancer.generateAnnotatedDocument(text);
+            assertEquals(SemanticEnhancedAnnotationStatus.SEMANTICALLY_ANNOTATED, semanticDocument.getRank());
+            enhancer.appendTranslationsToDocument(semanticDocument);
+            assertEquals(SemanticEnhancedAnnotationStatus.TRANSLATED, semanticDocument.getRank());
+        }
 
         List<MOIPresentations> moiPresentationsList = semanticDocument.getFormulae();
 
@@ -90,8 +92,9 @@ public class GenericLatexSemanticEnhancerTest {
     @Resource({"mlp/JacobiSemanticAnnotatedDoc.json", "mlp/JacobiTranslatedDoc.json"})
     void addTranslationsTest(String annotatedDoc, String translatedDoc) throws JsonProcessingException {
         SemanticEnhancedDocument sed = SemanticEnhancedDocument.deserialize(annotatedDoc);
-        GenericLatexSemanticEnhancer enhancer = new GenericLatexSemanticEnhancer();
-        enhancer.appendTranslationsToDocument(sed);
+        try ( GenericLatexSemanticEnhancer enhancer = new GenericLatexSemanticEnhancer() ) {
+            enhancer.appendTranslationsToDocument(sed);
+        }
         assertEquals( translatedDoc, sed.serialize(), "Translation does not match mlp/JacobiTranslatedDoc.json" );
     }
 }
@@ -0,0 +1,126 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import gov.nist.drmf.interpreter.common.tests.ResourceProvider;
+import gov.nist.drmf.interpreter.generic.macro.MacroDefinitionTests;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the batched access to Elasticsearch against a local stand-in of the <code>_msearch</code> endpoint.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class DLMFElasticSearchClientTests {
+    private ElasticsearchStandIn standIn;
+    private DLMFElasticSearchClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        standIn = new ElasticsearchStandIn(ResourceProvider.load(MacroDefinitionTests.class, "ExampleFunDefSerialized.json"));
+        client = new DLMFElasticSearchClient(standIn.getConfig());
+        // the cache is shared per index, a previous stand-in may have used the same port
+        client.clearCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.stop();
+        standIn.close();
+    }
+
+    private static List<String> names(List<MacroResult> results) {
+        return results.stream().map( r -> r.getMacro().getName() ).collect(Collectors.toList());
+    }
+
+    @Test
+    void batchSearchTest() throws IOException {
+        List<LinkedList<MacroResult>> results = client.searchMacroDescriptions(
+                List.of("Jacobi polynomial", "Levi Civita symbol", "Jacobi polynomial"), 3
+        );
+        // one request and duplicates are only searched once
+        assertEquals( 1, standIn.getNumberOfRequests() );
+        assertEquals( List.of("Jacobi polynomial", "Levi Civita symbol"), standIn.getSearchedDescriptions() );
+
+        assertEquals( 3, results.size() );
+        assertEquals( "JacobipolyP", results.get(0).get(0).getMacro().getName() );
+        assertEquals( 2.0, results.get(0).get(0).getScore() );
+        assertTrue( results.get(0).size() <= 3 );
+        assertEquals( "LeviCivitasym", results.get(1).get(0).getMacro().getName() );
+        assertEquals( names(results.get(0)), names(results.get(2)) );
+    }
+
+    @Test
+    void cacheTest() throws IOException {
+        List<MacroResult> first = client.searchMacroDescription("Jacobi polynomial", 3);
+        assertEquals( 1, standIn.getNumberOfRequests() );
+
+        List<LinkedList<MacroResult>> results = client.searchMacroDescriptions(
+                List.of("Jacobi polynomial", "Pochhammer symbol"), 3
+        );
+        // only the new description was requested
+        assertEquals( 2, standIn.getNumberOfRequests() );
+        assertEquals( List.of("Jacobi polynomial", "Pochhammer symbol"), standIn.getSearchedDescriptions() );
+        assertEquals( names(first), names(results.get(0)) );
+        assertEquals( "Pochhammersym", results.get(1).get(0).getMacro().getName() );
+        assertEquals( 1, client.getCacheHits() );
+
+        // a different number of hits is a different search
+        client.searchMacroDescription("Jacobi polynomial", 1);
+        assertEquals( 3, standIn.getNumberOfRequests() );
+
+        // the cached results cannot be changed by the callers
+        first.clear();
+        assertFalse( client.searchMacroDescription("Jacobi polynomial", 3).isEmpty() );
+        assertEquals( 3, standIn.getNumberOfRequests() );
+    }
+
+    @Test
+    void sharedCacheTest() throws IOException {
+        DLMFElasticSearchClient other = new DLMFElasticSearchClient(standIn.getConfig());
+        try {
+            client.searchMacroDescription("Jacobi polynomial", 3);
+            other.searchMacroDescription("Jacobi polynomial", 3);
+            assertEquals( 1, standIn.getNumberOfRequests() );
+            assertEquals( 1, other.getCacheHits() );
+
+            // clearing the cache (e.g., by re-indexing) via one client clears it for all clients of the index
+            other.clearCache();
+            client.searchMacroDescription("Jacobi polynomial", 3);
+            assertEquals( 2, standIn.getNumberOfRequests() );
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    void emptyBatchTest() throws IOException {
+        assertTrue( client.searchMacroDescriptions(List.of(), 3).isEmpty() );
+        assertEquals( 0, standIn.getNumberOfRequests() );
+    }
+
+    @Test
+    void failureTest() {
+        assertThrows( IOException.class, () -> client.searchMacroDescriptions(
+                List.of("Jacobi polynomial", ElasticsearchStandIn.FAILURE_DESCRIPTION), 3
+        ));
+    }
+
+    @Test
+    void sharedClientTest() throws IOException {
+        DLMFElasticSearchClient shared = DLMFElasticSearchClient.getSharedClient(standIn.getConfig());
+        assertSame( shared, DLMFElasticSearchClient.getSharedClient(standIn.getConfig()) );
+        assertNotSame( shared, client );
+
+        // shared clients cannot be stopped
+        shared.stop();
+        assertEquals( "LeviCivitasym", shared.searchMacroDescription("Levi Civita symbol", 1).get(0).getMacro().getName() );
+    }
+}
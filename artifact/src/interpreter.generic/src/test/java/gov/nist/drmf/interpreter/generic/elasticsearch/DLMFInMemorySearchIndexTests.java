@@ -0,0 +1,112 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import gov.nist.drmf.interpreter.common.config.ElasticSearchConfig;
+import gov.nist.drmf.interpreter.common.tests.ResourceProvider;
+import gov.nist.drmf.interpreter.generic.macro.MacroBean;
+import gov.nist.drmf.interpreter.generic.macro.MacroDefinitionStyleFileParser;
+import gov.nist.drmf.interpreter.generic.macro.MacroDefinitionTests;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class DLMFInMemorySearchIndexTests {
+    private static DLMFInMemorySearchIndex index;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        String in = ResourceProvider.load(MacroDefinitionTests.class, "ExampleFuncDef.sty");
+        MacroDefinitionStyleFileParser parser = new MacroDefinitionStyleFileParser();
+        parser.load(in);
+        index = new DLMFInMemorySearchIndex(parser.getExtractedMacros());
+    }
+
+    private static List<String> names(List<MacroResult> results) {
+        return results.stream().map( r -> r.getMacro().getName() ).collect(Collectors.toList());
+    }
+
+    @Test
+    void searchLeviCivitaTest() throws IOException {
+        List<MacroResult> results = index.searchMacroDescription("Levi Civita Symbol", 5);
+        assertTrue( results.size() > 1 );
+        assertTrue( results.size() <= 5 );
+        assertEquals( "LeviCivitasym", results.get(0).getMacro().getName() );
+        for ( int i = 1; i < results.size(); i++ )
+            assertTrue( results.get(i-1).getScore() >= results.get(i).getScore() );
+    }
+
+    @Test
+    void searchJacobiPolynomialTest() throws IOException {
+        List<MacroResult> results = index.searchMacroDescription("Jacobi polynomials", 3);
+        assertEquals( "JacobipolyP", results.get(0).getMacro().getName() );
+        // the stemmer maps polynomials to polynomial
+        assertTrue( names(results).contains("ChebyshevpolyT") );
+    }
+
+    @Test
+    void searchTeXDescriptionTest() throws IOException {
+        List<MacroResult> results = index.searchMacroDescription("$q$-Laguerre", 1);
+        assertEquals( List.of("qLaguerrepolyL"), names(results) );
+    }
+
+    @Test
+    void noMatchTest() throws IOException {
+        // stop words only
+        assertTrue( index.searchMacroDescription("the of", 5).isEmpty() );
+        assertTrue( index.searchMacroDescription("", 5).isEmpty() );
+        assertTrue( index.searchMacroDescription("xyzzy", 5).isEmpty() );
+    }
+
+    @Test
+    void defaultSizeTest() throws IOException {
+        assertEquals( 10, index.searchMacroDescription("the function symbol polynomial set Wigner", 0).size() );
+    }
+
+    @Test
+    void concurrentSearchTest() throws IOException {
+        String[] queries = {"Levi Civita Symbol", "Jacobi polynomial", "hypergeometric function", "Wigner symbol"};
+        List<String> expected = IntStream.range(0, 200)
+                .mapToObj( i -> search(queries[i % queries.length]) )
+                .collect(Collectors.toList());
+        List<String> actual = IntStream.range(0, 200).parallel()
+                .mapToObj( i -> search(queries[i % queries.length]) )
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    private static String search(String query) {
+        try {
+            return index.searchMacroDescription(query, 5).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    @AssumeElasticsearchAvailability
+    void sameScoresAsElasticsearchTest() throws IOException {
+        DLMFElasticSearchClient es = new DLMFElasticSearchClient(new ElasticSearchConfig());
+        DLMFInMemorySearchIndex memory = DLMFInMemorySearchIndex.getStandardInstance();
+        try {
+            for ( String query : List.of("Levi Civita Symbol", "Jacobi polynomial", "Euler gamma function") ) {
+                List<MacroResult> expected = es.searchMacroDescription(query, 5);
+                List<MacroResult> actual = memory.searchMacroDescription(query, 5);
+                assertEquals( names(expected), names(actual), query );
+                for ( int i = 0; i < expected.size(); i++ )
+                    assertEquals( expected.get(i).getScore(), actual.get(i).getScore(), 1e-4, query );
+            }
+        } finally {
+            es.stop();
+        }
+    }
+}
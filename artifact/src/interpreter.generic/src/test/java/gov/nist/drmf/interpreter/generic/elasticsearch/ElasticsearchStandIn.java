@@ -0,0 +1,143 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import gov.nist.drmf.interpreter.common.config.ElasticSearchConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal local HTTP server that mimics the <code>_msearch</code> endpoint of Elasticsearch for the macro index.
+ * A macro matches a query if its description contains any of the words of the query. The score is the number of
+ * matching words. The description <code>fail</code> triggers a failure of this single search.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class ElasticsearchStandIn implements AutoCloseable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static final String FAILURE_DESCRIPTION = "fail";
+
+    private final HttpServer server;
+
+    // macro name -> macro source
+    private final Map<String, JsonNode> macros;
+
+    private final AtomicInteger numberOfRequests = new AtomicInteger();
+    private final List<String> searchedDescriptions = Collections.synchronizedList(new LinkedList<>());
+
+    /**
+     * @param macrosJson the macros serialized as JSON object (name -> macro)
+     * @throws IOException if the JSON is invalid or the server cannot be started
+     */
+    public ElasticsearchStandIn(String macrosJson) throws IOException {
+        this.macros = new TreeMap<>();
+        MAPPER.readTree(macrosJson).fields().forEachRemaining( e -> macros.put(e.getKey(), e.getValue()) );
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/_msearch", this::handleMultiSearch);
+        this.server.start();
+    }
+
+    public ElasticSearchConfig getConfig() {
+        return new ElasticSearchConfig("localhost", server.getAddress().getPort(), "dlmf-macros");
+    }
+
+    public int getNumberOfRequests() {
+        return numberOfRequests.get();
+    }
+
+    public List<String> getSearchedDescriptions() {
+        return new ArrayList<>(searchedDescriptions);
+    }
+
+    private void handleMultiSearch(HttpExchange exchange) throws IOException {
+        numberOfRequests.incrementAndGet();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+
+        ObjectNode response = MAPPER.createObjectNode();
+        response.put("took", 1);
+        ArrayNode responses = response.putArray("responses");
+        // every search consists of a header line and a body line
+        for ( int i = 1; i < lines.length; i += 2 ) {
+            JsonNode search = MAPPER.readTree(lines[i]);
+            String description = search.path("query").path("nested").path("query")
+                    .path("match").path("meta.description").path("query").asText();
+            int size = search.path("size").asInt(10);
+            searchedDescriptions.add(description);
+            if ( FAILURE_DESCRIPTION.equals(description) ) responses.add(failure());
+            else responses.add(search(description, size));
+        }
+
+        byte[] bytes = MAPPER.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try ( OutputStream out = exchange.getResponseBody() ) {
+            out.write(bytes);
+        }
+    }
+
+    private ObjectNode search(String description, int size) {
+        Set<String> words = words(description);
+        List<Map.Entry<String, Integer>> scores = new ArrayList<>();
+        for ( Map.Entry<String, JsonNode> macro : macros.entrySet() ) {
+            Set<String> descWords = words(macro.getValue().path("meta").path("description").asText());
+            descWords.retainAll(words);
+            if ( !descWords.isEmpty() ) scores.add(Map.entry(macro.getKey(), descWords.size()));
+        }
+        scores.sort( (a, b) -> b.getValue() - a.getValue() );
+
+        ObjectNode result = MAPPER.createObjectNode();
+        result.put("took", 1);
+        result.put("timed_out", false);
+        ObjectNode shards = result.putObject("_shards");
+        shards.put("total", 1).put("successful", 1).put("skipped", 0).put("failed", 0);
+        ObjectNode hits = result.putObject("hits");
+        hits.putObject("total").put("value", scores.size()).put("relation", "eq");
+        hits.put("max_score", scores.isEmpty() ? 0 : scores.get(0).getValue());
+        ArrayNode hitArray = hits.putArray("hits");
+        for ( int i = 0; i < scores.size() && i < size; i++ ) {
+            ObjectNode hit = hitArray.addObject();
+            hit.put("_index", "dlmf-macros");
+            hit.put("_type", "_doc");
+            hit.put("_id", scores.get(i).getKey());
+            hit.put("_score", scores.get(i).getValue());
+            hit.set("_source", macros.get(scores.get(i).getKey()));
+        }
+        result.put("status", 200);
+        return result;
+    }
+
+    private static ObjectNode failure() {
+        ObjectNode result = MAPPER.createObjectNode();
+        ObjectNode error = result.putObject("error");
+        error.put("type", "search_phase_execution_exception");
+        error.put("reason", "all shards failed");
+        result.put("status", 400);
+        return result;
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for ( String w : text.toLowerCase().split("[^a-z0-9]+") ) {
+            if ( w.length() > 3 ) words.add(w);
+        }
+        return words;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
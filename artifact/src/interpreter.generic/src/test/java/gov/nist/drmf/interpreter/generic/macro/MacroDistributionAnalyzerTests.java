@@ -6,11 +6,14 @@ import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
 import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
 import mlp.ParseException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Andre Greiner-Petter
@@ -99,4 +102,81 @@ public class MacroDistributionAnalyzerTests {
         assertEquals(0, counter.getScore(false, 0));
         assertEquals(1, counter.getScore(false, 1));
     }
+
+    private static final List<String> CORPUS = List.of(
+            "\\FerrersP[m]{n+2k}@{x} = \\FerrersP{n}@{x} \\url{http://dlmf.nist.gov/14.1.E1}",
+            "\\FerrersP[m]{n+2k}^2@{x} + \\FerrersP{n+2k^2}@@{x}",
+            "\\JacobipolyP{\\alpha}{\\beta}{n}@{x} + \\deriv[n]{w}{z}",
+            "Warning: \\JacobipolyP{\\alpha}{\\beta}{n}@{x}",
+            "\\deriv[]{}{z} + \\EulerGamma@{z} + \\EulerGamma@@{z+1}",
+            "\\sin@@{x} + \\cos@{x}^2 + \\FerrersP[]{n}@{x}"
+    );
+
+    private static String serialize(MacroDistributionAnalyzer analyzer, Path file) throws IOException {
+        analyzer.save(file);
+        return Files.readString(file);
+    }
+
+    @Test
+    void mergeCounterTest() {
+        MacroCounter first = new MacroCounter("\\FerrersP");
+        first.incrementMacroCounter();
+        first.incrementOptionalArgumentCounter();
+        first.incrementAtCounter(1);
+
+        MacroCounter second = new MacroCounter("\\FerrersP");
+        second.incrementMacroCounter();
+        second.incrementMacroCounter();
+        second.incrementAtCounter(1);
+        second.incrementAtCounter(2);
+
+        first.merge(second);
+        assertEquals(3, first.getMacroCounter());
+        assertEquals(1, first.getOptionalArgumentCounter());
+        assertEquals(2, first.getNumberOfAtsCounter(1));
+        assertEquals(1, first.getNumberOfAtsCounter(2));
+
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new MacroCounter("\\deriv")));
+    }
+
+    @Test
+    void parallelEqualsSequentialTest(@TempDir Path dir) throws IOException {
+        Path corpus = dir.resolve("corpus.txt");
+        Files.write(corpus, CORPUS);
+
+        MacroDistributionAnalyzer sequential = new MacroDistributionAnalyzer();
+        sequential.setParallel(false);
+        sequential.analyze(corpus);
+
+        MacroDistributionAnalyzer parallel = new MacroDistributionAnalyzer();
+        parallel.analyze(corpus);
+
+        assertEquals(2, parallel.getMacroCounter("\\deriv").getMacroCounter());
+        assertEquals(5, parallel.getMacroCounter("\\FerrersP").getMacroCounter());
+        assertEquals(1, parallel.getMacroCounter("\\JacobipolyP").getMacroCounter());
+        assertEquals(serialize(sequential, dir.resolve("seq.json")), serialize(parallel, dir.resolve("par.json")));
+    }
+
+    @Test
+    void incrementalUpdateTest(@TempDir Path dir) throws IOException {
+        Path oldCorpus = dir.resolve("old.txt");
+        Path newCorpus = dir.resolve("new.txt");
+        Files.write(oldCorpus, CORPUS.subList(0, 3));
+        Files.write(newCorpus, CORPUS.subList(3, CORPUS.size()));
+
+        MacroDistributionAnalyzer all = new MacroDistributionAnalyzer();
+        all.analyze(oldCorpus);
+        all.analyze(newCorpus);
+
+        MacroDistributionAnalyzer old = new MacroDistributionAnalyzer();
+        old.analyze(oldCorpus);
+        Path oldDistributions = dir.resolve("old.json");
+        old.save(oldDistributions);
+
+        MacroDistributionAnalyzer updated = new MacroDistributionAnalyzer();
+        updated.analyze(newCorpus);
+        updated.merge(oldDistributions);
+
+        assertEquals(serialize(all, dir.resolve("all.json")), serialize(updated, dir.resolve("updated.json")));
+    }
 }
@@ -0,0 +1,204 @@
+package gov.nist.drmf.interpreter.generic.mlp;
+
+import com.formulasearchengine.mathosphere.mlp.pojos.MathTag;
+import com.formulasearchengine.mathosphere.mlp.text.WikiTextUtils;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.eval.NumericResult;
+import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
+import gov.nist.drmf.interpreter.common.interfaces.IDLMFTranslator;
+import gov.nist.drmf.interpreter.common.pojo.CASResult;
+import gov.nist.drmf.interpreter.generic.interfaces.IPartialEnhancer;
+import gov.nist.drmf.interpreter.generic.mlp.EnhancementPipeline.Stage;
+import gov.nist.drmf.interpreter.generic.mlp.cas.CASTranslatorPool;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.MLPDependencyGraph;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.MOIAnnotation;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.MOIPresentations;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.SemanticEnhancedDocument;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import gov.nist.drmf.interpreter.pom.moi.MOINode;
+import mlp.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class EnhancementPipelineTests {
+    private static final String[] FORMULAE = new String[] {
+            "x^2", "\\sqrt{x}", "a+b", "f(x)", "\\frac{1}{z}", "n!"
+    };
+
+    @Test
+    public void translateAndComputeTest() throws ParseException {
+        SemanticEnhancedDocument sed = buildDocument();
+        FakeEnhancer enhancer = new FakeEnhancer(null);
+        try ( EnhancementPipeline pipeline = createPipeline(enhancer) ) {
+            pipeline.translate(sed);
+            for ( MOIPresentations moi : sed.getFormulae() ) {
+                assertEquals("\\sem{" + moi.getGenericLatex() + "}", moi.getSemanticLatex());
+                assertNotNull(moi.getCasResults(Keys.KEY_MAPLE), moi.getId());
+            }
+            assertTrue(enhancer.computed.isEmpty());
+
+            pipeline.compute(sed);
+            assertEquals(FORMULAE.length, enhancer.computed.size());
+
+            assertEquals(1, pipeline.getStatistics(Stage.ANNOTATE).getNumberOfTasks());
+            assertEquals(FORMULAE.length, pipeline.getStatistics(Stage.SEMANTIC_LATEX).getNumberOfTasks());
+            assertEquals(FORMULAE.length, pipeline.getStatistics(Stage.CAS_TRANSLATION).getNumberOfTasks());
+            assertEquals(FORMULAE.length, pipeline.getStatistics(Stage.CAS_COMPUTATION).getNumberOfTasks());
+        }
+    }
+
+    @Test
+    public void computeOnlyChangedTest() throws ParseException {
+        SemanticEnhancedDocument sed = buildDocument();
+        FakeEnhancer enhancer = new FakeEnhancer(null);
+        try ( EnhancementPipeline pipeline = createPipeline(enhancer) ) {
+            pipeline.translateAndComputeIfChanged(sed);
+            assertEquals(FORMULAE.length, enhancer.computed.size());
+
+            enhancer.computed.clear();
+            pipeline.translateAndComputeIfChanged(sed);
+            assertTrue(enhancer.computed.isEmpty(), "Unchanged translations should not be computed again");
+        }
+    }
+
+    @Test
+    public void failingMoiTest() throws ParseException {
+        SemanticEnhancedDocument sed = buildDocument();
+        String failingID = sed.getFormulae().get(2).getId();
+        FakeEnhancer enhancer = new FakeEnhancer(failingID);
+        try ( EnhancementPipeline pipeline = createPipeline(enhancer) ) {
+            pipeline.run(sed, Set.of(Stage.SEMANTIC_LATEX, Stage.CAS_TRANSLATION, Stage.CAS_COMPUTATION));
+        }
+
+        for ( MOIPresentations moi : sed.getFormulae() ) {
+            if ( moi.getId().equals(failingID) ) {
+                assertNull(moi.getSemanticLatex());
+                assertFalse(enhancer.computed.contains(moi.getId()));
+            } else {
+                assertNotNull(moi.getSemanticLatex());
+                assertTrue(enhancer.computed.contains(moi.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void runAfterCloseTest() throws ParseException {
+        SemanticEnhancedDocument sed = buildDocument();
+        FakeEnhancer enhancer = new FakeEnhancer(null);
+        EnhancementPipeline pipeline = createPipeline(enhancer);
+        pipeline.close();
+        assertThrows(IllegalStateException.class, () -> pipeline.translate(sed));
+        assertTrue(enhancer.computed.isEmpty());
+    }
+
+    @Test
+    public void closeWhileRunningTest() throws Exception {
+        SemanticEnhancedDocument sed = buildDocument();
+        FakeEnhancer enhancer = new FakeEnhancer(null);
+        enhancer.release = new CountDownLatch(1);
+        EnhancementPipeline pipeline = createPipeline(enhancer);
+        try {
+            new Thread(() -> {
+                try {
+                    enhancer.computing.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                pipeline.close();
+            }).start();
+            // waiting computations are discarded by close, the run must not wait for them forever
+            assertThrows(IllegalStateException.class, () -> pipeline.compute(sed));
+        } finally {
+            enhancer.release.countDown();
+        }
+    }
+
+    private static EnhancementPipeline createPipeline(IPartialEnhancer enhancer) {
+        Map<Stage, Integer> parallelism = new EnumMap<>(Stage.class);
+        parallelism.put(Stage.SEMANTIC_LATEX, 4);
+        parallelism.put(Stage.CAS_TRANSLATION, 2);
+        parallelism.put(Stage.CAS_COMPUTATION, 2);
+        return new EnhancementPipeline(enhancer, new CASTranslatorPool(), List.of(Keys.KEY_MAPLE), parallelism);
+    }
+
+    private static SemanticEnhancedDocument buildDocument() throws ParseException {
+        MLPDependencyGraph graph = new MLPDependencyGraph();
+        for ( String formula : FORMULAE ) {
+            graph.addFormulaNode(new MathTag(formula, WikiTextUtils.MathMarkUpType.LATEX));
+        }
+        return new SemanticEnhancedDocument("Test", graph);
+    }
+
+    private static class FakeEnhancer implements IPartialEnhancer {
+        private final String failingID;
+        private final Set<String> computed = ConcurrentHashMap.newKeySet();
+
+        // if set, computations block until it is released
+        private CountDownLatch release = null;
+        private final CountDownLatch computing = new CountDownLatch(1);
+
+        FakeEnhancer(String failingID) {
+            this.failingID = failingID;
+        }
+
+        @Override
+        public MOIPresentations generateAnnotatedLatex(String latex, MLPDependencyGraph graph) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void appendSemanticLatex(MOIPresentations moi, MOINode<MOIAnnotation> node) {
+            assertEquals(moi.getId(), node.getId());
+            if ( moi.getId().equals(failingID) ) throw new IllegalStateException("Test failure");
+            moi.setSemanticLatex("\\sem{" + moi.getGenericLatex() + "}");
+        }
+
+        @Override
+        public void appendCASRepresentation(MOIPresentations moi, String key, IDLMFTranslator<PrintablePomTaggedExpression> translator) {
+            assertNotNull(translator);
+            moi.addCasRepresentation(key, new CASResult(moi.getSemanticLatex()));
+        }
+
+        @Override
+        public void appendComputationResults(MOIPresentations moi) {
+            if ( release != null ) {
+                computing.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            assertTrue(computed.add(moi.getId()), "Computed MOI twice: " + moi.getId());
+        }
+
+        @Override
+        public void appendComputationResults(MOIPresentations moi, String cas) {
+            appendComputationResults(moi);
+        }
+
+        @Override
+        public NumericResult computeNumerically(String semanticLatex, String cas) {
+            return null;
+        }
+
+        @Override
+        public SymbolicResult computeSymbolically(String semanticLatex, String cas) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package gov.nist.drmf.interpreter.generic.mlp;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nist.drmf.interpreter.common.tests.ResourceProvider;
+import gov.nist.drmf.interpreter.generic.mlp.pojo.SemanticEnhancedDocument;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class StatisticsTests {
+    private static String annotatedDoc;
+    private static String translatedDoc;
+
+    private static final ObjectMapper MAPPER = SemanticEnhancedDocument.getMapper();
+
+    @BeforeAll
+    static void setup() throws IOException {
+        annotatedDoc = ResourceProvider.load(StatisticsTests.class, "JacobiSemanticAnnotatedDoc.json");
+        translatedDoc = ResourceProvider.load(StatisticsTests.class, "JacobiTranslatedDoc.json");
+    }
+
+    private static String toJson(Statistics stats) throws IOException {
+        return MAPPER.writeValueAsString(stats);
+    }
+
+    @Test
+    void iterateArrayTest(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("docs.json");
+        Files.writeString(file, "[" + annotatedDoc + "," + translatedDoc + "]");
+
+        List<String> titles = new LinkedList<>();
+        try ( MappingIterator<SemanticEnhancedDocument> docs = SemanticEnhancedDocument.iterate(file) ) {
+            while ( docs.hasNextValue() ) titles.add(docs.nextValue().getTitle());
+        }
+        assertEquals(2, titles.size());
+        assertEquals(SemanticEnhancedDocument.deserialize(file).size(), titles.size());
+    }
+
+    @Test
+    void iterateSingleDocumentTest(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("doc.json");
+        Files.writeString(file, translatedDoc);
+
+        try ( MappingIterator<SemanticEnhancedDocument> docs = SemanticEnhancedDocument.iterate(file) ) {
+            assertTrue(docs.hasNextValue());
+            assertEquals(SemanticEnhancedDocument.deserialize(translatedDoc).getTitle(), docs.nextValue().getTitle());
+            assertFalse(docs.hasNextValue());
+        }
+    }
+
+    @Test
+    void mergeTest() throws IOException {
+        SemanticEnhancedDocument annotated = SemanticEnhancedDocument.deserialize(annotatedDoc);
+        SemanticEnhancedDocument translated = SemanticEnhancedDocument.deserialize(translatedDoc);
+
+        Statistics expected = Statistics.analyze(List.of(annotated, translated, translated));
+
+        Statistics first = Statistics.analyze(List.of(annotated, translated));
+        Statistics second = Statistics.analyze(List.of(translated));
+        first.merge(second);
+
+        assertEquals(toJson(expected), toJson(first));
+        assertEquals(3, first.getNumberOfDocs());
+        assertTrue(first.getNumberOfExistingSemanticTranslations() > 0);
+    }
+
+    @Test
+    void streamingDirectoryTest(@TempDir Path dir) throws IOException {
+        Files.writeString(dir.resolve("a.json"), annotatedDoc);
+        Files.writeString(dir.resolve("b.json"), "[" + translatedDoc + "," + annotatedDoc + "]");
+        Files.writeString(dir.resolve("c.json"), translatedDoc);
+        Files.writeString(dir.resolve("d.json"), "{ \"title\": \"broken");
+
+        Statistics expected = Statistics.analyze(List.of(
+                SemanticEnhancedDocument.deserialize(annotatedDoc),
+                SemanticEnhancedDocument.deserialize(translatedDoc),
+                SemanticEnhancedDocument.deserialize(annotatedDoc),
+                SemanticEnhancedDocument.deserialize(translatedDoc)
+        ));
+
+        // the broken file is skipped
+        Statistics streamed = Statistics.analyze(dir);
+        assertEquals(4, streamed.getNumberOfDocs());
+        assertEquals(toJson(expected), toJson(streamed));
+    }
+
+    @Test
+    void streamingBrokenFileTest(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("broken.json");
+        Files.writeString(file, "[" + translatedDoc + ", { \"title\": ");
+        assertThrows(IOException.class, () -> Statistics.analyze(file));
+    }
+}
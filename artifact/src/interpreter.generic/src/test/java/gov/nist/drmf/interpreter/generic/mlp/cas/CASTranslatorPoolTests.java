@@ -0,0 +1,91 @@
+package gov.nist.drmf.interpreter.generic.mlp.cas;
+
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.core.api.DLMFTranslator;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class CASTranslatorPoolTests {
+
+    @Test
+    public void reuseTranslatorTest() throws InitTranslatorException {
+        CASTranslatorPool pool = new CASTranslatorPool();
+        DLMFTranslator first;
+        try ( CASTranslatorPool.Lease lease = pool.borrow(Keys.KEY_MAPLE) ) {
+            first = lease.getTranslator();
+        }
+        try ( CASTranslatorPool.Lease lease = pool.borrow(Keys.KEY_MAPLE) ) {
+            assertSame(first, lease.getTranslator());
+        }
+        assertEquals(1, pool.getNumberOfCreatedTranslators());
+        assertEquals(1, pool.getNumberOfReusedTranslators());
+    }
+
+    @Test
+    public void exclusiveLeaseTest() throws InitTranslatorException {
+        CASTranslatorPool pool = new CASTranslatorPool();
+        try (
+                CASTranslatorPool.Lease lease1 = pool.borrow(Keys.KEY_MAPLE);
+                CASTranslatorPool.Lease lease2 = pool.borrow(Keys.KEY_MAPLE);
+                CASTranslatorPool.Lease lease3 = pool.borrow(Keys.KEY_MATHEMATICA)
+        ) {
+            assertNotSame(lease1.getTranslator(), lease2.getTranslator());
+            assertEquals(Keys.KEY_MAPLE, lease1.getTranslator().getConfig().getTO_LANGUAGE());
+            assertEquals(Keys.KEY_MATHEMATICA, lease3.getTranslator().getConfig().getTO_LANGUAGE());
+        }
+        assertEquals(3, pool.getNumberOfCreatedTranslators());
+    }
+
+    @Test
+    public void closedLeaseTest() throws InitTranslatorException {
+        CASTranslatorPool pool = new CASTranslatorPool();
+        CASTranslatorPool.Lease lease = pool.borrow(Keys.KEY_MAPLE);
+        lease.close();
+        assertThrows(IllegalStateException.class, lease::getTranslator);
+    }
+
+    @Test
+    public void concurrentTranslationsTest() throws Exception {
+        CASTranslatorPool pool = new CASTranslatorPool();
+        List<String> inputs = List.of(
+                "\\sin@{x} + \\cos@{x}", "\\JacobipolyP{\\alpha}{\\beta}{n}@{x}", "\\sum_{k=0}^n k^2",
+                "\\EulerGamma@{z+1} = z \\EulerGamma@{z}", "\\int_0^1 x \\diff{x}", "\\sqrt{\\cpi}"
+        );
+        DLMFTranslator reference = new DLMFTranslator(Keys.KEY_MAPLE);
+        List<String> expected = new LinkedList<>();
+        for ( String in : inputs ) expected.add(reference.translateToObject(in).getTranslatedExpression());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> futures = new LinkedList<>();
+            for ( int i = 0; i < 5; i++ ) {
+                for ( String in : inputs ) {
+                    futures.add(executor.submit(() -> {
+                        try ( CASTranslatorPool.Lease lease = pool.borrow(Keys.KEY_MAPLE) ) {
+                            return lease.getTranslator().translateToObject(in).getTranslatedExpression();
+                        }
+                    }));
+                }
+            }
+            for ( int i = 0; i < futures.size(); i++ ) {
+                assertEquals(expected.get(i % inputs.size()), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(pool.getNumberOfCreatedTranslators() <= 3);
+    }
+}
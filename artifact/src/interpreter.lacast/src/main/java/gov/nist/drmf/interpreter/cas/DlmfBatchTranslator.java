@@ -1,6 +1,8 @@
 package gov.nist.drmf.interpreter.cas;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.DomDriver;
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
@@ -9,89 +11,373 @@ import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Options;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.DirectoryFileFilter;
-import org.apache.commons.io.filefilter.RegexFileFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collection;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
-
+/**
+ * Translates a directory of {@code *.s.tex} files (one formula per file) to Maple.
+ * <p>
+ * The files are discovered by a lazy directory walk that feeds a bounded queue. A pool of workers,
+ * each with its own light-weight translator, takes the files from the queue. The ids of finished files
+ * are appended to an optional checkpoint file. If a run crashes, the next run with the same checkpoint file
+ * skips all files listed there. Results are either written to one file per formula (default) or appended
+ * to a single JSONL file. Note that a crash between writing a result and writing the checkpoint entry
+ * may produce the same JSONL entry twice after resuming.
+ * <p>
+ * A file that cannot be translated is logged and counted, it does not affect the other files and is not
+ * checkpointed (so the next run tries it again). If a worker dies, the remaining workers continue. If all
+ * workers died, the directory walk stops. In both cases, the run returns a non-zero status.
+ * <p>
+ * At the end, the throughput and the latency percentiles per file are logged.
+ */
 public class DlmfBatchTranslator {
+	private static final Logger LOG = LogManager.getLogger( DlmfBatchTranslator.class.getName() );
 
 	public static final String MLPERROR = "mlperror";
 
+	private static final Pattern FILE_PATTERN = Pattern.compile( "^(.*?).s.tex" );
+
+	/**
+	 * Marks the end of the work queue.
+	 */
+	private static final Path POISON = Paths.get( "" );
+
+	/**
+	 * How long the directory walk waits for a free slot in the queue before it checks if the workers are alive.
+	 */
+	private static final long OFFER_TIMEOUT_SECONDS = 1;
+
+	private final Path inputDir;
+	private final Path outputDir;
+	private final String prefix;
+	private final boolean mlpfilter;
+	private final int threads;
+	private final int queueSize;
+
+	private final Path checkpointFile;
+	private final Path jsonlFile;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final Set<String> finished = new HashSet<>();
+	private BufferedWriter checkpointWriter;
+	private BufferedWriter jsonlWriter;
+
+	private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+	private final LongAdder skipped = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	private final Map<String, Map<Integer, Set<String>>> problemTokens = new HashMap<>();
+
+	DlmfBatchTranslator( CommandLine cmd ) {
+		String d = cmd.getOptionValue( "i" );
+		if ( cmd.hasOption( 's' ) ) {
+			d += "/" + cmd.getOptionValue( 's' );
+		}
+		this.inputDir = Paths.get( d );
+		this.outputDir = FileUtils.getFile( cmd.getOptionValue( "o" ) ).toPath();
+		this.prefix = cmd.getOptionValue( "i" ).replace( "/", "-" );
+		this.mlpfilter = cmd.hasOption( "f" ) && cmd.getOptionValue( "f" ).equals( MLPERROR );
+		this.threads = Integer.parseInt(
+			cmd.getOptionValue( "t", Integer.toString( Runtime.getRuntime().availableProcessors() ) )
+		);
+		this.queueSize = Integer.parseInt( cmd.getOptionValue( "q", Integer.toString( 64 * threads ) ) );
+		this.checkpointFile = cmd.hasOption( "c" ) ? Paths.get( cmd.getOptionValue( "c" ) ) : null;
+		this.jsonlFile = cmd.hasOption( "j" ) ? Paths.get( cmd.getOptionValue( "j" ) ) : null;
+	}
+
 	public static void main( String[] args ) throws Exception {
-		// create Options object
+		CommandLineParser parser = new DefaultParser();
+		CommandLine cmd = parser.parse( createOptions(), args );
+
+		DlmfBatchTranslator batchTranslator = new DlmfBatchTranslator( cmd );
+		int status = batchTranslator.run();
+
+		if ( cmd.hasOption( 'e' ) ) {
+			XStream xstream = new XStream( new DomDriver() );
+			try ( FileWriter writer = new FileWriter( cmd.getOptionValue( "e" ) ) ) {
+				xstream.toXML( batchTranslator.problemTokens, writer );
+			}
+		}
+
+		if ( status != 0 ) {
+			System.exit( status );
+		}
+	}
+
+	static Options createOptions() {
 		Options options = new Options();
 		options.addRequiredOption( "i", "input", true, "directory" );
 		options.addRequiredOption( "o", "output", true, "directory" );
-		options.addOption("s","subdir",true,"subdirectory for filtering");
+		options.addOption( "s", "subdir", true, "subdirectory for filtering" );
 		options.addOption( "f", "filter", true, "filter" );
-		options.addOption( "e","error",true,"file for error report" );
-		CommandLineParser parser = new DefaultParser();
-		CommandLine cmd = parser.parse( options, args );
-		Collection<File> files = getFiles( cmd );
-		final Path outPutDir = FileUtils.getFile( cmd.getOptionValue( "o" ) ).toPath();
-		SemanticLatexTranslator translator = SemanticToCASInterpreter.getParser( false, "Maple" );
-		translator.setTolerant( true );
-		final boolean mlpfilter;
-		if ( cmd.hasOption( "f" ) ) {
-			if ( cmd.getOptionValue( "f" ).equals( MLPERROR ) ) {
-				mlpfilter = true;
-			} else {
-				mlpfilter = false;
+		options.addOption( "e", "error", true, "file for error report" );
+		options.addOption( "t", "threads", true, "number of worker threads (default: number of processors)" );
+		options.addOption( "q", "queue", true, "maximum number of files waiting for a worker" );
+		options.addOption( "c", "checkpoint", true, "checkpoint file to resume a previous run" );
+		options.addOption( "j", "jsonl", true, "append all results to this JSONL file instead of one file per formula" );
+		return options;
+	}
+
+	/**
+	 * Translates all files of the input directory.
+	 * @return 0 if all workers finished normally, otherwise 1 (i.e., some files were not processed)
+	 */
+	int run() throws IOException, InterruptedException {
+		loadCheckpoint();
+		SemanticLatexTranslator prototype = SemanticToCASInterpreter.getParser( false, "Maple" );
+
+		BlockingQueue<Path> queue = new ArrayBlockingQueue<>( queueSize );
+		ExecutorService workers = Executors.newFixedThreadPool( threads );
+		long start = System.nanoTime();
+		int status = 0;
+		try {
+			openWriters();
+			List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				SemanticLatexTranslator translator = prototype.createIndependentCopy();
+				translator.setTolerant( true );
+				futures.add( workers.submit( () -> {
+					work( translator, queue );
+					return null;
+				} ) );
 			}
-		} else {
-			mlpfilter = false;
-		}
-		Path finalOutPutDir = outPutDir;
-		// System.out.println("processing files" + files.size());
-		final String prefix = cmd.getOptionValue( "i" ).replace( "/", "-" );
-		files.forEach( file -> {
-			try {
-				final String sTeX = FileUtils.readFileToString( file );
-				final String id = file.getPath().replace( "/", "-" ).replace( prefix, "" );
-				translator.reset();
-				translator.setFileID( id );
-				translator.translate( sTeX );
-				final String translatedExpression = translator.getTranslatedExpression();
-				if ( mlpfilter ) {
-					if ( translator.isMlpError() ) {
-						final File f = Paths.get( finalOutPutDir.toString(), id ).toFile();
-						FileUtils.write( f, sTeX );
+
+			boolean alive = true;
+			try ( Stream<Path> files = getFiles() ) {
+				for ( Path p : (Iterable<Path>) files::iterator ) {
+					if ( !(alive = enqueue( queue, p, futures )) ) {
+						LOG.error( "All workers stopped. Abort before " + p );
+						break;
 					}
-				} else {
-					final File f = Paths.get( finalOutPutDir.toString(), id + ".maple" ).toFile();
-					FileUtils.write( f, translatedExpression );
 				}
+			} finally {
+				for ( int i = 0; i < threads && alive; i++ ) {
+					alive = enqueue( queue, POISON, futures );
+				}
+			}
+
+			for ( Future<?> future : futures ) {
+				try {
+					future.get();
+				} catch ( ExecutionException e ) {
+					LOG.error( "A worker stopped unexpectedly.", e.getCause() );
+					status = 1;
+				}
+			}
+		} finally {
+			workers.shutdownNow();
+			workers.awaitTermination( 1, TimeUnit.MINUTES );
+			closeWriters();
+		}
+		printStatistics( System.nanoTime() - start );
+		return status;
+	}
+
+	/**
+	 * Waits for a free slot in the queue as long as at least one worker is alive.
+	 * @return false if all workers stopped, i.e., nobody would ever take the element from the queue
+	 */
+	private static boolean enqueue( BlockingQueue<Path> queue, Path p, List<Future<?>> workers )
+		throws InterruptedException {
+		while ( !queue.offer( p, OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS ) ) {
+			if ( workers.stream().allMatch( Future::isDone ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void work( SemanticLatexTranslator translator, BlockingQueue<Path> queue ) throws InterruptedException {
+		Path file;
+		while ( (file = queue.take()) != POISON ) {
+			final String id = file.toFile().getPath().replace( "/", "-" ).replace( prefix, "" );
+			long start = System.nanoTime();
+			try {
+				final String sTeX = FileUtils.readFileToString( file.toFile(), StandardCharsets.UTF_8 );
+				translate( translator, id, sTeX );
 			} catch ( IOException e ) {
-				e.printStackTrace();
+				failed.increment();
+				LOG.error( "Unable to read or write the results of " + file, e );
+			} catch ( RuntimeException e ) {
+				failed.increment();
+				LOG.warn( "Unable to translate " + file + ": " + e.getMessage() );
 			}
-		});
-		if(cmd.hasOption( 'e' )) {
-			final Map<String, Map<Integer, Set<String>>> problemTokens = translator.getProblemTokens();
-			XStream xstream = new XStream( new DomDriver() );
-			xstream.toXML( problemTokens, new FileWriter( cmd.getOptionValue( "e" ) ) );
+			latencies.add( System.nanoTime() - start );
 		}
 
+		synchronized ( problemTokens ) {
+			problemTokens.putAll( translator.getProblemTokens() );
+		}
 	}
 
-	static Collection<File> getFiles( CommandLine cmd ) {
-		String d = cmd.getOptionValue( "i" );
-		if (cmd.hasOption( 's' )){
-			d += "/" + cmd.getOptionValue( 's' );
+	/**
+	 * Translates a single formula and writes the result.
+	 */
+	void translate( SemanticLatexTranslator translator, String id, String sTeX ) throws IOException {
+		translator.reset();
+		translator.setFileID( id );
+		translator.translate( sTeX );
+		writeResult( id, sTeX, translator.getTranslatedExpression(), translator.isMlpError() );
+	}
+
+	/**
+	 * Lazily walks through the input directory. Files that are listed in the checkpoint file are skipped.
+	 */
+	private Stream<Path> getFiles() throws IOException {
+		return Files.walk( inputDir )
+			.filter( Files::isRegularFile )
+			.filter( p -> FILE_PATTERN.matcher( p.getFileName().toString() ).matches() )
+			.filter( p -> {
+				String id = p.toFile().getPath().replace( "/", "-" ).replace( prefix, "" );
+				if ( finished.contains( id ) ) {
+					skipped.increment();
+					return false;
+				}
+				return true;
+			} );
+	}
+
+	private void writeResult( String id, String sTeX, String translatedExpression, boolean mlpError )
+		throws IOException {
+		if ( jsonlWriter != null ) {
+			if ( mlpfilter && !mlpError ) {
+				checkpoint( id, null );
+				return;
+			}
+			ObjectNode node = mapper.createObjectNode();
+			node.put( "id", id );
+			node.put( "tex", sTeX );
+			if ( !mlpfilter ) {
+				node.put( "maple", translatedExpression );
+			}
+			node.put( "mlpError", mlpError );
+			checkpoint( id, mapper.writeValueAsString( node ) );
+			return;
 		}
-		final File indir = new File( d );
-		return FileUtils.listFiles(
-			indir,
-			new RegexFileFilter( "^(.*?).s.tex" ),
-			DirectoryFileFilter.DIRECTORY
-		);
+
+		if ( mlpfilter ) {
+			if ( mlpError ) {
+				final File f = Paths.get( outputDir.toString(), id ).toFile();
+				FileUtils.write( f, sTeX, StandardCharsets.UTF_8 );
+			}
+		} else {
+			final File f = Paths.get( outputDir.toString(), id + ".maple" ).toFile();
+			FileUtils.write( f, translatedExpression, StandardCharsets.UTF_8 );
+		}
+		checkpoint( id, null );
+	}
+
+	/**
+	 * Appends the JSON line (if any) and marks the id as finished in the checkpoint file.
+	 */
+	private synchronized void checkpoint( String id, String jsonLine ) throws IOException {
+		if ( jsonLine != null ) {
+			jsonlWriter.write( jsonLine );
+			jsonlWriter.newLine();
+			jsonlWriter.flush();
+		}
+		if ( checkpointWriter != null ) {
+			checkpointWriter.write( id );
+			checkpointWriter.newLine();
+			checkpointWriter.flush();
+		}
+	}
+
+	private void loadCheckpoint() throws IOException {
+		if ( checkpointFile == null || !Files.exists( checkpointFile ) ) {
+			return;
+		}
+		try ( Stream<String> lines = Files.lines( checkpointFile ) ) {
+			lines.filter( l -> !l.isBlank() ).forEach( finished::add );
+		}
+		LOG.info( "Resume from checkpoint, skip " + finished.size() + " finished files." );
+	}
+
+	private void openWriters() throws IOException {
+		if ( checkpointFile != null ) {
+			checkpointWriter = Files.newBufferedWriter(
+				checkpointFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND
+			);
+		}
+		if ( jsonlFile != null ) {
+			jsonlWriter = Files.newBufferedWriter(
+				jsonlFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND
+			);
+		}
+	}
+
+	private void closeWriters() {
+		for ( BufferedWriter writer : Arrays.asList( checkpointWriter, jsonlWriter ) ) {
+			if ( writer == null ) continue;
+			try {
+				writer.close();
+			} catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+	}
+
+	private void printStatistics( long totalNanos ) {
+		long[] sorted = latencies.stream().mapToLong( Long::longValue ).sorted().toArray();
+		double seconds = totalNanos / 1e9;
+		LOG.info( "Processed " + sorted.length + " files in " + String.format( "%.2f", seconds ) + "s" +
+			" (failed: " + failed.sum() + ", skipped: " + skipped.sum() + ")" );
+		if ( sorted.length == 0 ) {
+			return;
+		}
+		LOG.info( String.format( "Throughput: %.2f files/s", sorted.length / seconds ) );
+		LOG.info( String.format(
+			"Latency per file [ms]: p50=%.2f, p90=%.2f, p99=%.2f, max=%.2f",
+			percentile( sorted, 50 ) / 1e6,
+			percentile( sorted, 90 ) / 1e6,
+			percentile( sorted, 99 ) / 1e6,
+			sorted[sorted.length - 1] / 1e6
+		) );
+	}
+
+	long getNumberOfFailedFiles() {
+		return failed.sum();
+	}
+
+	long getNumberOfSkippedFiles() {
+		return skipped.sum();
+	}
+
+	/**
+	 * Nearest-rank percentile of a sorted array.
+	 */
+	private static long percentile( long[] sorted, double p ) {
+		int rank = (int) Math.ceil( p / 100.0 * sorted.length );
+		return sorted[Math.max( 0, Math.min( sorted.length, rank ) - 1 )];
 	}
 }
@@ -2,6 +2,8 @@ package gov.nist.drmf.interpreter.cas.blueprints;
 
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
 import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import mlp.ParseException;
 import mlp.PomTaggedExpression;
 import org.apache.logging.log4j.LogManager;
@@ -11,7 +13,13 @@ import org.intellij.lang.annotations.Language;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @author Andre Greiner-Petter
@@ -25,17 +33,20 @@ public class BlueprintMaster {
     public static final boolean LIMITED = false;
     public static final boolean LIM = true;
 
-    private LinkedList<BlueprintRuleMatcher> limitedTrees;
-    private LinkedList<BlueprintLimTree> limTrees;
+    private final BlueprintIndex<BlueprintRuleMatcher> limitedTrees;
+    private final BlueprintIndex<BlueprintLimTree> limTrees;
     private SemanticLatexTranslator slt;
 
     private Path limitBTFile, limBTFile;
 
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder triedCandidates = new LongAdder();
+
     public BlueprintMaster(SemanticLatexTranslator slt) {
         limitBTFile = GlobalPaths.PATH_MEOM_BLUEPRINTS;
         limBTFile = GlobalPaths.PATH_MEOM_LIMIT_BLUEPRINTS;
-        limitedTrees = new LinkedList<>();
-        limTrees = new LinkedList<>();
+        limitedTrees = new BlueprintIndex<>();
+        limTrees = new BlueprintIndex<>();
         this.slt = slt;
     }
 
@@ -45,12 +56,15 @@ public class BlueprintMaster {
 
         Files.readAllLines(limBTFile)
                 .forEach( this::addLimTrees );
+
+        LOG.debug("Indexed " + limitedTrees.size() + " limit blueprints and " + limTrees.size() + " lim blueprints");
     }
 
     private void addLimitedTrees( String l ) {
         String[] s = l.split(" ==> ");
         try {
-            limitedTrees.add(new BlueprintRuleMatcher(slt, s[0], s[1]));
+            BlueprintRuleMatcher matcher = new BlueprintRuleMatcher(slt, s[0], s[1]);
+            limitedTrees.add(matcher, getKeyToken(s[0], matcher));
         } catch (ParseException e) {
             LOG.error("Illegal string generating Blueprint: " + l, e);
         }
@@ -59,23 +73,119 @@ public class BlueprintMaster {
     private void addLimTrees( String l ) {
         String[] s = l.split(" ==> ");
         try {
-            limTrees.add(new BlueprintLimTree(slt, s[0], s[1]));
+            BlueprintLimTree matcher = new BlueprintLimTree(slt, s[0], s[1]);
+            limTrees.add(matcher, getKeyToken(s[0], matcher));
         } catch (ParseException e) {
             LOG.error("Illegal string for generating Blueprint: " + l, e);
         }
     }
 
-    public MathematicalEssentialOperatorMetadata findMatchingLimit(boolean lim, String limit) {
-        for ( BlueprintRuleMatcher t : (lim == LIM) ? limTrees : limitedTrees ) {
-            if ( t.match(limit) ) return t.getExtractedMEOM();
+    /**
+     * The key token is the first required token of the blueprint, e.g., {@code \leq} for
+     * {@code numL1 \leq varN < numU1}.
+     */
+    private static String getKeyToken(String blueprint, BlueprintRuleMatcher matcher) {
+        Map<String, Integer> required = matcher.getRequiredTokens();
+        if ( required.isEmpty() ) return null;
+        String keyToken = null;
+        int position = Integer.MAX_VALUE;
+        for ( String token : required.keySet() ) {
+            int idx = blueprint.indexOf(token);
+            if ( idx >= 0 && idx < position ) {
+                position = idx;
+                keyToken = token;
+            }
         }
-        return null;
+        // the parser may change tokens, in that case, any required token serves as key
+        return keyToken != null ? keyToken : required.keySet().iterator().next();
     }
 
-    public MathematicalEssentialOperatorMetadata findMatchingLimit(boolean lim, PomTaggedExpression... pte) {
-        for ( BlueprintRuleMatcher t : (lim == LIM) ? limTrees : limitedTrees ) {
+    /**
+     * Finds the first blueprint that matches the given limit. The blueprints store the last match internally,
+     * hence, this method is synchronized to allow multiple translators to share the same blueprint master.
+     * @param lim true for lim-blueprints, false for limited expressions (sum, prod, etc.)
+     * @param limit the limit expression
+     * @return the extracted limit information or null if no blueprint matches
+     */
+    public synchronized MathematicalEssentialOperatorMetadata findMatchingLimit(boolean lim, String limit) {
+        if ( limit == null || limit.isBlank() ) return null;
+        try {
+            // parse the limit only once rather than once per tried blueprint
+            PrintablePomTaggedExpression ppte = SemanticMLPWrapper.getStandardInstance()
+                    .parse(BlueprintRuleMatcher.preCleaning(limit));
+            return findMatchingLimit(lim, ppte);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the first blueprint that matches the given limit. Only those blueprints are tried, which
+     * contain no other tokens than the given expressions, see {@link BlueprintRuleMatcher#getRequiredTokens()}.
+     * The order of the blueprints is preserved, i.e., the result is the same as trying every blueprint.
+     * @param lim true for lim-blueprints, false for limited expressions (sum, prod, etc.)
+     * @param pte the limit expression
+     * @return the extracted limit information or null if no blueprint matches
+     */
+    public synchronized MathematicalEssentialOperatorMetadata findMatchingLimit(boolean lim, PomTaggedExpression... pte) {
+        if ( pte == null || pte.length == 0 ) return null;
+        lookups.increment();
+        BlueprintIndex<? extends BlueprintRuleMatcher> index = (lim == LIM) ? limTrees : limitedTrees;
+        Map<String, Integer> tokens = BlueprintRuleMatcher.countTokens(pte);
+        for ( BlueprintRuleMatcher t : index.getCandidates(tokens) ) {
+            triedCandidates.increment();
             if ( t.match(pte) ) return t.getExtractedMEOM();
         }
         return null;
     }
+
+    /**
+     * @return the number of lookups via {@link #findMatchingLimit(boolean, PomTaggedExpression...)}
+     */
+    public long getNumberOfLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * @return the number of blueprints that were tried to match over all lookups
+     */
+    public long getNumberOfTriedCandidates() {
+        return triedCandidates.sum();
+    }
+
+    /**
+     * The blueprints in their original order indexed by one of their required tokens (the first one of the
+     * pattern). Blueprints without any required token (e.g., {@code varN}) are candidates for every expression.
+     */
+    private static class BlueprintIndex<T extends BlueprintRuleMatcher> {
+        private final ArrayList<T> blueprints = new ArrayList<>();
+        private final Map<String, BitSet> keyTokenIndex = new HashMap<>();
+        private final BitSet unconditional = new BitSet();
+
+        void add(T blueprint, String keyToken) {
+            int idx = blueprints.size();
+            blueprints.add(blueprint);
+            if ( keyToken == null ) unconditional.set(idx);
+            else keyTokenIndex.computeIfAbsent(keyToken, k -> new BitSet()).set(idx);
+        }
+
+        List<T> getCandidates(Map<String, Integer> tokens) {
+            BitSet candidates = (BitSet) unconditional.clone();
+            for ( String token : tokens.keySet() ) {
+                BitSet bs = keyTokenIndex.get(token);
+                if ( bs != null ) candidates.or(bs);
+            }
+
+            List<T> list = new LinkedList<>();
+            for ( int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i+1) ) {
+                T blueprint = blueprints.get(i);
+                if ( blueprint.isCandidate(tokens) ) list.add(blueprint);
+            }
+            return list;
+        }
+
+        int size() {
+            return blueprints.size();
+        }
+    }
 }
@@ -4,6 +4,8 @@ import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
 import gov.nist.drmf.interpreter.common.latex.TeXPreProcessor;
 import gov.nist.drmf.interpreter.common.interfaces.IBlueprintMatcher;
 import gov.nist.drmf.interpreter.pom.common.FakeMLPGenerator;
+import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
+import gov.nist.drmf.interpreter.pom.common.grammar.ExpressionTags;
 import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
 import gov.nist.drmf.interpreter.pom.extensions.MatchablePomTaggedExpression;
 import gov.nist.drmf.interpreter.pom.extensions.MatcherConfig;
@@ -32,6 +34,16 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
     public static final String LOWER_BOUND_TOKEN = "numL";
     public static final String UPPER_BOUND_TOKEN = "numU";
 
+    private static final Pattern OVER_SET_PATTERN = Pattern.compile(".*\\\\(in|divides)[^A-Za-z]+.*");
+
+    // the patterns of the pre-cleaning steps
+    private static final Pattern DOTS_PATTERN = Pattern.compile("\\\\[lc]?dots[cbmio]?");
+    private static final Pattern DOTS_SEPARATOR_PATTERN = Pattern.compile("([^,\\s])\\s*\\\\dots");
+    private static final Pattern FRAC_PATTERN = Pattern.compile("\\\\[it]?frac");
+    private static final Pattern NEQ_PATTERN = Pattern.compile("\\\\(ne|le|ge)([^a-zA-Z])");
+    private static final Pattern TRAILING_PUNCTUATION_PATTERN = Pattern.compile("[\\s,;.]*$");
+    private static final Pattern AT_PATTERN = Pattern.compile("@*");
+
     private static final String VAR_SPLITTER = " / ";
     private static final String LOW_UP_SPLITTER = ",";
 
@@ -52,10 +64,13 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
 
     private final String pattern;
 
+    private final Map<String, Integer> requiredTokens;
+
     public BlueprintRuleMatcher(SemanticLatexTranslator translator, String pattern, String replacement) throws ParseException {
         PrintablePomTaggedExpression ppte = SemanticMLPWrapper.getStandardInstance().parse(pattern);
         ppte = (PrintablePomTaggedExpression) FakeMLPGenerator.wrapNonSequenceInSequence(ppte);
         matchablePom = PomMatcherBuilder.compile(ppte, WILDCARD_PATTERN);
+        this.requiredTokens = Collections.unmodifiableMap(countTokens(true, ppte));
         this.translator = translator;
         this.limitPattern = replacement.split(VAR_SPLITTER);
         this.LIMIT_PATTERN = setupPattern();
@@ -106,11 +121,11 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
             PrintablePomTaggedExpression ppte = FakeMLPGenerator.generateEmptySequencePPTE();
             ppte.setPrintableComponents(expressions);
             match = matchablePom.match(ppte, matcherConfig);
-            this.isOverSet = ppte.getTexString().matches(".*\\\\(in|divides)[^A-Za-z]+.*");
+            this.isOverSet = OVER_SET_PATTERN.matcher(ppte.getTexString()).matches();
         } else {
             PrintablePomTaggedExpression ppte = (PrintablePomTaggedExpression) FakeMLPGenerator.wrapNonSequenceInSequence(expressions[0]);
             match = matchablePom.match(ppte, matcherConfig);
-            this.isOverSet = ppte.getTexString().matches(".*\\\\(in|divides)[^A-Za-z]+.*");
+            this.isOverSet = OVER_SET_PATTERN.matcher(ppte.getTexString()).matches();
         }
         if ( match ) {
             analyzeMatchedGroups();
@@ -118,6 +133,53 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
         return match;
     }
 
+    /**
+     * Every non-wildcard node of the blueprint must be matched by a node with the same term text.
+     * Hence, an expression can only match this blueprint if it contains (at least) all of these tokens.
+     * @return the term texts of all non-wildcard nodes of this blueprint and how often they appear
+     */
+    public Map<String, Integer> getRequiredTokens() {
+        return requiredTokens;
+    }
+
+    /**
+     * @param tokens the tokens of an expression, see {@link #countTokens(PomTaggedExpression...)}
+     * @return false if this blueprint cannot match an expression with the given tokens
+     */
+    public boolean isCandidate(Map<String, Integer> tokens) {
+        for ( Map.Entry<String, Integer> required : requiredTokens.entrySet() ) {
+            if ( tokens.getOrDefault(required.getKey(), 0) < required.getValue() ) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Counts the term texts of all nodes in the given expressions (including all descendants).
+     * @param expressions the expressions
+     * @return the term texts mapped to the number of occurrences
+     */
+    public static Map<String, Integer> countTokens(PomTaggedExpression... expressions) {
+        return countTokens(false, expressions);
+    }
+
+    private static Map<String, Integer> countTokens(boolean skipWildcards, PomTaggedExpression... expressions) {
+        Map<String, Integer> tokens = new HashMap<>();
+        LinkedList<PomTaggedExpression> stack = new LinkedList<>();
+        if ( expressions != null ) Collections.addAll(stack, expressions);
+        while ( !stack.isEmpty() ) {
+            PomTaggedExpression pte = stack.removeFirst();
+            if ( pte == null ) continue;
+            stack.addAll(pte.getComponents());
+            // matrices are compared by their LaTeX feature rather than by their term text
+            if ( skipWildcards && PomTaggedExpressionUtility.equals(pte, ExpressionTags.matrix) ) continue;
+            String text = pte.getRoot() == null ? null : pte.getRoot().getTermText();
+            if ( text == null || text.isBlank() ) continue;
+            if ( skipWildcards && text.matches(WILDCARD_PATTERN) ) continue;
+            tokens.merge(text, 1, Integer::sum);
+        }
+        return tokens;
+    }
+
     private void analyzeMatchedGroups() {
         matches = matchablePom.getStringMatches();
 
@@ -209,12 +271,12 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
 
     public static String preCleaning(String constraint){
         constraint = TeXPreProcessor.preProcessingTeX(constraint);
-        constraint = constraint.replaceAll("\\\\[lc]?dots[cbmio]?", "\\\\dots");
-        constraint = constraint.replaceAll("([^,\\s])\\s*\\\\dots", "$1, \\\\dots");
-        constraint = constraint.replaceAll("\\\\[it]?frac", "\\\\frac");
-        constraint = constraint.replaceAll("\\\\(ne|le|ge)([^a-zA-Z])", "\\\\$1q$2");
-        constraint = constraint.replaceAll("[\\s,;.]*$", "");
-        constraint = constraint.replaceAll("@*", "");
+        constraint = DOTS_PATTERN.matcher(constraint).replaceAll("\\\\dots");
+        constraint = DOTS_SEPARATOR_PATTERN.matcher(constraint).replaceAll("$1, \\\\dots");
+        constraint = FRAC_PATTERN.matcher(constraint).replaceAll("\\\\frac");
+        constraint = NEQ_PATTERN.matcher(constraint).replaceAll("\\\\$1q$2");
+        constraint = TRAILING_PUNCTUATION_PATTERN.matcher(constraint).replaceAll("");
+        constraint = AT_PATTERN.matcher(constraint).replaceAll("");
         return constraint;
     }
 
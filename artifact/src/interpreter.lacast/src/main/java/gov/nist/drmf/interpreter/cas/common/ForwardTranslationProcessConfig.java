@@ -2,13 +2,18 @@ package gov.nist.drmf.interpreter.cas.common;
 
 import gov.nist.drmf.interpreter.cas.blueprints.BlueprintMaster;
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.cas.translation.components.util.CompiledMacroTable;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.config.TranslationProcessConfig;
 import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.pom.MacrosLexicon;
+import mlp.Lexicon;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is the configuration for the forward translator. It defines to which language (CAS) the translations
@@ -31,6 +36,12 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
 
     private boolean translateLettersAsConstantsIfPossible = false;
 
+    private TranslationCache translationCache = null;
+
+    private static final Map<String, CompiledMacroTable> COMPILED_MACRO_TABLES = new ConcurrentHashMap<>();
+
+    private volatile CompiledMacroTable compiledMacroTable = null;
+
     public ForwardTranslationProcessConfig(String to_language) {
         super(Keys.KEY_LATEX, to_language);
 
@@ -44,6 +55,24 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
         super.init();
         MULTIPLY = super.getSymbolTranslator().translateFromMLPKey( Keys.MLP_KEY_MULTIPLICATION );
         LINE_DELIMITER = super.getSymbolTranslator().translateFromMLPKey( Keys.MLP_KEY_END_OF_LINE );
+        initCompiledMacroTable();
+    }
+
+    private synchronized void initCompiledMacroTable() throws InitTranslatorException {
+        if ( compiledMacroTable != null ) return;
+        try {
+            MacrosLexicon.init();
+        } catch (IOException e) {
+            throw new InitTranslatorException("Unable to load DLMF macro lexicon.", e);
+        }
+
+        // the table only depends on the lexicon, the CAS, and the tab, hence all configs share the same table
+        Lexicon lexicon = MacrosLexicon.getDLMFMacroLexicon();
+        compiledMacroTable = COMPILED_MACRO_TABLES.compute(
+                getTO_LANGUAGE() + "\n" + TAB,
+                (key, table) -> table != null && table.isCompiledFrom(lexicon) ?
+                        table : CompiledMacroTable.compile(lexicon, getTO_LANGUAGE(), TAB)
+        );
     }
 
     /**
@@ -71,11 +100,37 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
         this.inlinePackageMode = inlinePackageMode;
     }
 
+    /**
+     * Enables (or disables) caching of translations. Every translator that uses this config shares the
+     * given cache. By default, there is no cache.
+     * @param translationCache the cache or null to disable caching
+     * @see TranslationCache
+     */
+    public void setTranslationCache(TranslationCache translationCache) {
+        this.translationCache = translationCache;
+    }
+
+    /**
+     * @return the translation cache or null if caching is disabled
+     */
+    public TranslationCache getTranslationCache() {
+        return translationCache;
+    }
+
+    /**
+     * The translation information of all DLMF macros for the CAS of this config. The table is compiled
+     * once per CAS and shared by all initialized configs.
+     * @return the table of compiled DLMF macros or null if the config is not initialized yet
+     */
+    public CompiledMacroTable getCompiledMacroTable() {
+        return compiledMacroTable;
+    }
+
     /**
      * Careful, lazy initialization.
      * @return the blueprint master
      */
-    public BlueprintMaster getLimitParser() throws InitTranslatorException {
+    public synchronized BlueprintMaster getLimitParser() throws InitTranslatorException {
         if ( limitParser == null ) {
             LOG.debug("Lazy init blueprint masters.");
             SemanticLatexTranslator blueprintTranslator = new SemanticLatexTranslator(this);
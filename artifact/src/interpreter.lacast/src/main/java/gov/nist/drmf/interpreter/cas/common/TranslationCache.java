@@ -0,0 +1,299 @@
+package gov.nist.drmf.interpreter.cas.common;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nist.drmf.interpreter.cas.logging.TranslatedExpression;
+import gov.nist.drmf.interpreter.common.InformationLogger;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A bounded least-recently-used cache of forward translations. The same expressions (and sub-expressions,
+ * such as limits of sums or constraints) are translated over and over again. The cache stores an immutable
+ * snapshot of the translation process for each pre-processed TeX string, DLMF label, and target language.
+ * A {@link gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator} that finds an entry in the cache
+ * restores its state from the snapshot instead of translating the expression again.
+ * </p>
+ *
+ * <p>
+ * The cache is thread-safe and can be shared between translators. Note that a cache should not be shared
+ * between configs with different settings, e.g., {@link ForwardTranslationProcessConfig#setLettersAsConstantsMode(boolean)},
+ * since these settings are not part of the key. The cache can be enabled via
+ * {@link ForwardTranslationProcessConfig#setTranslationCache(TranslationCache)}.
+ * </p>
+ *
+ * <p>
+ * Optionally, the cache can be backed by a file. The entries are loaded from this file when the cache is created
+ * and written back to it via {@link #persist()}. This way, repeated runs start with a warm cache.
+ * </p>
+ *
+ * @author Andre Greiner-Petter
+ */
+public class TranslationCache {
+    private static final Logger LOG = LogManager.getLogger(TranslationCache.class.getName());
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+
+    private final LinkedHashMap<Key, Snapshot> cache;
+
+    private final Path persistentFile;
+
+    /**
+     * The snapshots are plain data objects without getters for every field. Hence, the
+     * persistent file is written and read via the fields directly.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new in-memory cache with at most {@link #DEFAULT_MAX_SIZE} entries.
+     */
+    public TranslationCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new in-memory cache.
+     * @param maxSize the maximum number of entries
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    public TranslationCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Creates a new cache that is backed by the given file. If the file exists, the cache
+     * is initialized with the entries of the file.
+     * @param maxSize the maximum number of entries
+     * @param persistentFile the file (can be null for a pure in-memory cache)
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    public TranslationCache(int maxSize, Path persistentFile) {
+        if ( maxSize < 1 ) throw new IllegalArgumentException("The cache size must be positive but was " + maxSize);
+        this.maxSize = maxSize;
+        this.persistentFile = persistentFile;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Snapshot> eldest) {
+                if ( size() > TranslationCache.this.maxSize ) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        load();
+    }
+
+    /**
+     * @param tex the pre-processed TeX string
+     * @param label the DLMF label (can be null)
+     * @param language the target language
+     * @return the cached snapshot or null if there is no such entry
+     */
+    public synchronized Snapshot get(String tex, String label, String language) {
+        Snapshot entry = cache.get(new Key(tex, label, language));
+        if ( entry == null ) misses.increment();
+        else hits.increment();
+        return entry;
+    }
+
+    /**
+     * Adds a snapshot of a translation to the cache.
+     * @param tex the pre-processed TeX string
+     * @param label the DLMF label (can be null)
+     * @param language the target language
+     * @param entry the snapshot
+     */
+    public synchronized void put(String tex, String label, String language, Snapshot entry) {
+        cache.put(new Key(tex, label, language), entry);
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Writes all entries to the persistent file. Does nothing if the cache is not backed by a file.
+     * @throws IOException if the file cannot be written
+     */
+    public void persist() throws IOException {
+        if ( persistentFile == null ) return;
+        List<PersistentEntry> entries = new ArrayList<>();
+        synchronized (this) {
+            cache.forEach( (key, snapshot) -> entries.add(new PersistentEntry(key, snapshot)) );
+        }
+        try ( Writer writer = Files.newBufferedWriter(persistentFile, StandardCharsets.UTF_8) ) {
+            MAPPER.writeValue(writer, entries);
+        }
+        LOG.info("Stored " + entries.size() + " cached translations in " + persistentFile);
+    }
+
+    private void load() {
+        if ( persistentFile == null || !Files.exists(persistentFile) ) return;
+        try ( Reader reader = Files.newBufferedReader(persistentFile, StandardCharsets.UTF_8) ) {
+            List<PersistentEntry> entries = MAPPER.readValue(reader, new TypeReference<>() {});
+            for ( PersistentEntry e : entries ) cache.put(e.key, e.snapshot);
+            LOG.info("Loaded " + cache.size() + " cached translations from " + persistentFile);
+        } catch (IOException e) {
+            LOG.warn("Unable to load cached translations from " + persistentFile + ". Start with an empty cache.", e);
+            cache.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Translation cache [size: %d/%d, hits: %d, misses: %d, evictions: %d]",
+                size(), maxSize, getHits(), getMisses(), getEvictions());
+    }
+
+    private static final class PersistentEntry {
+        private final Key key;
+        private final Snapshot snapshot;
+
+        private PersistentEntry() {
+            this(null, null);
+        }
+
+        private PersistentEntry(Key key, Snapshot snapshot) {
+            this.key = key;
+            this.snapshot = snapshot;
+        }
+    }
+
+    private static final class Key {
+        private final String tex;
+        private final String label;
+        private final String language;
+
+        private Key() {
+            this(null, null, null);
+        }
+
+        private Key(String tex, String label, String language) {
+            this.tex = tex;
+            this.label = label;
+            this.language = language;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) return true;
+            if ( !(o instanceof Key) ) return false;
+            Key key = (Key) o;
+            return tex.equals(key.tex) && Objects.equals(label, key.label) && Objects.equals(language, key.language);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tex, label, language);
+        }
+    }
+
+    /**
+     * An immutable snapshot of a translation process. The objects are copied when
+     * the entry is created and every getter returns a new copy again.
+     */
+    public static final class Snapshot {
+        private final TranslatedExpression globalTranslation;
+        private final TranslatedExpression localTranslation;
+        private final List<TranslatedExpression> partialTranslations;
+        private final InformationLogger informationLogger;
+        private final TranslationInformation translationInformation;
+
+        private Snapshot() {
+            this.globalTranslation = null;
+            this.localTranslation = null;
+            this.partialTranslations = null;
+            this.informationLogger = null;
+            this.translationInformation = null;
+        }
+
+        public Snapshot(
+                TranslatedExpression globalTranslation,
+                TranslatedExpression localTranslation,
+                List<TranslatedExpression> partialTranslations,
+                InformationLogger informationLogger,
+                TranslationInformation translationInformation
+        ) {
+            this.globalTranslation = new TranslatedExpression(globalTranslation);
+            this.localTranslation = new TranslatedExpression(localTranslation);
+            this.partialTranslations = copy(partialTranslations);
+            this.informationLogger = new InformationLogger(informationLogger);
+            this.translationInformation = new TranslationInformation(translationInformation);
+        }
+
+        public TranslatedExpression getGlobalTranslation() {
+            return new TranslatedExpression(globalTranslation);
+        }
+
+        public TranslatedExpression getLocalTranslation() {
+            return new TranslatedExpression(localTranslation);
+        }
+
+        /**
+         * @return a copy of the partial translations (empty for entries of older cache files)
+         */
+        public List<TranslatedExpression> getPartialTranslations() {
+            return copy(partialTranslations);
+        }
+
+        public InformationLogger getInformationLogger() {
+            return new InformationLogger(informationLogger);
+        }
+
+        public TranslationInformation getTranslationInformation() {
+            return new TranslationInformation(translationInformation);
+        }
+
+        private static List<TranslatedExpression> copy(List<TranslatedExpression> translations) {
+            List<TranslatedExpression> copy = new ArrayList<>();
+            if ( translations != null ) translations.forEach( t -> copy.add(new TranslatedExpression(t)) );
+            return copy;
+        }
+    }
+}
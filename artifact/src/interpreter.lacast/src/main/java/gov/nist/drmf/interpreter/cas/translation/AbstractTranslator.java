@@ -355,6 +355,31 @@ public abstract class AbstractTranslator implements IForwardTranslator {
         this.tolerant = tolerant;
     }
 
+    public boolean isTolerant() {
+        return tolerant;
+    }
+
+    /**
+     * Replaces the state of this translator by the given (previously computed) state. Afterward, the
+     * translator behaves as if it had just translated the expression that produced this state.
+     * @param global the global translation list
+     * @param partials the partial translations, e.g., of multi-expressions
+     * @param logger the information logger
+     * @param information the translation information
+     */
+    protected void restoreState(
+            TranslatedExpression global,
+            List<TranslatedExpression> partials,
+            InformationLogger logger,
+            TranslationInformation information
+    ) {
+        reset();
+        this.globalExp = global;
+        this.partialTranslations.addAll(partials);
+        this.infoLogger = logger;
+        this.translationInformation = information;
+    }
+
     public void reset() {
         globalExp = new TranslatedExpression();
         partialTranslations = new LinkedList<>();
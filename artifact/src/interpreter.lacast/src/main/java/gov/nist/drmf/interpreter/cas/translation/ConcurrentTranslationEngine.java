@@ -0,0 +1,239 @@
+package gov.nist.drmf.interpreter.cas.translation;
+
+import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * A forward translation engine that translates many expressions in parallel. A {@link SemanticLatexTranslator}
+ * is not thread-safe and keeps the state of the current translation process. However, most of its
+ * components are immutable after the initialization, i.e., the symbol translators, the blueprints, and the
+ * lexicons of the {@link ForwardTranslationProcessConfig} and the (pooled) parser. This engine initializes
+ * all of these components only once and creates a light-weight translator for every single task. The tasks
+ * run in a dedicated {@link ForkJoinPool}.
+ * </p>
+ *
+ * <p>
+ * The results are always returned in the order of the input expressions. An expression that cannot be
+ * translated does not abort the other translations. Instead, the {@link Result} of this expression
+ * contains the thrown {@link TranslationException}.
+ * </p>
+ *
+ * @see SemanticLatexTranslator
+ * @author Andre Greiner-Petter
+ */
+public class ConcurrentTranslationEngine implements AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(ConcurrentTranslationEngine.class.getName());
+
+    /**
+     * The fully initialized translator. It is never used directly but serves
+     * as the template for the translators of each task.
+     */
+    private final SemanticLatexTranslator prototype;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new engine to the specified language. The number of parallel translations
+     * is the number of parsers of the standard PoM-tagger instance.
+     * @param to_language the language key
+     * @throws InitTranslatorException if the translator cannot be initialized
+     * @see gov.nist.drmf.interpreter.common.constants.Keys
+     */
+    public ConcurrentTranslationEngine(String to_language) throws InitTranslatorException {
+        this(new ForwardTranslationProcessConfig(to_language));
+    }
+
+    /**
+     * Creates a new engine based on the given config. The number of parallel translations
+     * is the number of parsers of the standard PoM-tagger instance.
+     * @param config the config of the translation process
+     * @throws InitTranslatorException if the translator cannot be initialized
+     */
+    public ConcurrentTranslationEngine(ForwardTranslationProcessConfig config) throws InitTranslatorException {
+        this(config, SemanticMLPWrapper.DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Creates a new engine based on the given config that translates up to {@code parallelism}
+     * expressions at the same time.
+     * @param config the config of the translation process
+     * @param parallelism the number of threads
+     * @throws InitTranslatorException if the translator cannot be initialized
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public ConcurrentTranslationEngine(ForwardTranslationProcessConfig config, int parallelism)
+            throws InitTranslatorException {
+        Instant start = Instant.now();
+        this.prototype = new SemanticLatexTranslator(config);
+        // the blueprints are lazily loaded. Load them now, so the tasks do not compete for it.
+        config.getLimitParser();
+        this.pool = new ForkJoinPool(parallelism);
+        LOG.printf(Level.INFO, "Initialized concurrent translation engine with %d threads [%dms]",
+                parallelism, Duration.between(start, Instant.now()).toMillis());
+    }
+
+    /**
+     * @return the config all translations share
+     */
+    public ForwardTranslationProcessConfig getConfig() {
+        return prototype.getConfig();
+    }
+
+    /**
+     * @return the maximum number of translations performed at the same time
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Translates a single expression in the calling thread.
+     * @param expression the expression
+     * @param label the DLMF label of the expression (can be null)
+     * @return the result of the translation
+     */
+    public Result translate(String expression, String label) {
+        SemanticLatexTranslator translator = prototype.createIndependentCopy();
+        try {
+            TranslationInformation ti = translator.translateToObject(expression, label, null);
+            return new Result(expression, ti, null);
+        } catch ( TranslationException te ) {
+            return new Result(expression, null, te);
+        }
+    }
+
+    /**
+     * Translates all expressions in parallel.
+     * @param expressions the expressions
+     * @return the results in the same order as the given expressions
+     */
+    public List<Result> translate(List<String> expressions) {
+        return translate(expressions, null);
+    }
+
+    /**
+     * Translates all expressions in parallel. The i-th label is used to pre-process the i-th expression.
+     * @param expressions the expressions
+     * @param labels the DLMF labels of the expressions or null if there are no labels
+     * @return the results in the same order as the given expressions
+     * @throws IllegalArgumentException if the number of labels and expressions differ
+     */
+    public List<Result> translate(List<String> expressions, List<String> labels) {
+        if ( labels != null && labels.size() != expressions.size() ) {
+            throw new IllegalArgumentException(
+                    "Number of labels (" + labels.size() + ") does not match the number of expressions (" +
+                            expressions.size() + ")"
+            );
+        }
+
+        return submit( () -> IntStream.range(0, expressions.size())
+                .parallel()
+                .mapToObj( i -> translate(expressions.get(i), labels == null ? null : labels.get(i)) )
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Translates all expressions of the given stream in parallel.
+     * @param expressions the stream of expressions
+     * @return the results in the encounter order of the stream
+     */
+    public List<Result> translate(Stream<String> expressions) {
+        return submit( () -> expressions
+                .parallel()
+                .map( e -> translate(e, null) )
+                .collect(Collectors.toList())
+        );
+    }
+
+    private List<Result> submit(Callable<List<Result>> task) {
+        Instant start = Instant.now();
+        List<Result> results = pool.submit(task).join();
+        LOG.printf(Level.DEBUG, "Translated %d expressions [%dms]",
+                results.size(), Duration.between(start, Instant.now()).toMillis());
+        return results;
+    }
+
+    /**
+     * Shuts down the threads of this engine and waits for running translations.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            if ( !pool.awaitTermination(1, TimeUnit.MINUTES) ) {
+                LOG.warn("Concurrent translation engine did not terminate in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The result of a single translation. Either the translation information is available
+     * or the exception that has been thrown.
+     */
+    public static class Result {
+        private final String expression;
+        private final TranslationInformation translationInformation;
+        private final TranslationException exception;
+
+        private Result(String expression, TranslationInformation translationInformation, TranslationException exception) {
+            this.expression = expression;
+            this.translationInformation = translationInformation;
+            this.exception = exception;
+        }
+
+        /**
+         * @return the input expression
+         */
+        public String getExpression() {
+            return expression;
+        }
+
+        /**
+         * @return true if the translation was successful
+         */
+        public boolean isSuccessful() {
+            return exception == null;
+        }
+
+        /**
+         * @return the translation information or null if the translation failed
+         */
+        public TranslationInformation getTranslationInformation() {
+            return translationInformation;
+        }
+
+        /**
+         * @return the translated expression or null if the translation failed
+         */
+        public String getTranslatedExpression() {
+            return translationInformation == null ? null : translationInformation.getTranslatedExpression();
+        }
+
+        /**
+         * @return the exception of a failed translation or null if the translation was successful
+         */
+        public TranslationException getException() {
+            return exception;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package gov.nist.drmf.interpreter.cas.translation;
 
 import gov.nist.drmf.interpreter.cas.blueprints.BlueprintMaster;
 import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
+import gov.nist.drmf.interpreter.cas.common.TranslationCache;
 import gov.nist.drmf.interpreter.cas.logging.TranslatedExpression;
 import gov.nist.drmf.interpreter.cas.logging.TranslatedExpressionHelper;
 import gov.nist.drmf.interpreter.common.InformationLogger;
@@ -93,15 +94,25 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
     }
 
     /**
-     * Copy constructor
+     * Copy constructor. The copy shares the (already initialized) config and parser
+     * with the original translator but has its own translation state.
      * @param orig the original translator
      */
-    private SemanticLatexTranslator( SemanticLatexTranslator orig ) throws InitTranslatorException {
+    private SemanticLatexTranslator( SemanticLatexTranslator orig ) {
         super( orig.getConfig() );
         this.config = orig.config;
         this.parser = orig.parser;
         this.localTranslations = new TranslatedExpression();
-        this.init();
+    }
+
+    /**
+     * Creates a new translator that shares the config (symbol translators, blueprints, etc.)
+     * and the parser with this translator. The new translator has its own translation state,
+     * so it can be used in another thread without initializing everything again.
+     * @return a new light-weight translator
+     */
+    public SemanticLatexTranslator createIndependentCopy() {
+        return new SemanticLatexTranslator(this);
     }
 
     /**
@@ -206,7 +217,20 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
 
     private String innerTranslate( String expression, String label, TranslationFeature<PrintablePomTaggedExpression> translationFeatures ) throws TranslationException {
         try {
-            PrintablePomTaggedExpression exp = parser.parse(expression, label);
+            String tex = TeXPreProcessor.preProcessingTeX(expression, label);
+
+            // translation features and the tolerant mode change the translation process, hence we do not cache them
+            TranslationCache cache = config.getTranslationCache();
+            boolean useCache = cache != null && translationFeatures == null && !isTolerant();
+            if ( useCache ) {
+                TranslationCache.Snapshot entry = cache.get(tex, label, getTargetLanguage());
+                if ( entry != null ) {
+                    restoreState(entry);
+                    return getTranslatedExpression();
+                }
+            }
+
+            PrintablePomTaggedExpression exp = parser.parseRaw(tex);
             if ( translationFeatures != null ) {
                 exp = translationFeatures.preProcess(exp);
             }
@@ -214,6 +238,13 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
             if ( !super.getInfoLogger().isEmpty() && !config.shortenedOutput() ) {
                 LOG.info(super.getInfoLogger().toString());
             }
+
+            if ( useCache ) {
+                cache.put(tex, label, getTargetLanguage(), new TranslationCache.Snapshot(
+                        getGlobalTranslationList(), localTranslations, getListOfPartialTranslations(),
+                        getInfoLogger(), getTranslationInformation()
+                ));
+            }
             return getTranslatedExpression();
         } catch ( ParseException pe ){
             throw TranslationException.buildException(
@@ -228,6 +259,16 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
         }
     }
 
+    private void restoreState(TranslationCache.Snapshot entry) {
+        super.restoreState(
+                entry.getGlobalTranslation(),
+                entry.getPartialTranslations(),
+                entry.getInformationLogger(),
+                entry.getTranslationInformation()
+        );
+        localTranslations = entry.getLocalTranslation();
+    }
+
     @Override
     public String getTranslatedExpression() {
         if ( config.isInlinePackageMode() ) {
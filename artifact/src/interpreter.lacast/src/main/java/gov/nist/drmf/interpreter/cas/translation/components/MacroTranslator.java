@@ -11,7 +11,6 @@ import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.pom.common.grammar.Brackets;
 import gov.nist.drmf.interpreter.pom.common.grammar.MathTermTags;
-import gov.nist.drmf.interpreter.pom.common.interfaces.IFeatureExtractor;
 import gov.nist.drmf.interpreter.pom.common.MathTermUtility;
 import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
 import mlp.FeatureSet;
@@ -107,7 +106,7 @@ public class MacroTranslator extends AbstractListTranslator {
         try {
             // ok first, get the feature set!
             fset = macroTerm.getNamedFeatureSet(Keys.KEY_DLMF_MACRO);
-            info = new MacroInfoHolder(this, fset, cas, macro);
+            info = getMacroInfo(fset, 0);
 
             // first, lets check if this function has no arguments (single symbol)
             if (info.hasNoArguments()) {
@@ -126,10 +125,7 @@ public class MacroTranslator extends AbstractListTranslator {
         // in case of optional arguments, we have to retrieve other information from the lexicons
         if (!optionalParas.isEmpty()) {
             fset = macroTerm.getNamedFeatureSet(Keys.KEY_DLMF_MACRO_OPTIONAL_PREFIX + optionalParas.size());
-            // that's a fall back... if the user misses to specify the number of optional parameters, we better
-            // overwrite them now
-            IFeatureExtractor.setFeatureValue(fset, Keys.NUM_OF_OPT_PARAMS, Integer.toString(optionalParas.size()));
-            info = new MacroInfoHolder(this, fset, cas, macro);
+            info = getMacroInfo(fset, optionalParas.size());
         } else if ( translationException != null ) {
             // if there are no optional parameters AND previously we caught an exception, its time to throw it now
             throw translationException;
@@ -141,6 +137,28 @@ public class MacroTranslator extends AbstractListTranslator {
         return parse(followingExps, info, optionalParas);
     }
 
+    /**
+     * Returns the information of the current macro. If the macro is part of the {@link CompiledMacroTable}
+     * of the config, the compiled information is reused. Otherwise, the information is extracted from the
+     * given feature set.
+     * @param fset the feature set of the macro
+     * @param numberOfOptionalParameters the number of optional parameters
+     * @return the information holder
+     * @throws TranslationException if there is no translation for the macro
+     */
+    private MacroInfoHolder getMacroInfo(FeatureSet fset, int numberOfOptionalParameters) throws TranslationException {
+        CompiledMacroTable table = getConfig().getCompiledMacroTable();
+        if ( fset != null && table != null ) {
+            CompiledMacro compiledMacro = table.get(macro, numberOfOptionalParameters);
+            if ( compiledMacro != null ) return new MacroInfoHolder(compiledMacro);
+        }
+
+        // if the user misses to specify the number of optional parameters in the lexicon, we better
+        // overwrite them now
+        int numOfOptionalParas = numberOfOptionalParameters > 0 ? numberOfOptionalParameters : -1;
+        return new MacroInfoHolder(this, fset, cas, macro, numOfOptionalParas, getConfig().getTAB());
+    }
+
     /**
      * The general parsing process, assumes optional parameters were parsed before and the information
      * holder is final.
@@ -195,10 +213,7 @@ public class MacroTranslator extends AbstractListTranslator {
         localTranslations.getFreeVariables().addFreeVariables( info.getFreeVariables() );
 
         // put all information to the info log
-        getInfoLogger().addMacroInfo(
-                infoKey,
-                MacroTranslatorUtility.createFurtherInformation(info, getConfig().getTAB(), cas)
-        );
+        getInfoLogger().addMacroInfo(infoKey, info.getCompiledMacro().getFurtherInformation());
 
         // in case we translated an expression in advance, we need to fill up the translation lists
         if ( isDeriv && derivativesTranslator.hasTranslatedInAdvancedComponent() ) {
@@ -235,7 +250,7 @@ public class MacroTranslator extends AbstractListTranslator {
         // inform about the translation decision
         super.getInfoLogger().addMacroInfo(
                 macroInfo.getMacro(),
-                MacroTranslatorUtility.createFurtherInformation(macroInfo, getConfig().getTAB(), cas)
+                macroInfo.getCompiledMacro().getFurtherInformation()
         );
 
         MacroTranslationInformation info = macroInfo.getTranslationInformation();
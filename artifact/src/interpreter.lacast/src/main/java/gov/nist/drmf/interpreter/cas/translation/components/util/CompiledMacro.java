@@ -0,0 +1,137 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import gov.nist.drmf.interpreter.cas.common.DLMFPatterns;
+import gov.nist.drmf.interpreter.pom.common.grammar.DLMFFeatureValues;
+import mlp.FeatureSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.SortedSet;
+
+/**
+ * The immutable translation information of a DLMF macro with a specific number of optional parameters
+ * for a specific CAS. All values of the feature set are extracted, parsed, and the translation pattern
+ * is tokenized once, so that a {@link CompiledMacro} can be shared by all occurrences of the macro.
+ *
+ * @author Andre Greiner-Petter
+ * @see CompiledMacroTable
+ * @see MacroInfoHolder
+ */
+public final class CompiledMacro {
+    private static final Logger LOG = LogManager.getLogger(CompiledMacro.class.getName());
+
+    private final String macro;
+
+    private final MacroTranslationInformation translationInformation;
+
+    private final MacroMetaInformation metaInformation;
+
+    private final int slotOfDifferentiation;
+
+    private final TranslationTemplate template;
+
+    private final boolean isWronskian;
+
+    private final boolean isDeriv;
+
+    private final String furtherInformation;
+
+    /**
+     * Extracts all information from the given feature set of a DLMF macro.
+     * @param fset the feature set of the macro
+     * @param cas the CAS
+     * @param macro the macro
+     * @param numberOfOptionalParameters the number of optional parameters or a negative number to use
+     *                                   the number specified in the feature set
+     * @param tab the string used for tabs to format {@link #getFurtherInformation()}
+     * @throws NullPointerException if the feature set does not provide necessary information
+     * @throws NumberFormatException if the number of parameters, ats, or variables are not numbers
+     */
+    public CompiledMacro(FeatureSet fset, String cas, String macro, int numberOfOptionalParameters, String tab)
+            throws NullPointerException, NumberFormatException {
+        this.macro = macro;
+        this.translationInformation = numberOfOptionalParameters < 0 ?
+                new MacroTranslationInformation(fset, cas) :
+                new MacroTranslationInformation(fset, cas, numberOfOptionalParameters);
+        this.metaInformation = new MacroMetaInformation(fset, cas);
+        this.slotOfDifferentiation = extractSlotOfDifferentiation(fset, cas);
+        this.template = translationInformation.hasNoTranslations() ? null : TranslationTemplate.compile(getTranslationPattern());
+        this.isWronskian = macro.equals("\\Wronskian");
+        this.isDeriv = macro.matches(DLMFPatterns.DERIV_NOTATION);
+        this.furtherInformation = template == null ? null : MacroTranslatorUtility.createFurtherInformation(this, tab, cas);
+    }
+
+    private int extractSlotOfDifferentiation(FeatureSet fset, String cas) {
+        try { // true slot is argument slot + numOfParams
+            return Integer.parseInt(DLMFFeatureValues.SLOT_DERIVATIVE.getFeatureValue(fset, cas))
+                    + translationInformation.getNumOfParams();
+        } catch (NumberFormatException e) {
+            LOG.debug("Cannot extract slot of differentiation for " + macro);
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    private String getTranslationPattern() {
+        String pattern = translationInformation.getTranslationPattern();
+        if ( pattern == null || pattern.isEmpty() ) {
+            LOG.debug("No direct translation available for " + macro + ", switch to alternative mode.");
+            SortedSet<String> alts = translationInformation.getAlternativePattern();
+            if ( alts.size() > 1 )
+                LOG.debug("Found multiple alternative translations. We choose first. " +
+                        "Check translation information for other options");
+            pattern = alts.first();
+        }
+        return pattern;
+    }
+
+    public String getMacro() {
+        return macro;
+    }
+
+    public MacroTranslationInformation getTranslationInformation() {
+        return translationInformation;
+    }
+
+    public MacroMetaInformation getMetaInformation() {
+        return metaInformation;
+    }
+
+    /**
+     * @return the slot of differentiation (including the parameters) or {@link Integer#MIN_VALUE} if the
+     * macro has no slot of differentiation
+     */
+    public int getSlotOfDifferentiation() {
+        return slotOfDifferentiation;
+    }
+
+    /**
+     * @return the template of the translation pattern (or the first alternative translation pattern if there
+     * is no direct translation) or null if there are no translations at all
+     */
+    public TranslationTemplate getTemplate() {
+        return template;
+    }
+
+    public boolean isWronskian() {
+        return isWronskian;
+    }
+
+    public boolean isDeriv() {
+        return isDeriv;
+    }
+
+    public int getNumberOfArguments() {
+        return translationInformation.getNumOfOptionalParas() +
+                translationInformation.getNumOfParams() +
+                translationInformation.getNumOfVars();
+    }
+
+    /**
+     * @return the pretty string representation of the translation information for the info logger
+     * (null if there are no translations)
+     * @see MacroTranslatorUtility#createFurtherInformation(CompiledMacro, String, String)
+     */
+    public String getFurtherInformation() {
+        return furtherInformation;
+    }
+}
@@ -0,0 +1,140 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import mlp.FeatureSet;
+import mlp.Lexicon;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The table of all {@link CompiledMacro}s of a lexicon for a specific CAS. The table is built once
+ * (see {@link gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig#getCompiledMacroTable()})
+ * so that the translation of a macro does not need to extract the information from the feature set
+ * of every occurrence again.
+ *
+ * The table contains an entry for every macro and number of optional parameters that has a translation
+ * to the CAS. Macros without translations are not part of the table.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class CompiledMacroTable {
+    private static final Logger LOG = LogManager.getLogger(CompiledMacroTable.class.getName());
+
+    private static final CompiledMacro[] EMPTY = new CompiledMacro[0];
+
+    private final Lexicon lexicon;
+
+    private final String cas;
+
+    // the i-th element of the array is the compiled macro with i optional parameters (or null)
+    private final Map<String, CompiledMacro[]> table;
+
+    private final int size;
+
+    private CompiledMacroTable(Lexicon lexicon, String cas, Map<String, CompiledMacro[]> table, int size) {
+        this.lexicon = lexicon;
+        this.cas = cas;
+        this.table = table;
+        this.size = size;
+    }
+
+    /**
+     * Compiles all DLMF macros of the given lexicon for the given CAS.
+     * @param lexicon the lexicon of DLMF macros
+     * @param cas the CAS
+     * @param tab the string used for tabs in the further information of the macros
+     * @return the table of compiled macros
+     */
+    public static CompiledMacroTable compile(Lexicon lexicon, String cas, String tab) {
+        Instant start = Instant.now();
+        Map<String, CompiledMacro[]> table = new HashMap<>();
+        int size = 0;
+
+        for ( Map.Entry<String, List<FeatureSet>> entry : lexicon.getLexiconMap().entrySet() ) {
+            String macro = entry.getKey();
+            CompiledMacro[] compiledMacros = EMPTY;
+            for ( FeatureSet fset : entry.getValue() ) {
+                int numberOfOptionalParameters = getNumberOfOptionalParameters(fset);
+                if ( numberOfOptionalParameters < 0 ) continue;
+
+                CompiledMacro compiledMacro = compile(fset, cas, macro, numberOfOptionalParameters, tab);
+                if ( compiledMacro == null ) continue;
+
+                if ( compiledMacros.length <= numberOfOptionalParameters ) {
+                    CompiledMacro[] tmp = new CompiledMacro[numberOfOptionalParameters + 1];
+                    System.arraycopy(compiledMacros, 0, tmp, 0, compiledMacros.length);
+                    compiledMacros = tmp;
+                }
+                compiledMacros[numberOfOptionalParameters] = compiledMacro;
+                size++;
+            }
+            if ( compiledMacros.length > 0 ) table.put(macro, compiledMacros);
+        }
+
+        LOG.printf(Level.DEBUG, "Compiled %d DLMF macros for %s [%dms]", size, cas, Duration.between(start, Instant.now()).toMillis());
+        return new CompiledMacroTable(lexicon, cas, table, size);
+    }
+
+    private static int getNumberOfOptionalParameters(FeatureSet fset) {
+        String name = fset.getFeatureSetName();
+        if ( Keys.KEY_DLMF_MACRO.equals(name) ) return 0;
+        if ( name == null || !name.startsWith(Keys.KEY_DLMF_MACRO_OPTIONAL_PREFIX) ) return -1;
+        try {
+            return Integer.parseInt(name.substring(Keys.KEY_DLMF_MACRO_OPTIONAL_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static CompiledMacro compile(FeatureSet fset, String cas, String macro, int numberOfOptionalParameters, String tab) {
+        try {
+            // the number of optional parameters of the main feature set is given by the lexicon
+            CompiledMacro compiledMacro = new CompiledMacro(
+                    fset, cas, macro, numberOfOptionalParameters == 0 ? -1 : numberOfOptionalParameters, tab
+            );
+            return compiledMacro.getTemplate() == null ? null : compiledMacro;
+        } catch (RuntimeException e) {
+            LOG.trace("Unable to compile " + macro + " for " + cas + ": " + e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * @param macro the DLMF macro, e.g., {@code \JacobipolyP}
+     * @param numberOfOptionalParameters the number of optional parameters
+     * @return the compiled macro or null if there is no translation for the given macro with the given
+     * number of optional parameters
+     */
+    public CompiledMacro get(String macro, int numberOfOptionalParameters) {
+        CompiledMacro[] compiledMacros = table.get(macro);
+        if ( compiledMacros == null || numberOfOptionalParameters < 0 || numberOfOptionalParameters >= compiledMacros.length )
+            return null;
+        return compiledMacros[numberOfOptionalParameters];
+    }
+
+    /**
+     * @param lexicon a lexicon
+     * @return true if this table was compiled from the given lexicon instance
+     */
+    public boolean isCompiledFrom(Lexicon lexicon) {
+        return this.lexicon == lexicon;
+    }
+
+    public String getCAS() {
+        return cas;
+    }
+
+    /**
+     * @return the number of compiled macros (every number of optional parameters of a macro is counted)
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -1,37 +1,44 @@
 package gov.nist.drmf.interpreter.cas.translation.components.util;
 
-import gov.nist.drmf.interpreter.cas.common.DLMFPatterns;
 import gov.nist.drmf.interpreter.cas.common.IForwardTranslator;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.common.latex.FreeVariables;
-import gov.nist.drmf.interpreter.pom.common.grammar.DLMFFeatureValues;
 import mlp.FeatureSet;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
+ * Holds the information of a single occurrence of a DLMF macro. The information of the macro itself
+ * is provided by a shared {@link CompiledMacro}. This holder only stores information that depends on
+ * the occurrence, such as the free variables of the arguments.
+ *
  * @author Andre Greiner-Petter
  */
 public class MacroInfoHolder {
-    private static final Logger LOG = LogManager.getLogger(MacroInfoHolder.class.getName());
+    private final CompiledMacro compiledMacro;
 
-    private int slotOfDifferentiation = Integer.MIN_VALUE;
-
-    private final String macro;
+    private int slotOfDifferentiation;
 
     private String variableOfDifferentiation = null;
 
-    private MacroTranslationInformation translationInformation;
-
-    private MacroMetaInformation metaInformation;
+    private final FreeVariables freeVariables;
 
-    private FreeVariables freeVariables;
+    /**
+     * Creates a holder for an occurrence of the given compiled macro.
+     * @param compiledMacro the compiled macro
+     */
+    public MacroInfoHolder(CompiledMacro compiledMacro) {
+        this.compiledMacro = compiledMacro;
+        this.slotOfDifferentiation = compiledMacro.getSlotOfDifferentiation();
+        this.freeVariables = new FreeVariables();
+    }
 
     /**
      * Store information about the macro from an feature set.
      * @param fset future set
      * @param macro the macro
+     * @param numberOfOptionalParameters the number of optional parameters or a negative number to use
+     *                                   the number specified in the feature set
+     * @param tab the string used for tabs in the further information of the macro
      * @throws TranslationException if the feature set does not provide
      * the necessary information for a translation
      */
@@ -39,34 +46,37 @@ public class MacroInfoHolder {
             IForwardTranslator translator,
             FeatureSet fset,
             String cas,
-            String macro
+            String macro,
+            int numberOfOptionalParameters,
+            String tab
     ) throws TranslationException {
-        this.macro = macro;
-        this.checkFeatureSetValidity(translator, fset);
-        this.storeInfosValidityCheck(translator, fset, cas);
-        this.freeVariables = new FreeVariables();
+        this(compile(translator, fset, cas, macro, numberOfOptionalParameters, tab));
     }
 
-    private void checkFeatureSetValidity(IForwardTranslator translator, FeatureSet fset)
-            throws TranslationException {
+    private static CompiledMacro compile(
+            IForwardTranslator translator,
+            FeatureSet fset,
+            String cas,
+            String macro,
+            int numberOfOptionalParameters,
+            String tab
+    ) throws TranslationException {
         if ( fset == null ) {
             throw TranslationException.buildExceptionObj(
                     translator, "Cannot extract information from feature set: " + macro,
                     TranslationExceptionReason.MISSING_TRANSLATION_INFORMATION,
                     macro);
         }
-    }
 
-    private void storeInfosValidityCheck(IForwardTranslator translator, FeatureSet fset, String cas)
-            throws TranslationException {
         // try to extract the information
         try {
-            this.storeInfos(fset, cas);
-            if (this.translationInformation.hasNoTranslations()) {
+            CompiledMacro compiledMacro = new CompiledMacro(fset, cas, macro, numberOfOptionalParameters, tab);
+            if (compiledMacro.getTranslationInformation().hasNoTranslations()) {
                 throw TranslationException.buildExceptionObj(
                         translator, "There are no translation patterns available for: " + macro,
                         TranslationExceptionReason.MISSING_TRANSLATION_INFORMATION, macro);
             }
+            return compiledMacro;
         } catch (NullPointerException | TranslationException npe) {
             throw TranslationException.buildExceptionObj(
                     translator, "Cannot extract information from feature set: " + macro,
@@ -74,21 +84,8 @@ public class MacroInfoHolder {
         }
     }
 
-    /**
-     * Analyzes and extracts all information from a given feature set of a DLMF macro.
-     * @param fset the feature set
-     */
-    private void storeInfos(FeatureSet fset, String cas) {
-        this.translationInformation = new MacroTranslationInformation(fset, cas);
-
-        try { // true slot is argument slot + numOfParams
-            slotOfDifferentiation = Integer.parseInt(DLMFFeatureValues.SLOT_DERIVATIVE.getFeatureValue(fset, cas))
-                    + translationInformation.getNumOfParams();
-        } catch (NumberFormatException e) {
-            LOG.debug("Cannot extract slot of differentiation for " + macro);
-        }
-
-        metaInformation = new MacroMetaInformation(fset, cas);
+    public CompiledMacro getCompiledMacro() {
+        return compiledMacro;
     }
 
     public FreeVariables getFreeVariables() {
@@ -100,15 +97,15 @@ public class MacroInfoHolder {
     }
 
     public boolean isWronskian() {
-        return macro.equals("\\Wronskian");
+        return compiledMacro.isWronskian();
     }
 
     public boolean isDeriv() {
-        return macro.matches(DLMFPatterns.DERIV_NOTATION);
+        return compiledMacro.isDeriv();
     }
 
     public String getMacro() {
-        return macro;
+        return compiledMacro.getMacro();
     }
 
     public String getVariableOfDifferentiation() {
@@ -120,13 +117,11 @@ public class MacroInfoHolder {
     }
 
     public int getNumberOfArguments() {
-        return translationInformation.getNumOfOptionalParas() +
-                translationInformation.getNumOfParams() +
-                translationInformation.getNumOfVars();
+        return compiledMacro.getNumberOfArguments();
     }
 
     public boolean hasNoArguments() {
-        return getNumberOfArguments() + translationInformation.getNumOfAts() == 0;
+        return getNumberOfArguments() + getTranslationInformation().getNumOfAts() == 0;
     }
 
     public int getSlotOfDifferentiation() {
@@ -138,10 +133,10 @@ public class MacroInfoHolder {
     }
 
     public MacroTranslationInformation getTranslationInformation() {
-        return translationInformation;
+        return compiledMacro.getTranslationInformation();
     }
 
     public MacroMetaInformation getMetaInformation() {
-        return metaInformation;
+        return compiledMacro.getMetaInformation();
     }
 }
@@ -15,24 +15,33 @@ import static org.apache.logging.log4j.LogManager.getLogger;
 public class MacroTranslationInformation {
     private static final Logger LOG = getLogger(MacroTranslationInformation.class.getName());
 
-    private int numOfOptionalParas, numOfParams, numOfAts, numOfVars;
+    private final int numOfOptionalParas, numOfParams, numOfAts, numOfVars;
 
-    private String constraints;
+    private final String constraints;
 
-    private String defDlmf, defCas;
+    private final String defDlmf, defCas;
 
-    private String translationPattern;
-    private SortedSet<String> alternativePattern;
+    private final String translationPattern;
+    private final SortedSet<String> alternativePattern;
 
-    private String branchCuts, casBranchCuts;
+    private final String branchCuts, casBranchCuts;
 
-    private Set<String> requiredPackages;
+    private final Set<String> requiredPackages;
 
     public MacroTranslationInformation(FeatureSet fset, String cas) {
+        this(fset, cas, getNumOfOptionalParas(fset, cas));
+    }
+
+    /**
+     * Extracts the translation information from the given feature set.
+     * @param fset the feature set of the macro
+     * @param cas the CAS
+     * @param numOfOptionalParas the number of optional parameters, overwrites the value of the feature set
+     */
+    public MacroTranslationInformation(FeatureSet fset, String cas, int numOfOptionalParas) {
         // now store all additional information
         // first of all number of parameters, ats and vars
-        String optParaString = DLMFFeatureValues.NUMBER_OF_OPTIONAL_PARAMETERS.getFeatureValue(fset, cas);
-        numOfOptionalParas = optParaString.isBlank() ? 0 : Integer.parseInt(optParaString);
+        this.numOfOptionalParas = numOfOptionalParas;
         numOfParams = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_PARAMETERS.getFeatureValue(fset, cas));
         numOfAts = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_ATS.getFeatureValue(fset, cas));
         numOfVars = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_VARIABLES.getFeatureValue(fset, cas));
@@ -59,8 +68,9 @@ public class MacroTranslationInformation {
         requiredPackages = DLMFFeatureValues.REQUIRED_PACKAGES.getFeatureSet(fset, cas);
     }
 
-    public void setNumOfOptionalParas( int numOptionalParas ) {
-        this.numOfOptionalParas = numOptionalParas;
+    private static int getNumOfOptionalParas(FeatureSet fset, String cas) {
+        String optParaString = DLMFFeatureValues.NUMBER_OF_OPTIONAL_PARAMETERS.getFeatureValue(fset, cas);
+        return optParaString.isBlank() ? 0 : Integer.parseInt(optParaString);
     }
 
     public int getNumOfOptionalParas() {
@@ -28,6 +28,17 @@ public final class MacroTranslatorUtility {
      * @return a pretty string representation of the translation information that can be logged
      */
     public static String createFurtherInformation(MacroInfoHolder info, String generalTab, String cas) {
+        return createFurtherInformation(info.getCompiledMacro(), generalTab, cas);
+    }
+
+    /**
+     * Creates an appropriate string about translation information for the given macro and cas.
+     * @param info the compiled macro
+     * @param generalTab the string used for tabs
+     * @param cas the computer algebra system
+     * @return a pretty string representation of the translation information that can be logged
+     */
+    public static String createFurtherInformation(CompiledMacro info, String generalTab, String cas) {
         MacroMetaInformation metaInfo = info.getMetaInformation();
         MacroTranslationInformation translationInfo = info.getTranslationInformation();
         String extraInformation = metaInfo.getMeaningDescriptionString();
@@ -3,13 +3,11 @@ package gov.nist.drmf.interpreter.cas.translation.components.util;
 import gov.nist.drmf.interpreter.cas.common.DLMFPatterns;
 import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
 import gov.nist.drmf.interpreter.cas.translation.AbstractListTranslator;
-import gov.nist.drmf.interpreter.common.constants.GlobalConstants;
 import gov.nist.drmf.interpreter.common.symbols.BasicFunctionsTranslator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
-import java.util.SortedSet;
 
 /**
  * This class fills a translation pattern by the provided information.
@@ -54,10 +52,8 @@ public class PatternFiller {
             ForwardTranslationProcessConfig config,
             String[] args
     ) throws NullPointerException {
-        // when the alternative mode is activated, it tries to translate
-        // the alternative translation
-        MacroTranslationInformation translationInformation = macroInfo.getTranslationInformation();
-        String pattern = getTranslationPattern(translationInformation);
+        // the template of the translation pattern (or the alternative translation if there is no direct translation)
+        TranslationTemplate template = macroInfo.getCompiledMacro().getTemplate();
 
         // Maybe, we need to substitute an argument.
         String subbedExpression = null;
@@ -68,10 +64,10 @@ public class PatternFiller {
         } else if ( derivInfo.isComplexDerivativeVar() && macroInfo.isDeriv() ) {
             args = updateArgumentsForSubstitution(args);
             subbedExpression = args[2];
-            pattern = args[1].replaceAll(
+            template = TranslationTemplate.compile(args[1].replaceAll(
                     "\\Q"+args[2]+"\\E",
                     this.tempVariableString
-            );
+            ));
             args[2] = this.tempVariableString;
         }
 
@@ -81,8 +77,8 @@ public class PatternFiller {
         }
 
         // finally, fill up pattern with arguments
-        LOG.debug("Fill pattern: " + pattern);
-        pattern = fillPattern(args, pattern);
+        LOG.debug("Fill pattern: " + template.getPattern());
+        String pattern = fillPattern(args, template);
         LOG.debug("Translated DLMF macro to: " + pattern);
 
         // apply derivative and plug in the subbed out expression to replace temp during execution in CAS
@@ -116,19 +112,6 @@ public class PatternFiller {
         return args;
     }
 
-    private String getTranslationPattern(MacroTranslationInformation translationInformation) {
-        String pattern = translationInformation.getTranslationPattern();
-        if ( pattern == null || pattern.isEmpty() ) {
-            LOG.debug("No direct translation available, switch to alternative mode.");
-            SortedSet<String> alts = translationInformation.getAlternativePattern();
-            if ( alts.size() > 1 )
-                LOG.debug("Found multiple alternative translations. We choose first. " +
-                        "Check translation information for other options");
-            pattern = alts.first();
-        }
-        return pattern;
-    }
-
     private String[] getArgumentsOfWronskian(String[] args) {
         String[] newComponents = new String[args.length + 1];
         newComponents[0] = macroInfo.getVariableOfDifferentiation();
@@ -136,14 +119,12 @@ public class PatternFiller {
         return newComponents;
     }
 
-    private String fillPattern(String[] args, String pattern) {
+    private String fillPattern(String[] args, TranslationTemplate template) {
+        String[] strippedArgs = new String[args.length];
         for (int i = 0; i < args.length; i++) {
-            pattern = pattern.replace(
-                    GlobalConstants.POSITION_MARKER + i,
-                    AbstractListTranslator.stripMultiParentheses(args[i])
-            );
+            strippedArgs[i] = AbstractListTranslator.stripMultiParentheses(args[i]);
         }
-        return pattern;
+        return template.fill(strippedArgs);
     }
 
     private String simpleDerivative(
@@ -0,0 +1,123 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pre-tokenized translation pattern of a DLMF macro. A translation pattern, such as
+ * {@code JacobiP($0, $1, $2, $3)}, contains placeholders {@link GlobalConstants#POSITION_MARKER}
+ * followed by the index of the argument. The template splits the pattern once into literal segments
+ * and placeholders, so that {@link #fill(String[])} is a single pass over the segments.
+ *
+ * A placeholder refers to the longest sequence of digits after the marker that is a valid index
+ * of the given arguments. Hence, {@code $10} refers to the 11th argument if there are 11 or more
+ * arguments and to the second argument followed by {@code 0} otherwise. Placeholders that refer to no
+ * argument at all remain untouched.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class TranslationTemplate {
+    private static final char MARKER = GlobalConstants.POSITION_MARKER.charAt(0);
+
+    private final String pattern;
+
+    // literals[i] precedes slots[i], the last literal follows the last slot
+    private final String[] literals;
+
+    // the digits after the marker of each placeholder
+    private final String[] slots;
+
+    private TranslationTemplate(String pattern, String[] literals, String[] slots) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Splits the given translation pattern into literal segments and placeholders.
+     * @param pattern the translation pattern
+     * @return the template of the given pattern
+     */
+    public static TranslationTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int start = 0;
+        int idx = pattern.indexOf(MARKER);
+        while ( idx >= 0 ) {
+            int end = idx + 1;
+            while ( end < pattern.length() && isDigit(pattern.charAt(end)) ) end++;
+            if ( end > idx + 1 ) {
+                literals.add(pattern.substring(start, idx));
+                slots.add(pattern.substring(idx + 1, end));
+                start = end;
+            }
+            idx = pattern.indexOf(MARKER, end);
+        }
+        literals.add(pattern.substring(start));
+
+        return new TranslationTemplate(
+                pattern,
+                literals.toArray(new String[0]),
+                slots.toArray(new String[0])
+        );
+    }
+
+    /**
+     * @return the original translation pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the number of placeholders in the pattern
+     */
+    public int getNumberOfPlaceholders() {
+        return slots.length;
+    }
+
+    /**
+     * Fills the placeholders of this template with the given arguments.
+     * @param args the arguments, the i-th argument replaces the placeholder of index i
+     * @return the filled pattern
+     */
+    public String fill(String[] args) {
+        if ( slots.length == 0 ) return pattern;
+
+        StringBuilder sb = new StringBuilder(pattern.length() + 16 * slots.length);
+        for ( int i = 0; i < slots.length; i++ ) {
+            sb.append(literals[i]);
+            appendSlot(sb, slots[i], args);
+        }
+        sb.append(literals[slots.length]);
+        return sb.toString();
+    }
+
+    private static void appendSlot(StringBuilder sb, String digits, String[] args) {
+        // find the longest prefix of the digits that is an index of the arguments (without leading zeros)
+        int index = -1;
+        int length = 0;
+        int value = 0;
+        int maxLength = digits.charAt(0) == '0' ? 1 : Math.min(digits.length(), 9);
+        for ( int i = 0; i < maxLength; i++ ) {
+            value = 10 * value + (digits.charAt(i) - '0');
+            if ( value < args.length ) {
+                index = value;
+                length = i + 1;
+            }
+        }
+
+        if ( index < 0 ) {
+            sb.append(MARKER).append(digits);
+        } else {
+            sb.append(args[index]).append(digits, length, digits.length());
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
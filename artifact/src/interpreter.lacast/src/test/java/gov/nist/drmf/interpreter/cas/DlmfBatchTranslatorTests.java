@@ -0,0 +1,130 @@
+package gov.nist.drmf.interpreter.cas;
+
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class DlmfBatchTranslatorTests {
+
+    private static final String[] FORMULAE = new String[] {
+            "\\cos@{x}", "\\sin@{x}", "\\EulerGamma@{z}", "\\sqrt{x}"
+    };
+
+    /**
+     * A batch translator that remembers the translated ids and fails for the given ids.
+     */
+    private static class TestBatchTranslator extends DlmfBatchTranslator {
+        private final Set<String> translated = ConcurrentHashMap.newKeySet();
+        private final Set<String> failing;
+        private final boolean killWorkers;
+
+        TestBatchTranslator(String[] args, Set<String> failing, boolean killWorkers) throws ParseException {
+            super(new DefaultParser().parse(createOptions(), args));
+            this.failing = failing;
+            this.killWorkers = killWorkers;
+        }
+
+        @Override
+        void translate(SemanticLatexTranslator translator, String id, String sTeX) throws IOException {
+            if ( killWorkers ) throw new StackOverflowError("Test worker failure");
+            if ( failing.contains(id) ) throw new IllegalArgumentException("Test failure");
+            super.translate(translator, id, sTeX);
+            translated.add(id);
+        }
+    }
+
+    private static Path createInput(Path dir) throws IOException {
+        Path in = dir.resolve("in");
+        Files.createDirectories(in);
+        for ( int i = 0; i < FORMULAE.length; i++ ) {
+            Files.writeString(in.resolve("f" + i + ".s.tex"), FORMULAE[i], StandardCharsets.UTF_8);
+        }
+        return in;
+    }
+
+    private static String[] args(Path dir, Path in, String threads) {
+        return new String[] {
+                "-i", in.toString(),
+                "-o", dir.toString(),
+                "-c", dir.resolve("checkpoint.txt").toString(),
+                "-j", dir.resolve("results.jsonl").toString(),
+                "-t", threads,
+                "-q", "1"
+        };
+    }
+
+    private static String id(Path in, int i) {
+        return in.resolve("f" + i + ".s.tex").toString().replace("/", "-").replace(in.toString().replace("/", "-"), "");
+    }
+
+    @Test
+    public void checkpointResumeTest(@TempDir Path dir) throws Exception {
+        Path in = createInput(dir);
+        Path checkpoint = dir.resolve("checkpoint.txt");
+        // simulates a previous run that crashed after the first file
+        Files.writeString(checkpoint, id(in, 0) + System.lineSeparator(), StandardCharsets.UTF_8);
+
+        TestBatchTranslator translator = new TestBatchTranslator(args(dir, in, "2"), Set.of(), false);
+        assertEquals(0, translator.run());
+        assertEquals(1, translator.getNumberOfSkippedFiles());
+        assertEquals(FORMULAE.length - 1, translator.translated.size());
+        assertFalse(translator.translated.contains(id(in, 0)));
+
+        assertEquals(FORMULAE.length, Files.readAllLines(checkpoint).size());
+        List<String> results = Files.readAllLines(dir.resolve("results.jsonl"));
+        assertEquals(FORMULAE.length - 1, results.size());
+
+        // nothing left to do
+        TestBatchTranslator resumed = new TestBatchTranslator(args(dir, in, "2"), Set.of(), false);
+        assertEquals(0, resumed.run());
+        assertEquals(FORMULAE.length, resumed.getNumberOfSkippedFiles());
+        assertTrue(resumed.translated.isEmpty());
+        assertEquals(FORMULAE.length - 1, Files.readAllLines(dir.resolve("results.jsonl")).size());
+    }
+
+    @Test
+    public void failureIsolationTest(@TempDir Path dir) throws Exception {
+        Path in = createInput(dir);
+        String failingID = id(in, 1);
+
+        TestBatchTranslator translator = new TestBatchTranslator(args(dir, in, "1"), Set.of(failingID), false);
+        assertEquals(0, translator.run());
+        assertEquals(1, translator.getNumberOfFailedFiles());
+        assertEquals(FORMULAE.length - 1, translator.translated.size());
+
+        // the failed file is not checkpointed, so the next run tries it again
+        List<String> checkpoint = Files.readAllLines(dir.resolve("checkpoint.txt"));
+        assertEquals(FORMULAE.length - 1, checkpoint.size());
+        assertFalse(checkpoint.contains(failingID));
+
+        TestBatchTranslator retry = new TestBatchTranslator(args(dir, in, "1"), Set.of(), false);
+        assertEquals(0, retry.run());
+        assertEquals(Set.of(failingID), retry.translated);
+    }
+
+    @Test
+    public void deadWorkersTest(@TempDir Path dir) throws Exception {
+        Path in = createInput(dir);
+        TestBatchTranslator translator = new TestBatchTranslator(args(dir, in, "1"), Set.of(), true);
+        // more files than queue slots, the directory walk must not wait for dead workers forever
+        int status = assertTimeoutPreemptively(Duration.ofSeconds(60), translator::run);
+        assertNotEquals(0, status);
+        assertTrue(translator.translated.isEmpty());
+    }
+}
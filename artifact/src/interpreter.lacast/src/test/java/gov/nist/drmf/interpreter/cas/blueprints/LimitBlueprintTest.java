@@ -1,6 +1,7 @@
 package gov.nist.drmf.interpreter.cas.blueprints;
 
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
 import gov.nist.drmf.interpreter.pom.common.grammar.LimDirections;
@@ -10,6 +11,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -324,4 +328,65 @@ public class LimitBlueprintTest {
         assertNull(btmaster.findMatchingLimit(false, ""));
         assertNull(btmaster.findMatchingLimit(false));
     }
+
+    @Test
+    public void indexedLookupEqualsLinearScanTest() throws IOException, ParseException {
+        List<BlueprintRuleMatcher> linearLimited = new LinkedList<>();
+        for ( String l : Files.readAllLines(GlobalPaths.PATH_MEOM_BLUEPRINTS) ) {
+            String[] s = l.split(" ==> ");
+            linearLimited.add(new BlueprintRuleMatcher(slt, s[0], s[1]));
+        }
+        List<BlueprintRuleMatcher> linearLim = new LinkedList<>();
+        for ( String l : Files.readAllLines(GlobalPaths.PATH_MEOM_LIMIT_BLUEPRINTS) ) {
+            String[] s = l.split(" ==> ");
+            linearLim.add(new BlueprintLimTree(slt, s[0], s[1]));
+        }
+
+        String[] limits = new String[] {
+                "a = 1", "n = -\\infty", "a, b, c = 1", "0 < n < 5", "-\\infty < n < \\infty",
+                "0 \\leq k < l \\leq n", "1 \\leq n \\leq N", "n \\geq 1", "x \\in \\Integers",
+                "n \\leqslant 10", "a, 3, c = 1", "p", "x \\to 0^+", "x \\downarrow 0", "x \\to -m-l",
+                "x \\uparrow 1", "n \\to \\infty"
+        };
+
+        for ( String limit : limits ) {
+            assertSameMatch(linearScan(linearLimited, limit), btmaster.findMatchingLimit(BlueprintMaster.LIMITED, limit), limit);
+            assertSameMatch(linearScan(linearLim, limit), btmaster.findMatchingLimit(BlueprintMaster.LIM, limit), limit);
+        }
+    }
+
+    @Test
+    public void indexedLookupTriesFewCandidatesTest() {
+        long lookups = btmaster.getNumberOfLookups();
+        long tried = btmaster.getNumberOfTriedCandidates();
+        MathematicalEssentialOperatorMetadata limit = btmaster.findMatchingLimit(BlueprintMaster.LIMITED, "0 < n < 5");
+        assertEquals(List.of("n"), limit.getVars());
+        assertEquals(lookups + 1, btmaster.getNumberOfLookups());
+        // only the blueprints with two '<' (and no other relation) are candidates
+        assertTrue(btmaster.getNumberOfTriedCandidates() - tried <= 2);
+    }
+
+    private static MathematicalEssentialOperatorMetadata linearScan(List<BlueprintRuleMatcher> matchers, String limit) {
+        for ( BlueprintRuleMatcher t : matchers ) {
+            if ( t.match(limit) ) return t.getExtractedMEOM();
+        }
+        return null;
+    }
+
+    private static void assertSameMatch(
+            MathematicalEssentialOperatorMetadata expected,
+            MathematicalEssentialOperatorMetadata actual,
+            String limit
+    ) {
+        if ( expected == null ) {
+            assertNull(actual, limit);
+            return;
+        }
+        assertNotNull(actual, limit);
+        assertEquals(expected.getVars(), actual.getVars(), limit);
+        assertEquals(expected.getLower(), actual.getLower(), limit);
+        assertEquals(expected.getUpper(), actual.getUpper(), limit);
+        assertEquals(expected.getDirection(), actual.getDirection(), limit);
+        assertEquals(expected.isLimitOverSet(), actual.isLimitOverSet(), limit);
+    }
 }
@@ -0,0 +1,120 @@
+package gov.nist.drmf.interpreter.cas.common;
+
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class TranslationCacheTests {
+
+    private static SemanticLatexTranslator getTranslator(TranslationCache cache) throws InitTranslatorException {
+        ForwardTranslationProcessConfig config = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        config.setTranslationCache(cache);
+        return new SemanticLatexTranslator(config);
+    }
+
+    @Test
+    public void hitTest() throws InitTranslatorException {
+        TranslationCache cache = new TranslationCache();
+        SemanticLatexTranslator slt = getTranslator(cache);
+        String in = "\\JacobipolyP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}} = \\cpi";
+
+        TranslationInformation first = slt.translateToObject(in);
+        long hits = cache.getHits();
+        TranslationInformation second = slt.translateToObject(in);
+
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(first.getTranslatedExpression(), second.getTranslatedExpression());
+        assertEquals(first.getFreeVariables().getFreeVariables(), second.getFreeVariables().getFreeVariables());
+        assertEquals(first.getRequiredPackages(), second.getRequiredPackages());
+        assertEquals(
+                first.getRelationalComponents().getComponents(),
+                second.getRelationalComponents().getComponents()
+        );
+        assertEquals(first.getTranslatedExpression(), slt.getTranslatedExpression());
+    }
+
+    @Test
+    public void immutableSnapshotTest() throws InitTranslatorException {
+        TranslationCache cache = new TranslationCache();
+        SemanticLatexTranslator slt = getTranslator(cache);
+        String in = "x^2 + \\cpi";
+
+        String expected = slt.translate(in);
+        TranslationInformation ti = slt.translateToObject(in);
+        ti.setTranslatedExpression("wrong");
+        ti.getFreeVariables().addFreeVariable("y");
+
+        TranslationInformation cached = slt.translateToObject(in);
+        assertEquals(expected, cached.getTranslatedExpression());
+        assertFalse(cached.getFreeVariables().getFreeVariables().contains("y"));
+    }
+
+    @Test
+    public void labelTest() throws InitTranslatorException {
+        TranslationCache cache = new TranslationCache();
+        SemanticLatexTranslator slt = getTranslator(cache);
+        SemanticLatexTranslator reference = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+
+        assertEquals(reference.translate("e^0 = 1", "4.4.4"), slt.translate("e^0 = 1", "4.4.4"));
+        assertEquals(reference.translate("e^0 = 1", "1.2.3"), slt.translate("e^0 = 1", "1.2.3"));
+        assertEquals(reference.translate("e^0 = 1", "4.4.4"), slt.translate("e^0 = 1", "4.4.4"));
+    }
+
+    @Test
+    public void evictionTest() throws InitTranslatorException {
+        TranslationCache cache = new TranslationCache(2);
+        SemanticLatexTranslator slt = getTranslator(cache);
+        slt.translate("x^{41}");
+        slt.translate("x^{42}");
+        slt.translate("x^{41}");
+        slt.translate("x^{43}");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void tolerantModeTest() throws InitTranslatorException {
+        TranslationCache cache = new TranslationCache();
+        SemanticLatexTranslator slt = getTranslator(cache);
+        slt.setTolerant(true);
+        slt.translate("x^{44}");
+        slt.translate("x^{44}");
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void persistTest(@TempDir Path dir) throws InitTranslatorException, IOException {
+        Path file = dir.resolve("translations.json");
+        TranslationCache cache = new TranslationCache(100, file);
+        SemanticLatexTranslator slt = getTranslator(cache);
+        String expected = slt.translate("\\sin@{x} + \\sqrt{\\cpi}");
+        cache.persist();
+
+        TranslationCache loaded = new TranslationCache(100, file);
+        assertEquals(cache.size(), loaded.size());
+        SemanticLatexTranslator warm = getTranslator(loaded);
+        assertEquals(expected, warm.translate("\\sin@{x} + \\sqrt{\\cpi}"));
+        assertEquals(1, loaded.getHits());
+    }
+
+    @Test
+    public void invalidSizeTest() {
+        assertThrows(IllegalArgumentException.class, () -> new TranslationCache(0));
+    }
+}
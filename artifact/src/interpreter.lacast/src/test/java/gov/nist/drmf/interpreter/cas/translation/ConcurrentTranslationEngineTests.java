@@ -0,0 +1,105 @@
+package gov.nist.drmf.interpreter.cas.translation;
+
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class ConcurrentTranslationEngineTests {
+    private static final List<String> EXPRESSIONS = List.of(
+            "\\cpi^k",
+            "x + \\JacobipolyP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}}",
+            "\\sum_{k=0}^{n} \\binom{n}{k} = 2^n",
+            "\\prod_{n=1}^\\infty \\frac{1}{n^2}",
+            "\\int_0^1 x^2 \\diff{x}",
+            "\\EulerGamma@{z+1} = z \\EulerGamma@{z}",
+            "\\sqrt[3]{x} \\pm \\sin@{x}",
+            "\\lim_{x \\to 0} \\frac{\\sin@{x}}{x}"
+    );
+
+    private static SemanticLatexTranslator slt;
+    private static ConcurrentTranslationEngine engine;
+
+    @BeforeAll
+    public static void setup() throws InitTranslatorException {
+        slt = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+        engine = new ConcurrentTranslationEngine(Keys.KEY_MAPLE);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        engine.close();
+    }
+
+    @Test
+    public void sameAsSequentialTranslatorTest() {
+        List<String> expected = new LinkedList<>();
+        for ( String e : EXPRESSIONS ) expected.add(slt.translate(e));
+
+        List<String> input = IntStream.range(0, 20 * EXPRESSIONS.size())
+                .mapToObj( i -> EXPRESSIONS.get(i % EXPRESSIONS.size()) )
+                .collect(Collectors.toList());
+
+        List<ConcurrentTranslationEngine.Result> results = engine.translate(input);
+        assertEquals(input.size(), results.size());
+        for ( int i = 0; i < results.size(); i++ ) {
+            ConcurrentTranslationEngine.Result r = results.get(i);
+            assertTrue(r.isSuccessful(), "Unable to translate " + r.getExpression());
+            assertEquals(input.get(i), r.getExpression());
+            assertEquals(expected.get(i % expected.size()), r.getTranslatedExpression());
+        }
+    }
+
+    @Test
+    public void streamOrderTest() {
+        List<ConcurrentTranslationEngine.Result> results = engine.translate(
+                IntStream.range(0, 200).mapToObj( i -> "x^{" + i + "}" )
+        );
+        for ( int i = 0; i < results.size(); i++ ) {
+            assertEquals("(x)^(" + i + ")", results.get(i).getTranslatedExpression());
+        }
+    }
+
+    @Test
+    public void failedTranslationTest() {
+        List<ConcurrentTranslationEngine.Result> results = engine.translate(
+                List.of("\\cpi^k", "\\hat{x}", "\\cpi")
+        );
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertNull(results.get(1).getTranslationInformation());
+        assertNotNull(results.get(1).getException());
+        assertTrue(results.get(2).isSuccessful());
+        assertEquals("Pi", results.get(2).getTranslatedExpression());
+    }
+
+    @Test
+    public void labelTest() {
+        List<ConcurrentTranslationEngine.Result> results = engine.translate(
+                List.of("e^0 = 1", "e^0 = 1"), List.of("4.4.4", "1.2.3")
+        );
+        assertEquals(slt.translate("e^0 = 1", "4.4.4"), results.get(0).getTranslatedExpression());
+        assertEquals(slt.translate("e^0 = 1", "1.2.3"), results.get(1).getTranslatedExpression());
+    }
+
+    @Test
+    public void invalidLabelsTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.translate(List.of("x", "y"), Collections.singletonList("4.4.4")));
+    }
+}
@@ -1,5 +1,7 @@
 package gov.nist.drmf.interpreter.cas.translation.components;
 
+import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
+import gov.nist.drmf.interpreter.cas.common.TranslationCache;
 import gov.nist.drmf.interpreter.cas.logging.TranslatedExpression;
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
 import gov.nist.drmf.interpreter.common.latex.FreeVariables;
@@ -126,6 +128,25 @@ public class MultiExpressionTranslationTests {
         assertTrue(freeVar2.getFreeVariables().contains("z"));
     }
 
+    @Test
+    public void cachedPartialTranslationsTest() throws InitTranslatorException {
+        ForwardTranslationProcessConfig config = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        TranslationCache cache = new TranslationCache();
+        config.setTranslationCache(cache);
+        SemanticLatexTranslator cachedSlt = new SemanticLatexTranslator(config);
+
+        cachedSlt.translate("x = y, x = z");
+        cachedSlt.translate("x = y, x = z");
+        assertEquals(1, cache.getHits());
+
+        // the cache hit restores the partial translations of the translator, not just of its translation information
+        assertEquals(2, cachedSlt.getTranslationInformationObject().getPartialTranslations().size());
+        List<TranslatedExpression> partialTranslations = new MultiExpressionTranslator(cachedSlt).getListOfPartialTranslations();
+        assertEquals(2, partialTranslations.size());
+        assertEquals("x = y", partialTranslations.get(0).getTranslatedExpression());
+        assertEquals("x = z", partialTranslations.get(1).getTranslatedExpression());
+    }
+
     @Test
     public void totalTranslationCallTest() {
         assertEquals("x = y = z", slt.translate( "\\begin{align} x &= y \\\\ &= z \\end{align}" ));
@@ -0,0 +1,105 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class CompiledMacroTableTests {
+
+    private static ForwardTranslationProcessConfig config;
+
+    @BeforeAll
+    static void setup() throws InitTranslatorException {
+        config = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        config.init();
+    }
+
+    @Test
+    public void simpleTemplateTest() {
+        TranslationTemplate template = TranslationTemplate.compile("JacobiP($2, $0, $1, $3)");
+        assertEquals(4, template.getNumberOfPlaceholders());
+        assertEquals("JacobiP(n, a, b, x)", template.fill(new String[]{"a", "b", "n", "x"}));
+    }
+
+    @Test
+    public void noPlaceholderTemplateTest() {
+        TranslationTemplate template = TranslationTemplate.compile("Pi $ $a");
+        assertEquals(0, template.getNumberOfPlaceholders());
+        assertEquals("Pi $ $a", template.fill(new String[]{"x"}));
+    }
+
+    @Test
+    public void twoDigitSlotTemplateTest() {
+        String[] args = new String[11];
+        for ( int i = 0; i < args.length; i++ ) args[i] = "a" + i;
+        TranslationTemplate template = TranslationTemplate.compile("f($1, $10)");
+        assertEquals("f(a1, a10)", template.fill(args));
+
+        // with less than 11 arguments, $10 is the second argument followed by 0
+        assertEquals("f(x, x0)", template.fill(new String[]{"w", "x"}));
+    }
+
+    @Test
+    public void argumentsAreNotFilledTest() {
+        TranslationTemplate template = TranslationTemplate.compile("f($0, $1, $2)");
+        // an argument with a placeholder must not be filled again
+        assertEquals("f($1, y, $2)", template.fill(new String[]{"$1", "y"}));
+    }
+
+    @Test
+    public void tableTest() {
+        CompiledMacroTable table = config.getCompiledMacroTable();
+        assertNotNull(table);
+        assertEquals(Keys.KEY_MAPLE, table.getCAS());
+        assertTrue(table.size() > 100, "Only " + table.size() + " macros compiled");
+
+        CompiledMacro jacobi = table.get("\\JacobipolyP", 0);
+        assertNotNull(jacobi);
+        assertSame(jacobi, table.get("\\JacobipolyP", 0));
+        assertEquals(3, jacobi.getTranslationInformation().getNumOfParams());
+        assertEquals(1, jacobi.getTranslationInformation().getNumOfVars());
+        assertEquals(4, jacobi.getNumberOfArguments());
+        assertNotNull(jacobi.getFurtherInformation());
+        assertEquals("JacobiP(n, a, b, x)", jacobi.getTemplate().fill(new String[]{"a", "b", "n", "x"}));
+
+        assertNull(table.get("\\JacobipolyP", 3));
+        assertNull(table.get("\\notAMacro", 0));
+    }
+
+    @Test
+    public void sharedTableTest() throws InitTranslatorException {
+        ForwardTranslationProcessConfig other = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        other.init();
+        assertSame(config.getCompiledMacroTable(), other.getCompiledMacroTable());
+
+        ForwardTranslationProcessConfig mathematica = new ForwardTranslationProcessConfig(Keys.KEY_MATHEMATICA);
+        mathematica.init();
+        assertEquals(Keys.KEY_MATHEMATICA, mathematica.getCompiledMacroTable().getCAS());
+    }
+
+    @Test
+    public void optionalParameterTableTest() {
+        CompiledMacroTable table = config.getCompiledMacroTable();
+        CompiledMacro legendre = table.get("\\FerrersP", 1);
+        assertNotNull(legendre);
+        assertEquals(1, legendre.getTranslationInformation().getNumOfOptionalParas());
+        assertNotSame(table.get("\\FerrersP", 0), legendre);
+    }
+
+    @Test
+    public void translationTest() throws InitTranslatorException {
+        SemanticLatexTranslator slt = new SemanticLatexTranslator(config);
+        assertEquals("JacobiP(n, alpha, beta, cos(a*Theta))", slt.translate("\\JacobipolyP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}}"));
+        assertEquals("LegendreP(nu, mu, x)", slt.translate("\\FerrersP[\\mu]{\\nu}@{x}"));
+    }
+}
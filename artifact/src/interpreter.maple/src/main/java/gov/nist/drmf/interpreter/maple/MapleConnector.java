@@ -8,6 +8,7 @@ import gov.nist.drmf.interpreter.common.eval.INumericalEvaluationScripts;
 import gov.nist.drmf.interpreter.common.eval.ISymbolicTestCases;
 import gov.nist.drmf.interpreter.common.eval.NativeComputerAlgebraInterfaceBuilder;
 import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
+import gov.nist.drmf.interpreter.common.process.CasWorkerPool;
 import gov.nist.drmf.interpreter.common.process.RmiSubprocessInfo;
 import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.common.MapleScriptHandler;
@@ -25,6 +26,7 @@ import java.io.IOException;
 public class MapleConnector implements NativeComputerAlgebraInterfaceBuilder {
     private static final Logger LOG = LogManager.getLogger(MapleConnector.class.getName());
 
+    private final RmiSubprocessInfo casSubprocessInfo;
     private final MapleRmiClient mapleClient;
     private MapleScriptHandler scriptHandler;
     private boolean loadedScripts = false;
@@ -34,6 +36,7 @@ public class MapleConnector implements NativeComputerAlgebraInterfaceBuilder {
     }
 
     public MapleConnector(RmiSubprocessInfo casSubprocessInfo) throws CASUnavailableException {
+        this.casSubprocessInfo = casSubprocessInfo;
         this.mapleClient = new MapleRmiClient(casSubprocessInfo);
         this.mapleClient.start();
         try {
@@ -88,6 +91,11 @@ public class MapleConnector implements NativeComputerAlgebraInterfaceBuilder {
         return SymbolicMapleEvaluatorTypes.values();
     }
 
+    @Override
+    public CasWorkerPool createWorkerPool(int size, int basePort) {
+        return new CasWorkerPool(casSubprocessInfo, Keys.KEY_MAPLE, size, basePort);
+    }
+
     @Override
     public String[] getDefaultPrePostComputationCommands() {
         return MapleConstants.getDefaultPrePostCommands();
@@ -4,15 +4,20 @@ import com.maplesoft.externalcall.MapleException;
 import com.maplesoft.openmaple.Algebraic;
 import com.maplesoft.openmaple.Engine;
 import com.maplesoft.openmaple.MString;
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
+import gov.nist.drmf.interpreter.common.cas.CasSessionState;
 import gov.nist.drmf.interpreter.common.cas.IComputerAlgebraSystemEngine;
+import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
 import gov.nist.drmf.interpreter.maple.common.MapleConfig;
+import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.listener.MapleListener;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Observer;
@@ -57,6 +62,22 @@ public final class MapleInterface implements IComputerAlgebraSystemEngine {
 
     private boolean loadedQExtension = false;
 
+    /**
+     * The cache of results (null if disabled)
+     */
+    private CasResultCache resultCache;
+
+    /**
+     * The version of Maple (lazily initialized)
+     */
+    private String version;
+
+    /**
+     * The state of the session set via {@link #enterCommand(String)}, it is part of the keys of cached results.
+     * Maple starts with the Legendre cut, hence resetting the cut is equivalent to never changing it.
+     */
+    private final CasSessionState sessionState = new CasSessionState(MapleConstants.ENV_VAR_LEGENDRE_CUT_LEGENDRE);
+
     /**
      * The interface to maple
      * @throws MapleException if init wont work
@@ -64,6 +85,7 @@ public final class MapleInterface implements IComputerAlgebraSystemEngine {
     private MapleInterface() throws MapleException {
         procedureBackup = new LinkedList<>();
         init();
+        resultCache = CasResultCache.getCache(Keys.KEY_MAPLE);
     }
 
     /**
@@ -116,8 +138,112 @@ public final class MapleInterface implements IComputerAlgebraSystemEngine {
         return engine.evaluate(input);
     }
 
+    /**
+     * Evaluates the given command unless the result of the command is cached. In the latter case, the cached
+     * result is only parsed (via {@code parse}) but not evaluated, i.e., the kernel does not need to compute the
+     * result again, even if the result contains unevaluated calls such as {@code int(...)}.
+     * Aborted results are not cached.
+     * @param command the command that ends with a semicolon
+     * @param key the key of the command in the cache (if null, the command is evaluated without the cache)
+     * @param resultVariable the variable the command assigns its result to, e.g., {@code numResults}, or null
+     *                       if the command does not assign its result to a variable
+     * @return the algebraic object of the result
+     * @throws MapleException if Maple produces an error
+     * @see #buildCacheKey(String, Collection, Collection, String)
+     */
+    public Algebraic evaluateCached(String command, CasResultCache.Key key, String resultVariable) throws MapleException {
+        CasResultCache cache = resultCache;
+        if ( cache == null || key == null ) return evaluate(command);
+
+        String cached = cache.get(key);
+        if ( cached != null ) {
+            LOG.debug("Use cached result of: " + key.getCommand());
+            return evaluate(buildParseCommand(cached, resultVariable));
+        }
+
+        long start = System.nanoTime();
+        Algebraic result = evaluate(command);
+        long nanos = System.nanoTime() - start;
+        if ( !isAbortedExpression(result) ) cache.put(key, result.toString(), nanos);
+        return result;
+    }
+
+    /**
+     * Builds a command that parses the given expression without evaluating it.
+     * @param expression the Maple expression, e.g., a cached result
+     * @param resultVariable the variable the parsed expression is assigned to or null
+     * @return the command that ends with a semicolon
+     */
+    static String buildParseCommand(String expression, String resultVariable) {
+        String assignment = resultVariable == null ? "" : resultVariable + " := ";
+        String escaped = expression.replace("\\", "\\\\").replace("\"", "\\\"");
+        return assignment + "parse(\"" + escaped + "\");";
+    }
+
+    /**
+     * @param command the command (without timeout wrappers)
+     * @param assumptions the assumptions that are active for the command
+     * @param requiredPackages the packages that are loaded for the command
+     * @param precision the precision of numeric computations (can be null)
+     * @return the key of the command or null if the cache is disabled
+     * @throws MapleException if the version of Maple cannot be evaluated
+     */
+    public CasResultCache.Key buildCacheKey(
+            String command,
+            Collection<String> assumptions,
+            Collection<String> requiredPackages,
+            String precision
+    ) throws MapleException {
+        if ( resultCache == null ) return null;
+        return new CasResultCache.Key(
+                Keys.KEY_MAPLE, getVersion(), sessionState.getFingerprint(),
+                command, assumptions, requiredPackages, precision
+        );
+    }
+
+    /**
+     * @return the cache of results or null if the cache is disabled
+     */
+    public CasResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Replaces the cache of results. By default, the cache specified in lacast.config.yaml is used.
+     * @param resultCache the cache, null disables the cache
+     */
+    public void setResultCache(CasResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * @return the version of Maple
+     * @throws MapleException if the version cannot be evaluated
+     */
+    public String getVersion() throws MapleException {
+        if ( version == null ) version = evaluate("kernelopts(version);").toString();
+        return version;
+    }
+
+    /**
+     * @return the state of the session, i.e., all commands entered via {@link #enterCommand(String)}
+     */
+    public CasSessionState getSessionState() {
+        return sessionState;
+    }
+
+    /**
+     * Evaluates the given command. Use this method for all commands that change the state of the
+     * session (e.g., environment variables or assumptions). State changing commands are registered in the
+     * {@link #getSessionState() session state} (queries are ignored), so results of the cache are not mixed up between different
+     * states of the session.
+     * @param command the command
+     * @return the result of the command
+     * @throws ComputerAlgebraSystemEngineException if Maple produces an error
+     */
     @Override
     public String enterCommand(String command) throws ComputerAlgebraSystemEngineException {
+        sessionState.record(command);
         try {
             return evaluate(command).toString();
         } catch (MapleException me) {
@@ -187,6 +313,7 @@ public final class MapleInterface implements IComputerAlgebraSystemEngine {
      */
     public void restart() throws MapleException {
         engine.restart();
+        sessionState.clear();
         for ( String proc : procedureBackup )
             evaluate(proc);
     }
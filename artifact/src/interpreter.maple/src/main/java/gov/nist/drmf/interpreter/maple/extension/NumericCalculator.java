@@ -3,6 +3,7 @@ package gov.nist.drmf.interpreter.maple.extension;
 import com.maplesoft.externalcall.MapleException;
 import com.maplesoft.openmaple.Algebraic;
 import com.maplesoft.openmaple.Numeric;
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
 import gov.nist.drmf.interpreter.common.cas.PackageWrapper;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.cas.AbstractCasEngineNumericalEvaluator;
@@ -384,8 +385,14 @@ public class NumericCalculator extends AbstractCasEngineNumericalEvaluator<Algeb
                             ");";
             LOG.debug("Start numerical evaluation: " + numericalTest);
 
+            // the result only depends on the expression and the generated test values
+            CasResultCache.Key key = maple.buildCacheKey(
+                    "SpecialNumericalTesterTimeLimit(" + expression + ", " + testCases + ")",
+                    null, requiredPackages, Integer.toString(precision)
+            );
+
             latestResultCheckMethod = postProcessingMethodName;
-            Algebraic results = maple.evaluate(numericalTest);
+            Algebraic results = maple.evaluateCached(numericalTest, key, "numResults");
             return results;
 
 //            if ( wasAborted(results) ) return results;
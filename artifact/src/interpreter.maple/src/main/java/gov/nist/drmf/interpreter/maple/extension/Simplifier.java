@@ -3,6 +3,7 @@ package gov.nist.drmf.interpreter.maple.extension;
 import com.maplesoft.externalcall.MapleException;
 import com.maplesoft.openmaple.Algebraic;
 import gov.nist.drmf.interpreter.common.cas.AbstractCasEngineSymbolicEvaluator;
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
 import gov.nist.drmf.interpreter.common.cas.ICASEngineSymbolicEvaluator;
 import gov.nist.drmf.interpreter.common.cas.PackageWrapper;
 import gov.nist.drmf.interpreter.common.constants.Keys;
@@ -62,11 +63,12 @@ public class Simplifier extends AbstractCasEngineSymbolicEvaluator<Algebraic> {
     public void setGlobalSymbolicAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException {
         String cmd = String.join(", ", assumptions);
         try {
-            maple.evaluate("assume(" + cmd + ");");
+            // entered as command to register the assumptions in the session state
+            maple.enterCommand("assume(" + cmd + ");");
             LOG.info("Set global assumptions in Maple: " + assumptions);
-        } catch (MapleException me) {
+        } catch (ComputerAlgebraSystemEngineException e) {
             LOG.error("Unable to set global assumptions for Maple: " + assumptions);
-            throw new ComputerAlgebraSystemEngineException(me);
+            throw e;
         }
     }
 
@@ -246,6 +248,8 @@ public class Simplifier extends AbstractCasEngineSymbolicEvaluator<Algebraic> {
 
         String command = simplify + "(" + maple_expr + ")";
         latestTestExpression = command;
+        // results that are not aborted are independent of the timeout
+        CasResultCache.Key key = maple.buildCacheKey(command, null, requiredPackages, null);
         if ( timeout > 0 ) {
             command = "try timelimit("+timeout+","+command+"); catch \"time expired\": \"";
             command += MapleInterface.TIMED_OUT_SIGNAL;
@@ -254,7 +258,7 @@ public class Simplifier extends AbstractCasEngineSymbolicEvaluator<Algebraic> {
 
         LOG.debug("Simplification: " + command);
         listener.timerReset();
-        Algebraic result = maple.evaluate(command);
+        Algebraic result = maple.evaluateCached(command, key, null);
 
         if ( !requiredPackages.isEmpty() ) {
             String unloadCommands = packageWrapper.unloadPackages(requiredPackages);
@@ -312,9 +316,12 @@ public class Simplifier extends AbstractCasEngineSymbolicEvaluator<Algebraic> {
     public Algebraic simplify(String expr, String assumption, Set<String> requiredPackages) throws ComputerAlgebraSystemEngineException {
         try {
             String cmd = buildAssumeSimplify(expr, assumption, requiredPackages);
+            CasResultCache.Key key = maple.buildCacheKey(
+                    "simplify(" + expr + ") assuming " + assumption, null, requiredPackages, null
+            );
             LOG.debug("Simplification: " + cmd);
             listener.timerReset();
-            return maple.evaluate( cmd );
+            return maple.evaluateCached( cmd, key, null );
         } catch ( MapleException me ) {
             throw new ComputerAlgebraSystemEngineException(me);
         }
@@ -323,7 +330,8 @@ public class Simplifier extends AbstractCasEngineSymbolicEvaluator<Algebraic> {
     @Override
     public boolean isTrue(Algebraic in) throws ComputerAlgebraSystemEngineException {
         try {
-            Algebraic boolResult = maple.evaluate( "evalb(" + in.toString() + ");" );
+            String cmd = "evalb(" + in.toString() + ");";
+            Algebraic boolResult = maple.evaluateCached( cmd, maple.buildCacheKey(cmd, null, null, null), null );
             return "true".equals(boolResult.toString());
         } catch (MapleException e) {
             throw new ComputerAlgebraSystemEngineException(e);
@@ -0,0 +1,21 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+/**
+ * A node of the list representation of Maple's inert-form. It is the in-process equivalent
+ * of the {@link com.maplesoft.openmaple.Algebraic} objects we got from the kernel by
+ * evaluating {@code List_converter(MyToInert(...))}. There are four kinds of nodes:
+ * <ul>
+ *     <li>{@link InertList}, e.g., {@code [_Inert_SUM, [_Inert_NAME, "n"], [_Inert_INTPOS, 2]]}</li>
+ *     <li>{@link InertSymbol}, the name of the internal object, e.g., {@code _Inert_SUM}</li>
+ *     <li>{@link InertString}, e.g., the name of a variable {@code "n"}</li>
+ *     <li>{@link InertNumeric}, e.g., the value of an integer {@code 2}</li>
+ * </ul>
+ *
+ * All nodes are immutable and can be shared between threads.
+ *
+ * @author Andre Greiner-Petter
+ * @see InertFormParser
+ */
+public abstract class InertExpression {
+    InertExpression() {}
+}
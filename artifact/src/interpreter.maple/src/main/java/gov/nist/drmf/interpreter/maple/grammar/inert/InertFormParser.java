@@ -0,0 +1,699 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import gov.nist.drmf.interpreter.common.exceptions.MapleTranslationException;
+import gov.nist.drmf.interpreter.maple.grammar.inert.MapleTokenizer.Token;
+import gov.nist.drmf.interpreter.maple.grammar.inert.MapleTokenizer.Type;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigInteger;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A parser for Maple's 1-D syntax that produces the list representation of the inert-form,
+ * i.e., the same structure the kernel returns for {@code List_converter(MyToInert('input'))}
+ * (see {@link gov.nist.drmf.interpreter.common.constants.GlobalPaths#PATH_MAPLE_TO_INERT_PROCEDURE}).
+ * Hence, the backward translation does not need a Maple kernel.
+ *
+ * In particular, the parser reproduces the normalizations of {@code MyToInert}:
+ * <ul>
+ *     <li>numeric factors of a product are merged into a single leading constant,
+ *          e.g., {@code -x} is {@code [PROD, [INTNEG, 1], x]}</li>
+ *     <li>quotients and negative exponents are {@code DIVIDE}, e.g., {@code 1/x} is
+ *          {@code [DIVIDE, [INTPOS, 1], x]}</li>
+ *     <li>quotients of integers are {@code RATIONAL}, floats are {@code MYFLOAT}, and
+ *          {@code I} is {@code COMPLEX}</li>
+ *     <li>{@code a > b} and {@code a >= b} are {@code LESSTHAN} and {@code LESSEQ} with swapped sides</li>
+ *     <li>equations and ranges in the arguments of sums, products, integrals, limits, and evaluations
+ *          are flattened, e.g., {@code sum(n, n = 0..m)} is {@code sum(n, n, 0, m)}</li>
+ * </ul>
+ * In contrast to the kernel, the parser does not simplify the expression, e.g., {@code x + x} remains a sum,
+ * attributes of names are not part of the result, and function names are always {@code NAME}s.
+ *
+ * The parser is stateless and can be used concurrently.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class InertFormParser {
+    private static final Logger LOG = LogManager.getLogger(InertFormParser.class.getName());
+
+    /**
+     * Functions with equations and ranges in their arguments, see {@code convert_intlike}
+     */
+    private static final Set<String> INTLIKE_FUNCTIONS = Set.of(
+            "sum", "Sum", "product", "Product", "int", "Int", "limit", "Limit", "eval", "Eval"
+    );
+
+    private static final String IMAGINARY_UNIT = "I";
+
+    private static final String FACTORIAL = "factorial";
+
+    private static final String MOD = "mod";
+
+    private final String input;
+
+    private final List<Token> tokens;
+
+    private int idx = 0;
+
+    private InertFormParser(String input, List<Token> tokens) {
+        this.input = input;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses the given expression.
+     * @param mapleInput the expression in Maple's 1-D syntax (a trailing {@code ;} or {@code :} is ignored)
+     * @return the inert-form of the expression in the list representation
+     * @throws MapleTranslationException if the input is not a valid or not a supported expression
+     */
+    public static InertList parse(String mapleInput) throws MapleTranslationException {
+        InertFormParser parser = new InertFormParser(mapleInput, MapleTokenizer.tokenize(mapleInput));
+        InertList result = parser.parseStatement().toInert();
+        LOG.trace("Parsed " + mapleInput + " to " + result);
+        return result;
+    }
+
+    private Node parseStatement() throws MapleTranslationException {
+        List<Node> sequence = parseSequence();
+        if ( peek().is(";") || peek().is(":") ) next();
+        if ( peek().type != Type.END ) throw unexpected(peek());
+        if ( sequence.isEmpty() ) throw new MapleTranslationException("Empty Maple expression.");
+        return sequence.size() == 1 ? sequence.get(0) : new Operation("EXPSEQ", sequence);
+    }
+
+    private List<Node> parseSequence() throws MapleTranslationException {
+        List<Node> sequence = new LinkedList<>();
+        Token t = peek();
+        if ( t.type == Type.END || t.is(")") || t.is("]") || t.is("}") || t.is(";") || t.is(":") )
+            return sequence;
+
+        sequence.add(parseExpression());
+        while ( peek().is(",") ) {
+            next();
+            sequence.add(parseExpression());
+        }
+        return sequence;
+    }
+
+    private Node parseExpression() throws MapleTranslationException {
+        Node lhs = parseOr();
+        if ( peek().isKeyword("implies") ) {
+            next();
+            return new Operation("IMPLIES", lhs, parseOr());
+        }
+        return lhs;
+    }
+
+    private Node parseOr() throws MapleTranslationException {
+        Node lhs = parseAnd();
+        while ( peek().isKeyword("or") || peek().isKeyword("xor") ) {
+            String id = next().text.toUpperCase();
+            lhs = new Operation(id, lhs, parseAnd());
+        }
+        return lhs;
+    }
+
+    private Node parseAnd() throws MapleTranslationException {
+        Node lhs = parseNot();
+        while ( peek().isKeyword("and") ) {
+            next();
+            lhs = new Operation("AND", lhs, parseNot());
+        }
+        return lhs;
+    }
+
+    private Node parseNot() throws MapleTranslationException {
+        if ( peek().isKeyword("not") ) {
+            next();
+            return new Operation("NOT", parseNot());
+        }
+        return parseRelation();
+    }
+
+    private Node parseRelation() throws MapleTranslationException {
+        Node lhs = parseRange();
+        Node relation;
+        Token t = peek();
+        if ( t.is("=") ) relation = new Operation("EQUATION", lhs, parseRhs());
+        else if ( t.is("<>") ) relation = new Operation("INEQUAT", lhs, parseRhs());
+        else if ( t.is("<") ) relation = new Operation("LESSTHAN", lhs, parseRhs());
+        else if ( t.is("<=") ) relation = new Operation("LESSEQ", lhs, parseRhs());
+        // Maple swaps the sides of > and >=
+        else if ( t.is(">") ) relation = new Operation("LESSTHAN", parseRhs(), lhs);
+        else if ( t.is(">=") ) relation = new Operation("LESSEQ", parseRhs(), lhs);
+        else return lhs;
+
+        Token n = peek();
+        if ( n.is("=") || n.is("<>") || n.is("<") || n.is("<=") || n.is(">") || n.is(">=") )
+            throw new MapleTranslationException("Relations are non-associative, found " + n + " at position " + n.position + " in: " + input);
+        return relation;
+    }
+
+    private Node parseRhs() throws MapleTranslationException {
+        next();
+        return parseRange();
+    }
+
+    private Node parseRange() throws MapleTranslationException {
+        Node lhs = parseMod();
+        if ( peek().is("..") ) {
+            next();
+            return new Operation("RANGE", lhs, parseMod());
+        }
+        return lhs;
+    }
+
+    private Node parseMod() throws MapleTranslationException {
+        Node lhs = parseSum();
+        while ( peek().isKeyword(MOD) ) {
+            next();
+            lhs = new Function(new Name(MOD), List.of(lhs, parseSum()));
+        }
+        return lhs;
+    }
+
+    private Node parseSum() throws MapleTranslationException {
+        Node first = parseProduct();
+        if ( !peek().is("+") && !peek().is("-") ) return first;
+
+        Sum sum = new Sum();
+        sum.add(first);
+        while ( peek().is("+") || peek().is("-") ) {
+            boolean negative = next().is("-");
+            Node summand = parseProduct();
+            sum.add(negative ? negate(summand) : summand);
+        }
+        return sum;
+    }
+
+    private Node parseProduct() throws MapleTranslationException {
+        Node first = parseUnary();
+        if ( !peek().is("*") && !peek().is("/") ) return first;
+
+        Product product = new Product();
+        product.add(first, false);
+        while ( peek().is("*") || peek().is("/") ) {
+            boolean inverse = next().is("/");
+            product.add(parseUnary(), inverse);
+        }
+        return product;
+    }
+
+    private Node parseUnary() throws MapleTranslationException {
+        if ( peek().is("-") ) {
+            next();
+            return negate(parseUnary());
+        } else if ( peek().is("+") ) {
+            next();
+            return parseUnary();
+        }
+        return parsePower();
+    }
+
+    private Node parsePower() throws MapleTranslationException {
+        Node base = parsePostfix();
+        if ( !peek().is("^") && !peek().is("**") ) return base;
+
+        next();
+        Node exponent = parseExponent();
+        if ( peek().is("^") || peek().is("**") )
+            throw new MapleTranslationException("Ambiguous use of " + peek() + " at position " + peek().position + " in: " + input);
+        return new Power(base, exponent);
+    }
+
+    private Node parseExponent() throws MapleTranslationException {
+        if ( peek().is("-") ) {
+            next();
+            return negate(parseExponent());
+        } else if ( peek().is("+") ) {
+            next();
+            return parseExponent();
+        }
+        return parsePostfix();
+    }
+
+    private Node parsePostfix() throws MapleTranslationException {
+        Node node = parsePrimary();
+        while ( true ) {
+            Token t = peek();
+            if ( t.is("!") ) {
+                next();
+                node = new Function(new Name(FACTORIAL), List.of(node));
+            } else if ( t.is("(") ) {
+                next();
+                node = new Function(node, parseClosedSequence(")"));
+            } else if ( t.is("[") ) {
+                next();
+                node = new Operation("TABLEREF", node, new Operation("EXPSEQ", parseClosedSequence("]")));
+            } else return node;
+        }
+    }
+
+    private Node parsePrimary() throws MapleTranslationException {
+        Token t = next();
+        switch ( t.type ) {
+            case NUMBER:
+                return new Num(Real.of(new BigInteger(t.text)), Real.ZERO);
+            case FLOAT:
+                return new Num(Real.of(Double.parseDouble(t.text)), Real.ZERO);
+            case STRING:
+                return new Str(t.text);
+            case NAME:
+                if ( isKeyword(t.text) ) throw unexpected(t);
+                if ( IMAGINARY_UNIT.equals(t.text) ) return new Num(Real.ZERO, Real.ONE);
+                return new Name(t.text);
+            case OPERATOR:
+                if ( t.is("(") ) {
+                    List<Node> sequence = parseClosedSequence(")");
+                    if ( sequence.size() == 1 ) return sequence.get(0);
+                    return new Operation("EXPSEQ", sequence);
+                } else if ( t.is("[") ) {
+                    return new Operation("LIST", new Operation("EXPSEQ", parseClosedSequence("]")));
+                } else if ( t.is("{") ) {
+                    return new Operation("SET", new Operation("EXPSEQ", parseClosedSequence("}")));
+                }
+            default:
+                throw unexpected(t);
+        }
+    }
+
+    private List<Node> parseClosedSequence(String closing) throws MapleTranslationException {
+        List<Node> sequence = parseSequence();
+        Token t = next();
+        if ( !t.is(closing) )
+            throw new MapleTranslationException("Expected '" + closing + "' but found " + t + " at position " + t.position + " in: " + input);
+        return sequence;
+    }
+
+    private Token peek() {
+        return tokens.get(idx);
+    }
+
+    private Token next() {
+        Token t = tokens.get(idx);
+        if ( t.type != Type.END ) idx++;
+        return t;
+    }
+
+    private MapleTranslationException unexpected(Token t) {
+        return new MapleTranslationException("Unexpected " + t + " at position " + t.position + " in: " + input);
+    }
+
+    private static boolean isKeyword(String name) {
+        switch ( name ) {
+            case "and": case "or": case "xor": case "not": case "implies": case MOD:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Node negate(Node node) {
+        if ( node instanceof Num ) return ((Num) node).negate();
+        Product product = new Product();
+        product.add(new Num(Real.ONE.negate(), Real.ZERO), false);
+        product.add(node, false);
+        return product;
+    }
+
+    private static InertList intpos(long value) {
+        return InertList.of("INTPOS", new InertNumeric(value));
+    }
+
+    /*
+     * The syntax tree of the parser. Nodes are converted into the inert-form afterwards, because
+     * the normalization of products requires all factors.
+     */
+    private abstract static class Node {
+        abstract InertList toInert() throws MapleTranslationException;
+    }
+
+    private static final class Name extends Node {
+        private final String name;
+
+        Name(String name) {
+            this.name = name;
+        }
+
+        @Override
+        InertList toInert() {
+            return InertList.of("NAME", new InertString(name));
+        }
+    }
+
+    private static final class Str extends Node {
+        private final String string;
+
+        Str(String string) {
+            this.string = string;
+        }
+
+        @Override
+        InertList toInert() {
+            return InertList.of("STRING", new InertString(string));
+        }
+    }
+
+    /**
+     * Any internal object that simply contains its converted operands
+     */
+    private static final class Operation extends Node {
+        private final String id;
+        private final List<Node> operands;
+
+        Operation(String id, Node... operands) {
+            this(id, List.of(operands));
+        }
+
+        Operation(String id, List<Node> operands) {
+            this.id = id;
+            this.operands = operands;
+        }
+
+        @Override
+        InertList toInert() throws MapleTranslationException {
+            List<InertList> inertOperands = new LinkedList<>();
+            for ( Node n : operands ) inertOperands.add(n.toInert());
+            return InertList.of(id, inertOperands);
+        }
+    }
+
+    private static final class Function extends Node {
+        private final Node name;
+        private final List<Node> arguments;
+
+        Function(Node name, List<Node> arguments) {
+            this.name = name;
+            this.arguments = arguments;
+        }
+
+        @Override
+        InertList toInert() throws MapleTranslationException {
+            boolean intlike = name instanceof Name && INTLIKE_FUNCTIONS.contains(((Name) name).name);
+            List<InertList> args = new LinkedList<>();
+            for ( Node arg : arguments ) {
+                if ( intlike ) replaceEquationAndRange(arg, args);
+                else args.add(arg.toInert());
+            }
+            return InertList.of("FUNCTION", name.toInert(), InertList.of("EXPSEQ", args));
+        }
+
+        /*
+         * The equivalent of replace_equation_and_range
+         */
+        private static void replaceEquationAndRange(Node arg, List<InertList> args) throws MapleTranslationException {
+            if ( arg instanceof Operation && ((Operation) arg).id.equals("EQUATION") ) {
+                for ( Node side : ((Operation) arg).operands ) replaceEquationAndRange(side, args);
+            } else if ( arg instanceof Operation && ((Operation) arg).id.equals("RANGE") ) {
+                for ( Node limit : ((Operation) arg).operands ) args.add(limit.toInert());
+            } else args.add(arg.toInert());
+        }
+    }
+
+    private static final class Sum extends Node {
+        private final List<Node> summands = new LinkedList<>();
+
+        void add(Node summand) {
+            // sums are flat in Maple
+            if ( summand instanceof Sum ) summands.addAll(((Sum) summand).summands);
+            else summands.add(summand);
+        }
+
+        @Override
+        InertList toInert() throws MapleTranslationException {
+            List<InertList> inertSummands = new LinkedList<>();
+            for ( Node n : summands ) inertSummands.add(n.toInert());
+            return InertList.of("SUM", inertSummands);
+        }
+    }
+
+    private static final class Power extends Node {
+        private final Node base;
+        private final Node exponent;
+
+        Power(Node base, Node exponent) {
+            this.base = base;
+            this.exponent = exponent;
+        }
+
+        private boolean hasNegativeExponent() {
+            return exponent instanceof Num && ((Num) exponent).isNegativeReal();
+        }
+
+        /**
+         * @return base^(-exponent) or just the base if the exponent is -1
+         */
+        private Node invert() {
+            Num e = ((Num) exponent).negate();
+            return e.isOne() ? base : new Power(base, e);
+        }
+
+        @Override
+        InertList toInert() throws MapleTranslationException {
+            // only integer exponents are products (and therefore handled by HandleVERBATIM) in Maple
+            if ( hasNegativeExponent() && ((Num) exponent).re.isInteger() )
+                return InertList.of("DIVIDE", intpos(1), invert().toInert());
+            return InertList.of("POWER", base.toInert(), exponent.toInert());
+        }
+    }
+
+    /**
+     * The equivalent of HandleVERBATIM for products.
+     */
+    private static final class Product extends Node {
+        private final List<Node> factors = new LinkedList<>();
+        private final List<Boolean> inverses = new LinkedList<>();
+
+        void add(Node factor, boolean inverse) {
+            factors.add(factor);
+            inverses.add(inverse);
+        }
+
+        @Override
+        InertList toInert() throws MapleTranslationException {
+            Collector c = new Collector();
+            c.collect(this, false);
+
+            if ( c.numerator.isEmpty() && c.denominator.isEmpty() || c.constant.isZero() )
+                return c.constant.toInert();
+
+            InertList zi = c.constant.isOne() ? null : c.constant.toInert();
+            InertList ni = c.numerator.isEmpty() ? intpos(1) : toInert(c.numerator);
+            InertList di = c.denominator.isEmpty() ? null : toInert(c.denominator);
+
+            if ( zi == null ) {
+                // no constant factor
+                return di == null ? ni : InertList.of("DIVIDE", ni, di);
+            } else if ( di == null ) {
+                // no denominator, constant factor first
+                return InertList.of("PROD", prepend(zi, c.numerator));
+            } else if ( zi.is("RATIONAL") ) {
+                // fraction * (numerator/denominator)
+                return InertList.of("PROD", zi, InertList.of("DIVIDE", ni, di));
+            } else if ( c.numerator.isEmpty() ) {
+                return InertList.of("DIVIDE", zi, di);
+            } else {
+                // (constant*numerator)/denominator
+                return InertList.of("DIVIDE", InertList.of("PROD", prepend(zi, c.numerator)), di);
+            }
+        }
+
+        private static InertList toInert(List<Node> factors) throws MapleTranslationException {
+            if ( factors.size() == 1 ) return factors.get(0).toInert();
+            return InertList.of("PROD", prepend(null, factors));
+        }
+
+        private static List<InertList> prepend(InertList first, List<Node> factors) throws MapleTranslationException {
+            List<InertList> list = new LinkedList<>();
+            if ( first != null ) list.add(first);
+            for ( Node n : factors ) list.add(n.toInert());
+            return list;
+        }
+
+        private static final class Collector {
+            private Num constant = new Num(Real.ONE, Real.ZERO);
+            private final List<Node> numerator = new LinkedList<>();
+            private final List<Node> denominator = new LinkedList<>();
+
+            void collect(Node node, boolean inverse) throws MapleTranslationException {
+                if ( node instanceof Product ) {
+                    // products are flat in Maple
+                    Product p = (Product) node;
+                    for ( int i = 0; i < p.factors.size(); i++ )
+                        collect(p.factors.get(i), inverse ^ p.inverses.get(i));
+                } else if ( node instanceof Num ) {
+                    constant = inverse ? constant.divide((Num) node) : constant.multiply((Num) node);
+                } else if ( node instanceof Power && ((Power) node).hasNegativeExponent() ) {
+                    (inverse ? numerator : denominator).add(((Power) node).invert());
+                } else {
+                    (inverse ? denominator : numerator).add(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * A numeric constant re + im*I.
+     */
+    private static final class Num extends Node {
+        private final Real re;
+        private final Real im;
+
+        Num(Real re, Real im) {
+            this.re = re;
+            this.im = im;
+        }
+
+        boolean isZero() {
+            return re.isZero() && im.isZero();
+        }
+
+        boolean isOne() {
+            return re.isOne() && im.isZero();
+        }
+
+        boolean isNegativeReal() {
+            return im.isZero() && re.signum() < 0;
+        }
+
+        Num negate() {
+            return new Num(re.negate(), im.negate());
+        }
+
+        Num multiply(Num n) {
+            return new Num(
+                    re.multiply(n.re).subtract(im.multiply(n.im)),
+                    re.multiply(n.im).add(im.multiply(n.re))
+            );
+        }
+
+        Num divide(Num n) throws MapleTranslationException {
+            if ( n.isZero() ) throw new MapleTranslationException("Numeric exception: division by zero.");
+            if ( n.im.isZero() ) return new Num(re.divide(n.re), im.divide(n.re));
+            Real norm = n.re.multiply(n.re).add(n.im.multiply(n.im));
+            return new Num(
+                    re.multiply(n.re).add(im.multiply(n.im)).divide(norm),
+                    im.multiply(n.re).subtract(re.multiply(n.im)).divide(norm)
+            );
+        }
+
+        @Override
+        InertList toInert() {
+            if ( im.isZero() ) return re.toInert();
+            if ( re.isZero() ) return InertList.of("COMPLEX", im.toInert());
+            return InertList.of("COMPLEX", re.toInert(), im.toInert());
+        }
+    }
+
+    /**
+     * A real number, either an exact rational or a float.
+     */
+    private static final class Real {
+        static final Real ZERO = of(BigInteger.ZERO);
+        static final Real ONE = of(BigInteger.ONE);
+
+        // exact numbers: numerator / denominator with denominator > 0
+        private final BigInteger numerator;
+        private final BigInteger denominator;
+
+        // floating numbers if numerator is null
+        private final double floating;
+
+        private Real(BigInteger numerator, BigInteger denominator, double floating) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+            this.floating = floating;
+        }
+
+        static Real of(BigInteger integer) {
+            return new Real(integer, BigInteger.ONE, 0);
+        }
+
+        static Real of(double floating) {
+            return new Real(null, null, floating);
+        }
+
+        static Real of(BigInteger numerator, BigInteger denominator) {
+            if ( denominator.signum() < 0 ) {
+                numerator = numerator.negate();
+                denominator = denominator.negate();
+            }
+            BigInteger gcd = numerator.gcd(denominator);
+            if ( !gcd.equals(BigInteger.ONE) && gcd.signum() != 0 ) {
+                numerator = numerator.divide(gcd);
+                denominator = denominator.divide(gcd);
+            }
+            return new Real(numerator, denominator, 0);
+        }
+
+        boolean isExact() {
+            return numerator != null;
+        }
+
+        boolean isInteger() {
+            return isExact() && denominator.equals(BigInteger.ONE);
+        }
+
+        boolean isZero() {
+            return isExact() && numerator.signum() == 0;
+        }
+
+        boolean isOne() {
+            return isInteger() && numerator.equals(BigInteger.ONE);
+        }
+
+        int signum() {
+            return isExact() ? numerator.signum() : (int) Math.signum(floating);
+        }
+
+        double doubleValue() {
+            return isExact() ? numerator.doubleValue() / denominator.doubleValue() : floating;
+        }
+
+        Real negate() {
+            return isExact() ? new Real(numerator.negate(), denominator, 0) : of(-floating);
+        }
+
+        Real add(Real r) {
+            if ( isZero() ) return r;
+            if ( r.isZero() ) return this;
+            if ( isExact() && r.isExact() )
+                return of(numerator.multiply(r.denominator).add(r.numerator.multiply(denominator)), denominator.multiply(r.denominator));
+            return of(doubleValue() + r.doubleValue());
+        }
+
+        Real subtract(Real r) {
+            return add(r.negate());
+        }
+
+        Real multiply(Real r) {
+            // exact zero absorbs floats, like in Maple
+            if ( isZero() || r.isZero() ) return ZERO;
+            if ( isExact() && r.isExact() )
+                return of(numerator.multiply(r.numerator), denominator.multiply(r.denominator));
+            return of(doubleValue() * r.doubleValue());
+        }
+
+        Real divide(Real r) throws MapleTranslationException {
+            if ( r.isZero() ) throw new MapleTranslationException("Numeric exception: division by zero.");
+            if ( isExact() && r.isExact() )
+                return of(numerator.multiply(r.denominator), denominator.multiply(r.numerator));
+            return of(doubleValue() / r.doubleValue());
+        }
+
+        InertList toInert() {
+            if ( !isExact() ) return InertList.of("MYFLOAT", new InertNumeric(floating));
+            if ( isInteger() ) return integer(numerator);
+            return InertList.of("RATIONAL", integer(numerator), integer(denominator));
+        }
+
+        private static InertList integer(BigInteger value) {
+            return value.signum() < 0 ?
+                    InertList.of("INTNEG", new InertNumeric(value.negate())) :
+                    InertList.of("INTPOS", new InertNumeric(value));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An internal Maple object in the list representation of the inert-form, e.g.,
+ * {@code [_Inert_SUM, [_Inert_NAME, "n"], [_Inert_INTPOS, 2]]}. The first element
+ * is always the {@link InertSymbol} of the object, followed by its operands.
+ * This is the equivalent of {@link com.maplesoft.openmaple.List}, hence, elements
+ * are selected 1-based.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class InertList extends InertExpression {
+    private final InertExpression[] elements;
+
+    private InertList(InertExpression[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Creates the internal object with the given id and operands.
+     * @param id the name of the internal object without prefix, e.g., {@code SUM}
+     * @param operands the operands of the object
+     * @return the inert list {@code [_Inert_<id>, operands...]}
+     */
+    public static InertList of(String id, InertExpression... operands) {
+        InertExpression[] elements = new InertExpression[operands.length + 1];
+        elements[0] = new InertSymbol(id);
+        for ( int i = 0; i < operands.length; i++ )
+            elements[i + 1] = Objects.requireNonNull(operands[i]);
+        return new InertList(elements);
+    }
+
+    /**
+     * @see #of(String, InertExpression...)
+     */
+    public static InertList of(String id, List<? extends InertExpression> operands) {
+        return of(id, operands.toArray(new InertExpression[0]));
+    }
+
+    /**
+     * @param index 1-based index of the element
+     * @return the element of the given index, the first element is the {@link InertSymbol}
+     * @throws IndexOutOfBoundsException if the index is not between 1 and {@link #length()}
+     */
+    public InertExpression select(int index) throws IndexOutOfBoundsException {
+        if ( index < 1 || index > elements.length )
+            throw new IndexOutOfBoundsException("Select " + index + " from list of length " + elements.length);
+        return elements[index - 1];
+    }
+
+    /**
+     * @return the number of elements (including the {@link InertSymbol})
+     */
+    public int length() {
+        return elements.length;
+    }
+
+    /**
+     * @return the name of the internal object, i.e., the first element
+     */
+    public InertSymbol getSymbol() {
+        return (InertSymbol) elements[0];
+    }
+
+    /**
+     * @return true if this is the internal object of the given id
+     */
+    public boolean is(String id) {
+        return getSymbol().getId().equals(id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) return true;
+        if ( !(o instanceof InertList) ) return false;
+        return Arrays.equals(elements, ((InertList) o).elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elements);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for ( int i = 0; i < elements.length; i++ ) {
+            if ( i > 0 ) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
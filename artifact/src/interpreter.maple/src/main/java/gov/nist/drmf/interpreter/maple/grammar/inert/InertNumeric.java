@@ -0,0 +1,69 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * A number in the inert-form, i.e., the value of {@code [_Inert_INTPOS, 2]} or {@code [_Inert_MYFLOAT, 1.5]}.
+ * This is the equivalent of {@link com.maplesoft.openmaple.Numeric}. Integers are
+ * arbitrary precision, floating numbers are doubles.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class InertNumeric extends InertExpression {
+    private final BigInteger integer;
+
+    private final double floating;
+
+    public InertNumeric(BigInteger integer) {
+        this.integer = Objects.requireNonNull(integer);
+        this.floating = integer.doubleValue();
+    }
+
+    public InertNumeric(long integer) {
+        this(BigInteger.valueOf(integer));
+    }
+
+    public InertNumeric(double floating) {
+        this.integer = null;
+        this.floating = floating;
+    }
+
+    /**
+     * @return true if this number is an integer, false if it is a floating number
+     */
+    public boolean isInteger() {
+        return integer != null;
+    }
+
+    /**
+     * @return the value of this number as an int (may overflow, like {@link Number#intValue()})
+     */
+    public int intValue() {
+        return isInteger() ? integer.intValue() : (int) floating;
+    }
+
+    public double doubleValue() {
+        return floating;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) return true;
+        if ( !(o instanceof InertNumeric) ) return false;
+        InertNumeric that = (InertNumeric) o;
+        return isInteger() ?
+                integer.equals(that.integer) :
+                !that.isInteger() && Double.compare(floating, that.floating) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return isInteger() ? integer.hashCode() : Double.hashCode(floating);
+    }
+
+    @Override
+    public String toString() {
+        return isInteger() ? integer.toString() : Double.toString(floating);
+    }
+}
@@ -0,0 +1,41 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import java.util.Objects;
+
+/**
+ * A string in the inert-form, e.g., the name of a variable in {@code [_Inert_NAME, "x"]}.
+ * This is the equivalent of {@link com.maplesoft.openmaple.MString}.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class InertString extends InertExpression {
+    private final String value;
+
+    public InertString(String value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    /**
+     * @return the plain string (without quotes)
+     */
+    public String stringValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) return true;
+        if ( !(o instanceof InertString) ) return false;
+        return value.equals(((InertString) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "\"" + value + "\"";
+    }
+}
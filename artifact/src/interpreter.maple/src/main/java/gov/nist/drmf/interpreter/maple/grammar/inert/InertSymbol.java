@@ -0,0 +1,58 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import gov.nist.drmf.interpreter.maple.grammar.MapleInternal;
+
+import java.util.Objects;
+
+/**
+ * The first element of an {@link InertList}, i.e., the name of the internal Maple object
+ * such as {@code _Inert_SUM}.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class InertSymbol extends InertExpression {
+    /**
+     * The prefix of all internal names in the inert-form
+     */
+    public static final String INERT_PREFIX = "_Inert_";
+
+    private final String id;
+
+    /**
+     * @param id the name of the internal object without prefix, e.g., {@code SUM}
+     */
+    public InertSymbol(String id) {
+        this.id = Objects.requireNonNull(id);
+    }
+
+    /**
+     * @return the name of the internal object without prefix, e.g., {@code SUM}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the internal object or null if it is not supported
+     */
+    public MapleInternal getInternal() {
+        return MapleInternal.getInternal(id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) return true;
+        if ( !(o instanceof InertSymbol) ) return false;
+        return id.equals(((InertSymbol) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return INERT_PREFIX + id;
+    }
+}
@@ -0,0 +1,166 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import gov.nist.drmf.interpreter.common.exceptions.MapleTranslationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits an expression in Maple's 1-D syntax into tokens for the {@link InertFormParser}.
+ *
+ * @author Andre Greiner-Petter
+ */
+final class MapleTokenizer {
+    enum Type {
+        NUMBER, FLOAT, NAME, STRING, OPERATOR, END
+    }
+
+    static final class Token {
+        final Type type;
+        final String text;
+        final int position;
+
+        Token(Type type, String text, int position) {
+            this.type = type;
+            this.text = text;
+            this.position = position;
+        }
+
+        boolean is(String operator) {
+            return type == Type.OPERATOR && text.equals(operator);
+        }
+
+        boolean isKeyword(String keyword) {
+            return type == Type.NAME && text.equals(keyword);
+        }
+
+        @Override
+        public String toString() {
+            return type == Type.END ? "end of input" : "'" + text + "'";
+        }
+    }
+
+    // longer operators first
+    private static final String[] OPERATORS = new String[]{
+            "..", "<>", "<=", ">=", "**",
+            "+", "-", "*", "/", "^", "!", "=", "<", ">",
+            "(", ")", "[", "]", "{", "}", ",", ";", ":"
+    };
+
+    private final String input;
+
+    private int idx = 0;
+
+    private MapleTokenizer(String input) {
+        this.input = input;
+    }
+
+    /**
+     * @param input expression in Maple's 1-D syntax
+     * @return the list of tokens, the last token is always of type {@link Type#END}
+     * @throws MapleTranslationException if the input contains unsupported characters
+     */
+    static List<Token> tokenize(String input) throws MapleTranslationException {
+        return new MapleTokenizer(input).tokenize();
+    }
+
+    private List<Token> tokenize() throws MapleTranslationException {
+        List<Token> tokens = new ArrayList<>();
+        while ( true ) {
+            skipWhitespacesAndComments();
+            if ( idx >= input.length() ) {
+                tokens.add(new Token(Type.END, "", idx));
+                return tokens;
+            }
+
+            char c = input.charAt(idx);
+            if ( isDigit(c) || (c == '.' && isDigit(charAt(idx + 1))) ) tokens.add(readNumber());
+            else if ( Character.isLetter(c) || c == '_' ) tokens.add(readName());
+            else if ( c == '`' ) tokens.add(readQuoted('`', Type.NAME));
+            else if ( c == '"' ) tokens.add(readQuoted('"', Type.STRING));
+            else tokens.add(readOperator());
+        }
+    }
+
+    private void skipWhitespacesAndComments() {
+        while ( idx < input.length() ) {
+            char c = input.charAt(idx);
+            if ( Character.isWhitespace(c) ) idx++;
+            else if ( c == '#' ) {
+                while ( idx < input.length() && input.charAt(idx) != '\n' ) idx++;
+            } else return;
+        }
+    }
+
+    private Token readNumber() {
+        int start = idx;
+        boolean floating = false;
+        while ( isDigit(charAt(idx)) ) idx++;
+
+        // a dot is part of the number unless it is the range operator
+        if ( charAt(idx) == '.' && charAt(idx + 1) != '.' ) {
+            floating = true;
+            idx++;
+            while ( isDigit(charAt(idx)) ) idx++;
+        }
+
+        char e = charAt(idx);
+        if ( e == 'e' || e == 'E' ) {
+            int exp = idx + 1;
+            if ( charAt(exp) == '+' || charAt(exp) == '-' ) exp++;
+            if ( isDigit(charAt(exp)) ) {
+                floating = true;
+                idx = exp;
+                while ( isDigit(charAt(idx)) ) idx++;
+            }
+        }
+
+        return new Token(floating ? Type.FLOAT : Type.NUMBER, input.substring(start, idx), start);
+    }
+
+    private Token readName() {
+        int start = idx;
+        while ( idx < input.length() ) {
+            char c = input.charAt(idx);
+            if ( Character.isLetterOrDigit(c) || c == '_' || c == '~' ) idx++;
+            else break;
+        }
+        return new Token(Type.NAME, input.substring(start, idx), start);
+    }
+
+    private Token readQuoted(char quote, Type type) throws MapleTranslationException {
+        int start = idx;
+        StringBuilder sb = new StringBuilder();
+        idx++;
+        while ( idx < input.length() ) {
+            char c = input.charAt(idx++);
+            if ( c == quote ) return new Token(type, sb.toString(), start);
+            if ( c == '\\' && idx < input.length() ) {
+                char escaped = input.charAt(idx++);
+                sb.append(escaped == 'n' ? '\n' : escaped);
+            } else sb.append(c);
+        }
+        throw new MapleTranslationException("Missing closing " + quote + " for the quote at position " + start + " in: " + input);
+    }
+
+    private Token readOperator() throws MapleTranslationException {
+        for ( String op : OPERATORS ) {
+            if ( input.startsWith(op, idx) ) {
+                Token t = new Token(Type.OPERATOR, op, idx);
+                idx += op.length();
+                return t;
+            }
+        }
+        throw new MapleTranslationException(
+                "Unsupported Maple syntax '" + input.charAt(idx) + "' at position " + idx + " in: " + input
+        );
+    }
+
+    private char charAt(int i) {
+        return i < input.length() ? input.charAt(i) : 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -22,16 +22,13 @@ import java.util.List;
 public class MapleRmiServer implements RmiCasServer {
     private static final Logger LOG = LogManager.getLogger(MapleRmiServer.class.getName());
 
-    private static Registry registry;
+    /**
+     * The default port of the RMI registry. A different port can be given as the first program
+     * argument, e.g., to run multiple Maple JVMs in a {@link gov.nist.drmf.interpreter.common.process.CasWorkerPool}.
+     */
+    public static final int DEFAULT_PORT = Registry.REGISTRY_PORT;
 
-    static {
-        try {
-            registry = LocateRegistry.createRegistry(1099);
-        } catch (RemoteException e) {
-            LOG.fatal("Unable to setup RMI LocateRegistry", e);
-            System.exit(1);
-        }
-    }
+    private static Registry registry;
 
     private InternalRmiMapleConnector mapleConnector;
 
@@ -122,6 +119,14 @@ public class MapleRmiServer implements RmiCasServer {
     }
 
     public static void main(String[] args) throws CASUnavailableException, RemoteException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try {
+            registry = LocateRegistry.createRegistry(port);
+        } catch (RemoteException e) {
+            LOG.fatal("Unable to setup RMI LocateRegistry on port " + port, e);
+            System.exit(1);
+        }
+
         LOG.info("Start Maple JVM");
         MapleRmiServer mapleServer = new MapleRmiServer();
         LOG.info("Successfully started Maple JVM");
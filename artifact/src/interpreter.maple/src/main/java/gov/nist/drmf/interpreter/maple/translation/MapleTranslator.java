@@ -1,10 +1,7 @@
 package gov.nist.drmf.interpreter.maple.translation;
 
-import com.maplesoft.externalcall.MapleException;
-import com.maplesoft.openmaple.Algebraic;
 import gov.nist.drmf.interpreter.common.TranslationInformation;
 import gov.nist.drmf.interpreter.common.config.TranslationProcessConfig;
-import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
@@ -16,7 +13,9 @@ import gov.nist.drmf.interpreter.common.symbols.Constants;
 import gov.nist.drmf.interpreter.common.symbols.GreekLetters;
 import gov.nist.drmf.interpreter.common.symbols.SymbolTranslator;
 import gov.nist.drmf.interpreter.maple.common.MapleConstants;
-import gov.nist.drmf.interpreter.maple.extension.MapleInterface;
+import gov.nist.drmf.interpreter.maple.grammar.TranslatedList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertFormParser;
 import gov.nist.drmf.interpreter.maple.grammar.lexicon.MapleLexicon;
 import gov.nist.drmf.interpreter.maple.translation.components.AbstractAlgebraicTranslator;
 import org.apache.logging.log4j.LogManager;
@@ -29,12 +28,13 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * The Maple backward translator. Note that there is only one interface to maple.
- * If you want to avoid overload, use the standard instance.
+ * The Maple backward translator. The input is parsed by the {@link InertFormParser}, hence,
+ * the translation does not require a running Maple kernel. If you want to avoid loading
+ * the translation tables multiple times, use the standard instance.
  *
  * @author AndreG-P on 21.02.2017.
  */
-public final class MapleTranslator extends AbstractAlgebraicTranslator<Algebraic> implements ITranslator {
+public final class MapleTranslator extends AbstractAlgebraicTranslator<InertExpression> implements ITranslator {
     /**
      * The default brackets Maple uses.
      * @see Brackets
@@ -51,12 +51,6 @@ public final class MapleTranslator extends AbstractAlgebraicTranslator<Algebraic
      */
     private static final String define_symb = ":=";
 
-    /**
-     * The name of the procedure to convert the inner DAG structure
-     * to a list structure.
-     */
-    private String maple_list_procedure_name, maple_to_inert_procedure_name;
-
     /**
      * The basic translators.
      *  GreekLetters: To translate greek letters
@@ -70,60 +64,56 @@ public final class MapleTranslator extends AbstractAlgebraicTranslator<Algebraic
     private SymbolTranslator symbolTranslator;
 
     /**
-     * MapleInterface
+     * The shared default instance. It is volatile so that {@link #getDefaultInstance()} can skip
+     * the lock once the instance was initialized.
      */
-    private final MapleInterface maple;
+    private static volatile MapleTranslator defaultInstance;
 
     /**
-     *
+     * The default instance is shared between threads, hence every thread keeps its own latest translation.
      */
-    private static MapleTranslator defaultInstance;
+    private final ThreadLocal<TranslatedList> latestTranslation = ThreadLocal.withInitial(TranslatedList::new);
 
     /**
      * It's recommended to use the default instance via
      * {@link #getDefaultInstance()} instead of creating a new object.
      * If you do, you should know what you do and why.
      */
-    public MapleTranslator(){
-        maple = MapleInterface.getUniqueMapleInterface();
-    }
+    public MapleTranslator(){}
 
     /**
      * Get the default translator instance.
      * @return recommended way to get access to the translator instance
      */
     public static MapleTranslator getDefaultInstance() {
-        if ( defaultInstance == null ) {
-            try {
-                defaultInstance = new MapleTranslator();
-                defaultInstance.init();
-            } catch (MapleException | InitTranslatorException | IOException e) {
-                LOG.error("Unable to load default instance of Maple translator", e);
-                defaultInstance = null;
-                return null;
+        MapleTranslator instance = defaultInstance;
+        if ( instance != null ) return instance;
+
+        synchronized (MapleTranslator.class) {
+            if ( defaultInstance == null ) {
+                try {
+                    // only publish the instance after it was fully initialized
+                    MapleTranslator translator = new MapleTranslator();
+                    translator.init();
+                    defaultInstance = translator;
+                } catch (InitTranslatorException | IOException e) {
+                    LOG.error("Unable to load default instance of Maple translator", e);
+                    return null;
+                }
             }
+            return defaultInstance;
         }
-        return defaultInstance;
     }
 
     /**
-     * Initialize the interface to the engine of Maple. You cannot initialize it twice!
-     * If the engine is already running, this function ignores other calls.
+     * Loads the translation tables and the lexicon of Maple functions.
      *
-     * First it is trying to load the procedure to convert the Inert-Form
-     * to a list. You can find this procedure in {@link GlobalPaths#PATH_MAPLE_PROCS}.
-     *
-     * After that, it creates an Engine object of Maple and defines the procedure once.
-     *
-     * @throws MapleException if the Engine cannot be initialized or the evaluation of the procedure fails.
-     * @throws IOException if it cannot load the procedure from file {@link GlobalPaths#PATH_MAPLE_PROCS}.
+     * @throws IOException if it cannot load the lexicon of Maple functions.
+     * @throws InitTranslatorException if the translation tables cannot be loaded.
      */
-    public void init() throws MapleException, IOException, InitTranslatorException {
+    public void init() throws IOException, InitTranslatorException {
         LOG.debug("Start init!");
 
-        // evaluate procedures
-        loadProcedures();
-
         TranslationProcessConfig config = new TranslationProcessConfig(Keys.KEY_MAPLE, Keys.KEY_LATEX);
         setConfig(config);
         getConfig().init();
@@ -142,17 +132,6 @@ public final class MapleTranslator extends AbstractAlgebraicTranslator<Algebraic
         INFINITY = constants.translate( MapleConstants.INFINITY );
     }
 
-    private void loadProcedures() throws MapleException, IOException {
-        String list_procedure = extractProcedure( GlobalPaths.PATH_MAPLE_LIST_PROCEDURE );
-        this.maple_list_procedure_name = extractNameOfProcedure(list_procedure);
-
-        String to_inert_procedure = extractProcedure( GlobalPaths.PATH_MAPLE_TO_INERT_PROCEDURE );
-        this.maple_to_inert_procedure_name = extractNameOfProcedure( to_inert_procedure );
-
-        maple.loadProcedure( list_procedure );
-        maple.loadProcedure( to_inert_procedure );
-    }
-
     public static String extractProcedure( Path maple_proc ) throws IOException {
         // try to collect a stream.
         try ( Stream<String> stream = Files.lines( maple_proc ) ){
@@ -180,36 +159,29 @@ public final class MapleTranslator extends AbstractAlgebraicTranslator<Algebraic
     }
 
     /**
-     * Translates a given maple expression. This expression should not end
-     * with a semicolon, otherwise you will produce a MapleException.
+     * Translates a given maple expression.
      *
-     * @param maple_input maple expression in 1D representation without a semicolon at the end!
+     * @param maple_input maple expression in 1D representation
      * @return the translated expression in semantic LaTeX
-     * @throws MapleException if the conversion to the inner form of Maple fails.
+     * @throws TranslationException if the input cannot be parsed or translated.
      */
     @Override
     public TranslationInformation translateToObject( String maple_input ) throws TranslationException {
-        // Creates the command by wrapping all necessary information around the input
-        // to convert the given input into the internal maple datastructure
-        String cmd = maple_to_inert_procedure_name + "('" + maple_input + "')";
-        // to convert the internal DAG into a list representation
-        cmd = maple_list_procedure_name + "(" + cmd + ");";
-
         try {
-            // evaluates the given expression
-            Algebraic a = maple.evaluate(cmd);
+            // parses the input into the list representation of the inert-form
+            InertExpression inert = InertFormParser.parse(maple_input);
 
             // log information
-            LOG.debug("Wrapping: " + cmd);
             LOG.info("Parsed: " + maple_input);
-            LOG.debug("Algebraic Result: " + a.toString());
+            LOG.debug("Inert-Form: " + inert);
 
             // try to translate the expression
             // if it fails, translate will return false and the error information
             // can be accessed by the internalErrorLog
 
-            translatedList = translateGeneralExpression(a);
-            String translation = translatedList.getAccurateString();
+            TranslatedList result = translateGeneralExpression(inert);
+            latestTranslation.set(result);
+            String translation = result.getAccurateString();
 
             TranslationInformation ti = new TranslationInformation(maple_input, translation);
             ti.setInformation(getInfos());
@@ -226,28 +198,33 @@ public final class MapleTranslator extends AbstractAlgebraicTranslator<Algebraic
     }
 
     /**
-     * Assumes an algebraic object of a Maple expression.
-     * Caused by technical issues, this method converts
-     * the given algebraic object into a String and evaluates
-     * the String. You can use {@link #translate(String)} for get
-     * the same effect.
-     * @param alg algebraic object of a maple expression
+     * Translates the inert-form of a Maple expression, e.g., the result of
+     * {@link InertFormParser#parse(String)}.
+     * @param inert the inert-form of a maple expression
      * @return true if the translation process finished without problems
      * and false if there where some problems. You get access to the
      * translated expression by {@link #getTranslatedExpression()}.
      */
     @Override
-    public Boolean translate( Algebraic alg ){
-        String maple_text = alg.toString();
+    public Boolean translate( InertExpression inert ){
         try {
-            translate(maple_text);
-            return true;
-        } catch ( TranslationException me ){
-            LOG.fatal("Cannot translate " + maple_text, me);
+            TranslatedList result = translateGeneralExpression(inert);
+            latestTranslation.set(result == null ? new TranslatedList() : result);
+            return result != null;
+        } catch ( TranslationException | IllegalArgumentException | ClassCastException me ){
+            LOG.fatal("Cannot translate " + inert, me);
             return false;
         }
     }
 
+    /**
+     * @return the latest translation of the calling thread
+     */
+    @Override
+    public String getTranslatedExpression() {
+        return latestTranslation.get().getAccurateString();
+    }
+
     /**
      * Returns the greek letters translator.
      * @return greek letters translator
@@ -1,8 +1,5 @@
 package gov.nist.drmf.interpreter.maple.translation.components;
 
-import com.maplesoft.externalcall.MapleException;
-import com.maplesoft.openmaple.Algebraic;
-import com.maplesoft.openmaple.List;
 import gov.nist.drmf.interpreter.common.InformationLogger;
 import gov.nist.drmf.interpreter.common.config.TranslationProcessConfig;
 import gov.nist.drmf.interpreter.common.constants.Keys;
@@ -13,6 +10,8 @@ import gov.nist.drmf.interpreter.common.exceptions.MapleTranslationException;
 import gov.nist.drmf.interpreter.maple.grammar.MapleInternal;
 import gov.nist.drmf.interpreter.maple.grammar.TranslatedList;
 import gov.nist.drmf.interpreter.maple.grammar.TranslationFailures;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertList;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -24,7 +23,7 @@ import static gov.nist.drmf.interpreter.maple.common.MapleConstants.MAPLE_INTERN
  *
  * Created by AndreG-P on 21.02.2017.
  */
-public abstract class AbstractAlgebraicTranslator<T extends Algebraic>
+public abstract class AbstractAlgebraicTranslator<T extends InertExpression>
         implements IBackwardTranslator<T, Boolean> {
     protected static String MULTIPLY, ADD, INFINITY;
 
@@ -32,9 +31,10 @@ public abstract class AbstractAlgebraicTranslator<T extends Algebraic>
 
     protected TranslatedList translatedList = new TranslatedList();
 
-    static TranslationFailures failures = new TranslationFailures();
+    // every thread translates its own expressions
+    private static final ThreadLocal<TranslationFailures> failures = ThreadLocal.withInitial(TranslationFailures::new);
 
-    static InformationLogger infos = new InformationLogger();
+    private static final ThreadLocal<InformationLogger> infos = ThreadLocal.withInitial(InformationLogger::new);
 
     private TranslationProcessConfig config;
 
@@ -52,9 +52,9 @@ public abstract class AbstractAlgebraicTranslator<T extends Algebraic>
      * @param element
      * @return
      */
-    protected TranslatedList translateGeneralExpression( Algebraic element )
-            throws TranslationException, MapleException {
-        if ( !(element instanceof List) ){
+    protected TranslatedList translateGeneralExpression( InertExpression element )
+            throws TranslationException {
+        if ( !(element instanceof InertList) ){
             LOG.fatal(
                     "The general translator assumes an algebraic object " +
                     "in a Maple inert-form in a List structure but get: " +
@@ -63,7 +63,7 @@ public abstract class AbstractAlgebraicTranslator<T extends Algebraic>
             return null;
         }
 
-        List list = (List)element;
+        InertList list = (InertList)element;
         String root = list.select(1).toString();
         MapleInternal in = getAbstractInternal(root);
         LOG.trace( "Translate general expression: " + list );
@@ -78,11 +78,11 @@ public abstract class AbstractAlgebraicTranslator<T extends Algebraic>
     }
 
     public TranslationFailures getFailures(){
-        return failures;
+        return failures.get();
     }
 
     public InformationLogger getInfos(){
-        return infos;
+        return infos.get();
     }
 
     @Override
@@ -94,14 +94,14 @@ public abstract class AbstractAlgebraicTranslator<T extends Algebraic>
             throw new IllegalArgumentException("Unknown name of maple object: " + root);
 
         MapleInternal in = MapleInternal.getInternal( match.group(1) );
-        if ( root == null )
+        if ( in == null )
             throw new IllegalArgumentException("Not supported maple object: " + root);
 
         return in;
     }
 
-    String[] translateExpressionSequence( List exp_seq )
-            throws MapleTranslationException, MapleException {
+    String[] translateExpressionSequence( InertList exp_seq )
+            throws MapleTranslationException {
         String[] translations = new String[exp_seq.length()-1];
         for ( int i = 2; i-2 < translations.length; i++ ){
             TranslatedList tl = translateGeneralExpression( exp_seq.select(i) );
@@ -1,9 +1,5 @@
 package gov.nist.drmf.interpreter.maple.translation.components;
 
-import com.maplesoft.externalcall.MapleException;
-import com.maplesoft.openmaple.Algebraic;
-import com.maplesoft.openmaple.List;
-import com.maplesoft.openmaple.MString;
 import gov.nist.drmf.interpreter.common.constants.GlobalConstants;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
@@ -16,6 +12,9 @@ import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.grammar.MapleInternal;
 import gov.nist.drmf.interpreter.maple.grammar.TranslatedExpression;
 import gov.nist.drmf.interpreter.maple.grammar.TranslatedList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertString;
 import gov.nist.drmf.interpreter.maple.grammar.lexicon.MapleFunction;
 import gov.nist.drmf.interpreter.maple.grammar.lexicon.MapleLexicon;
 import gov.nist.drmf.interpreter.maple.translation.MapleTranslator;
@@ -34,15 +33,11 @@ public class FunctionAndVariableTranslator extends ListTranslator {
     }
 
     @Override
-    public Boolean translate( List list ) throws TranslationException {
-        try {
-            return innerTranslate( list );
-        } catch (MapleException me) {
-            throw createException("Maple error in list translator.", me);
-        }
+    public Boolean translate( InertList list ) throws TranslationException {
+        return innerTranslate( list );
     }
 
-    private boolean innerTranslate( List list ) throws TranslationException, MapleException {
+    private boolean innerTranslate( InertList list ) throws TranslationException {
         boolean b;
         switch ( root ){
             case string:
@@ -53,12 +48,12 @@ public class FunctionAndVariableTranslator extends ListTranslator {
                 LOG.trace( "Translated " + root + ". " + translatedList.getLastExpression() );
                 return b;
             case ass_name:
-                Algebraic a = list.select(2);
+                InertExpression a = list.select(2);
                 String msg = "AssignedNames are not allowed in this program. " +
                         "To find this here, means you previously defined the " +
                         "name of the object. " + a.toString() + ". But this is not allowed!";
                 LOG.warn(msg);
-                failures.addFailure( msg, this.getClass(), list.toString() );
+                getFailures().addFailure( msg, this.getClass(), list.toString() );
                 return false;
             case function:
                 translateFunction( list );
@@ -70,29 +65,29 @@ public class FunctionAndVariableTranslator extends ListTranslator {
                 translateFraction( list );
                 return true;
             default:
-                failures.addFailure( "Wrong Parser for given element.", this.getClass(), list.toString() );
+                getFailures().addFailure( "Wrong Parser for given element.", this.getClass(), list.toString() );
                 LOG.debug("Cannot translate " + root + " in FunctionAndVariableTranslator.");
                 return false;
         }
     }
 
-    private void wrapString( List list ) throws MapleException {
-        Algebraic a = list.select(2);
-        MString ms = (MString)a;
+    private void wrapString( InertList list ) {
+        InertExpression a = list.select(2);
+        InertString ms = (InertString)a;
         String out = ms.stringValue();
         out = "\\text{" + out + "}";
         translatedList.addTranslatedExpression(out);
     }
 
-    private boolean translateName( List list ) throws MapleException {
-        Algebraic a = list.select(2);
-        if ( !(a instanceof MString) ){
-            failures.addFailure( "Expecting an MString!", this.getClass(), a.toString() );
+    private boolean translateName( InertList list ) {
+        InertExpression a = list.select(2);
+        if ( !(a instanceof InertString) ){
+            getFailures().addFailure( "Expecting an MString!", this.getClass(), a.toString() );
             return false;
         }
 
         // get string value
-        MString ms = (MString)a;
+        InertString ms = (InertString)a;
         String str = ms.stringValue();
 
         // this string could be a greek letter or a constant.
@@ -104,12 +99,12 @@ public class FunctionAndVariableTranslator extends ListTranslator {
         // first looking for constants
         String constant = constants.translate( str );
         if ( constant != null ) {
-            infos.addGeneralInfo(str, "Translated "+ str +" constant in string to " + constant);
+            getInfos().addGeneralInfo(str, "Translated "+ str +" constant in string to " + constant);
             t = new TranslatedExpression(constant);
         } else { // second looking for greek letters
             String greekResult = greek.translate( str );
             if ( greekResult != null ){
-                infos.addGeneralInfo( str, "Translated "+ str +" as greek latter to " + greekResult );
+                getInfos().addGeneralInfo( str, "Translated "+ str +" as greek latter to " + greekResult );
                 t = new TranslatedExpression(greekResult);
             }
             else t = new TranslatedExpression(str);
@@ -120,13 +115,13 @@ public class FunctionAndVariableTranslator extends ListTranslator {
         return true;
     }
 
-    private void translateFunction( List list ) throws MapleTranslationException, MapleException {
+    private void translateFunction( InertList list ) throws MapleTranslationException {
         if ( list.length() != 3 )
             throw new MapleTranslationException(
                     "Illegal length of function list. Length " + list.length());
 
-        List assigned_name_list = (List)list.select(2);
-        List expression_seq_list = (List)list.select(3);
+        InertList assigned_name_list = (InertList)list.select(2);
+        InertList expression_seq_list = (InertList)list.select(3);
 
         MapleInternal in = getAbstractInternal( assigned_name_list.select(1).toString() );
         if ( !(in.equals( MapleInternal.ass_name ) || in.equals( MapleInternal.name )) )
@@ -135,7 +130,7 @@ public class FunctionAndVariableTranslator extends ListTranslator {
         if ( !in.equals( MapleInternal.exp ) )
             throw new MapleTranslationException("Functions arguments are not in an EXPSEQ!");
 
-        MString func_name_string = (MString)assigned_name_list.select(2);
+        InertString func_name_string = (InertString)assigned_name_list.select(2);
         String function = func_name_string.stringValue();
 
         LOG.info("Found function: " + function);
@@ -152,7 +147,7 @@ public class FunctionAndVariableTranslator extends ListTranslator {
             String translation = bft.translate( arguments, MOD_NAME );
             LOG.info("Translated modulo: " + translation);
             translatedList.addTranslatedExpression( translation );
-            infos.addMacroInfo( function, " Translated as modulo." );
+            getInfos().addMacroInfo( function, " Translated as modulo." );
             return;
         }
 
@@ -166,18 +161,18 @@ public class FunctionAndVariableTranslator extends ListTranslator {
             String translation = mapleFunction.replacePlaceHolders( arguments );
             LOG.info("Function translated: " + translation);
             translatedList.addTranslatedExpression( translation );
-            infos.addMacroInfo( function, mapleFunction.toString() );
+            getInfos().addMacroInfo( function, mapleFunction.toString() );
         }
 
     }
 
-    private void translatePower( List list ) throws TranslationException, MapleException {
-        List base, exponent;
+    private void translatePower( InertList list ) throws TranslationException {
+        InertList base, exponent;
 
         try {
-            base = (List)list.select(2);
-            exponent = (List)list.select(3);
-        } catch ( MapleException me ){
+            base = (InertList)list.select(2);
+            exponent = (InertList)list.select(3);
+        } catch ( IndexOutOfBoundsException me ){
             throw createException(
                     "Cannot translate power. Fail to extract base and exponent.",
                     me
@@ -200,14 +195,14 @@ public class FunctionAndVariableTranslator extends ListTranslator {
         LOG.trace("Translated POWER. " + trans_base + GlobalConstants.CARET_CHAR + trans_exponent);
     }
 
-    private void translateFraction( List list ) throws TranslationException, MapleException {
-        List numerator, denominator;
+    private void translateFraction( InertList list ) throws TranslationException {
+        InertList numerator, denominator;
         boolean sign = MapleConstants.POSITIVE;
 
         try {
-            numerator = (List)list.select(2);
-            denominator = (List)list.select(3);
-        } catch ( MapleException me ){
+            numerator = (InertList)list.select(2);
+            denominator = (InertList)list.select(3);
+        } catch ( IndexOutOfBoundsException me ){
             throw createException(
                     "Cannot translate fraction. Fail to extract numerator and denominator.",
                     me
@@ -1,10 +1,5 @@
 package gov.nist.drmf.interpreter.maple.translation.components;
 
-import com.maplesoft.externalcall.MapleException;
-import com.maplesoft.openmaple.Algebraic;
-import com.maplesoft.openmaple.List;
-import com.maplesoft.openmaple.MString;
-import com.maplesoft.openmaple.Numeric;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.symbols.BasicFunctionsTranslator;
@@ -12,6 +7,10 @@ import gov.nist.drmf.interpreter.common.symbols.Constants;
 import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.grammar.MapleInternal;
 import gov.nist.drmf.interpreter.maple.grammar.TranslatedExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertNumeric;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertString;
 import gov.nist.drmf.interpreter.maple.translation.MapleTranslator;
 
 import static gov.nist.drmf.interpreter.maple.common.MapleConstants.*;
@@ -34,15 +33,11 @@ public class NumericalTranslator extends ListTranslator {
     }
 
     @Override
-    public Boolean translate( List list ) throws TranslationException {
-        try {
-            return innerTranslate( list );
-        } catch (MapleException me) {
-            throw createException("Maple error in numerical translator.", me);
-        }
+    public Boolean translate( InertList list ) throws TranslationException {
+        return innerTranslate( list );
     }
 
-    public boolean innerTranslate( List list ) throws MapleException, IllegalArgumentException {
+    public boolean innerTranslate( InertList list ) throws TranslationException, IllegalArgumentException {
         boolean b;
         switch (root) {
             case intpos:
@@ -68,66 +63,59 @@ public class NumericalTranslator extends ListTranslator {
             default:
                 String message = "Expected an Numeric object but get: " + root;
                 LOG.debug( message );
-                failures.addFailure( message, this.getClass(), root.toString() );
+                getFailures().addFailure( message, this.getClass(), root.toString() );
                 return false;
         }
     }
 
-    private void translatePosInt( List list ) throws MapleException {
+    private void translatePosInt( InertList list ) {
         String s = translateInt( list );
         translatedList.addTranslatedExpression(s);
     }
 
-    private void translateNegInt( List list ) throws MapleException {
+    private void translateNegInt( InertList list ) {
         String s = translateInt( list );
         translatedList.addTranslatedExpression(MINUS_SIGN + s);
     }
 
-    private String translateInt( List list ) throws MapleException {
-        try {
-            Numeric n = (Numeric)list.select(2);
-            return Integer.toString( n.intValue() );
-        } catch( MapleException me ){
-            LOG.fatal( "Cannot parse integer.", me );
-            throw me;
-        }
+    private String translateInt( InertList list ) {
+        InertNumeric n = (InertNumeric)list.select(2);
+        return n.toString();
     }
 
     /**
      * Parse a fraction of two numerical expressions.
      * @param list Type: RATIONAL, Struct: [RATIONAL, Numeric, Numeric]
-     * @throws MapleException extract elements from list or parse elements
+     * @throws TranslationException if the numerator is not an integer
      */
-    private void parseRationalNumber( List list ) throws MapleException {
-        try {
-            // get numerator and denominator
-            List numerator = (List)list.select(2);
-            List denominator = (List)list.select(3);
-
-            // translate them into a string representation
-            String num = translateInt( numerator );
-            String denom = translateInt( denominator );
-
-            // get the pattern for fraction from the function translator
-            // and replace the place holders by numerator and denominator.
-            MapleTranslator mi = MapleTranslator.getDefaultInstance();
-            BasicFunctionsTranslator funcTrans = mi.getBasicFunctionsTranslator();
-            String[] args = new String[]{num, denom};
-            String pattern = funcTrans.translate( args, Keys.MLP_KEY_FRACTION );
-
-            // put translation into list of translated expressions
-            TranslatedExpression t;
-            MapleInternal num_internal = getAbstractInternal(numerator.select(1).toString());
-            if ( num_internal.equals( MapleInternal.intneg ) ){
-                t = new TranslatedExpression( pattern, NEGATIVE );
-            } else if ( num_internal.equals( MapleInternal.intpos ) ){
-                t = new TranslatedExpression( pattern, POSITIVE );
-            } else throw new MapleException("Illegal argument in rational object. " + numerator);
-            translatedList.addTranslatedExpression( t );
-        } catch ( MapleException e ){
-            LOG.fatal("Cannot translate a rational number!", e);
-            throw e;
+    private void parseRationalNumber( InertList list ) throws TranslationException {
+        // get numerator and denominator
+        InertList numerator = (InertList)list.select(2);
+        InertList denominator = (InertList)list.select(3);
+
+        // translate them into a string representation
+        String num = translateInt( numerator );
+        String denom = translateInt( denominator );
+
+        // get the pattern for fraction from the function translator
+        // and replace the place holders by numerator and denominator.
+        MapleTranslator mi = MapleTranslator.getDefaultInstance();
+        BasicFunctionsTranslator funcTrans = mi.getBasicFunctionsTranslator();
+        String[] args = new String[]{num, denom};
+        String pattern = funcTrans.translate( args, Keys.MLP_KEY_FRACTION );
+
+        // put translation into list of translated expressions
+        TranslatedExpression t;
+        MapleInternal num_internal = getAbstractInternal(numerator.select(1).toString());
+        if ( num_internal.equals( MapleInternal.intneg ) ){
+            t = new TranslatedExpression( pattern, NEGATIVE );
+        } else if ( num_internal.equals( MapleInternal.intpos ) ){
+            t = new TranslatedExpression( pattern, POSITIVE );
+        } else {
+            LOG.fatal("Cannot translate a rational number! " + list);
+            throw createException("Illegal argument in rational object. " + numerator);
         }
+        translatedList.addTranslatedExpression( t );
     }
 
     /**
@@ -137,31 +125,26 @@ public class NumericalTranslator extends ListTranslator {
      * @param list
      * @return
      */
-    private boolean parseFloatingNumber( List list ) throws MapleException {
-        try{
-            Algebraic first = list.select(2);
-            if ( !(first instanceof Numeric) ){
-                String msg =
-                        "A floating number is expected to be VERBATIM with openmaple.Numeric object " +
-                                "in the second argument but got: " + first;
-                failures.addFailure( msg, this.getClass(), list.toString() );
-                return false;
-            }
-
-            Numeric n = (Numeric)first;
-            Double d = n.doubleValue();
-            TranslatedExpression t;
-            if ( d.equals( Double.POSITIVE_INFINITY ) )
-                t = new TranslatedExpression( INFINITY, POSITIVE );
-            else if ( d.equals( Double.NEGATIVE_INFINITY ) )
-                t = new TranslatedExpression( INFINITY, NEGATIVE );
-            else t = new TranslatedExpression( d.toString() );
-            translatedList.addTranslatedExpression( t );
-            return true;
-        } catch ( MapleException me ){
-            LOG.error("Cannot calculate given double value.", me);
-            throw me;
+    private boolean parseFloatingNumber( InertList list ) {
+        InertExpression first = list.select(2);
+        if ( !(first instanceof InertNumeric) ){
+            String msg =
+                    "A floating number is expected to be VERBATIM with a numeric object " +
+                            "in the second argument but got: " + first;
+            getFailures().addFailure( msg, this.getClass(), list.toString() );
+            return false;
         }
+
+        InertNumeric n = (InertNumeric)first;
+        Double d = n.doubleValue();
+        TranslatedExpression t;
+        if ( d.equals( Double.POSITIVE_INFINITY ) )
+            t = new TranslatedExpression( INFINITY, POSITIVE );
+        else if ( d.equals( Double.NEGATIVE_INFINITY ) )
+            t = new TranslatedExpression( INFINITY, NEGATIVE );
+        else t = new TranslatedExpression( d.toString() );
+        translatedList.addTranslatedExpression( t );
+        return true;
     }
 
     /**
@@ -178,14 +161,14 @@ public class NumericalTranslator extends ListTranslator {
      * @param list
      * @return
      */
-    private boolean parseComplexNumber( List list ) throws MapleException, IllegalArgumentException {
+    private boolean parseComplexNumber( InertList list ) throws IllegalArgumentException {
         try {
-            TranslatedExpression first = parseComplexElement( (List)list.select(2) );
+            TranslatedExpression first = parseComplexElement( (InertList)list.select(2) );
             if ( first == null ) return false;
             translatedList.addTranslatedExpression(first);
 
             if ( list.length() == 3 ){
-                TranslatedExpression second = parseComplexElement( (List)list.select(3) );
+                TranslatedExpression second = parseComplexElement( (InertList)list.select(3) );
                 if ( second == null ) return false;
                 translatedList.addTranslatedExpression(PLUS_SIGN);
                 translatedList.addTranslatedExpression(second);
@@ -209,14 +192,14 @@ public class NumericalTranslator extends ListTranslator {
 
             translatedList.addTranslatedExpression( imaginary );
             return true;
-        } catch ( MapleException | IllegalArgumentException me ){
+        } catch ( IllegalArgumentException me ){
             LOG.fatal("Cannot translate complex number! " + me.getMessage(), me);
             return false;
         }
     }
 
-    private TranslatedExpression parseComplexElement( List list )
-            throws IllegalArgumentException, MapleException {
+    private TranslatedExpression parseComplexElement( InertList list )
+            throws IllegalArgumentException {
         MapleInternal in = getAbstractInternal(list.select(1).toString());
         String name;
 
@@ -224,25 +207,25 @@ public class NumericalTranslator extends ListTranslator {
             case name:
                 name = list.select(2).toString();
                 if ( !name.matches( INFINITY ) ){
-                    failures.addFailure( "Complex _Inert_NAME is not infinity!", this.getClass(), name );
+                    getFailures().addFailure( "Complex _Inert_NAME is not infinity!", this.getClass(), name );
                     return null;
                 } else return new TranslatedExpression(INFINITY, POSITIVE);
             case prod:
-                List l1 = (List)list.select(2);
-                List l2 = (List)list.select(3);
-                Algebraic a = l1.select(2);
-                if ( !(a instanceof MString) ){
-                    failures.addFailure( "Illegal argument for complex numbers.", this.getClass(), l1.toString() );
+                InertList l1 = (InertList)list.select(2);
+                InertList l2 = (InertList)list.select(3);
+                InertExpression a = l1.select(2);
+                if ( !(a instanceof InertString) ){
+                    getFailures().addFailure( "Illegal argument for complex numbers.", this.getClass(), l1.toString() );
                     return null;
                 }
-                MString mString = (MString)a;
+                InertString mString = (InertString)a;
                 if ( !mString.stringValue().matches( INFINITY ) ){
-                    failures.addFailure( "Not allowed structure for -infinity. ", this.getClass(), l1.toString() );
+                    getFailures().addFailure( "Not allowed structure for -infinity. ", this.getClass(), l1.toString() );
                     return null;
                 }
                 MapleInternal i = getAbstractInternal( l2.select(1).toString() );
                 if ( !i.equals(MapleInternal.intneg) ){
-                    failures.addFailure( "Not allowed structure for -infinity. ", this.getClass(), l2.toString() );
+                    getFailures().addFailure( "Not allowed structure for -infinity. ", this.getClass(), l2.toString() );
                     return null;
                 }
                 return new TranslatedExpression(INFINITY, NEGATIVE);
@@ -257,7 +240,7 @@ public class NumericalTranslator extends ListTranslator {
                 return np.translatedList;
             default:
                 LOG.warn("Illegal argument in complex number. " + in);
-                failures.addFailure( "Unkown element in a complex number!", this.getClass(), list.toString() );
+                getFailures().addFailure( "Unkown element in a complex number!", this.getClass(), list.toString() );
                 return null;
         }
     }
@@ -1,13 +1,12 @@
 package gov.nist.drmf.interpreter.maple.translation.components;
 
-import com.maplesoft.externalcall.MapleException;
-import com.maplesoft.openmaple.Algebraic;
-import com.maplesoft.openmaple.List;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.symbols.SymbolTranslator;
 import gov.nist.drmf.interpreter.maple.grammar.MapleInternal;
 import gov.nist.drmf.interpreter.maple.grammar.TranslatedList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertList;
 import gov.nist.drmf.interpreter.maple.translation.MapleTranslator;
 
 /**
@@ -26,15 +25,11 @@ public class RelationTranslator extends ListTranslator {
     }
 
     @Override
-    public Boolean translate( List list ) throws TranslationException {
-        try {
-            return innerTranslate( list );
-        } catch (MapleException me) {
-            throw createException("Maple error in numerical translator.", me);
-        }
+    public Boolean translate( InertList list ) throws TranslationException {
+        return innerTranslate( list );
     }
 
-    public boolean innerTranslate( List list ) throws MapleException, IllegalArgumentException {
+    public boolean innerTranslate( InertList list ) throws IllegalArgumentException {
         SymbolTranslator symbolTranslator =
                 MapleTranslator.getDefaultInstance().getSymbolTranslator();
         String translated_symb;
@@ -63,16 +58,15 @@ public class RelationTranslator extends ListTranslator {
             default:
                 String message = "Expected an relation object but get: " + root;
                 LOG.debug( message );
-                failures.addFailure( message, this.getClass(), root.toString() );
+                getFailures().addFailure( message, this.getClass(), root.toString() );
                 return false;
         }
         return translateRelation( list, translated_symb );
     }
 
-    private boolean translateRelation( List list, String translated_relation )
-            throws MapleException {
-        Algebraic lhs = list.select(2);
-        Algebraic rhs = list.select(3);
+    private boolean translateRelation( InertList list, String translated_relation ) {
+        InertExpression lhs = list.select(2);
+        InertExpression rhs = list.select(3);
         LOG.debug("Translate Relation, LHS: "+lhs.toString() +"; RHS: " + rhs);
 
         TranslatedList translatedLHS = translateGeneralExpression( lhs );
@@ -1,16 +1,14 @@
 package gov.nist.drmf.interpreter.maple.translation.components;
 
-import com.maplesoft.externalcall.MapleException;
-import com.maplesoft.openmaple.Algebraic;
-import com.maplesoft.openmaple.List;
-import com.maplesoft.openmaple.Numeric;
-import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.MapleTranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.grammar.MapleInternal;
 import gov.nist.drmf.interpreter.maple.grammar.TranslatedList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertExpression;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertList;
+import gov.nist.drmf.interpreter.maple.grammar.inert.InertNumeric;
 
 /**
  * Created by AndreG-P on 22.02.2017.
@@ -21,15 +19,11 @@ public class SequenceTranslator extends ListTranslator {
     }
 
     @Override
-    public Boolean translate( List list ) throws TranslationException {
-        try {
-            return innerTranslate( list );
-        } catch (MapleException me) {
-            throw createException("Maple error in numerical translator.", me);
-        }
+    public Boolean translate( InertList list ) throws TranslationException {
+        return innerTranslate( list );
     }
 
-    public boolean innerTranslate( List expression ) throws TranslationException, MapleException {
+    public boolean innerTranslate( InertList expression ) throws TranslationException {
         switch ( root ){
             case sum:
                 parseSum( expression );
@@ -42,15 +36,15 @@ public class SequenceTranslator extends ListTranslator {
                         "Cannot parse expression sequences here!" );
             default:
                 LOG.debug( "Unknown object reached. " + root );
-                failures.addFailure("Unknown Sequence.", this.getClass(), expression.toString());
+                getFailures().addFailure("Unknown Sequence.", this.getClass(), expression.toString());
                 return false;
         }
     }
 
-    private void parseProd( List list ) throws TranslationException, MapleException{
+    private void parseProd( InertList list ) throws TranslationException {
         //parseSequence(list, true, MULTIPLY, true);
-        Algebraic factor;
-        List flist;
+        InertExpression factor;
+        InertList flist;
         int start_index = 2;
         int length = list.length();
         boolean negative = false;
@@ -60,14 +54,14 @@ public class SequenceTranslator extends ListTranslator {
         // check starting sign
         // since we reorder internal maple structure, the constant +/-1 is
         // always leading a sequence
-        flist = (List)list.select( start_index );
+        flist = (InertList)list.select( start_index );
         // check if first is pos oder neg integer
         maple_internal = getAbstractInternal(flist.select(1).toString());
         switch ( maple_internal ){
             case intneg:
                 negative = true;
             case intpos:
-                Numeric num = (Numeric)flist.select(2);
+                InertNumeric num = (InertNumeric)flist.select(2);
                 int n = num.intValue();
                 if ( n == 1 ){
                     start_index++;
@@ -77,12 +71,12 @@ public class SequenceTranslator extends ListTranslator {
 
         for ( int i = start_index; i <= length; i++ ){
             factor = list.select(i);
-            if ( !(factor instanceof List) )
+            if ( !(factor instanceof InertList) )
                 throw createException(
                         "Expected inner list in product but get: " + factor,
                         TranslationExceptionReason.IMPLEMENTATION_ERROR
                 );
-            flist = (List)factor;
+            flist = (InertList)factor;
             maple_internal = getAbstractInternal( flist.select(1).toString() );
 
             boolean embrace =
@@ -103,8 +97,8 @@ public class SequenceTranslator extends ListTranslator {
         LOG.debug("Prod Changed List: " + translatedList);
     }
 
-    private void parseSum( List list ) throws MapleException{
-        Algebraic summand;
+    private void parseSum( InertList list ) {
+        InertExpression summand;
         int length = list.length();
 
         for ( int i = 2; i <= length; i++ ){
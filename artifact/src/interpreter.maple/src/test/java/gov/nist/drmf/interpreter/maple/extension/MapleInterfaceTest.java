@@ -2,7 +2,9 @@ package gov.nist.drmf.interpreter.maple.extension;
 
 import com.maplesoft.externalcall.MapleException;
 import com.maplesoft.openmaple.Algebraic;
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.setup.AssumeMapleAvailability;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -37,4 +39,45 @@ public class MapleInterfaceTest {
         assertNotEquals("1/(a+1)", a.toString());
     }
 
+    @Test
+    void cachedResultsRespectLegendreCutTest() throws ComputerAlgebraSystemEngineException, MapleException {
+        CasResultCache previousCache = maple.getResultCache();
+        CasResultCache cache = new CasResultCache();
+        maple.setResultCache(cache);
+        String cmd = "evalf(LegendreP(1/2, 1, 1/2));";
+        try {
+            maple.enterCommand(MapleConstants.ENV_VAR_LEGENDRE_CUT_FERRER);
+            String ferrers = maple.evaluateCached(cmd, maple.buildCacheKey(cmd, null, null, null), null).toString();
+
+            maple.enterCommand(MapleConstants.ENV_VAR_LEGENDRE_CUT_LEGENDRE);
+            String legendre = maple.evaluateCached(cmd, maple.buildCacheKey(cmd, null, null, null), null).toString();
+            assertNotEquals(ferrers, legendre);
+            assertEquals(0, cache.getHits());
+
+            maple.enterCommand(MapleConstants.ENV_VAR_LEGENDRE_CUT_FERRER);
+            assertEquals(ferrers, maple.evaluateCached(cmd, maple.buildCacheKey(cmd, null, null, null), null).toString());
+            assertEquals(1, cache.getHits());
+        } finally {
+            maple.enterCommand(MapleConstants.ENV_VAR_LEGENDRE_CUT_LEGENDRE);
+            maple.setResultCache(previousCache);
+        }
+    }
+
+    @Test
+    void cachedActiveIntegralIsNotEvaluatedTest() throws MapleException {
+        CasResultCache previousCache = maple.getResultCache();
+        CasResultCache cache = new CasResultCache();
+        maple.setResultCache(cache);
+        String cmd = "numResults := int(int(x, x), x);";
+        try {
+            CasResultCache.Key key = maple.buildCacheKey(cmd, null, null, null);
+            cache.put(key, "int(x, x)", 0);
+            Algebraic result = maple.evaluateCached(cmd, key, "numResults");
+            assertEquals("int(x,x)", result.toString().replaceAll("\\s", ""));
+            assertEquals(1, cache.getHits());
+        } finally {
+            maple.setResultCache(previousCache);
+        }
+    }
+
 }
@@ -0,0 +1,163 @@
+package gov.nist.drmf.interpreter.maple.grammar.inert;
+
+import gov.nist.drmf.interpreter.common.exceptions.MapleTranslationException;
+import gov.nist.drmf.interpreter.maple.cases.TranslationTestCases;
+import gov.nist.drmf.interpreter.maple.translation.MapleTranslator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class InertFormParserTests {
+
+    private static String parse(String maple) {
+        return InertFormParser.parse(maple).toString();
+    }
+
+    @Test
+    public void sumTest() {
+        assertEquals("[_Inert_SUM, [_Inert_NAME, \"n\"], [_Inert_INTPOS, 2]]", parse("n + 2"));
+        assertEquals("[_Inert_SUM, [_Inert_NAME, \"m\"], [_Inert_INTNEG, 1]]", parse("m - 1"));
+        assertEquals(
+                "[_Inert_SUM, [_Inert_NAME, \"a\"], [_Inert_NAME, \"b\"], [_Inert_NAME, \"c\"]]",
+                parse("a + (b + c);")
+        );
+    }
+
+    @Test
+    public void intlikeFunctionTest() {
+        assertEquals(
+                "[_Inert_FUNCTION, [_Inert_NAME, \"sum\"], [_Inert_EXPSEQ, [_Inert_NAME, \"n\"], [_Inert_NAME, \"n\"], " +
+                        "[_Inert_INTPOS, 0], [_Inert_SUM, [_Inert_NAME, \"m\"], [_Inert_INTPOS, 1]]]]",
+                parse("sum(n, n = 0..m + 1)")
+        );
+        assertEquals(
+                "[_Inert_FUNCTION, [_Inert_NAME, \"limit\"], [_Inert_EXPSEQ, [_Inert_FUNCTION, [_Inert_NAME, \"Si\"], " +
+                        "[_Inert_EXPSEQ, [_Inert_NAME, \"x\"]]], [_Inert_NAME, \"x\"], [_Inert_NAME, \"infinity\"]]]",
+                parse("limit(Si(x), x = infinity)")
+        );
+        // other functions keep their equations
+        assertEquals(
+                "[_Inert_FUNCTION, [_Inert_NAME, \"f\"], [_Inert_EXPSEQ, " +
+                        "[_Inert_EQUATION, [_Inert_NAME, \"x\"], [_Inert_INTPOS, 1]]]]",
+                parse("f(x = 1)")
+        );
+    }
+
+    @Test
+    public void productTest() {
+        assertEquals("[_Inert_PROD, [_Inert_INTNEG, 1], [_Inert_NAME, \"x\"]]", parse("-x"));
+        assertEquals("[_Inert_PROD, [_Inert_INTPOS, 6], [_Inert_NAME, \"x\"], [_Inert_NAME, \"y\"]]", parse("2*x*(3*y)"));
+        assertEquals(
+                "[_Inert_PROD, [_Inert_RATIONAL, [_Inert_INTPOS, 1], [_Inert_INTPOS, 2]], [_Inert_NAME, \"Pi\"]]",
+                parse("(1)/(2)*Pi")
+        );
+        assertEquals("[_Inert_INTNEG, 3]", parse("-3"));
+        assertEquals("[_Inert_RATIONAL, [_Inert_INTNEG, 1], [_Inert_INTPOS, 2]]", parse("-2/4"));
+    }
+
+    @Test
+    public void divideTest() {
+        assertEquals("[_Inert_DIVIDE, [_Inert_INTPOS, 1], [_Inert_NAME, \"x\"]]", parse("1/x"));
+        assertEquals("[_Inert_DIVIDE, [_Inert_INTPOS, 1], [_Inert_NAME, \"x\"]]", parse("x^(-1)"));
+        assertEquals(
+                "[_Inert_DIVIDE, [_Inert_INTPOS, 1], [_Inert_POWER, [_Inert_NAME, \"x\"], [_Inert_INTPOS, 2]]]",
+                parse("x^(-2)")
+        );
+        assertEquals(
+                "[_Inert_DIVIDE, [_Inert_PROD, [_Inert_INTPOS, 2], [_Inert_NAME, \"x\"]], [_Inert_NAME, \"y\"]]",
+                parse("2*x/y")
+        );
+        assertEquals(
+                "[_Inert_PROD, [_Inert_RATIONAL, [_Inert_INTPOS, 1], [_Inert_INTPOS, 2]], " +
+                        "[_Inert_DIVIDE, [_Inert_NAME, \"x\"], [_Inert_NAME, \"y\"]]]",
+                parse("x/(2*y)")
+        );
+        assertEquals(
+                "[_Inert_DIVIDE, [_Inert_NAME, \"a\"], [_Inert_PROD, [_Inert_NAME, \"b\"], [_Inert_NAME, \"c\"]]]",
+                parse("a/b/c")
+        );
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse("x/0"));
+    }
+
+    @Test
+    public void powerTest() {
+        assertEquals("[_Inert_POWER, [_Inert_NAME, \"x\"], [_Inert_INTPOS, 2]]", parse("x**2"));
+        assertEquals(
+                "[_Inert_PROD, [_Inert_INTNEG, 1], [_Inert_POWER, [_Inert_NAME, \"x\"], [_Inert_INTPOS, 2]]]",
+                parse("-x^2")
+        );
+        assertEquals(
+                "[_Inert_POWER, [_Inert_NAME, \"x\"], [_Inert_RATIONAL, [_Inert_INTNEG, 1], [_Inert_INTPOS, 2]]]",
+                parse("x^(-1/2)")
+        );
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse("x^y^z"));
+    }
+
+    @Test
+    public void numericTest() {
+        assertEquals("[_Inert_MYFLOAT, 1.5]", parse("1.5"));
+        assertEquals("[_Inert_MYFLOAT, -0.25]", parse("-.25"));
+        assertEquals("[_Inert_COMPLEX, [_Inert_INTPOS, 2]]", parse("2*I"));
+        assertEquals("[_Inert_INTNEG, 1]", parse("I*I"));
+        assertEquals(
+                "[_Inert_PROD, [_Inert_COMPLEX, [_Inert_INTNEG, 1]], [_Inert_NAME, \"x\"]]",
+                parse("x/I")
+        );
+        assertEquals("[_Inert_INTPOS, 123456789012345678901234567890]", parse("123456789012345678901234567890"));
+    }
+
+    @Test
+    public void relationTest() {
+        assertEquals("[_Inert_LESSTHAN, [_Inert_NAME, \"b\"], [_Inert_NAME, \"a\"]]", parse("a > b"));
+        assertEquals("[_Inert_LESSEQ, [_Inert_NAME, \"a\"], [_Inert_NAME, \"b\"]]", parse("a <= b"));
+        assertEquals("[_Inert_INEQUAT, [_Inert_NAME, \"a\"], [_Inert_NAME, \"b\"]]", parse("a <> b"));
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse("a < b < c"));
+    }
+
+    @Test
+    public void miscTest() {
+        assertEquals(
+                "[_Inert_FUNCTION, [_Inert_NAME, \"factorial\"], [_Inert_EXPSEQ, [_Inert_NAME, \"n\"]]]",
+                parse("n!")
+        );
+        assertEquals(
+                "[_Inert_FUNCTION, [_Inert_NAME, \"mod\"], [_Inert_EXPSEQ, [_Inert_SUM, [_Inert_NAME, \"a\"], " +
+                        "[_Inert_NAME, \"b\"]], [_Inert_NAME, \"c\"]]]",
+                parse("a + b mod c")
+        );
+        assertEquals("[_Inert_STRING, \"a b\"]", parse("\"a b\""));
+        assertEquals("[_Inert_NAME, \"a b\"]", parse("`a b`"));
+    }
+
+    @Test
+    public void syntaxErrorTest() {
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse("f(x"));
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse("a := 2"));
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse("x -> x^2"));
+        assertThrows(MapleTranslationException.class, () -> InertFormParser.parse(""));
+    }
+
+    @Test
+    public void concurrentTranslationTest() {
+        MapleTranslator translator = MapleTranslator.getDefaultInstance();
+        assertNotNull(translator);
+
+        List<String> expected = Arrays.stream(TranslationTestCases.values())
+                .map(c -> translator.translate(c.getMaple()))
+                .collect(Collectors.toList());
+
+        TranslationTestCases[] cases = TranslationTestCases.values();
+        IntStream.range(0, 50 * cases.length).parallel().forEach(i -> {
+            int idx = i % cases.length;
+            assertEquals(expected.get(idx), translator.translate(cases[idx].getMaple()));
+        });
+    }
+}
@@ -1,7 +1,6 @@
 package gov.nist.drmf.interpreter.maple.translation;
 
 import gov.nist.drmf.interpreter.maple.cases.TranslationTestCases;
-import gov.nist.drmf.interpreter.maple.setup.AssumeMapleAvailability;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,7 +17,6 @@ import static org.junit.jupiter.api.Assertions.fail;
 /**
  * @author Andre Greiner-Petter
  */
-@AssumeMapleAvailability
 public class TranslationTests {
     private static final Logger LOG = LogManager.getLogger(TranslationTests.class.getName());
 
@@ -1,5 +1,6 @@
 package gov.nist.drmf.interpreter.mathematica.evaluate;
 
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
 import gov.nist.drmf.interpreter.mathematica.common.Commands;
 import gov.nist.drmf.interpreter.mathematica.extension.MathematicaInterface;
 import gov.nist.drmf.interpreter.mathematica.wrapper.Expr;
@@ -22,6 +23,7 @@ public class SymbolicEquivalenceChecker {
         this.mathematica = mathematica;
     }
 
+
     public boolean fullSimplifyDifference( String LHS, String RHS, String assumption ) throws MathLinkException {
         String eq = LHS + " - (" + RHS + ")";
         Expr ex = fullSimplify(eq, assumption);
@@ -60,7 +62,8 @@ public class SymbolicEquivalenceChecker {
         latestTestExpression = expr;
 
         LOG.debug("Start simplification: " + expr);
-        return mathematica.evaluateToExpression(expr, timeout);
+        CasResultCache.Key key = mathematica.buildCacheKey(expr, null, null);
+        return mathematica.evaluateCachedToExpression(expr, timeout, key);
     }
 
     public boolean testZero(Expr expr) {
@@ -1,6 +1,9 @@
 package gov.nist.drmf.interpreter.mathematica.extension;
 
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
+import gov.nist.drmf.interpreter.common.cas.CasSessionState;
 import gov.nist.drmf.interpreter.common.cas.IComputerAlgebraSystemEngine;
+import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
 import gov.nist.drmf.interpreter.common.replacements.LogManipulator;
 import gov.nist.drmf.interpreter.mathematica.common.Commands;
@@ -16,6 +19,7 @@ import org.apache.logging.log4j.Logger;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,9 +41,25 @@ public final class MathematicaInterface implements IComputerAlgebraSystemEngine
 
     private final SymbolicEquivalenceChecker evalChecker;
 
+    /**
+     * The cache of results (null if disabled)
+     */
+    private CasResultCache resultCache;
+
+    /**
+     * The version of Mathematica (lazily initialized)
+     */
+    private String version;
+
+    /**
+     * The state of the session set via {@link #enterCommand(String)}, it is part of the keys of cached results
+     */
+    private final CasSessionState sessionState = new CasSessionState();
+
     private MathematicaInterface() throws MathLinkException {
         init();
         this.evalChecker = new SymbolicEquivalenceChecker(this);
+        this.resultCache = CasResultCache.getCache(Keys.KEY_MATHEMATICA);
     }
 
     /**
@@ -138,8 +158,18 @@ public final class MathematicaInterface implements IComputerAlgebraSystemEngine
         }
     }
 
+    /**
+     * Evaluates the given command. Use this method for all commands that change the state of the
+     * session (e.g., {@code $Assumptions}). State changing commands are registered in the
+     * {@link #getSessionState() session state} (queries are ignored), so results of the cache are not mixed up between different
+     * states of the session.
+     * @param command the command
+     * @return the result of the command
+     * @throws ComputerAlgebraSystemEngineException if the command cannot be evaluated
+     */
     @Override
     public String enterCommand(String command) throws ComputerAlgebraSystemEngineException {
+        sessionState.record(command);
         return internalEnterCommand(command).toString();
     }
 
@@ -159,6 +189,7 @@ public final class MathematicaInterface implements IComputerAlgebraSystemEngine
                 LOG.error("Lost mathematica kernel connection. Try to recover by re-initiating kernel.");
                 shutdown();
                 init();
+                sessionState.clear();
             }
             mathKernel.evaluate(input);
             mathKernel.waitForAnswer();
@@ -171,6 +202,94 @@ public final class MathematicaInterface implements IComputerAlgebraSystemEngine
         return evaluateToExpression(input);
     }
 
+    /**
+     * Evaluates the given command with the given timeout unless the result of the command is cached.
+     * In the latter case, the cached full form of the result is only parsed (held) but not evaluated, i.e., the
+     * kernel does not need to compute the result again, even if the result contains unevaluated calls such as
+     * {@code Integrate[...]}. Aborted results are not cached.
+     * @param input the command
+     * @param timeout the timeout of the command (also applied to parsing cached results)
+     * @param key the key of the command in the cache (if null, the command is evaluated without the cache)
+     * @return the result
+     * @throws MathLinkException if the command cannot be evaluated
+     * @see #buildCacheKey(String, Collection, String)
+     */
+    public Expr evaluateCachedToExpression(String input, Duration timeout, CasResultCache.Key key) throws MathLinkException {
+        CasResultCache cache = resultCache;
+        if ( cache == null || key == null ) return evaluateToExpression(input, timeout);
+
+        String cached = cache.get(key);
+        if ( cached != null ) {
+            LOG.debug("Use cached result of: " + key.getCommand());
+            Expr held = evaluateToExpression(buildHoldCommand(cached), timeout);
+            Expr[] args = held.args();
+            return args.length == 1 ? args[0] : held;
+        }
+
+        long start = System.nanoTime();
+        Expr result = evaluateToExpression(input, timeout);
+        long nanos = System.nanoTime() - start;
+        if ( !MATH_ABORTION_SIGNAL.equals(result.toString()) ) cache.put(key, result.toString(), nanos);
+        return result;
+    }
+
+    /**
+     * @param command the command (without timeout wrappers)
+     * @param assumptions the assumptions that are active for the command
+     * @param precision the precision of numeric computations (can be null)
+     * @return the key of the command or null if the cache is disabled
+     * @throws MathLinkException if the version of Mathematica cannot be evaluated
+     */
+    public CasResultCache.Key buildCacheKey(String command, Collection<String> assumptions, String precision)
+            throws MathLinkException {
+        if ( resultCache == null ) return null;
+        return new CasResultCache.Key(
+                Keys.KEY_MATHEMATICA, getVersion(), sessionState.getFingerprint(), command, assumptions, null, precision
+        );
+    }
+
+    /**
+     * @return the state of the session, i.e., all commands entered via {@link #enterCommand(String)}
+     */
+    public CasSessionState getSessionState() {
+        return sessionState;
+    }
+
+    /**
+     * @return the cache of results or null if the cache is disabled
+     */
+    public CasResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Replaces the cache of results. By default, the cache specified in lacast.config.yaml is used.
+     * @param resultCache the cache, null disables the cache
+     */
+    public void setResultCache(CasResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * @return the version of Mathematica
+     * @throws MathLinkException if the version cannot be evaluated
+     */
+    public String getVersion() throws MathLinkException {
+        if ( version == null ) version = evaluate("$Version");
+        return version;
+    }
+
+    /**
+     * Builds a command that parses the given expression without evaluating it. The result of the command
+     * is the parsed expression wrapped in {@code Hold}.
+     * @param expression the Mathematica expression, e.g., a cached result
+     * @return the command
+     */
+    static String buildHoldCommand(String expression) {
+        String escaped = expression.replace("\\", "\\\\").replace("\"", "\\\"");
+        return "ToExpression[\"" + escaped + "\", InputForm, Hold]";
+    }
+
     public static String wrapInTimeout(String input, Duration timeout) {
         if ( timeout != null && !timeout.isNegative() ) {
             String timeoutStr = "" + timeout.getSeconds();
@@ -1,6 +1,7 @@
 package gov.nist.drmf.interpreter.mathematica.extension;
 
 import gov.nist.drmf.interpreter.common.cas.AbstractCasEngineNumericalEvaluator;
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
 import gov.nist.drmf.interpreter.common.cas.GenericCommandBuilder;
 import gov.nist.drmf.interpreter.common.eval.EvaluatorType;
 import gov.nist.drmf.interpreter.common.eval.NumericCalculation;
@@ -57,6 +58,11 @@ public class MathematicaNumericalCalculator extends AbstractCasEngineNumericalEv
 
     private String lastPrecision;
 
+    /**
+     * The generated test values, they are part of the key of cached results
+     */
+    private String latestTestCases = "";
+
     private final List<String> latestAppliedConstraints;
 
     private int testCases = 0;
@@ -87,6 +93,7 @@ public class MathematicaNumericalCalculator extends AbstractCasEngineNumericalEv
         lhs = "";
         rhs = "";
         lastPrecision = "0.1";
+        latestTestCases = "";
 
         try {
             mathematicaInterface.evaluate(cmd);
@@ -220,6 +227,7 @@ public class MathematicaNumericalCalculator extends AbstractCasEngineNumericalEv
             return null;
         }
         testCases = mathematicaInterface.checkIfEvaluationIsInRange(res, -1, maxCombis+1);
+        latestTestCases = res.toString();
         return testCasesVar;
     }
 
@@ -289,7 +297,15 @@ public class MathematicaNumericalCalculator extends AbstractCasEngineNumericalEv
         sb.append(Commands.NUMERICAL_TEST.build(expr, testCasesName, lastPrecision));
         LOG.info("Compute numerical test for: " + expression);
 
-        return runWithTimeout(sb.toString(), timeout);
+        try {
+            // the result only depends on the expression and the generated test values
+            CasResultCache.Key key = latestTestCases.isEmpty() ? null : mathematicaInterface.buildCacheKey(
+                    Commands.NUMERICAL_TEST.build(expression, latestTestCases, lastPrecision), null, lastPrecision
+            );
+            return mathematicaInterface.evaluateCachedToExpression(sb.toString(), timeout, key);
+        } catch (MathLinkException e) {
+            throw new ComputerAlgebraSystemEngineException(e);
+        }
     }
 
     private Expr runWithTimeout(String cmd, Duration timeout) throws ComputerAlgebraSystemEngineException {
@@ -134,11 +134,12 @@ public class MathematicaSimplifier extends AbstractCasEngineSymbolicEvaluator<Ex
 
         String cmd = String.join(" && ", assumptions);
         try {
-            String result = mathematicaInterface.evaluate("$Assumptions = " + cmd);
+            // entered as command to register the assumptions in the session state
+            String result = mathematicaInterface.enterCommand("$Assumptions = " + cmd);
             LOG.info("Setup global assumptions: " + result);
-        } catch (MathLinkException e) {
+        } catch (ComputerAlgebraSystemEngineException e) {
             LOG.error("Unable to set global assumptions in Mathematica. Assumptions: " + assumptions);
-            throw new ComputerAlgebraSystemEngineException(e);
+            throw e;
         }
     }
 }
@@ -1,5 +1,6 @@
 package gov.nist.drmf.interpreter.mathematica.extension;
 
+import gov.nist.drmf.interpreter.common.cas.CasResultCache;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
 import gov.nist.drmf.interpreter.common.meta.DLMF;
 import gov.nist.drmf.interpreter.mathematica.common.AssumeMathematicaAvailability;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -200,6 +202,23 @@ public class MathematicaEngineCallTest {
         }
     }
 
+    @Test
+    public void cachedActiveIntegralIsNotEvaluatedTest() throws MathLinkException {
+        CasResultCache previousCache = mi.getResultCache();
+        CasResultCache cache = new CasResultCache();
+        mi.setResultCache(cache);
+        String cmd = "Integrate[Integrate[x, x], x]";
+        try {
+            CasResultCache.Key key = mi.buildCacheKey(cmd, null, null);
+            cache.put(key, "Integrate[x, x]", 0);
+            Expr result = mi.evaluateCachedToExpression(cmd, Duration.ofSeconds(5), key);
+            assertEquals("Integrate[x, x]", result.toString());
+            assertEquals(1, cache.getHits());
+        } finally {
+            mi.setResultCache(previousCache);
+        }
+    }
+
     @AfterAll
     public static void shutwodn() {
         mi.shutdown();
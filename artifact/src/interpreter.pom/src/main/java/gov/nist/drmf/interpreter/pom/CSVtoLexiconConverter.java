@@ -116,11 +116,27 @@ public class CSVtoLexiconConverter {
                 config.getDlmfMacroLexiconPath().toString()
         );
 
+        writeSnapshot();
+
         Instant end = Instant.now();
         Duration elapsed = Duration.between(start, end);
         logResults(elapsed);
     }
 
+    private void writeSnapshot() {
+        Path lexiconPath = config.getDlmfMacroLexiconPath();
+        try {
+            // snapshot the written file, so that it is not stale right away
+            LexiconSnapshot.write(
+                    MacrosLexicon.parse(lexiconPath),
+                    lexiconPath,
+                    LexiconSnapshot.getSnapshotPath(lexiconPath)
+            );
+        } catch (IOException ioe) {
+            LOG.error("Unable to write lexicon snapshot. The lexicon will be loaded from the text file.", ioe);
+        }
+    }
+
     private void parseCAS(String cas, Path csv){
         LOG.info("Start reading " + csv);
         CASConsumer casConsumer = new CASConsumer(casCache);
@@ -0,0 +1,226 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import mlp.FeatureSet;
+import mlp.Lexicon;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * A compact binary snapshot of a lexicon. Parsing the text version of the DLMF macro lexicon
+ * (see {@link MacrosLexicon}) on every start is slow. The snapshot stores the entries and feature sets
+ * of the lexicon in a binary format that is memory-mapped on load.
+ *
+ * The snapshot contains a format version and the size, modification time, and CRC32 checksum of the text file
+ * it was generated from. If the version does not match or the text file has changed since, the snapshot is
+ * stale and {@link #load(Path, Path)} returns null, so the caller falls back to the text file. Reading the text
+ * file just to compute its checksum would defeat the purpose of the snapshot. Hence, the checksum is only
+ * computed if the size matches but the modification time does not (e.g., after a fresh checkout).
+ *
+ * The snapshot is generated alongside the lexicon file by {@link CSVtoLexiconConverter} or manually via
+ * {@link #main(String[])}.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class LexiconSnapshot {
+    private static final Logger LOG = LogManager.getLogger(LexiconSnapshot.class.getName());
+
+    /**
+     * Identifies lexicon snapshot files ("LXSN")
+     */
+    private static final int MAGIC = 0x4C58534E;
+
+    /**
+     * Must be increased whenever the binary format changes
+     */
+    public static final int VERSION = 2;
+
+    public static final String EXTENSION = ".bin";
+
+    private LexiconSnapshot() {}
+
+    /**
+     * @param lexiconPath the path to the text version of a lexicon
+     * @return the path of the snapshot of the given lexicon, i.e., the same file name with {@link #EXTENSION}
+     */
+    public static Path getSnapshotPath(Path lexiconPath) {
+        String name = lexiconPath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if ( dot > 0 ) name = name.substring(0, dot);
+        return lexiconPath.resolveSibling(name + EXTENSION);
+    }
+
+    /**
+     * Writes the snapshot of the given lexicon.
+     * @param lexicon the lexicon that was generated from the given lexicon file
+     * @param lexiconPath the text version of the lexicon
+     * @param snapshotPath the output file
+     * @throws IOException if the lexicon file cannot be read or the snapshot cannot be written
+     */
+    public static void write(Lexicon lexicon, Path lexiconPath, Path snapshotPath) throws IOException {
+        byte[] source = Files.readAllBytes(lexiconPath);
+        try ( DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(snapshotPath))) ) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(source.length);
+            out.writeLong(Files.getLastModifiedTime(lexiconPath).toMillis());
+            out.writeLong(checksum(source));
+
+            writeString(out, lexicon.getName());
+            Map<String, List<FeatureSet>> map = lexicon.getLexiconMap();
+            out.writeInt(map.size());
+            for ( Map.Entry<String, List<FeatureSet>> entry : map.entrySet() ) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for ( FeatureSet fset : entry.getValue() ) writeFeatureSet(out, fset);
+            }
+        }
+        LOG.info("Wrote lexicon snapshot of " + lexiconPath + " to " + snapshotPath);
+    }
+
+    private static void writeFeatureSet(DataOutputStream out, FeatureSet fset) throws IOException {
+        writeString(out, fset.getFeatureSetName());
+        Set<String> names = fset.getFeatureNames();
+        out.writeInt(names.size());
+        for ( String name : names ) {
+            writeString(out, name);
+            SortedSet<String> values = fset.getFeature(name);
+            out.writeInt(values.size());
+            for ( String value : values ) writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        if ( str == null ) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Loads the snapshot of the given lexicon file. If the lexicon file does not exist, the snapshot
+     * is used as is.
+     * @param lexiconPath the text version of the lexicon
+     * @param snapshotPath the snapshot
+     * @return the lexicon or null if the snapshot does not exist, is stale, or is corrupted
+     */
+    public static Lexicon load(Path lexiconPath, Path snapshotPath) {
+        if ( !Files.isRegularFile(snapshotPath) ) return null;
+        Instant start = Instant.now();
+        try ( FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ) ) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if ( buffer.getInt() != MAGIC ) {
+                LOG.warn("Ignore lexicon snapshot " + snapshotPath + " because it is not a lexicon snapshot.");
+                return null;
+            }
+
+            int version = buffer.getInt();
+            if ( version != VERSION ) {
+                LOG.info("Ignore stale lexicon snapshot " + snapshotPath + " (version " + version + " instead of " + VERSION + ")");
+                return null;
+            }
+
+            long size = buffer.getLong();
+            long lastModified = buffer.getLong();
+            long checksum = buffer.getLong();
+            if ( Files.isRegularFile(lexiconPath) && !isUnchanged(lexiconPath, size, lastModified, checksum) ) {
+                LOG.info("Ignore stale lexicon snapshot " + snapshotPath + " because " + lexiconPath + " has changed.");
+                return null;
+            }
+
+            Lexicon lexicon = readLexicon(buffer);
+            LOG.printf(Level.DEBUG, "Loaded lexicon snapshot %s [%dms]", snapshotPath, Duration.between(start, Instant.now()).toMillis());
+            return lexicon;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            LOG.warn("Unable to load lexicon snapshot " + snapshotPath + ": " + e.toString());
+            return null;
+        }
+    }
+
+    private static boolean isUnchanged(Path lexiconPath, long size, long lastModified, long checksum) throws IOException {
+        if ( Files.size(lexiconPath) != size ) return false;
+        if ( Files.getLastModifiedTime(lexiconPath).toMillis() == lastModified ) return true;
+        // same size but touched, only the content can tell
+        return checksum(Files.readAllBytes(lexiconPath)) == checksum;
+    }
+
+    private static Lexicon readLexicon(ByteBuffer buffer) {
+        String name = readString(buffer);
+        int numberOfEntries = readSize(buffer);
+        Map<String, List<FeatureSet>> map = new HashMap<>(2 * numberOfEntries);
+        for ( int i = 0; i < numberOfEntries; i++ ) {
+            String key = readString(buffer);
+            int numberOfSets = readSize(buffer);
+            List<FeatureSet> sets = new ArrayList<>(numberOfSets);
+            for ( int j = 0; j < numberOfSets; j++ ) sets.add(readFeatureSet(buffer));
+            map.put(key, sets);
+        }
+        return name == null ? new Lexicon(map) : new Lexicon(name, map);
+    }
+
+    private static FeatureSet readFeatureSet(ByteBuffer buffer) {
+        String name = readString(buffer);
+        FeatureSet fset = name == null ? new FeatureSet() : new FeatureSet(name);
+        int numberOfFeatures = readSize(buffer);
+        for ( int i = 0; i < numberOfFeatures; i++ ) {
+            String feature = readString(buffer);
+            int numberOfValues = readSize(buffer);
+            List<String> values = new ArrayList<>(numberOfValues);
+            for ( int j = 0; j < numberOfValues; j++ ) values.add(readString(buffer));
+            fset.setFeature(feature, values);
+        }
+        return fset;
+    }
+
+    private static int readSize(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if ( size < 0 || size > buffer.remaining() ) throw new IllegalArgumentException("Invalid size " + size);
+        return size;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if ( length == -1 ) return null;
+        if ( length < 0 || length > buffer.remaining() ) throw new IllegalArgumentException("Invalid string length " + length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    /**
+     * Generates the snapshot of the DLMF macro lexicon.
+     * @param args optional, the path to a lexicon file (default is {@link GlobalPaths#DLMF_MACROS_LEXICON})
+     * @throws IOException if the lexicon cannot be read or the snapshot cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path lexiconPath = args.length > 0 ? Path.of(args[0]) : GlobalPaths.DLMF_MACROS_LEXICON;
+        Lexicon lexicon = MacrosLexicon.parse(lexiconPath);
+        write(lexicon, lexiconPath, getSnapshotPath(lexiconPath));
+    }
+}
@@ -14,6 +14,9 @@ import mlp.*;
  * general PoM-Tagger (no semantic macros). If you need support for semantic
  * macros, use {@link SemanticMLPWrapper} instead.
  *
+ * The wrapper parses with a {@link PomParserPool}. With a pool size of 1 all parse requests
+ * are handled one after another. Larger pools allow to parse multiple expressions in parallel.
+ *
  * @see SemanticMLPWrapper
  * @see PrintablePomTaggedExpression
  * @see PomTaggedExpression
@@ -22,13 +25,13 @@ import mlp.*;
  */
 public abstract class MLPWrapper {
     /**
-     * The PoM-Parser object
+     * The pool of PoM-Parser objects
      */
-    private final PomParser parser;
+    private final PomParserPool parserPool;
 
     /**
      * Creates a non-semantic wrapper of the PomParser. The lexicon files are fetched from the
-     * standard location {@link }
+     * standard location {@link GlobalPaths#PATH_REFERENCE_DATA}
      */
     public MLPWrapper() {
         this(GlobalPaths.PATH_REFERENCE_DATA.toString());
@@ -39,7 +42,17 @@ public abstract class MLPWrapper {
      * @param referenceDirPath the path to the "ReferenceData" folder
      */
     public MLPWrapper(String referenceDirPath) {
-        this.parser = new PomParser(referenceDirPath);
+        this(referenceDirPath, 1);
+    }
+
+    /**
+     * Creates a non-semantic wrapper of the PomParser with a given path to the lexicon files that
+     * is able to parse up to {@code poolSize} expressions in parallel.
+     * @param referenceDirPath the path to the "ReferenceData" folder
+     * @param poolSize the number of parsers that can be used in parallel
+     */
+    public MLPWrapper(String referenceDirPath, int poolSize) {
+        this.parserPool = new PomParserPool(referenceDirPath, poolSize);
     }
 
     /**
@@ -47,7 +60,16 @@ public abstract class MLPWrapper {
      * @param lexicon lexicon
      */
     protected void addLexicon( Lexicon lexicon ) {
-        parser.addLexicons(lexicon);
+        parserPool.addLexicons(lexicon);
+    }
+
+    /**
+     * Provides access to the underlying pool of parsers, e.g., to monitor how many parse
+     * requests had to wait for a free parser.
+     * @return the pool of parsers
+     */
+    public PomParserPool getParserPool() {
+        return parserPool;
     }
 
     /**
@@ -79,14 +101,15 @@ public abstract class MLPWrapper {
      * Simply parses the given latex expression. Raw means, it will not be pre-processed by
      * {@link TeXPreProcessor#preProcessingTeX(String)}. If you wish to pre-process, use one of the non-raw methods.
      *
-     * This method is synchronized because the PoM-tagger cannot run in parallel. Sorry for that.
+     * A single PoM-tagger cannot run in parallel. Hence, this method blocks if all parsers
+     * of the underlying {@link PomParserPool} are in use.
      *
      * @param latex the latex expression to parse.
      * @return the parse tree
      * @throws ParseException if the expression cannot be parsed for whatever reason
      */
-    public synchronized PomTaggedExpression simpleParseRaw(String latex) throws ParseException {
-        return parser.parse(latex);
+    public PomTaggedExpression simpleParseRaw(String latex) throws ParseException {
+        return parserPool.parse(latex);
     }
 
     /**
@@ -116,14 +139,15 @@ public abstract class MLPWrapper {
      * Does not pre-process the given latex expression via {@link TeXPreProcessor#preProcessingTeX(String)}. If you
      * wish to pre-process the string, use one of the non-raw methods.
      *
-     * This method is synchronized because the underlying PoM-tagger cannot run in parallel.
+     * This method blocks if all parsers of the underlying {@link PomParserPool} are in use. The
+     * printable version of the parse tree is generated after the parser has been returned to the pool.
      *
      * @param latex the input string
      * @return parse tree
      * @throws ParseException if the expression cannot be parsed
      */
-    public synchronized PrintablePomTaggedExpression parseRaw(String latex) throws ParseException {
-        PomTaggedExpression pte = parser.parse(latex);
+    public PrintablePomTaggedExpression parseRaw(String latex) throws ParseException {
+        PomTaggedExpression pte = parserPool.parse(latex);
         return new PrintablePomTaggedExpression(pte, latex);
     }
 
@@ -134,8 +158,8 @@ public abstract class MLPWrapper {
      * @param term gets annotated with features from lexicon files
      * @return the given {@param term} object annotated with features
      */
-    public synchronized MathTerm loadFeatures(MathTerm term) {
-        Lexicon lex = parser.getLexicon();
+    public MathTerm loadFeatures(MathTerm term) {
+        Lexicon lex = parserPool.getLexicon();
         term.loadFeatureSets(lex);
         return term;
     }
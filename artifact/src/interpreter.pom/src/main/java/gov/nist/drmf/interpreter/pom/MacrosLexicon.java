@@ -3,14 +3,20 @@ package gov.nist.drmf.interpreter.pom;
 import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
 import mlp.Lexicon;
 import mlp.LexiconFactory;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 
 /**
  * Created by AndreG-P on 09.03.2017.
  */
 public class MacrosLexicon {
+    private static final Logger LOG = LogManager.getLogger(MacrosLexicon.class.getName());
 
     public static final String SIGNAL_ENTRY = "Symbol: ";
 
@@ -28,18 +34,41 @@ public class MacrosLexicon {
         init(GlobalPaths.DLMF_MACROS_LEXICON);
     }
 
+    /**
+     * Loads the DLMF macro lexicon from the given file. If an up-to-date {@link LexiconSnapshot} of
+     * the file exists, the snapshot is loaded instead of parsing the text file.
+     * @param lexiconPath the text version of the lexicon
+     * @throws IOException if the lexicon cannot be loaded
+     */
     public static synchronized void init(Path lexiconPath) throws IOException {
         if ( executed ) return;
 
-        dlmf_macros_lexicon = LexiconFactory.createLexicon(
+        Instant start = Instant.now();
+        dlmf_macros_lexicon = LexiconSnapshot.load(lexiconPath, LexiconSnapshot.getSnapshotPath(lexiconPath));
+        String source = "snapshot";
+        if ( dlmf_macros_lexicon == null ) {
+            dlmf_macros_lexicon = parse(lexiconPath);
+            source = "text file";
+        }
+        LOG.printf(Level.INFO, "Loaded DLMF macro lexicon from %s [%dms]", source, Duration.between(start, Instant.now()).toMillis());
+
+        executed = true;
+    }
+
+    /**
+     * Parses the text version of a lexicon.
+     * @param lexiconPath the lexicon file
+     * @return the lexicon
+     * @throws IOException if the file cannot be read
+     */
+    public static Lexicon parse(Path lexiconPath) throws IOException {
+        return LexiconFactory.createLexicon(
                 lexiconPath,
                 SIGNAL_ENTRY,
                 SIGNAL_FEATURESET,
                 SIGNAL_LINE,
                 SIGNAL_INLINE
         );
-
-        executed = true;
     }
 
     public static Lexicon getDLMFMacroLexicon(){
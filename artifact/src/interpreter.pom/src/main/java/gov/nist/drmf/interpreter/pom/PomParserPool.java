@@ -0,0 +1,258 @@
+package gov.nist.drmf.interpreter.pom;
+
+import mlp.CharStream;
+import mlp.Lexicon;
+import mlp.ParseException;
+import mlp.PomParser;
+import mlp.PomTaggedExpression;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size pool of {@link PomParser} instances. A single {@link PomParser} is not able to parse
+ * multiple expressions at the same time because it keeps the current char stream and token manager
+ * as instance fields. However, the lexicon, the thesaurus, and the ignorable LaTeX commands of the PoM-tagger
+ * are class-wide (static) fields which are only read during parsing. Hence, multiple parser
+ * instances can safely parse in parallel as long as nobody changes the lexicon in the meantime.
+ * <p>
+ * The pool loads the reference data only once with the first parser. Every other parser is created
+ * without touching the reference data (the standard constructor of {@link PomParser} would reload the
+ * files and overwrite the shared lexicon which breaks parsers that are currently in use). Since the lexicon
+ * is shared, {@link #addLexicons(Lexicon...)} must be called before the pool is in use.
+ * <p>
+ * The pool tracks how often parsers were requested and how long callers waited for an idle parser.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class PomParserPool {
+    private static final Logger LOG = LogManager.getLogger(PomParserPool.class.getName());
+
+    /**
+     * All parsers of this pool, the first one holds the reference data.
+     */
+    private final List<PomParser> parsers;
+
+    /**
+     * The parsers that are currently not in use
+     */
+    private final BlockingQueue<PomParser> idleParsers;
+
+    private final LongAdder requests;
+    private final LongAdder waitingRequests;
+    private final LongAdder totalWaitingNanos;
+    private final AtomicLong maxWaitingNanos;
+
+    /**
+     * Creates a new pool of parsers. The reference data is loaded from the given directory.
+     * @param referenceDirPath the path to the "ReferenceData" folder
+     * @param size the number of parsers in this pool (must be at least 1)
+     */
+    public PomParserPool(String referenceDirPath, int size) {
+        if ( size < 1 ) throw new IllegalArgumentException("The pool size must be at least 1 but was " + size);
+
+        List<PomParser> parserList = new ArrayList<>(size);
+        PomParser mainParser = new PomParser(referenceDirPath);
+        parserList.add(mainParser);
+        for ( int i = 1; i < size; i++ ) {
+            PomParser parser = new PomParser(new EmptyCharStream());
+            parser.addMacros(mainParser.getMacros());
+            parserList.add(parser);
+        }
+
+        this.parsers = Collections.unmodifiableList(parserList);
+        this.idleParsers = new ArrayBlockingQueue<>(size, false, parserList);
+
+        this.requests = new LongAdder();
+        this.waitingRequests = new LongAdder();
+        this.totalWaitingNanos = new LongAdder();
+        this.maxWaitingNanos = new AtomicLong(0);
+        LOG.debug("Initialized PoM-tagger pool with " + size + " parsers");
+    }
+
+    /**
+     * Adds lexicons to the parsers. The lexicon of the PoM-tagger is shared between all parsers,
+     * so the lexicons are merged only once. Do not call this method while the pool is in use.
+     * @param lexicons lexicons that should be added
+     */
+    public void addLexicons(Lexicon... lexicons) {
+        parsers.get(0).addLexicons(lexicons);
+    }
+
+    /**
+     * @return the (shared) lexicon of the parsers
+     */
+    public Lexicon getLexicon() {
+        return parsers.get(0).getLexicon();
+    }
+
+    /**
+     * Parses the given expression with an idle parser. If no parser is available, the method
+     * blocks until another thread returns a parser to the pool.
+     * @param latex the latex expression to parse
+     * @return the parse tree
+     * @throws ParseException if the expression cannot be parsed
+     */
+    public PomTaggedExpression parse(String latex) throws ParseException {
+        PomParser parser = borrowParser();
+        try {
+            return parser.parse(latex);
+        } finally {
+            idleParsers.offer(parser);
+        }
+    }
+
+    private PomParser borrowParser() {
+        requests.increment();
+        PomParser parser = idleParsers.poll();
+        if ( parser != null ) return parser;
+
+        waitingRequests.increment();
+        long start = System.nanoTime();
+        try {
+            parser = idleParsers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an idle PoM-tagger", e);
+        }
+        long waited = System.nanoTime() - start;
+        totalWaitingNanos.add(waited);
+        maxWaitingNanos.accumulateAndGet(waited, Math::max);
+        return parser;
+    }
+
+    /**
+     * @return the number of parsers in this pool
+     */
+    public int getSize() {
+        return parsers.size();
+    }
+
+    /**
+     * @return the number of parsers that are currently not in use
+     */
+    public int getIdleParsers() {
+        return idleParsers.size();
+    }
+
+    /**
+     * @return the total number of parse requests
+     */
+    public long getNumberOfRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of requests that had to wait for an idle parser
+     */
+    public long getNumberOfWaitingRequests() {
+        return waitingRequests.sum();
+    }
+
+    /**
+     * @return the accumulated time requests waited for idle parsers
+     */
+    public Duration getTotalWaitingTime() {
+        return Duration.ofNanos(totalWaitingNanos.sum());
+    }
+
+    /**
+     * @return the longest time a single request waited for an idle parser
+     */
+    public Duration getMaxWaitingTime() {
+        return Duration.ofNanos(maxWaitingNanos.get());
+    }
+
+    /**
+     * @return the average waiting time over all requests (including requests that did not wait)
+     */
+    public Duration getAverageWaitingTime() {
+        long req = requests.sum();
+        if ( req == 0 ) return Duration.ZERO;
+        return Duration.ofNanos(totalWaitingNanos.sum() / req);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "PoM-tagger pool [size: %d, idle: %d, requests: %d, waited: %d, avg wait: %dms, max wait: %dms]",
+                getSize(), getIdleParsers(), getNumberOfRequests(), getNumberOfWaitingRequests(),
+                getAverageWaitingTime().toMillis(), getMaxWaitingTime().toMillis()
+        );
+    }
+
+    /**
+     * The {@link PomParser} requires a char stream at construction time, even though it replaces the stream
+     * for every call of {@link PomParser#parse(String)}. This stream is just a placeholder that is always empty.
+     */
+    private static class EmptyCharStream implements CharStream {
+        @Override
+        public char readChar() throws IOException {
+            throw new IOException("End of stream");
+        }
+
+        @Override
+        public char BeginToken() throws IOException {
+            return readChar();
+        }
+
+        @Override
+        public int getColumn() {
+            return 0;
+        }
+
+        @Override
+        public int getLine() {
+            return 0;
+        }
+
+        @Override
+        public int getEndColumn() {
+            return 0;
+        }
+
+        @Override
+        public int getEndLine() {
+            return 0;
+        }
+
+        @Override
+        public int getBeginColumn() {
+            return 0;
+        }
+
+        @Override
+        public int getBeginLine() {
+            return 0;
+        }
+
+        @Override
+        public void backup(int amount) {
+            // nothing to backup
+        }
+
+        @Override
+        public String GetImage() {
+            return "";
+        }
+
+        @Override
+        public char[] GetSuffix(int len) {
+            return new char[len];
+        }
+
+        @Override
+        public void Done() {
+            // nothing to close
+        }
+    }
+}
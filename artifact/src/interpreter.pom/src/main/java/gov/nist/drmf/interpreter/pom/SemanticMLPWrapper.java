@@ -1,5 +1,6 @@
 package gov.nist.drmf.interpreter.pom;
 
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,6 +18,11 @@ import java.time.Instant;
 public class SemanticMLPWrapper extends MLPWrapper {
     private static final Logger LOG = LogManager.getLogger(SemanticMLPWrapper.class.getName());
 
+    /**
+     * The number of parsers of the standard instance. One parser per available processor.
+     */
+    public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
     /**
      * A standard instance to ensure a better performance
      */
@@ -27,6 +33,17 @@ public class SemanticMLPWrapper extends MLPWrapper {
         init();
     }
 
+    /**
+     * Creates a semantic PoM-tagger that is able to parse {@code poolSize} expressions in parallel.
+     * All parsers share the same lexicon.
+     * @param poolSize the number of parsers
+     * @throws IOException if the DLMF macro lexicon cannot be loaded
+     */
+    public SemanticMLPWrapper(int poolSize) throws IOException {
+        super(GlobalPaths.PATH_REFERENCE_DATA.toString(), poolSize);
+        init();
+    }
+
     private void init() throws IOException {
         LOG.debug("Loading PoM-tagger lexicon");
         Instant start = Instant.now();
@@ -37,13 +54,14 @@ public class SemanticMLPWrapper extends MLPWrapper {
 
     /**
      * Provide access to the standard instance of the PoM-Tagger. It increases the performances
-     * if you keep the number of MLP instances low.
+     * if you keep the number of MLP instances low. The standard instance can parse up to
+     * {@link #DEFAULT_POOL_SIZE} expressions in parallel.
      * @return the standard instance of the this class
      */
     public static synchronized SemanticMLPWrapper getStandardInstance() {
         if ( standardInstance == null ) {
             try {
-                standardInstance = new SemanticMLPWrapper();
+                standardInstance = new SemanticMLPWrapper(DEFAULT_POOL_SIZE);
             } catch (IOException ioe) {
                 LOG.fatal("Unable to create semantic PoM-tagger instance.");
             }
@@ -26,11 +26,13 @@ public final class MathTermUtility {
 
     private MathTermUtility(){}
 
-    private static void initGreekLetters() {
+    private static synchronized void initGreekLetters() {
         if ( greekLettersMappings == null ) {
-            greekLettersMappings = new GreekLetters(Keys.KEY_LATEX, Keys.KEY_MAPLE);
+            // only publish the mappings once they are loaded, other threads may use them right away
+            GreekLetters mappings = new GreekLetters(Keys.KEY_LATEX, Keys.KEY_MAPLE);
             try {
-                greekLettersMappings.init();
+                mappings.init();
+                greekLettersMappings = mappings;
             } catch (IOException e) {
                 greekLettersMappings = null;
             }
@@ -43,6 +43,20 @@ public class ConstraintBlueprint {
         return mpte.matchUnsafe(ppte, config);
     }
 
+    /**
+     * Matches the given expression and returns the constraint variables of the match in a single step.
+     * The captured groups of a match are stored per thread. Hence, this method can be called by multiple
+     * threads at the same time.
+     * @param ppte the parsed constraint (cleaned via {@link MLPBlueprintTree#preCleaning(String)}), the matcher
+     *             normalizes the tree but does not change it otherwise. Hence, the same tree can be matched
+     *             against multiple blueprints
+     * @return the constraint variables or null if the expression does not match this blueprint
+     */
+    public String[][] matchConstraintVariables(PrintablePomTaggedExpression ppte) {
+        if ( !mpte.matchUnsafe(ppte, config) ) return null;
+        return getConstraintVariables();
+    }
+
     public String[][] getConstraintVariables() {
         String[][] out = new String[2][];
         Map<String, String> groups = mpte.getStringMatches();
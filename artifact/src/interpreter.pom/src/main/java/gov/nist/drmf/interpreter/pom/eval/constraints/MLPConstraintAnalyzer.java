@@ -1,6 +1,8 @@
 package gov.nist.drmf.interpreter.pom.eval.constraints;
 
 import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import mlp.ParseException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -64,10 +66,12 @@ public class MLPConstraintAnalyzer {
     private String[][] internalCheck(String con){
 //        return null;
         try {
+            // parse the constraint only once for all blueprints
+            PrintablePomTaggedExpression ppte = SemanticMLPWrapper.getStandardInstance()
+                    .parse(MLPBlueprintTree.preCleaning(con));
             for ( ConstraintBlueprint bt : blueprints ) {
-                if ( bt.match(con) ) {
-                    return bt.getConstraintVariables();
-                }
+                String[][] vars = bt.matchConstraintVariables(ppte);
+                if ( vars != null ) return vars;
             }
             return null;
         } catch (Exception | Error re) {
@@ -75,7 +79,7 @@ public class MLPConstraintAnalyzer {
         }
     }
 
-    public static MLPConstraintAnalyzer getAnalyzerInstance() {
+    public static synchronized MLPConstraintAnalyzer getAnalyzerInstance() {
         if (analyzer == null) {
             analyzer = new MLPConstraintAnalyzer();
             try {
@@ -13,6 +13,15 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * A compiled pattern tree. Once compiled, the tree is never changed by matching it. All state of a single
+ * match (the captured groups) lives in {@link GroupCaptures} objects owned by the {@link PomMatcher} or,
+ * for the direct match methods of this class, by the method call. Hence, a compiled pattern can be shared
+ * (see {@link PomMatcherBuilder#compileCached(String, String)}) and matched by multiple threads at the same time.
+ *
+ * The direct match methods keep the groups of the latest successful match per thread, so that they can be
+ * requested via {@link #getMatches()} and {@link #getStringMatches()}. These groups are detached from the
+ * matched tree, i.e., a shared pattern does not keep the matched expressions of its threads alive.
+ *
  * @author Andre Greiner-Petter
  */
 public abstract class AbstractMatchablePomTaggedExpression
@@ -26,10 +35,10 @@ public abstract class AbstractMatchablePomTaggedExpression
     private final MLPWrapper mlp;
 
     /**
-     * The library is a shared object among all nodes of one tree.
-     * This is necessary to check the integrity within matches.
+     * The detached groups of the latest direct match (e.g., {@link #match(String)}) per thread.
+     * {@link PomMatcher} objects have their own captures.
      */
-    private final GroupCaptures captures;
+    private final ThreadLocal<LatestMatch> latestMatch;
 
     /**
      * Essentially a copy of {@link PomTaggedExpression#getComponents()}
@@ -43,14 +52,13 @@ public abstract class AbstractMatchablePomTaggedExpression
 
     protected AbstractMatchablePomTaggedExpression(
             PomTaggedExpression refRoot,
-            MLPWrapper mlp,
-            GroupCaptures captures
+            MLPWrapper mlp
     ) {
         super(refRoot.getRoot(), refRoot.getTag(), refRoot.getSecondaryTags());
         normalizeRoot(refRoot);
 
         this.mlp = mlp;
-        this.captures = captures;
+        this.latestMatch = new ThreadLocal<>();
         this.children = new PomTaggedExpressionChildrenMatcher(this);
         this.referenceNode = refRoot;
     }
@@ -69,8 +77,24 @@ public abstract class AbstractMatchablePomTaggedExpression
         return mlp;
     }
 
+    /**
+     * @return the (detached) captured groups of the latest direct match of the calling thread
+     */
     protected GroupCaptures getCaptures(){
-        return captures;
+        return getLatestMatch().captures;
+    }
+
+    private LatestMatch getLatestMatch() {
+        LatestMatch latest = latestMatch.get();
+        return latest == null ? new LatestMatch(new GroupCaptures()) : latest;
+    }
+
+    private boolean publish(boolean matched, GroupCaptures captures) {
+        // the captures reference the matched tree, only a detached copy outlives the match
+        if ( matched ) latestMatch.set(new LatestMatch(captures));
+        else latestMatch.remove();
+        captures.clear();
+        return matched;
     }
 
     protected PomTaggedExpressionChildrenMatcher getChildrenMatcher() {
@@ -175,8 +199,18 @@ public abstract class AbstractMatchablePomTaggedExpression
      * @return true if it matches
      */
     public boolean match(PrintablePomTaggedExpression expression, MatcherConfig config) {
+        GroupCaptures captures = new GroupCaptures();
+        return publish(match(expression, captures, config, false), captures);
+    }
+
+    boolean match(
+            PrintablePomTaggedExpression expression,
+            GroupCaptures captures,
+            MatcherConfig config,
+            boolean skipLeadingWildcard
+    ) {
         try {
-            return matchUnsafe(expression, config);
+            return matchUnsafe(expression, captures, config, skipLeadingWildcard);
         } catch (Exception e) {
             LOG.warn(
                     String.format("Unable to match \"%s\". Exception: %s",
@@ -197,15 +231,33 @@ public abstract class AbstractMatchablePomTaggedExpression
      * @return true if matches, otherwise false. may throw errors
      */
     public boolean matchUnsafe(PrintablePomTaggedExpression expression, MatcherConfig config) {
+        GroupCaptures captures = new GroupCaptures();
+        boolean matched = false;
+        try {
+            matched = matchUnsafe(expression, captures, config, false);
+        } finally {
+            publish(matched, captures);
+        }
+        return matched;
+    }
+
+    private boolean matchUnsafe(
+            PrintablePomTaggedExpression expression,
+            GroupCaptures captures,
+            MatcherConfig config,
+            boolean skipLeadingWildcard
+    ) {
         captures.clear();
         expression = (PrintablePomTaggedExpression) PomTaggedExpressionNormalizer.normalize(expression);
         boolean matched;
         if ( config.allowLeadingTokens() ) {
-            PomMatcher pomMatcher = new PomMatcher(this, expression, config);
+            PomMatcher pomMatcher = new PomMatcher(this, expression, config, captures);
             boolean result = pomMatcher.find();
             matched = result && (pomMatcher.lastMatchReachedEnd() || config.allowFollowingTokens());
+        } else if ( skipLeadingWildcard ) {
+            matched = matchWithoutLeadingWildcard(expression, new LinkedList<>(), captures, config);
         } else {
-            matched = match(expression, new LinkedList<>(), config);
+            matched = match(expression, new LinkedList<>(), captures, config);
         }
         // in case we did not match, we should not provide any partial captured groups
         // the reason is, some may ask for the captured groups even though it didn't hit
@@ -227,32 +279,68 @@ public abstract class AbstractMatchablePomTaggedExpression
      *
      * @param expression the expression
      * @param followingExpressions the siblings of the expression
+     * @param captures the captured groups of the current match
      * @param config the matcher config
      * @return true if it matched or false otherwise
      */
     abstract boolean match(
             PrintablePomTaggedExpression expression,
             List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
             MatcherConfig config
     );
 
     /**
-     * Get the grouped matches if any.
+     * Same as {@link #match(PrintablePomTaggedExpression, List, GroupCaptures, MatcherConfig)} but ignores
+     * the first child of this node. A {@link PomMatcher} matches a leading wildcard (see
+     * {@link PomTaggedExpressionChildrenMatcher#isFirstChildWildcard()}) separately after the rest of the
+     * pattern matched.
+     *
+     * @param expression the expression
+     * @param followingExpressions the siblings of the expression
+     * @param captures the captured groups of the current match
+     * @param config the matcher config
+     * @return true if it matched or false otherwise
+     */
+    abstract boolean matchWithoutLeadingWildcard(
+            PrintablePomTaggedExpression expression,
+            List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
+            MatcherConfig config
+    );
+
+    /**
+     * Get the grouped matches of the latest match of the calling thread if any.
      * @return map of grouped matches
      * @see #getMatches()
      */
     public Map<String, String> getStringMatches() {
-        return captures.getCapturedGroupStrings();
+        return getLatestMatch().strings;
     }
 
     /**
      * Get the grouped matches as the {@link PomTaggedExpression} that matched the wildcards.
      * Since every wildcard may match sequences of nodes, the returned mapping maps the key
-     * of the pattern group to the list of hits.
+     * of the pattern group to the list of hits. Like {@link #getStringMatches()}, it returns the matches
+     * of the latest match of the calling thread.
      * @return map of grouped matches
      * @see #getStringMatches()
      */
     public Map<String, List<PrintablePomTaggedExpression>> getMatches() {
-        return captures.getCapturedGroups();
+        return getCaptures().getCapturedGroups();
+    }
+
+    /**
+     * The groups of a match without references to the matched tree.
+     */
+    private static final class LatestMatch {
+        private final Map<String, String> strings;
+        private final GroupCaptures captures;
+
+        private LatestMatch(GroupCaptures captures) {
+            // the strings are generated from the original nodes, since they may depend on the entire tree
+            this.strings = captures.getCapturedGroupStrings();
+            this.captures = captures.detachedCopy();
+        }
     }
 }
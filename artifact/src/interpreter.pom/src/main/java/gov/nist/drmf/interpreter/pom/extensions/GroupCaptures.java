@@ -38,6 +38,28 @@ public class GroupCaptures {
         this.optionalSemanticMacroMatchLibrary = new HashMap<>(copy.optionalSemanticMacroMatchLibrary);
     }
 
+    /**
+     * Creates a copy of the captured groups that does not reference the matched tree. Every captured node
+     * is copied without its parent and siblings.
+     * @return the detached copy
+     */
+    public GroupCaptures detachedCopy() {
+        GroupCaptures copy = new GroupCaptures();
+        matchLibrary.forEach( (key, nodes) -> copy.matchLibrary.put(key, copyNodes(nodes)) );
+        optionalSemanticMacroMatchLibrary.forEach( (key, matches) -> {
+            List<List<PrintablePomTaggedExpression>> copies = new LinkedList<>();
+            for ( List<PrintablePomTaggedExpression> nodes : matches ) copies.add(copyNodes(nodes));
+            copy.optionalSemanticMacroMatchLibrary.put(key, copies);
+        });
+        return copy;
+    }
+
+    private static List<PrintablePomTaggedExpression> copyNodes(List<PrintablePomTaggedExpression> nodes) {
+        List<PrintablePomTaggedExpression> copies = new LinkedList<>();
+        for ( PrintablePomTaggedExpression node : nodes ) copies.add(new PrintablePomTaggedExpression(node));
+        return copies;
+    }
+
     /**
      * Clears the captured groups.
      */
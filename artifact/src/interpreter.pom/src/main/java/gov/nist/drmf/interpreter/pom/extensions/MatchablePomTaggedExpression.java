@@ -109,7 +109,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
             MatchablePomTaggedExpressionConfig config,
             PomTaggedExpression refRoot
     ) throws NotMatchableException {
-        super(refRoot, config.getMlpWrapper(), config.getCaptures());
+        super(refRoot, config.getMlpWrapper());
 
         Map<String, String> refFeatures = refRoot.getNamedFeatures();
         for (String k : refFeatures.keySet())
@@ -303,12 +303,33 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
     boolean match (
             PrintablePomTaggedExpression expression,
             List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
             MatcherConfig config
+    ) {
+        return match(expression, followingExpressions, captures, config, 0);
+    }
+
+    @Override
+    boolean matchWithoutLeadingWildcard(
+            PrintablePomTaggedExpression expression,
+            List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
+            MatcherConfig config
+    ) {
+        return match(expression, followingExpressions, captures, config, 1);
+    }
+
+    private boolean match (
+            PrintablePomTaggedExpression expression,
+            List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
+            MatcherConfig config,
+            int skipChildren
     ) {
         try {
             // essentially there are two cases, either it is not a wildcard, that it must match directly the reference
-            if (!isWildcard) return matchNonWildCard(expression, followingExpressions, config);
-            return matchWildCard(expression, followingExpressions, config);
+            if (!isWildcard) return matchNonWildCard(expression, followingExpressions, captures, config, skipChildren);
+            return matchWildCard(expression, followingExpressions, captures, config);
         } catch ( NotMatchableException nme ) {
             LOG.debug("Expression not matchable because: " + nme.getMessage() +
                     "; Element: " + expression.getTexString() + " in [" + expression.getRootTexString() + "].");
@@ -319,9 +340,11 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
     private boolean matchNonWildCard(
             PrintablePomTaggedExpression expression,
             List<PrintablePomTaggedExpression> followingExpressions,
-            MatcherConfig config
+            GroupCaptures captures,
+            MatcherConfig config,
+            int skipChildren
     ){
-        skipOptionalTokens(expression, followingExpressions, config);
+        skipOptionalTokens(expression, followingExpressions, captures, config);
 
         MathTerm otherRoot = expression.getRoot();
         if ( config.ignoreOperatorName() && MathTermUtility.isOperatorname(otherRoot) ) {
@@ -355,16 +378,17 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
 
         // since both term matches, we have to check their children
         // if this object doesn't have children, we can straight check the match
-        if (this.getChildrenMatcher().isEmpty()) return expression.getComponents().isEmpty();
+        if (this.getChildrenMatcher().size() <= skipChildren) return expression.getComponents().isEmpty();
 
         LinkedList<PrintablePomTaggedExpression> refComponents =
                 new LinkedList<>(expression.getPrintableComponents());
-        return getChildrenMatcher().matchNonWildCardChildren(refComponents, config);
+        return getChildrenMatcher().matchNonWildCardChildren(refComponents, skipChildren, captures, config);
     }
 
-    public boolean skipOptionalTokens(
+    boolean skipOptionalTokens(
             PrintablePomTaggedExpression expression,
             List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
             MatcherConfig config
     ) {
         if ( checkOptionalToken() && config.isSemanticMacroIgnoreTokenRule() ) {
@@ -380,7 +404,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
                 String linkedToMacro = previousSibling.linkedToPreviousMacro;
                 // if the previous node was a macro itself, we use that
                 if ( linkedToMacro == null ) linkedToMacro = previousSibling.getRoot().getTermText();
-                getCaptures().setOptionalSemanticCapturedGroup(linkedToMacro, optionalSkip);
+                captures.setOptionalSemanticCapturedGroup(linkedToMacro, optionalSkip);
                 return true;
             }
         }
@@ -412,6 +436,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
     private boolean matchWildCard(
             PrintablePomTaggedExpression expression,
             List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
             MatcherConfig config
     ) {
         // if the first element in a wildcard is _ or ^ or !, we can directly return false
@@ -431,8 +456,8 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
         matches.add(expression);
 
         return nextSibling == null ? // if its null, almost everything hits just until end
-                captureUntilEnd(followingExpressions, bracketStack, matches, config) :
-                matchWildcardUntilEnd(followingExpressions, bracketStack, matches, config);
+                captureUntilEnd(followingExpressions, bracketStack, matches, captures, config) :
+                matchWildcardUntilEnd(followingExpressions, bracketStack, matches, captures, config);
     }
 
     private boolean isIllegalFirstWildcardMatch(PomTaggedExpression pte) {
@@ -452,6 +477,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
             List<PrintablePomTaggedExpression> followingExpressions,
             LinkedList<Brackets> bracketStack,
             List<PrintablePomTaggedExpression> matches,
+            GroupCaptures captures,
             MatcherConfig config
     ) {
         PrintablePomTaggedExpression expression;
@@ -476,7 +502,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
         }
 
         if ( !bracketStack.isEmpty() ) return false;
-        return getCaptures().setCapturedGroup(wildcardID, matches);
+        return captures.setCapturedGroup(wildcardID, matches);
     }
 
     private boolean continueMatchingEvenWithSingleSequence(
@@ -489,13 +515,14 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
             List<PrintablePomTaggedExpression> followingExpressions,
             LinkedList<Brackets> bracketStack,
             List<PrintablePomTaggedExpression> matches,
+            GroupCaptures captures,
             MatcherConfig config
     ) {
         if ( followingExpressions.isEmpty() ) return false;
         PrintablePomTaggedExpression next = followingExpressions.remove(0);
 
         // fill up wild card until the next hit
-        while (continueMatchingEvenWithSingleSequence(bracketStack) && continueMatching(bracketStack, next, followingExpressions, config)) {
+        while (continueMatchingEvenWithSingleSequence(bracketStack) && continueMatching(bracketStack, next, followingExpressions, captures, config)) {
             if ( earlyFailWhileContinueMatching(next, followingExpressions, bracketStack, config) ) {
                 return false;
             }
@@ -510,7 +537,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
         // nextSibling has matched the next element in followingExpression... so put it back into the queue
         // and return true when the matches do not conflict
         followingExpressions.add(0, next);
-        return getCaptures().setCapturedGroup(wildcardID, matches);
+        return captures.setCapturedGroup(wildcardID, matches);
     }
 
     private boolean earlyFailWhileContinueMatching(
@@ -536,6 +563,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
      * @param bracketStack stack of opened brackets
      * @param next next element
      * @param followingExpressions list of siblings of {@param next}
+     * @param captures the captured groups of the current match
      * @param config configuration
      * @return true if matching should be continued
      */
@@ -543,6 +571,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
             LinkedList<Brackets> bracketStack,
             PrintablePomTaggedExpression next,
             List<PrintablePomTaggedExpression> followingExpressions,
+            GroupCaptures captures,
             MatcherConfig config
     ) {
         // if this node contains font manipulations, we must immediately stop here
@@ -557,7 +586,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
             return this.numberOfFollowingSiblings < followingExpressions.size()+1;
         }
 
-        boolean nextSiblingMatched = nextSibling.match(next, followingExpressions, config);
+        boolean nextSiblingMatched = nextSibling.match(next, followingExpressions, captures, config);
         if ( !config.allowFollowingTokens() && nextSiblingMatched ) {
             // ok in case the next sibling is the end of the pattern, than the following
             // expressions must be empty to stop continue matching
@@ -568,7 +597,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
             LinkedList<PrintablePomTaggedExpression> copyFollowingExpressions = new LinkedList<>(followingExpressions);
             next = copyFollowingExpressions.removeFirst();
             MatchablePomTaggedExpression nextSiblingReference = nextSibling.nextSibling;
-            while ( nextSiblingReference.match(next, copyFollowingExpressions, config) ) {
+            while ( nextSiblingReference.match(next, copyFollowingExpressions, captures, config) ) {
                 if ( copyFollowingExpressions.isEmpty() ) return false;
                 next = copyFollowingExpressions.removeFirst();
                 nextSiblingReference = nextSiblingReference.nextSibling;
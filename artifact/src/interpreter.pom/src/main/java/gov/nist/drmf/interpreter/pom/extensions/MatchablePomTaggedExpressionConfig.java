@@ -11,8 +11,6 @@ public class MatchablePomTaggedExpressionConfig {
 
     private final MLPWrapper mlpWrapper;
 
-    private final GroupCaptures captures;
-
     @Language("RegExp")
     private String wildcardPattern;
 
@@ -29,17 +27,12 @@ public class MatchablePomTaggedExpressionConfig {
     public MatchablePomTaggedExpressionConfig(MLPWrapper mlpWrapper, @Language("RegExp") String wildcardPattern) {
         this.mlpWrapper = mlpWrapper;
         this.wildcardPattern = wildcardPattern;
-        this.captures = new GroupCaptures();
     }
 
     public MLPWrapper getMlpWrapper() {
         return mlpWrapper;
     }
 
-    public GroupCaptures getCaptures() {
-        return captures;
-    }
-
     public String getWildcardPattern() {
         return wildcardPattern;
     }
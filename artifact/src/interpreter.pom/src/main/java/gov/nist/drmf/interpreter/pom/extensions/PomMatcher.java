@@ -12,6 +12,11 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * A matcher of a compiled pattern ({@link MatchablePomTaggedExpression}) on a given expression.
+ * The matcher holds the entire state of the matching process, including the captured groups.
+ * Hence, multiple matchers of the same compiled pattern can be used at the same time, even by multiple threads.
+ * A single matcher is not thread-safe.
+ *
  * @author Andre Greiner-Petter
  */
 public class PomMatcher {
@@ -21,7 +26,6 @@ public class PomMatcher {
 
     private final AbstractMatchablePomTaggedExpression matcher;
     private final MatchablePomTaggedExpression matcherFirstElement;
-    private final PomTaggedExpressionChildrenMatcher children;
     private final PrintablePomTaggedExpression orig;
     private final GroupCaptures refGroups;
 
@@ -32,7 +36,7 @@ public class PomMatcher {
     private boolean inProcess = false;
     private boolean lastMatchWentUntilEnd = false;
 
-    private MatchablePomTaggedExpression leadingBackUpWildcard;
+    private final MatchablePomTaggedExpression leadingBackUpWildcard;
 
     private final LinkedList<DepthExpressionsCache> remaining;
     private DepthExpressionsCache latestDepthExpression;
@@ -71,26 +75,36 @@ public class PomMatcher {
             AbstractMatchablePomTaggedExpression mpte,
             PrintablePomTaggedExpression pte,
             MatcherConfig config
+    ) {
+        this(mpte, pte, config, new GroupCaptures());
+    }
+
+    /**
+     * @param mpte the underlying matchable parse tree
+     * @param pte the parse tree to match
+     * @param config the matcher config
+     * @param captures the object to store the captured groups in
+     */
+    PomMatcher(
+            AbstractMatchablePomTaggedExpression mpte,
+            PrintablePomTaggedExpression pte,
+            MatcherConfig config,
+            GroupCaptures captures
     ) {
         this.config = config;
         this.matcher = mpte;
         this.isSequenceMatcher = PomTaggedExpressionUtility.isSequence(matcher);
-        this.children = mpte.getChildrenMatcher();
         this.orig = pte;
-        this.refGroups = mpte.getCaptures();
-        this.leadingBackUpWildcard = null;
+        this.refGroups = captures;
         this.remaining = new LinkedList<>();
         this.latestDepthExpression = null;
 
-        updateLeadingWildcard();
-        this.matcherFirstElement = isSequenceMatcher ? (MatchablePomTaggedExpression)matcher.getComponents().get(0) : null;
-    }
-
-    private void updateLeadingWildcard() {
-        // in case it starts with a wildcard, its more efficient to handle that later. remove it and continue
-        if ( children.isFirstChildWildcard() ) {
-            leadingBackUpWildcard = children.hideFirstWildcard();
-        }
+        // in case it starts with a wildcard, its more efficient to handle that later. skip it and continue
+        PomTaggedExpressionChildrenMatcher children = mpte.getChildrenMatcher();
+        this.leadingBackUpWildcard = children.isFirstChildWildcard() ? children.getFirst() : null;
+        int firstElementIdx = leadingBackUpWildcard == null ? 0 : 1;
+        this.matcherFirstElement = isSequenceMatcher ?
+                (MatchablePomTaggedExpression)matcher.getComponents().get(firstElementIdx) : null;
     }
 
     /**
@@ -106,13 +120,11 @@ public class PomMatcher {
         MatcherConfig internalConfig = new MatcherConfig(config);
         internalConfig.allowLeadingTokens(false);
         internalConfig.allowFollowingTokens(false);
-        children.undoHiddenFirstWildcard();
-        boolean res = matcher.match(copy, internalConfig);
+        boolean res = matcher.match(copy, refGroups, internalConfig, false);
         if ( res ) {
             lastMatchWentUntilEnd = true;
             latestHitMatchedWithoutPassingElements = true;
         }
-        updateLeadingWildcard();
         return res;
     }
 
@@ -141,7 +153,7 @@ public class PomMatcher {
         if ( !config.allowLeadingTokens() && !remaining.isEmpty() ) {
             latestDepthExpression = remaining.removeFirst();
             latestDepthExpression.currentReferenceNode = latestDepthExpression.remainingExpressions.removeFirst();
-            return matcher.match(copy, config);
+            return matcher.match(copy, refGroups, config, leadingBackUpWildcard != null);
         }
 
         while ( !remaining.isEmpty() ) {
@@ -221,7 +233,9 @@ public class PomMatcher {
         if (isSequenceMatcher) {
             matched = findNextMatchFromIndexSequencer(first, elements);
         } else if ( !PomTaggedExpressionUtility.isAt(first) ){
-            matched = matcher.match(first, elements, config);
+            matched = leadingBackUpWildcard == null ?
+                    matcher.match(first, elements, refGroups, config) :
+                    matcher.matchWithoutLeadingWildcard(first, elements, refGroups, config);
         }
         return matched;
     }
@@ -237,17 +251,17 @@ public class PomMatcher {
         }
 
         // if the first worked, we can move forward
-        boolean innerTmpMatch = m.match(first, elements, config);
+        boolean innerTmpMatch = m.match(first, elements, refGroups, config);
         while ( innerTmpMatch && !elements.isEmpty() && m.getNextSibling() != null ) {
             m = (MatchablePomTaggedExpression)m.getNextSibling();
             first = elements.remove(0);
-            m.skipOptionalTokens(first, elements, config);
+            m.skipOptionalTokens(first, elements, refGroups, config);
             if ( config.ignoreNumberOfAts() && PomTaggedExpressionUtility.isAt(m) ) {
                 continue;
             } else if ( config.ignoreOperatorName() && PomTaggedExpressionUtility.isOperatorname(m) ) {
                 continue;
             }
-            innerTmpMatch = m.match(first, elements, config);
+            innerTmpMatch = m.match(first, elements, refGroups, config);
         }
 
         return matchConsideringMoreTokens(innerTmpMatch, m, elements);
@@ -462,11 +476,11 @@ public class PomMatcher {
      * the value the captured value.
      */
     public Map<String, String> groups() {
-        return matcher.getStringMatches();
+        return refGroups.getCapturedGroupStrings();
     }
 
     public GroupCaptures copyGroups() {
-        return new GroupCaptures(matcher.getCaptures());
+        return new GroupCaptures(refGroups);
     }
 
     private static class DepthExpressionsCache {
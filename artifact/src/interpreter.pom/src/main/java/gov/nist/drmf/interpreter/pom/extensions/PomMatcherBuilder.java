@@ -7,12 +7,34 @@ import mlp.ParseException;
 import mlp.PomTaggedExpression;
 import org.intellij.lang.annotations.Language;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * This helper class provides more useful methods to create {@link MatchablePomTaggedExpression}
  * and {@link PomMatcher} objects.
+ *
+ * Compiled patterns are not changed by matching them. Hence, patterns that are used over and over again
+ * should be compiled via one of the {@code compileCached} methods. These methods compile each pattern only once
+ * and return the same compiled pattern to all callers (also across threads). The cache keeps the
+ * {@link #CACHE_SIZE} most recently used patterns.
+ *
  * @author Andre Greiner-Petter
  */
 public final class PomMatcherBuilder {
+    public static final int CACHE_SIZE = 4_096;
+
+    private static final Map<CacheKey, MatchablePomTaggedExpression> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, MatchablePomTaggedExpression> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            }
+    );
+
     private PomMatcherBuilder() {}
 
     /**
@@ -138,4 +160,90 @@ public final class PomMatcherBuilder {
             throws NotMatchableException{
         return new MatchablePomTaggedExpression(config, refRoot);
     }
+
+    /**
+     * Same as {@link #compile(String)} but returns the cached compiled pattern if the same expression was
+     * compiled before. The returned pattern is shared and must not be changed.
+     * @param expression the expression to match without wildcards.
+     * @return the compiled pattern
+     * @throws ParseException if the given latex string cannot be parsed
+     * @throws NotMatchableException if the given expression cannot be matched
+     */
+    public static MatchablePomTaggedExpression compileCached(String expression) throws ParseException, NotMatchableException {
+        return compileCached(expression, "");
+    }
+
+    /**
+     * Same as {@link #compile(String, String)} but returns the cached compiled pattern if the same expression
+     * and wildcard pattern were compiled before. The returned pattern is shared and must not be changed.
+     * @param expression the expression to create a matchable tree
+     * @param wildcardPattern the regex to find wildcards (e.g., var\d+).
+     * @return the compiled pattern
+     * @throws ParseException if the {@link MLPWrapper} is unable to parse the expression
+     * @throws NotMatchableException if the given expression cannot be matched
+     */
+    public static MatchablePomTaggedExpression compileCached(String expression, @Language("RegExp") String wildcardPattern)
+            throws ParseException, NotMatchableException {
+        return compileCached(SemanticMLPWrapper.getStandardInstance(), expression, wildcardPattern);
+    }
+
+    /**
+     * Same as {@link #compile(MLPWrapper, String, String)} but returns the cached compiled pattern if the
+     * same expression and wildcard pattern were compiled with the same {@link MLPWrapper} before.
+     * The returned pattern is shared and must not be changed.
+     * @param mlp the mlp wrapper to parse the expression
+     * @param expression the expression to create a matchable tree
+     * @param wildcardPattern the regex to find wildcards (e.g., var\d+).
+     * @return the compiled pattern
+     * @throws ParseException if the {@link MLPWrapper} is unable to parse the expression
+     * @throws NotMatchableException if the given expression cannot be matched
+     */
+    public static MatchablePomTaggedExpression compileCached(
+            MLPWrapper mlp,
+            String expression,
+            @Language("RegExp") String wildcardPattern
+    ) throws ParseException, NotMatchableException {
+        CacheKey key = new CacheKey(mlp, expression, wildcardPattern);
+        MatchablePomTaggedExpression cached = CACHE.get(key);
+        if ( cached != null ) return cached;
+        return cache(key, compile(mlp, expression, wildcardPattern));
+    }
+
+    private static MatchablePomTaggedExpression cache(CacheKey key, MatchablePomTaggedExpression compiled) {
+        // another thread may have compiled the same pattern in the meantime, keep the first one
+        MatchablePomTaggedExpression previous = CACHE.putIfAbsent(key, compiled);
+        return previous == null ? compiled : previous;
+    }
+
+    /**
+     * Removes all compiled patterns from the cache.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    private static final class CacheKey {
+        private final MLPWrapper mlp;
+        private final String expression;
+        private final String wildcardPattern;
+
+        CacheKey(MLPWrapper mlp, String expression, String wildcardPattern) {
+            this.mlp = mlp;
+            this.expression = expression;
+            this.wildcardPattern = wildcardPattern;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) return true;
+            if ( !(o instanceof CacheKey) ) return false;
+            CacheKey other = (CacheKey) o;
+            return mlp == other.mlp && expression.equals(other.expression) && wildcardPattern.equals(other.wildcardPattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(mlp), expression, wildcardPattern);
+        }
+    }
 }
@@ -22,8 +22,6 @@ public class PomTaggedExpressionChildrenMatcher {
      */
     private final LinkedList<MatchablePomTaggedExpression> children;
 
-    private MatchablePomTaggedExpression hiddenFirstElement;
-
     /**
      * Keep Kryo happy for serialization
      */
@@ -39,7 +37,6 @@ public class PomTaggedExpressionChildrenMatcher {
     ) {
         this.parent = parent;
         this.children = new LinkedList<>();
-        this.hiddenFirstElement = null;
     }
 
     /**
@@ -57,42 +54,18 @@ public class PomTaggedExpressionChildrenMatcher {
      * It also returns false if there are no children added yet.
      */
     public boolean isFirstChildWildcard() {
-        return hiddenFirstElement != null || (
-                !this.children.isEmpty() &&
-                        this.children.get(0).isWildcard() &&
-                        !this.children.get(0).containsFontRules() &&
-                        !this.children.get(0).isSingleSequenceWildcard()
-        );
+        return !this.children.isEmpty() &&
+                this.children.get(0).isWildcard() &&
+                !this.children.get(0).containsFontRules() &&
+                !this.children.get(0).isSingleSequenceWildcard();
     }
 
     /**
-     * Removes the first element from the defined parent and the children list.
-     * @return the first element of the children
+     * @return the first child
      * @throws NoSuchElementException if there are no children
      */
-    public MatchablePomTaggedExpression hideFirstWildcard() throws NoSuchElementException {
-        if ( hiddenFirstElement != null ) return hiddenFirstElement;
-        // remove first element from parent node
-        try {
-            parent.getComponents().remove(0);
-        } catch (IndexOutOfBoundsException ioobe) {
-            throw new NoSuchElementException(ioobe.getMessage());
-        }
-        hiddenFirstElement = this.children.removeFirst();
-        return hiddenFirstElement;
-    }
-
-    public void undoHiddenFirstWildcard() {
-        if ( hiddenFirstElement == null ) return;
-
-        try {
-            parent.getComponents().add(0, hiddenFirstElement);
-        } catch (IndexOutOfBoundsException ioobe) {
-            throw new NoSuchElementException(ioobe.getMessage());
-        }
-
-        this.children.addFirst(hiddenFirstElement);
-        hiddenFirstElement = null;
+    public MatchablePomTaggedExpression getFirst() throws NoSuchElementException {
+        return this.children.getFirst();
     }
 
     /**
@@ -114,14 +87,18 @@ public class PomTaggedExpressionChildrenMatcher {
      * @param refComponents a copy of the children that must be matched.
      *                      This list will be manipulated, so do not provide
      *                      the original list of children to match.
+     * @param skipChildren the number of leading children of the pattern that are ignored
+     * @param captures the captured groups of the current match
      * @param config the matching configuration
      * @return true if it matches, false otherwise
      */
-    public boolean matchNonWildCardChildren(
+    boolean matchNonWildCardChildren(
             LinkedList<PrintablePomTaggedExpression> refComponents,
+            int skipChildren,
+            GroupCaptures captures,
             MatcherConfig config
     ) {
-        int idx = 0;
+        int idx = skipChildren;
         while (idx < size() && !refComponents.isEmpty()) {
             MatchablePomTaggedExpression matcherElement = this.children.get(idx);
             if ( config.ignoreNumberOfAts() && PomTaggedExpressionUtility.isAt(matcherElement) ) {
@@ -130,7 +107,7 @@ public class PomTaggedExpressionChildrenMatcher {
             }
 
             PrintablePomTaggedExpression firstRef = refComponents.removeFirst();
-            if (!matcherElement.match(firstRef, refComponents, config)) return false;
+            if (!matcherElement.match(firstRef, refComponents, captures, config)) return false;
 
             idx++;
         }
@@ -21,6 +21,12 @@ import java.util.List;
  * {@link gov.nist.drmf.interpreter.pom.MLPWrapper} or
  * {@link gov.nist.drmf.interpreter.pom.SemanticMLPWrapper}.
  *
+ * Modifications of the tree do not rebuild the captions immediately. Instead, the modified node and all its
+ * ancestors are marked as dirty and their captions are rebuilt once the next time {@link #getTexString()}
+ * is called. Hence, a batch of modifications only costs a single rebuild. Note that reading the caption of
+ * a dirty node rebuilds it, i.e., modified trees must not be read by multiple threads at the same time.
+ * Unmodified trees (e.g., fresh from the parser) and their copies are safe to read concurrently.
+ *
  * @author Andre Greiner-Petter
  * @see PomTaggedExpression
  * @see gov.nist.drmf.interpreter.pom.MLPWrapper
@@ -32,12 +38,20 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
 
     private String caption;
 
+    // true if the caption is outdated and must be rebuilt from the components before it can be used
+    private boolean dirty;
+
+    // this expression compiled as a pattern for match(PrintablePomTaggedExpression). It is reset whenever this node
+    // or one of its descendants changes, i.e., a dirty node never holds a compiled pattern
+    private transient volatile MatchablePomTaggedExpression compiledPattern;
+
     /**
      * Keep Kryo happy for serialization
      */
     private PrintablePomTaggedExpression() {
         super();
         this.caption = "";
+        this.dirty = false;
     }
 
     /**
@@ -50,7 +64,9 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      */
     public PrintablePomTaggedExpression( PrintablePomTaggedExpression ppte ) {
         super(MathTermUtility.secureClone(ppte.getRoot()), ppte.getTag(), ppte.getSecondaryTags());
+        // copy the outdated caption as well, the copy rebuilds it on its own if necessary
         this.caption = ppte.caption;
+        this.dirty = ppte.dirty;
         ppte.getNamedFeatures().forEach(super::addNamedFeature);
         for ( PrintablePomTaggedExpression child : ppte.getPrintableComponents() ) {
             PrintablePomTaggedExpression childCopy = new PrintablePomTaggedExpression(child);
@@ -80,6 +96,15 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      * @param expr the expression that was used to generate the parse tree {@param pte}
      */
     public PrintablePomTaggedExpression( PomTaggedExpression pte, String expr ) {
+        this(pte, expr, 0, expr.length());
+    }
+
+    /**
+     * Constructs the printable node for the given range of the expression. All nodes of the parse tree share
+     * the same expression and only the ranges are narrowed down. Hence, the expression is not
+     * copied for each component.
+     */
+    private PrintablePomTaggedExpression( PomTaggedExpression pte, String expr, int start, int end ) {
         super();
         super.setRoot(pte.getRoot());
         super.setTag(pte.getTag());
@@ -88,20 +113,21 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
             super.addNamedFeature(k, pte.getFeatureValue(k));
 
         // the fun part, every node has it's own caption
-        this.caption = PomTaggedExpressionUtility.getNormalizedCaption(pte, expr);
-        if ( PomTaggedExpressionUtility.isTeXEnvironment(pte) ) expr = TeXPreProcessor.removeTeXEnvironment(expr);
+        String nodeExpression = expr.substring(start, end);
+        this.caption = PomTaggedExpressionUtility.getNormalizedCaption(pte, nodeExpression);
+        this.dirty = false;
+        if ( PomTaggedExpressionUtility.isTeXEnvironment(pte) ) {
+            expr = TeXPreProcessor.removeTeXEnvironment(nodeExpression);
+            start = 0;
+            end = expr.length();
+        }
 
-        // now we have to add the components and their respective substrings...
+        // now we have to add the components and their respective ranges...
         for (PomTaggedExpression component : pte.getComponents()) {
-            String innerExpression;
-
-            IndexRange range = rangeCalculator.getRange(component, expr);
-
-            innerExpression = expr.substring(range.getStart(), range.getEnd());
-            expr = expr.substring(range.getEnd());
-
-            PrintablePomTaggedExpression ppte = new PrintablePomTaggedExpression(component, innerExpression);
+            IndexRange range = rangeCalculator.getRange(component, expr, start, end);
+            PrintablePomTaggedExpression ppte = new PrintablePomTaggedExpression(component, expr, range.getStart(), range.getEnd());
             super.addComponent(ppte);
+            start = range.getEnd();
         }
     }
 
@@ -111,6 +137,7 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
     public void clearComponents(){
         super.getComponents().clear();
         this.caption = this.getRoot().getTermText();
+        this.dirty = false;
     }
 
     /*
@@ -128,8 +155,20 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
 
     @Override
     public boolean match(PrintablePomTaggedExpression expression) {
-        MatchablePomTaggedExpression m = PomMatcherBuilder.compile(this, "");
-        return m.match(expression);
+        MatchablePomTaggedExpression compiled = compiledPattern;
+        if ( compiled == null ) {
+            // compiling normalizes this expression, so two threads must not compile it at the same time
+            synchronized (this) {
+                compiled = compiledPattern;
+                if ( compiled == null ) {
+                    compiled = PomMatcherBuilder.compile(this, "");
+                    // compiling may mark this node dirty, rebuild it so later changes reset the pattern again
+                    rebuildCaption();
+                    compiledPattern = compiled;
+                }
+            }
+        }
+        return compiled.match(expression);
     }
 
     /**
@@ -232,13 +271,15 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
     }
 
     public void refreshTexComponents() {
-        IndexRange range = rangeCalculator.getRange( this, caption );
-        this.replaceCaption( caption.substring(range.getStart(), range.getEnd()) );
+        String tex = getTexString();
+        IndexRange range = rangeCalculator.getRange( this, tex );
+        this.replaceCaption( tex.substring(range.getStart(), range.getEnd()) );
         this.populatingStringChanges();
     }
 
     @Override
     public void setRoot(MathTerm mathTerm) {
+        rebuildCaption();
         String newCaption = PrintablePomTaggedExpressionUtility.getInternalNodeCommand(mathTerm);
         replaceCaption(newCaption);
         if ( this.getParent() != null ) {
@@ -246,13 +287,69 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
             parent.populatingStringChanges();
         }
 
+        StringBuilder sb = new StringBuilder(this.caption);
         for ( PrintablePomTaggedExpression ppte : getPrintableComponents() ){
-            this.caption += ppte.caption;
+            sb.append(ppte.getTexString());
         }
+        this.caption = sb.toString();
+        this.dirty = false;
+        this.compiledPattern = null;
 
         super.setRoot(mathTerm);
     }
 
+    @Override
+    public void setTag(String tag) {
+        super.setTag(tag);
+        resetCompiledPatterns();
+    }
+
+    @Override
+    public void setSecondaryTags(List<String> tags) {
+        super.setSecondaryTags(tags);
+        resetCompiledPatterns();
+    }
+
+    @Override
+    public void setSecondaryTags(String... tags) {
+        super.setSecondaryTags(tags);
+        resetCompiledPatterns();
+    }
+
+    @Override
+    public boolean addSecondaryTags(List<String> tags) {
+        boolean res = super.addSecondaryTags(tags);
+        resetCompiledPatterns();
+        return res;
+    }
+
+    @Override
+    public void addSecondaryTags(String... tags) {
+        super.addSecondaryTags(tags);
+        resetCompiledPatterns();
+    }
+
+    @Override
+    public boolean addNamedFeature(String key, String value) {
+        boolean res = super.addNamedFeature(key, value);
+        resetCompiledPatterns();
+        return res;
+    }
+
+    @Override
+    public String setNamedFeature(String key, String value) {
+        String res = super.setNamedFeature(key, value);
+        resetCompiledPatterns();
+        return res;
+    }
+
+    @Override
+    public String removeNamedFeature(String key) {
+        String res = super.removeNamedFeature(key);
+        resetCompiledPatterns();
+        return res;
+    }
+
     private void replaceCaption(String newCaption) {
         if ( TeXPreProcessor.wrappedInCurlyBrackets(caption) && !TeXPreProcessor.wrappedInCurlyBrackets(newCaption) ){
             String start = caption.substring(0,1);
@@ -262,11 +359,40 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
     }
 
     /**
-     * Populates string changes from here onwards to the root of the tree.
-     * It uses {@link PrintablePomTaggedExpressionUtility#getCaptionOfPPTEs(String, List)} method to build
-     * the new caption of this node.
+     * Populates string changes from here onwards to the root of the tree, i.e., marks this node and all
+     * its ancestors as dirty. If a node is dirty already, all its ancestors are dirty too.
+     * The captions are rebuilt lazily via {@link #rebuildCaption()}. Since a dirty node never holds a compiled
+     * pattern, it resets the compiled patterns of the marked nodes as well.
      */
     private void populatingStringChanges() {
+        PrintablePomTaggedExpression node = this;
+        while ( node != null && !node.dirty ) {
+            node.dirty = true;
+            node.compiledPattern = null;
+            node = (PrintablePomTaggedExpression) node.getParent();
+        }
+    }
+
+    /**
+     * Resets the compiled patterns of this node and all its ancestors, e.g., if tags or features changed.
+     * Unlike {@link #populatingStringChanges()}, it does not mark the nodes as dirty since the captions are
+     * not affected.
+     */
+    private void resetCompiledPatterns() {
+        PrintablePomTaggedExpression node = this;
+        while ( node != null ) {
+            node.compiledPattern = null;
+            node = (PrintablePomTaggedExpression) node.getParent();
+        }
+    }
+
+    /**
+     * Rebuilds the caption of this node if it is dirty. It uses
+     * {@link PrintablePomTaggedExpressionUtility#getCaptionOfPPTEs(String, List)} method to build
+     * the new caption of this node, which rebuilds the dirty children first.
+     */
+    private void rebuildCaption() {
+        if ( !dirty ) return;
         if ( !hasNoChildren() ) {
             String newCaption = PrintablePomTaggedExpressionUtility.getCaptionOfPPTEs(
                     PrintablePomTaggedExpressionUtility.getInternalNodeCommand(this),
@@ -274,11 +400,7 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
             );
             replaceCaption(newCaption);
         }
-
-        if ( this.getParent() != null ) {
-            PrintablePomTaggedExpression parent = (PrintablePomTaggedExpression)this.getParent();
-            parent.populatingStringChanges();
-        }
+        dirty = false;
     }
 
     /**
@@ -306,12 +428,14 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      * Wraps the current caption in curly brackets, if it is not wrapped in curly brackets already
      */
     public void makeBalancedTexString() {
+        rebuildCaption();
         if ( TeXPreProcessor.wrappedInCurlyBrackets(caption) ) return;
         caption = "{" + caption + "}";
         populatingStringChanges();
     }
 
     public void makeBalancedOptionalArgumentString() {
+        rebuildCaption();
         caption = "[" + caption + "]";
         populatingStringChanges();
     }
@@ -324,6 +448,7 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      * from it's children.
      */
     public String getTexString() {
+        rebuildCaption();
         return caption;
     }
 
@@ -21,17 +21,32 @@ public class PrintablePomTaggedExpressionRangeCalculator {
     public PrintablePomTaggedExpressionRangeCalculator() {}
 
     public IndexRange getRange(PomTaggedExpression component, String expr) {
+        return getRange(component, expr, 0, expr.length());
+    }
+
+    /**
+     * Calculates the range of the given component in the region of the given expression. The result is the same as
+     * calling {@link #getRange(PomTaggedExpression, String)} with {@code expr.substring(start, end)} but the indices
+     * are relative to the entire expression and the expression is not copied.
+     * @param component the component
+     * @param expr the expression
+     * @param start the start of the region (inclusive)
+     * @param end the end of the region (exclusive)
+     * @return the range of the component in the expression
+     */
+    public IndexRange getRange(PomTaggedExpression component, String expr, int start, int end) {
         String thisMatch = getStartingStringPattern(component);
         String nextMatch = getEndingStringPattern(component);
 
         Pattern thisPattern = Pattern.compile(thisMatch);
         Pattern nextPattern = Pattern.compile(nextMatch);
 
-        Matcher thisM = thisPattern.matcher(expr);
-        Matcher nextM = nextPattern.matcher(expr);
+        // opaque bounds (the default) hide the text outside the region from lookarounds, just like a substring
+        Matcher thisM = thisPattern.matcher(expr).region(start, end);
+        Matcher nextM = nextPattern.matcher(expr).region(start, end);
 
-        int idxStart = 0;
-        int idxEnd = expr.length();
+        int idxStart = start;
+        int idxEnd = end;
 
         if (thisM.find()) {
             idxStart = thisM.start();
@@ -47,9 +62,9 @@ public class PrintablePomTaggedExpressionRangeCalculator {
         }
 
         // check before the wrapping { ... } if the brackets are correct now, or if we missed something
-        idxEnd = checkIndexForClosingBrackets(idxStart, idxEnd, expr);
+        idxEnd = checkIndexForClosingBrackets(idxStart, idxEnd, start, end, expr);
 
-        if (isStartingIndexOpenBracket(idxStart, expr) && isEndingIndexCloseBracket(idxEnd, expr)){
+        if (idxStart > start && isStartingIndexOpenBracket(idxStart, expr) && idxEnd < end && isEndingIndexCloseBracket(idxEnd, expr)){
             idxStart--;
             idxEnd++;
         }
@@ -171,31 +186,30 @@ public class PrintablePomTaggedExpressionRangeCalculator {
         } else return null;
     }
 
-    private int checkIndexForClosingBrackets(int start, int end, String expression) {
-        if (expression.length() == 0) return 0;
+    private int checkIndexForClosingBrackets(int start, int end, int regionStart, int regionEnd, String expression) {
+        if (regionStart == regionEnd) return regionStart;
 
-        String sub = expression.substring(start, end);
-        int opened = countOpenBrackets(sub);
+        int opened = countOpenBrackets(expression, start, end);
 
-        return getEndIndex(opened, end, expression);
+        return getEndIndex(opened, end, regionEnd, expression);
     }
 
-    private int countOpenBrackets(String sub) {
+    private int countOpenBrackets(String expression, int start, int end) {
         int opened = 0;
-        for (int i = 0; i < sub.length(); i++) {
-            if (isBracket(sub, i, '{')) opened++;
-            else if (isBracket(sub, i, '}')) opened--;
+        for (int i = start; i < end; i++) {
+            if (isBracket(expression, start, i, '{')) opened++;
+            else if (isBracket(expression, start, i, '}')) opened--;
         }
         return opened;
     }
 
-    private boolean isBracket(String sub, int i, char bracketSymb) {
-        if ( i > 0 && sub.charAt(i-1) == '\\' ) return false;
-        return sub.charAt(i) == bracketSymb;
+    private boolean isBracket(String expression, int start, int i, char bracketSymb) {
+        if ( i > start && expression.charAt(i-1) == '\\' ) return false;
+        return expression.charAt(i) == bracketSymb;
     }
 
-    private int getEndIndex(int opened, int end, String expression) {
-        while (opened > 0 && end < expression.length()) {
+    private int getEndIndex(int opened, int end, int regionEnd, String expression) {
+        while (opened > 0 && end < regionEnd) {
             if (expression.charAt(end) == '}') {
                 end++;
                 opened--;
@@ -7,13 +7,17 @@ import mlp.ParseException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
+ * A dependency graph of MOIs. A node depends on another node if the pattern of the other node matches the node.
+ * Instead of running the matcher on all pairs of nodes, the graph maintains an index of the tokens of all
+ * nodes and only matches pairs that can possibly match (see {@link MathematicalObjectOfInterest#canMatch}).
+ *
  * @author Andre Greiner-Petter
  */
 public class MOIDependencyGraph<T> implements IMOIGraph<T> {
@@ -25,9 +29,15 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
     private final HashMap<String, MOINode<T>> vertices;
     private final HashMap<Connection, MOIDependency<T>> edges;
 
+    // the index to find candidates for dependencies
+    private final MOIIndex<T> index;
+
+    private final LongAdder matchAttempts = new LongAdder();
+
     public MOIDependencyGraph() {
         this.vertices = new HashMap<>();
         this.edges = new HashMap<>();
+        this.index = new MOIIndex<>();
     }
 
     @Override
@@ -62,9 +72,54 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
         LOG.info("Setup dependencies for new node");
         updateDependencies(node);
         vertices.put(node.getId(), node);
+        index.add(node);
         return node;
     }
 
+    /**
+     * Adds all given nodes to the graph. The result is identical to adding the nodes one after another
+     * in the given order, but the dependencies are computed in parallel. Nodes with an ID that already
+     * exists in the graph are skipped.
+     * @param nodes the nodes to add
+     */
+    public void addNodes(Collection<MOINode<T>> nodes) {
+        LinkedHashMap<String, MOINode<T>> newNodes = new LinkedHashMap<>();
+        for ( MOINode<T> node : nodes ) {
+            if ( !containsNode(node.getId()) ) newNodes.putIfAbsent(node.getId(), node);
+        }
+        if ( newNodes.isEmpty() ) return;
+
+        LOG.info("Setup dependencies for " + newNodes.size() + " new nodes");
+        List<MOINode<T>> existingNodes = new ArrayList<>(vertices.values());
+        Set<MOINode<T>> newNodeSet = new HashSet<>(newNodes.values());
+        newNodeSet.forEach(index::add);
+
+        // every node is the pattern in a single task only, because the matcher of a node is not thread-safe
+        Map<Connection, DependencyPattern> matches = new ConcurrentHashMap<>();
+        Stream.concat(existingNodes.stream(), newNodes.values().stream())
+                .parallel()
+                .forEach( pattern -> {
+                    boolean isNewPattern = newNodeSet.contains(pattern);
+                    for ( MOINode<T> target : index.getMatchableBy(pattern) ) {
+                        // dependencies between existing nodes are already in the graph
+                        if ( !isNewPattern && !newNodeSet.contains(target) ) continue;
+                        DependencyPattern dependency = match(pattern, target);
+                        if ( dependency != null ) matches.put(new Connection(pattern.getId(), target.getId()), dependency);
+                    }
+                });
+
+        // add the edges in the same order as if the nodes were added one by one
+        for ( MOINode<T> node : newNodes.values() ) {
+            for ( MOINode<T> ref : vertices.values() ) {
+                DependencyPattern dependency = matches.get(new Connection(node.getId(), ref.getId()));
+                DependencyPattern reverseDependency = matches.get(new Connection(ref.getId(), node.getId()));
+                if ( dependency == null && reverseDependency == null ) continue;
+                addEdges(node.setupDependency(ref, dependency, reverseDependency));
+            }
+            vertices.put(node.getId(), node);
+        }
+    }
+
     /**
      * Adds a node to the existing graph without adding any dependencies in between.
      * If a node exists with the same ID this method does nothing.
@@ -73,6 +128,7 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
     protected void addNode(MOINode<T> node) {
         if ( containsNode(node.getId()) ) return;
         vertices.put(node.getId(), node);
+        index.add(node);
     }
 
     /**
@@ -80,16 +136,33 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
      * @param node the node
      */
     private void updateDependencies(MOINode<T> node) throws NotMatchableException {
+        Set<MOINode<T>> dependants = index.getMatchableBy(node);
+        Set<MOINode<T>> dependencies = index.getMatching(node);
         for (MOINode<T> ref : vertices.values() ) {
-            Set<MOIDependency<T>> dependencies = node.setupDependency(ref);
-            for ( MOIDependency<T> dependency : dependencies ) {
-                this.edges.put(
-                        new Connection(
-                                dependency.getSourceNode().getId(),
-                                dependency.getSinkNode().getId()),
-                        dependency
-                );
-            }
+            boolean isDependant = dependants.contains(ref);
+            boolean isDependency = dependencies.contains(ref);
+            if ( !isDependant && !isDependency ) continue;
+            addEdges(node.setupDependency(
+                    ref,
+                    isDependant ? match(node, ref) : null,
+                    isDependency ? match(ref, node) : null
+            ));
+        }
+    }
+
+    private DependencyPattern match(MOINode<T> pattern, MOINode<T> expression) {
+        matchAttempts.increment();
+        return pattern.getNode().match(expression.getNode());
+    }
+
+    private void addEdges(Set<MOIDependency<T>> dependencies) {
+        for ( MOIDependency<T> dependency : dependencies ) {
+            this.edges.put(
+                    new Connection(
+                            dependency.getSourceNode().getId(),
+                            dependency.getSinkNode().getId()),
+                    dependency
+            );
         }
     }
 
@@ -110,6 +183,7 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
     public MOINode<T> removeNode(String id) {
         MOINode<T> node = vertices.remove(id);
         if ( node == null ) return null;
+        index.remove(node);
 
         Collection<? extends IDependency<T>> outgoingEdges = node.getOutgoingDependencies();
         for ( IDependency<T> out : outgoingEdges ) {
@@ -154,6 +228,13 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
         return vertices.values().stream().filter(INode::isSink).collect(Collectors.toSet());
     }
 
+    /**
+     * @return the number of times the matcher of a node was used to find a dependency
+     */
+    public long getNumberOfMatchAttempts() {
+        return matchAttempts.sum();
+    }
+
     public Collection<MOINode<T>> getSources() {
         return vertices.values().stream().filter(INode::isSource).collect(Collectors.toSet());
     }
@@ -5,9 +5,17 @@ import mlp.ParseException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
+ * Builds dependency graphs from a library of formulae. All formulae are parsed in parallel first
+ * and then added to the graph at once (see {@link MOIDependencyGraph#addNodes(java.util.Collection)}).
+ *
  * @author Andre Greiner-Petter
  */
 public final class MOIDependencyGraphBuilder {
@@ -16,14 +24,8 @@ public final class MOIDependencyGraphBuilder {
     private MOIDependencyGraphBuilder() {}
 
     public static MOIDependencyGraph<Void> generateGraph(Map<String, String> mathNodeLibrary) throws ParseException {
-        MOIDependencyGraph<Void> graph = new MOIDependencyGraph<>();
         LOG.info("Generate graph with " + mathNodeLibrary.size() + " nodes");
-
-        for (Map.Entry<String, String> mathNode : mathNodeLibrary.entrySet()) {
-            graph.addNode(mathNode.getKey(), mathNode.getValue());
-        }
-
-        return graph;
+        return buildGraph(mathNodeLibrary, latex -> latex, latex -> null);
     }
 
     /**
@@ -39,14 +41,34 @@ public final class MOIDependencyGraphBuilder {
             Map<String, T> mathNodeLibrary,
             IMapStringFunction<T> contentMapper
     ) throws ParseException {
-        MOIDependencyGraph<T> graph = new MOIDependencyGraph<>();
         LOG.info("Generate annotated graph with " + mathNodeLibrary.size() + " nodes");
+        return buildGraph(mathNodeLibrary, contentMapper, Function.identity());
+    }
+
+    private static <T, A> MOIDependencyGraph<A> buildGraph(
+            Map<String, T> mathNodeLibrary,
+            IMapStringFunction<T> contentMapper,
+            Function<T, A> annotationMapper
+    ) throws ParseException {
+        List<Map.Entry<String, T>> entries = new ArrayList<>(mathNodeLibrary.entrySet());
+        List<MOINode<A>> nodes = new ArrayList<>(entries.size());
+        for ( int i = 0; i < entries.size(); i++ ) nodes.add(null);
 
-        for (Map.Entry<String, T> mathNode : mathNodeLibrary.entrySet()) {
-            T value = mathNode.getValue();
-            graph.addNode(mathNode.getKey(), contentMapper.get(value), value);
-        }
+        // parse all formulae in parallel, the first parse error is thrown afterwards
+        AtomicReference<ParseException> error = new AtomicReference<>();
+        IntStream.range(0, entries.size()).parallel().forEach( i -> {
+            Map.Entry<String, T> entry = entries.get(i);
+            try {
+                MathematicalObjectOfInterest moi = new MathematicalObjectOfInterest(contentMapper.get(entry.getValue()));
+                nodes.set(i, new MOINode<>(entry.getKey(), moi, annotationMapper.apply(entry.getValue())));
+            } catch (ParseException e) {
+                error.compareAndSet(null, e);
+            }
+        });
+        if ( error.get() != null ) throw error.get();
 
+        MOIDependencyGraph<A> graph = new MOIDependencyGraph<>();
+        graph.addNodes(nodes);
         return graph;
     }
 }
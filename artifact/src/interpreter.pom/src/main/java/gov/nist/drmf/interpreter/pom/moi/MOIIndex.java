@@ -0,0 +1,123 @@
+package gov.nist.drmf.interpreter.pom.moi;
+
+import java.util.*;
+
+/**
+ * An inverted index over the tokens of the MOIs in a {@link MOIDependencyGraph}. It finds all nodes
+ * a given node can possibly depend on or that can depend on the given node without running
+ * the matcher on all pairs of nodes (see {@link MathematicalObjectOfInterest#canMatch(MathematicalObjectOfInterest)}).
+ *
+ * This class is not thread-safe.
+ *
+ * @author Andre Greiner-Petter
+ */
+class MOIIndex<T> {
+    // token -> all nodes that contain this token
+    private final Map<String, Set<MOINode<T>>> containing;
+
+    // token -> all nodes that require this token (every node is only indexed by one of its required tokens)
+    private final Map<String, Set<MOINode<T>>> requiring;
+
+    // all nodes that do not require any token
+    private final Set<MOINode<T>> unconditional;
+
+    // all nodes
+    private final Set<MOINode<T>> nodes;
+
+    MOIIndex() {
+        this.containing = new HashMap<>();
+        this.requiring = new HashMap<>();
+        this.unconditional = new HashSet<>();
+        this.nodes = new HashSet<>();
+    }
+
+    void add(MOINode<T> node) {
+        MathematicalObjectOfInterest moi = node.getNode();
+        if ( moi == null || !moi.isMatchable() || !nodes.add(node) ) return;
+
+        for ( String token : moi.getTokens().keySet() ) {
+            containing.computeIfAbsent(token, k -> new HashSet<>()).add(node);
+        }
+
+        String key = getRequiredKey(moi);
+        if ( key == null ) unconditional.add(node);
+        else requiring.computeIfAbsent(key, k -> new HashSet<>()).add(node);
+    }
+
+    void remove(MOINode<T> node) {
+        if ( !nodes.remove(node) ) return;
+        MathematicalObjectOfInterest moi = node.getNode();
+        for ( String token : moi.getTokens().keySet() ) {
+            removeFrom(containing, token, node);
+        }
+
+        String key = getRequiredKey(moi);
+        if ( key == null ) unconditional.remove(node);
+        else removeFrom(requiring, key, node);
+    }
+
+    private void removeFrom(Map<String, Set<MOINode<T>>> index, String key, MOINode<T> node) {
+        Set<MOINode<T>> set = index.get(key);
+        if ( set == null ) return;
+        set.remove(node);
+        if ( set.isEmpty() ) index.remove(key);
+    }
+
+    /**
+     * Longer tokens, such as macros, are usually rarer than single letter identifiers. Hence, a node
+     * is indexed by its longest required token.
+     */
+    private static String getRequiredKey(MathematicalObjectOfInterest moi) {
+        String key = null;
+        for ( String token : moi.getRequiredTokens().keySet() ) {
+            if ( key == null || token.length() > key.length() || (token.length() == key.length() && token.compareTo(key) < 0) )
+                key = token;
+        }
+        return key;
+    }
+
+    /**
+     * @param node the node (does not need to be indexed)
+     * @return all indexed nodes that the given node can possibly match, i.e., the given node is a potential
+     * dependency of all returned nodes
+     */
+    Set<MOINode<T>> getMatchableBy(MOINode<T> node) {
+        MathematicalObjectOfInterest moi = node.getNode();
+        if ( moi == null || !moi.isMatchable() ) return Collections.emptySet();
+
+        // the smallest set of nodes that contain one of the required tokens
+        Collection<MOINode<T>> candidates = nodes;
+        for ( String token : moi.getRequiredTokens().keySet() ) {
+            Set<MOINode<T>> set = containing.getOrDefault(token, Collections.emptySet());
+            if ( set.size() < candidates.size() ) candidates = set;
+        }
+
+        Set<MOINode<T>> result = new HashSet<>();
+        for ( MOINode<T> candidate : candidates ) {
+            if ( candidate != node && moi.canMatch(candidate.getNode()) ) result.add(candidate);
+        }
+        return result;
+    }
+
+    /**
+     * @param node the node (does not need to be indexed)
+     * @return all indexed nodes that can possibly match the given node, i.e., all returned nodes are
+     * potential dependencies of the given node
+     */
+    Set<MOINode<T>> getMatching(MOINode<T> node) {
+        MathematicalObjectOfInterest moi = node.getNode();
+        if ( moi == null || !moi.isMatchable() ) return Collections.emptySet();
+
+        Set<MOINode<T>> result = new HashSet<>();
+        for ( MOINode<T> candidate : unconditional ) {
+            if ( candidate != node && candidate.getNode().canMatch(moi) ) result.add(candidate);
+        }
+
+        for ( String token : moi.getTokens().keySet() ) {
+            for ( MOINode<T> candidate : requiring.getOrDefault(token, Collections.emptySet()) ) {
+                if ( candidate != node && candidate.getNode().canMatch(moi) ) result.add(candidate);
+            }
+        }
+        return result;
+    }
+}
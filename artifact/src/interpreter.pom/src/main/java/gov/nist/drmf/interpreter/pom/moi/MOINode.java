@@ -118,8 +118,17 @@ public class MOINode<T> implements INode<T> {
      * @param node the other node to setup dependencies with
      */
     public Set<MOIDependency<T>> setupDependency(MOINode<T> node) {
+        return setupDependency(node, moi.match(node.moi), node.moi.match(moi));
+    }
+
+    /**
+     * Setup dependencies between this node and the given node for already computed matches.
+     * @param node the other node to setup dependencies with
+     * @param dependency the match of this node in the given node (or null)
+     * @param reverseDependency the match of the given node in this node (or null)
+     */
+    Set<MOIDependency<T>> setupDependency(MOINode<T> node, DependencyPattern dependency, DependencyPattern reverseDependency) {
         Set<MOIDependency<T>> dependencies = new HashSet<>();
-        DependencyPattern dependency = moi.match(node.moi);
         if ( Objects.nonNull(dependency) ) {
             MOIDependency<T> moiDep = new MOIDependency<>(this, node, dependency);
             outgoing.add(moiDep);
@@ -128,9 +137,8 @@ public class MOINode<T> implements INode<T> {
         }
 
         // reverse
-        dependency = node.moi.match(moi);
-        if ( Objects.nonNull(dependency) ) {
-            MOIDependency<T> moiDep = new MOIDependency<>(node, this, dependency);
+        if ( Objects.nonNull(reverseDependency) ) {
+            MOIDependency<T> moiDep = new MOIDependency<>(node, this, reverseDependency);
             ingoing.add(moiDep);
             node.outgoing.add(moiDep);
             dependencies.add(moiDep);
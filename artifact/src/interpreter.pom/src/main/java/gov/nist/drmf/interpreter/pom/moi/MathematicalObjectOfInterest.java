@@ -1,11 +1,14 @@
 package gov.nist.drmf.interpreter.pom.moi;
 
 import gov.nist.drmf.interpreter.common.exceptions.NotMatchableException;
+import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
+import gov.nist.drmf.interpreter.pom.common.grammar.ExpressionTags;
 import gov.nist.drmf.interpreter.pom.common.grammar.MathTermTags;
 import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
 import gov.nist.drmf.interpreter.pom.extensions.*;
 import mlp.MathTerm;
 import mlp.ParseException;
+import mlp.PomTaggedExpression;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.intellij.lang.annotations.Language;
@@ -31,6 +34,12 @@ public class MathematicalObjectOfInterest {
     private final String originalLaTeX;
     private String pattern;
 
+    // the term texts of all nodes of this MOI
+    private final Map<String, Integer> tokens;
+
+    // the term texts another expression must contain so that the pattern of this MOI can match it
+    private final Map<String, Integer> requiredTokens;
+
     private HashMap<String, String> wildcardIdentifierMapping;
     private HashMap<String, String> potentialPrimaryIdentifierWildcardMapping;
 
@@ -42,6 +51,8 @@ public class MathematicalObjectOfInterest {
         this.moi = null;
         this.matchableMOI = null;
         this.originalLaTeX = "";
+        this.tokens = Collections.emptyMap();
+        this.requiredTokens = Collections.emptyMap();
     }
 
     public MathematicalObjectOfInterest(String latex) throws ParseException {
@@ -66,7 +77,12 @@ public class MathematicalObjectOfInterest {
 
         this.pattern = moiCopy.getTexString();
         LOG.debug("Generated MOI pattern: " + pattern);
+
+        this.tokens = Collections.unmodifiableMap(countTokens(moi, false));
+        // must be done before compiling, since compiling may change the wildcard nodes of the copy
+        this.requiredTokens = Collections.unmodifiableMap(countTokens(moiCopy, true));
         try {
+            // not cached, the same caption does not guarantee the same tree (e.g., different semantic tags)
             this.matchableMOI = PomMatcherBuilder.compile(moiCopy, WILDCARD_PATTERN);
         } catch ( NotMatchableException nme ) {
             LOG.warn("Node cannot be generated, because the wildcard expression is not matchable: " + nme.toString());
@@ -98,6 +114,46 @@ public class MathematicalObjectOfInterest {
         return wildcardToIdentifierMap;
     }
 
+    /**
+     * Counts the term texts of all nodes in the given expression (including all descendants).
+     * @param expression the expression
+     * @param skipWildcards if true, wildcards and matrices are skipped, since the matcher does not compare
+     *                      their term texts
+     * @return the term texts mapped to the number of occurrences
+     */
+    private static Map<String, Integer> countTokens(PomTaggedExpression expression, boolean skipWildcards) {
+        Map<String, Integer> tokens = new HashMap<>();
+        LinkedList<PomTaggedExpression> stack = new LinkedList<>();
+        stack.add(expression);
+        while ( !stack.isEmpty() ) {
+            PomTaggedExpression pte = stack.removeFirst();
+            if ( pte == null ) continue;
+            stack.addAll(pte.getComponents());
+            if ( skipWildcards && PomTaggedExpressionUtility.equals(pte, ExpressionTags.matrix) ) continue;
+            String text = pte.getRoot() == null ? null : pte.getRoot().getTermText();
+            if ( text == null || text.isBlank() ) continue;
+            if ( skipWildcards && text.matches(WILDCARD_PATTERN) ) continue;
+            tokens.merge(text, 1, Integer::sum);
+        }
+        return tokens;
+    }
+
+    /**
+     * A cheap test if this MOI can match the given expression at all, i.e., if {@link #match(MathematicalObjectOfInterest)}
+     * might return a dependency. Every non-wildcard node of the pattern of this MOI must match a node with
+     * the same term text in the given expression. Hence, if this method returns false,
+     * {@link #match(MathematicalObjectOfInterest)} returns null.
+     * @param expression the MOI that should be matched
+     * @return false if this MOI cannot match the given expression
+     */
+    public boolean canMatch(MathematicalObjectOfInterest expression) {
+        if ( Objects.isNull(expression) || !isMatchable() || !expression.isMatchable() ) return false;
+        for ( Map.Entry<String, Integer> required : requiredTokens.entrySet() ) {
+            if ( expression.tokens.getOrDefault(required.getKey(), 0) < required.getValue() ) return false;
+        }
+        return true;
+    }
+
     /**
      * Returns either null (if no match was found) or a dependency pattern that represents the match.
      * @param expression the MOI that should be matched
@@ -154,6 +210,25 @@ public class MathematicalObjectOfInterest {
         return matchableMOI;
     }
 
+    public boolean isMatchable() {
+        return matchableMOI != null;
+    }
+
+    /**
+     * @return the term texts of all nodes of this MOI mapped to their number of occurrences
+     */
+    public Map<String, Integer> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * @return the term texts that another expression must contain so that this MOI can match it
+     * @see #canMatch(MathematicalObjectOfInterest)
+     */
+    public Map<String, Integer> getRequiredTokens() {
+        return requiredTokens;
+    }
+
     public HashMap<String, String> getWildcardIdentifierMapping() {
         return wildcardIdentifierMapping;
     }
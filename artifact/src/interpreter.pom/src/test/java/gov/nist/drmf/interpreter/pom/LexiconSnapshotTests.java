@@ -0,0 +1,127 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import mlp.FeatureSet;
+import mlp.Lexicon;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class LexiconSnapshotTests {
+
+    private static Lexicon lexicon;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        lexicon = MacrosLexicon.parse(GlobalPaths.DLMF_MACROS_LEXICON);
+    }
+
+    private static Path copyLexicon(Path dir) throws IOException {
+        Path lexiconPath = dir.resolve(GlobalPaths.DLMF_MACROS_LEXICON_NAME);
+        Files.copy(GlobalPaths.DLMF_MACROS_LEXICON, lexiconPath);
+        return lexiconPath;
+    }
+
+    private static List<String> toStrings(List<FeatureSet> sets) {
+        return sets.stream().map( fset -> fset.toString("") ).collect(Collectors.toList());
+    }
+
+    @Test
+    void snapshotPathTest() {
+        Path path = LexiconSnapshot.getSnapshotPath(GlobalPaths.DLMF_MACROS_LEXICON);
+        assertEquals("DLMF-macros-lexicon.bin", path.getFileName().toString());
+        assertEquals(GlobalPaths.DLMF_MACROS_LEXICON.getParent(), path.getParent());
+    }
+
+    @Test
+    void roundTripTest(@TempDir Path dir) throws IOException {
+        Path lexiconPath = copyLexicon(dir);
+        Path snapshotPath = LexiconSnapshot.getSnapshotPath(lexiconPath);
+        LexiconSnapshot.write(lexicon, lexiconPath, snapshotPath);
+
+        Lexicon loaded = LexiconSnapshot.load(lexiconPath, snapshotPath);
+        assertNotNull(loaded);
+        assertEquals(lexicon.getName(), loaded.getName());
+        assertEquals(lexicon.getEntryKeys(), loaded.getEntryKeys());
+        for ( String key : lexicon.getEntryKeys() ) {
+            assertEquals(toStrings(lexicon.getFeatureSets(key)), toStrings(loaded.getFeatureSets(key)), key);
+        }
+
+        FeatureSet jacobi = loaded.getFeatureSets("\\JacobipolyP").get(0);
+        assertEquals(lexicon.getFeatureSets("\\JacobipolyP").get(0).getFeatureNames(), jacobi.getFeatureNames());
+    }
+
+    @Test
+    void staleSnapshotTest(@TempDir Path dir) throws IOException {
+        Path lexiconPath = copyLexicon(dir);
+        Path snapshotPath = LexiconSnapshot.getSnapshotPath(lexiconPath);
+        LexiconSnapshot.write(lexicon, lexiconPath, snapshotPath);
+        assertNotNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+
+        Files.writeString(lexiconPath, "\n", StandardOpenOption.APPEND);
+        assertNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+    }
+
+    @Test
+    void touchedLexiconTest(@TempDir Path dir) throws IOException {
+        Path lexiconPath = copyLexicon(dir);
+        Path snapshotPath = LexiconSnapshot.getSnapshotPath(lexiconPath);
+        LexiconSnapshot.write(lexicon, lexiconPath, snapshotPath);
+        FileTime written = Files.getLastModifiedTime(lexiconPath);
+
+        // a new modification time alone does not invalidate the snapshot
+        Files.setLastModifiedTime(lexiconPath, FileTime.fromMillis(written.toMillis() + 60_000));
+        assertNotNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+
+        // but a changed content of the same size does
+        byte[] bytes = Files.readAllBytes(lexiconPath);
+        bytes[bytes.length - 1] = (byte) (bytes[bytes.length - 1] == 'x' ? 'y' : 'x');
+        Files.write(lexiconPath, bytes);
+        Files.setLastModifiedTime(lexiconPath, FileTime.fromMillis(written.toMillis() + 120_000));
+        assertNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+    }
+
+    @Test
+    void missingLexiconTest(@TempDir Path dir) throws IOException {
+        Path lexiconPath = copyLexicon(dir);
+        Path snapshotPath = LexiconSnapshot.getSnapshotPath(lexiconPath);
+        LexiconSnapshot.write(lexicon, lexiconPath, snapshotPath);
+        Files.delete(lexiconPath);
+
+        // without the text file, the snapshot is all we have
+        Lexicon loaded = LexiconSnapshot.load(lexiconPath, snapshotPath);
+        assertNotNull(loaded);
+        assertEquals(lexicon.getEntryKeys(), loaded.getEntryKeys());
+    }
+
+    @Test
+    void corruptedSnapshotTest(@TempDir Path dir) throws IOException {
+        Path lexiconPath = copyLexicon(dir);
+        Path snapshotPath = LexiconSnapshot.getSnapshotPath(lexiconPath);
+        assertNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+
+        Files.writeString(snapshotPath, "Symbol: \\JacobipolyP");
+        assertNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+
+        LexiconSnapshot.write(lexicon, lexiconPath, snapshotPath);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(LexiconSnapshot.load(lexiconPath, snapshotPath));
+    }
+}
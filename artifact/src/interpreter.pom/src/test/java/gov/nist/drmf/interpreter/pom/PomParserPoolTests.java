@@ -0,0 +1,118 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import mlp.PomTaggedExpression;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class PomParserPoolTests {
+    private static final List<String> EXPRESSIONS = List.of(
+            "\\JacobipolyP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}}",
+            "\\int_0^1 x^2 \\diff{x}",
+            "\\sum_{k=0}^{n} \\binom{n}{k} = 2^n",
+            "\\EulerGamma@{z+1} = z \\EulerGamma@{z}",
+            "\\frac{\\sin@{x}}{x^2 + \\sqrt{y}}",
+            "\\left( x^{1+x}_n \\right)"
+    );
+
+    private static SemanticMLPWrapper mlp;
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        mlp = new SemanticMLPWrapper(4);
+    }
+
+    @Test
+    public void sizeTest() {
+        PomParserPool pool = mlp.getParserPool();
+        assertEquals(4, pool.getSize());
+        assertEquals(4, pool.getIdleParsers());
+    }
+
+    @Test
+    public void invalidSizeTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PomParserPool(GlobalPaths.PATH_REFERENCE_DATA.toString(), 0));
+    }
+
+    @Test
+    public void sharedLexiconTest() throws ParseException {
+        PomParserPool pool = mlp.getParserPool();
+        assertTrue(pool.getLexicon().hasEntry("\\JacobipolyP"));
+
+        // every parser must know the semantic macros, not only the first one
+        List<PomTaggedExpression> results = IntStream.range(0, 4 * pool.getSize())
+                .parallel()
+                .mapToObj( i -> parseSimple("\\JacobipolyP{\\alpha}{\\beta}{n}@{x}") )
+                .collect(Collectors.toList());
+        PomTaggedExpression reference = mlp.simpleParseRaw("\\JacobipolyP{\\alpha}{\\beta}{n}@{x}");
+        for ( PomTaggedExpression pte : results ) {
+            assertEquals(reference.toString(), pte.toString());
+        }
+    }
+
+    @Test
+    public void parallelParseTest() throws ParseException {
+        PomParserPool pool = mlp.getParserPool();
+        long requestsBefore = pool.getNumberOfRequests();
+
+        List<String> sequential = new LinkedList<>();
+        for ( String expr : EXPRESSIONS ) {
+            sequential.add( mlp.parse(expr).getTexString() );
+        }
+
+        List<String> parallel = IntStream.range(0, 50 * EXPRESSIONS.size())
+                .parallel()
+                .mapToObj( i -> parse(EXPRESSIONS.get(i % EXPRESSIONS.size())) )
+                .map( PrintablePomTaggedExpression::getTexString )
+                .collect(Collectors.toList());
+
+        for ( int i = 0; i < parallel.size(); i++ ) {
+            assertEquals(sequential.get(i % EXPRESSIONS.size()), parallel.get(i));
+        }
+
+        assertEquals(requestsBefore + 51L * EXPRESSIONS.size(), pool.getNumberOfRequests());
+        assertEquals(pool.getSize(), pool.getIdleParsers());
+        assertTrue(pool.getMaxWaitingTime().compareTo(pool.getAverageWaitingTime()) >= 0);
+    }
+
+    @Test
+    public void parseErrorReturnsParserTest() {
+        PomParserPool pool = mlp.getParserPool();
+        for ( int i = 0; i < 2 * pool.getSize(); i++ ) {
+            assertThrows(ParseException.class, () -> mlp.simpleParseRaw("\\begin{array}"));
+        }
+        assertEquals(pool.getSize(), pool.getIdleParsers());
+    }
+
+    private static PrintablePomTaggedExpression parse(String expr) {
+        try {
+            return mlp.parse(expr);
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static PomTaggedExpression parseSimple(String expr) {
+        try {
+            return mlp.simpleParseRaw(expr);
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package gov.nist.drmf.interpreter.pom.extensions;
+
+import gov.nist.drmf.interpreter.pom.MLPWrapper;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import mlp.ParseException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class PomMatcherBuilderTests {
+
+    private static MLPWrapper mlp;
+
+    @BeforeAll
+    public static void setup() {
+        mlp = SemanticMLPWrapper.getStandardInstance();
+    }
+
+    @Test
+    public void cachedPatternTest() throws ParseException {
+        MatchablePomTaggedExpression first = PomMatcherBuilder.compileCached(mlp, "\\Gamma(var1)", "var\\d");
+        MatchablePomTaggedExpression second = PomMatcherBuilder.compileCached(mlp, "\\Gamma(var1)", "var\\d");
+        assertSame(first, second);
+
+        // a different wildcard pattern is a different pattern
+        MatchablePomTaggedExpression other = PomMatcherBuilder.compileCached(mlp, "\\Gamma(var1)", "var1");
+        assertNotSame(first, other);
+
+        PomMatcherBuilder.clearCache();
+        assertNotSame(first, PomMatcherBuilder.compileCached(mlp, "\\Gamma(var1)", "var\\d"));
+    }
+
+    @Test
+    public void independentMatchersTest() throws ParseException {
+        MatchablePomTaggedExpression blueprint = PomMatcherBuilder.compileCached(mlp, "\\Gamma(var1)", "var\\d");
+
+        PomMatcher xMatcher = blueprint.matcher("\\Gamma(x) + 1");
+        PomMatcher yMatcher = blueprint.matcher("2 \\Gamma(y)");
+        assertTrue(xMatcher.find());
+        assertTrue(yMatcher.find());
+
+        // matching y must not change the captured groups of x
+        assertEquals("x", xMatcher.groups().get("var1"));
+        assertEquals("y", yMatcher.groups().get("var1"));
+
+        assertTrue(blueprint.match("\\Gamma(z)"));
+        assertEquals("z", blueprint.getStringMatches().get("var1"));
+        assertEquals("x", xMatcher.groups().get("var1"));
+    }
+
+    @Test
+    public void leadingWildcardTest() throws ParseException {
+        MatchablePomTaggedExpression blueprint = PomMatcherBuilder.compile(mlp, "var1 + b", "var\\d");
+
+        PomMatcher matcher = blueprint.matcher("x + b + c");
+        assertTrue(matcher.find());
+        assertEquals("x", matcher.groups().get("var1"));
+
+        // finding a match must not change the pattern itself
+        assertTrue(blueprint.match("y + b"));
+        assertEquals("y", blueprint.getStringMatches().get("var1"));
+        assertFalse(blueprint.match("+ b"));
+    }
+
+    @Test
+    public void detachedCapturesTest() throws ParseException {
+        MatchablePomTaggedExpression blueprint = PomMatcherBuilder.compileCached(mlp, "\\Gamma(var1)", "var\\d");
+        PrintablePomTaggedExpression expression = mlp.parse("\\Gamma(x+y)");
+
+        assertTrue(blueprint.match(expression));
+        assertEquals("x+y", blueprint.getStringMatches().get("var1").replaceAll("\\s", ""));
+
+        // the captured nodes are copies, hence the pattern does not keep the matched tree alive
+        for ( PrintablePomTaggedExpression node : blueprint.getMatches().get("var1") ) assertNull(node.getParent());
+
+        assertFalse(blueprint.match("\\sin(x)"));
+        assertTrue(blueprint.getMatches().isEmpty());
+        assertTrue(blueprint.getStringMatches().isEmpty());
+    }
+
+    @Test
+    public void concurrentMatchTest() throws InterruptedException, ExecutionException, ParseException {
+        MatchablePomTaggedExpression blueprint =
+                PomMatcherBuilder.compileCached(mlp, "P^{(var1, var2)}_{var3} (var4)", "var\\d");
+
+        String[] parameters = {"\\alpha", "\\beta", "n", "x", "a", "b", "m", "z"};
+        List<PrintablePomTaggedExpression> expressions = new LinkedList<>();
+        for ( String p : parameters ) {
+            expressions.add(mlp.parse("P^{(" + p + ", " + p + ")}_{" + p + "} (" + p + ")"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, String>>> futures = new LinkedList<>();
+            for ( int rep = 0; rep < 20; rep++ ) {
+                for ( PrintablePomTaggedExpression expression : expressions ) {
+                    futures.add(executor.submit(() -> {
+                        PomMatcher matcher = blueprint.matcher(expression);
+                        return matcher.match() ? matcher.groups() : null;
+                    }));
+                }
+            }
+
+            int idx = 0;
+            for ( Future<Map<String, String>> future : futures ) {
+                String expected = parameters[idx++ % parameters.length];
+                Map<String, String> groups = future.get();
+                assertNotNull(groups, expected);
+                for ( int i = 1; i <= 4; i++ ) assertEquals(expected, groups.get("var" + i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
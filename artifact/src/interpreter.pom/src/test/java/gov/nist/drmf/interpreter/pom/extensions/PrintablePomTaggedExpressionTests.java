@@ -42,6 +42,20 @@ public class PrintablePomTaggedExpressionTests {
         assertEquals(texString, ppte.getTexString());
     }
 
+    @Test
+    public void matchAfterModificationTest() throws ParseException {
+        PrintablePomTaggedExpression ppte = mlp.parse("a + b");
+        assertTrue(ppte.match(mlp.parse("a + b")));
+
+        // changing a child must reset the compiled pattern of its ancestors
+        ppte.getPrintableComponents().get(2).setRoot(new MathTerm("c", MathTermTags.letter.tag()));
+        assertTrue(ppte.match(mlp.parse("a + c")));
+        assertFalse(ppte.match(mlp.parse("a + b")));
+
+        ppte.addComponent(new PrintablePomTaggedExpression(new MathTerm("d", MathTermTags.letter.tag())));
+        assertFalse(ppte.match(mlp.parse("a + c")));
+    }
+
     @Test
     public void simpleDepthOneTest() throws ParseException {
         String texString = "a + b";
@@ -841,6 +855,55 @@ public class PrintablePomTaggedExpressionTests {
         );
     }
 
+    @Test
+    public void batchManipulationTest() throws ParseException {
+        String texString = "a + \\frac{a+b}{b+\\sqrt{c}} - d";
+        PrintablePomTaggedExpression eager = mlp.parse(texString);
+        PrintablePomTaggedExpression lazy = mlp.parse(texString);
+
+        List<String> eagerSteps = new LinkedList<>();
+        manipulate(eager, eagerSteps, true);
+        // the same manipulations without reading the captions in between
+        manipulate(lazy, new LinkedList<>(), false);
+
+        assertEquals("a + \\frac{x + b}{b + \\sqrt{y}} - d + z", eagerSteps.get(eagerSteps.size()-1));
+        assertEquals(eager.getTexString(), lazy.getTexString());
+        PrintablePomTaggedExpression frac = lazy.getPrintableComponents().get(2);
+        checkList(frac.getPrintableComponents(), "{x + b}", "{b + \\sqrt{y}}");
+    }
+
+    private static void manipulate(PrintablePomTaggedExpression ppte, List<String> steps, boolean read) throws ParseException {
+        PrintablePomTaggedExpression frac = ppte.getPrintableComponents().get(2);
+        PrintablePomTaggedExpression numerator = frac.getPrintableComponents().get(0);
+        PrintablePomTaggedExpression denominator = frac.getPrintableComponents().get(1);
+
+        numerator.getPrintableComponents().get(0).setRoot(new MathTerm("x", MathTermTags.letter.tag()));
+        if ( read ) steps.add(ppte.getTexString());
+
+        PrintablePomTaggedExpression sqrt = denominator.getPrintableComponents().get(2);
+        sqrt.getPrintableComponents().get(0).setRoot(new MathTerm("y", MathTermTags.letter.tag()));
+        if ( read ) steps.add(ppte.getTexString());
+
+        ppte.addComponent(mlp.parse("+"));
+        if ( read ) steps.add(ppte.getTexString());
+
+        ppte.addComponent(mlp.parse("z"));
+        if ( read ) steps.add(ppte.getTexString());
+    }
+
+    @Test
+    public void copyModifiedExpressionTest() throws ParseException {
+        PrintablePomTaggedExpression ppte = mlp.parse("\\frac{a+b}{c}");
+        PrintablePomTaggedExpression numerator = ppte.getPrintableComponents().get(0);
+        numerator.addComponent(mlp.parse("+"));
+        numerator.addComponent(mlp.parse("d"));
+
+        // copy before the caption was rebuilt
+        PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression(ppte);
+        assertEquals("\\frac{a + b + d}{c}", copy.getTexString());
+        assertEquals(copy.getTexString(), ppte.getTexString());
+    }
+
     public static void checkList( List<PrintablePomTaggedExpression> components, String... matches ) {
         assertEquals(matches.length, components.size(), "Length doesnt match: [" +
                 components.stream().map(PrintablePomTaggedExpression::getTexString).collect(Collectors.joining(", ")) + "] VS " + Arrays.toString(matches));
@@ -4,10 +4,14 @@ import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
 import mlp.ParseException;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -149,4 +153,109 @@ public class MOIDependencyGraphTests {
         assertTrue(node.hasAnnotation());
         assertEquals(123, node.getAnnotation());
     }
+
+    private static final String[] LIBRARY = new String[] {
+            "f(x)", "g(x)", "f(z) + g(z)", "z", "x", "\\alpha", "P_n^{(\\alpha, \\beta)}(x)",
+            "P_n^{(\\alpha, \\beta)}(\\cos \\theta)", "\\Gamma(z)", "\\Gamma(z+1) = z \\Gamma(z)",
+            "\\sin(x)^2 + \\cos(x)^2 = 1", "\\cos \\theta", "\\sum_{n=0}^\\infty a_n z^n", "a_n",
+            "\\frac{f(x)}{g(x)}", "\\int_0^1 f(x) dx", "J_\\nu(z)", "J_{\\nu+1}(z) + J_{\\nu-1}(z)",
+            "\\zeta(s)", "\\zeta(2) = \\frac{\\pi^2}{6}", "n!", "\\binom{n}{k}", "a b"
+    };
+
+    private static final Path DLMF_DATASET = Paths.get("../dlmf/dlmf-formulae.txt");
+    private static final Pattern DATASET_LINE = Pattern.compile("^(.*?)\\s*\\\\url\\{.*$");
+
+    private static LinkedHashMap<String, String> loadLibrary() throws IOException {
+        LinkedHashMap<String, String> library = new LinkedHashMap<>();
+        for ( String formula : LIBRARY ) library.put("L" + library.size(), formula);
+        if ( Files.exists(DLMF_DATASET) ) {
+            List<String> lines;
+            try ( var stream = Files.lines(DLMF_DATASET) ) {
+                lines = stream.limit(60).collect(Collectors.toList());
+            }
+            for ( String line : lines ) {
+                Matcher m = DATASET_LINE.matcher(line);
+                if ( m.matches() ) library.put("D" + library.size(), m.group(1));
+            }
+        }
+        return library;
+    }
+
+    private static List<MOINode<Void>> parseNodes(Map<String, String> library) {
+        List<MOINode<Void>> nodes = new LinkedList<>();
+        for ( Map.Entry<String, String> e : library.entrySet() ) {
+            try {
+                nodes.add(new MOINode<>(e.getKey(), new MathematicalObjectOfInterest(e.getValue()), null));
+            } catch (ParseException pe) {
+                // not every DLMF formula can be parsed, just ignore them
+            }
+        }
+        return nodes;
+    }
+
+    private static List<String> getEdges(MOIDependencyGraph<Void> graph) {
+        return graph.getVertices().stream()
+                .flatMap( n -> n.getOutgoingDependencies().stream() )
+                .map( d -> ((MOINode<Void>)d.getSource()).getId() + " -> " + ((MOINode<Void>)d.getSink()).getId() )
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getOrderedDependencies(MOINode<Void> node) {
+        List<String> ids = new LinkedList<>();
+        node.getIngoingDependencies().forEach( d -> ids.add("in:" + ((MOINode<Void>)d.getSource()).getId()) );
+        node.getOutgoingDependencies().forEach( d -> ids.add("out:" + ((MOINode<Void>)d.getSink()).getId()) );
+        return ids;
+    }
+
+    @Test
+    public void indexedGraphEqualsAllPairsMatchingTest() throws IOException {
+        List<MOINode<Void>> nodes = parseNodes(loadLibrary());
+
+        // the original algorithm: match every pair of nodes
+        List<String> expected = new LinkedList<>();
+        for ( MOINode<Void> pattern : nodes ) {
+            for ( MOINode<Void> expression : nodes ) {
+                if ( pattern == expression ) continue;
+                if ( pattern.getNode().match(expression.getNode()) == null ) continue;
+                expected.add(pattern.getId() + " -> " + expression.getId());
+                // if the index says it cannot match, it must not match
+                assertTrue(pattern.getNode().canMatch(expression.getNode()),
+                        pattern.getNode().getPattern() + " matched " + expression.getNode().getOriginalLaTeX());
+            }
+        }
+        Collections.sort(expected);
+        assertFalse(expected.isEmpty());
+
+        MOIDependencyGraph<Void> graph = new MOIDependencyGraph<>();
+        for ( MOINode<Void> node : parseNodes(loadLibrary()) ) {
+            graph.addNode(node.getId(), node.getNode().getOriginalLaTeX(), node.getNode().getMoi(), null);
+        }
+        assertEquals(expected, getEdges(graph));
+
+        long allPairs = (long) nodes.size() * (nodes.size() - 1);
+        assertTrue(graph.getNumberOfMatchAttempts() < allPairs / 2,
+                "Expected much less than " + allPairs + " match attempts but got " + graph.getNumberOfMatchAttempts());
+    }
+
+    @Test
+    public void bulkGraphEqualsSequentialGraphTest() throws IOException {
+        LinkedHashMap<String, String> library = loadLibrary();
+
+        MOIDependencyGraph<Void> sequential = new MOIDependencyGraph<>();
+        for ( MOINode<Void> node : parseNodes(library) ) {
+            sequential.addNode(node.getId(), node.getNode().getOriginalLaTeX(), node.getNode().getMoi(), null);
+        }
+
+        // add some nodes first to test the bulk update of an existing graph
+        List<MOINode<Void>> nodes = parseNodes(library);
+        MOIDependencyGraph<Void> bulk = new MOIDependencyGraph<>();
+        bulk.addNodes(nodes.subList(0, 5));
+        bulk.addNodes(nodes);
+
+        assertEquals(getEdges(sequential), getEdges(bulk));
+        for ( MOINode<Void> node : sequential.getVertices() ) {
+            assertEquals(getOrderedDependencies(node), getOrderedDependencies(bulk.getNode(node.getId())), node.getId());
+        }
+    }
 }